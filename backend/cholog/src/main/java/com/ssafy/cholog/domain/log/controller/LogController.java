@@ -28,6 +28,7 @@ import reactor.core.publisher.Mono;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -146,6 +147,28 @@ public class LogController {
         return CommonResponse.ok(logs);
     }
 
+    @GetMapping("/{projectId}/jvm")
+    @Operation(summary = "시간대별 JVM 상태 추이", description = "SDK의 JVM 상태 요약(GC 정지, 세이프포인트, 락 대기, 할당 속도)을 요청 응답 시간과 함께 구간별로 집계하는 API \n\n 기본 조회 범위는 최근 6시간(UTC)")
+    @PreAuthorize("isAuthenticated()")
+    @ApiErrorCodeExamples({ErrorCode.PROJECT_NOT_FOUND, ErrorCode.LOG_START_TIME_AFTER_END_TIME, ErrorCode.PROJECT_USER_NOT_FOUND, ErrorCode.INVALID_INPUT_VALUE})
+    public ResponseEntity<CommonResponse<List<JvmTimelineResponse>>> getProjectJvmTimeline(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Integer projectId,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(defaultValue = "1") int intervalMinutes
+    ) {
+        Integer userId = authenticationUtil.getCurrentUserId(userPrincipal);
+
+        LocalDateTime nowUtc = LocalDateTime.now(ZoneOffset.UTC).withNano(0);
+        String effectiveEndDate = (endDate == null || endDate.trim().isEmpty())
+                ? nowUtc.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : endDate;
+        String effectiveStartDate = (startDate == null || startDate.trim().isEmpty())
+                ? nowUtc.minusHours(6).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : startDate;
+
+        return CommonResponse.ok(logService.getProjectJvmTimeline(userId, projectId, effectiveStartDate, effectiveEndDate, intervalMinutes));
+    }
+
     @PostMapping("/{projectId}/analysis")
     @Operation(summary = "로그 LLM 분석", description = "특정 프로젝트의 지정된 로그에 대해 LLM 분석을 수행합니다.")
     @PreAuthorize("isAuthenticated()")
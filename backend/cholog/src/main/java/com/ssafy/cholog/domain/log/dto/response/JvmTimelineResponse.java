@@ -0,0 +1,33 @@
+package com.ssafy.cholog.domain.log.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class JvmTimelineResponse {
+    private LocalDateTime timestamp;
+    @Schema(example = "18.35")
+    private Double gcPauseMaxMs;          // 구간 내 가장 긴 GC 정지 시간
+    @Schema(example = "31.12")
+    private Double gcPauseTotalMs;        // 구간 내 GC 정지 시간 합
+    @Schema(example = "18.97")
+    private Double safepointMaxMs;        // 구간 내 가장 긴 세이프포인트 정지 시간
+    @Schema(example = "1323.2")
+    private Double monitorWaitTotalMs;    // synchronized 진입 대기 시간 합
+    @Schema(example = "152.8")
+    private Double parkWaitTotalMs;       // java.util.concurrent 락 대기 시간 합
+    @Schema(example = "45.6")
+    private Double allocationMbPerSec;    // 평균 힙 할당 속도
+    @Schema(example = "128.4")
+    private Double heapUsedAfterGcMb;     // GC 직후 힙 사용량 (최댓값)
+    @Schema(example = "42.5")
+    private Double avgResponseTimeMs;     // 경로별 요약 기준 평균 응답 시간 (요청 수 가중 평균)
+    @Schema(example = "812")
+    private Double maxResponseTimeMs;     // 경로별 요약 기준 최대 응답 시간
+    @Schema(example = "210.4")
+    private Double routeP99MaxMs;         // 경로별 요약의 p99 중 최댓값
+}
@@ -8,6 +8,8 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
 
 import java.time.Instant;
 import java.util.Map;
@@ -106,6 +108,11 @@ public class LogDocument {
         @Field(name = "requestUri", type = FieldType.Text)
         @Schema(example = "https://example.com/api/v1/resource")
         private String requestUri;
+        // 동적 매핑과 같이 text + keyword 하위 필드 (집계는 http.route.keyword 사용)
+        @MultiField(mainField = @Field(name = "route", type = FieldType.Text),
+                otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword, ignoreAbove = 256))
+        @Schema(example = "/api/v1/resource/{id}")
+        private String route;
         @Field(name = "httpStatus", type = FieldType.Integer)
         @Schema(example = "200")
         private Integer statusCode;
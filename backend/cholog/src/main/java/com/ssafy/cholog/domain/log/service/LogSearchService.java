@@ -70,10 +70,19 @@ public class LogSearchService {
             ));
         }
         if (StringUtils.hasText(apiPath)) {
-            boolQueryBuilder.must(QueryBuilders.wildcard(w -> w
-                    .field("http.requestUri")
-                    .value("*" + apiPath + "*") // 성능 모니터링 필요
-                    .caseInsensitive(true)
+            // 경로 템플릿(http.route)은 API마다 값이 하나뿐이라 와일드카드로 검사할 term 수가 적음
+            // (route가 없는 이전 SDK 로그는 requestUri 구문 검색으로 찾음)
+            boolQueryBuilder.must(QueryBuilders.bool(b -> b
+                    .should(QueryBuilders.wildcard(w -> w
+                            .field("http.route.keyword")
+                            .value("*" + apiPath + "*")
+                            .caseInsensitive(true)
+                    ))
+                    .should(QueryBuilders.matchPhrase(m -> m
+                            .field("http.requestUri")
+                            .query(apiPath)
+                    ))
+                    .minimumShouldMatch("1")
             ));
         }
         if (StringUtils.hasText(message)) {
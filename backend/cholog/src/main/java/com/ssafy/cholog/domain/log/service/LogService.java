@@ -5,6 +5,7 @@ import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.aggregations.*;
 import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
 import co.elastic.clients.json.JsonData;
+import com.ssafy.cholog.domain.log.dto.response.JvmTimelineResponse;
 import com.ssafy.cholog.domain.log.dto.response.LogEntryResponse;
 import com.ssafy.cholog.domain.log.dto.response.LogListResponse;
 import com.ssafy.cholog.domain.log.dto.response.LogStatsResponse;
@@ -487,4 +488,164 @@ public class LogService {
         }
         return timelineResponses;
     }
-}
\ No newline at end of file
+
+    public List<JvmTimelineResponse> getProjectJvmTimeline(Integer userId, Integer projectId, String startDateStr,
+                                                           String endDateStr, int intervalMinutes) {
+
+        if (!projectUserRepository.existsByProjectIdAndUserId(projectId, userId)) {
+            throw new CustomException(ErrorCode.PROJECT_USER_NOT_FOUND)
+                    .addParameter("userId", userId)
+                    .addParameter("projectId", projectId);
+        }
+        if (intervalMinutes < 1 || intervalMinutes > 1440) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE)
+                    .addParameter("intervalMinutes", intervalMinutes)
+                    .addParameter("reason", "집계 간격은 1분 이상 1440분 이하여야 합니다.");
+        }
+
+        final ZonedDateTime startDateTimeUtc;
+        final ZonedDateTime endDateTimeUtc;
+        try {
+            startDateTimeUtc = LocalDateTime.parse(startDateStr, DateTimeFormatter.ISO_LOCAL_DATE_TIME).atZone(ZoneOffset.UTC);
+            endDateTimeUtc = LocalDateTime.parse(endDateStr, DateTimeFormatter.ISO_LOCAL_DATE_TIME).atZone(ZoneOffset.UTC);
+        } catch (DateTimeParseException ex) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE)
+                    .addParameter("startDate", startDateStr)
+                    .addParameter("endDate", endDateStr)
+                    .addParameter("reason", "유효하지 않은 날짜 형식입니다. yyyy-MM-ddTHH:mm:ss 형식을 사용해주세요.");
+        }
+        if (startDateTimeUtc.isAfter(endDateTimeUtc)) {
+            throw new CustomException(ErrorCode.LOG_START_TIME_AFTER_END_TIME)
+                    .addParameter("startDate", startDateStr)
+                    .addParameter("endDate", endDateStr);
+        }
+
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new CustomException(ErrorCode.PROJECT_NOT_FOUND)
+                        .addParameter("projectId", projectId));
+        // JVM 요약과 경로별 요약 로그는 백엔드 SDK만 보내므로 백엔드 인덱스만 조회
+        String indexName = "pjt-be-" + project.getProjectToken();
+
+        // JVM 요약 로그와 경로별 요약 로그만 대상으로 함
+        co.elastic.clients.elasticsearch._types.query_dsl.Query finalQuery = QueryBuilders.bool(b -> b
+                .filter(QueryBuilders.range(r -> r
+                        .field("timestamp")
+                        .gte(JsonData.of(startDateTimeUtc.toInstant().toEpochMilli()))
+                        .lt(JsonData.of(endDateTimeUtc.toInstant().toEpochMilli()))
+                ))
+                .should(QueryBuilders.exists(e -> e.field("jvm.intervalSeconds")))
+                .should(QueryBuilders.exists(e -> e.field("routeSummary.count")))
+                .minimumShouldMatch("1")
+        );
+
+        // 구간마다 JVM 지표와 응답 시간 지표를 함께 집계하여 같은 축으로 그릴 수 있도록 함
+        String timelineAggregationName = "jvm_timeline";
+        co.elastic.clients.elasticsearch._types.aggregations.Aggregation jvmAgg =
+                co.elastic.clients.elasticsearch._types.aggregations.Aggregation.of(a -> a
+                        .filter(QueryBuilders.exists(e -> e.field("jvm.intervalSeconds")))
+                        .aggregations("gcPauseMaxMs", sub -> sub.max(m -> m.field("jvm.gcPauseMaxMs")))
+                        .aggregations("gcPauseTotalMs", sub -> sub.sum(m -> m.field("jvm.gcPauseTotalMs")))
+                        .aggregations("safepointMaxMs", sub -> sub.max(m -> m.field("jvm.safepointMaxMs")))
+                        .aggregations("monitorWaitTotalMs", sub -> sub.sum(m -> m.field("jvm.monitorWaitTotalMs")))
+                        .aggregations("parkWaitTotalMs", sub -> sub.sum(m -> m.field("jvm.parkWaitTotalMs")))
+                        .aggregations("allocationMbPerSec", sub -> sub.avg(m -> m.field("jvm.allocationMbPerSec")))
+                        .aggregations("heapUsedAfterGcMb", sub -> sub.max(m -> m.field("jvm.heapUsedAfterGcMb")))
+                );
+        // 요청 완료 로그는 샘플링되고 5xx/예외와 느린 요청은 항상 남아 평균이 치우치므로,
+        // 샘플링되지 않는 경로별 요약의 평균(meanMs)을 요청 수(count)로 가중 평균
+        co.elastic.clients.elasticsearch._types.aggregations.Aggregation latencyAgg =
+                co.elastic.clients.elasticsearch._types.aggregations.Aggregation.of(a -> a
+                        .filter(QueryBuilders.bool(b -> b
+                                .must(QueryBuilders.exists(e -> e.field("routeSummary.meanMs")))
+                                .must(QueryBuilders.exists(e -> e.field("routeSummary.count")))))
+                        .aggregations("avgResponseTimeMs", sub -> sub.weightedAvg(w -> w
+                                .value(v -> v.field("routeSummary.meanMs"))
+                                .weight(v -> v.field("routeSummary.count"))))
+                        .aggregations("maxResponseTimeMs", sub -> sub.max(m -> m.field("routeSummary.maxMs")))
+                );
+
+        co.elastic.clients.elasticsearch._types.aggregations.Aggregation timelineAgg =
+                co.elastic.clients.elasticsearch._types.aggregations.Aggregation.of(a -> a
+                        .dateHistogram(dh -> dh
+                                .field("timestamp")
+                                .fixedInterval(fi -> fi.time(intervalMinutes + "m"))
+                                .minDocCount(1)
+                        )
+                        .aggregations("jvm", jvmAgg)
+                        .aggregations("latency", latencyAgg)
+                        .aggregations("routeP99MaxMs", sub -> sub.max(m -> m.field("routeSummary.p99Ms")))
+                );
+
+        NativeQuery searchQuery = NativeQuery.builder()
+                .withQuery(finalQuery)
+                .withAggregation(timelineAggregationName, timelineAgg)
+                .withMaxResults(0) // 집계 결과만 필요
+                .build();
+
+        SearchHits<LogListDocument> searchHits = elasticsearchOperations.search(
+                searchQuery,
+                LogListDocument.class,
+                IndexCoordinates.of(indexName)
+        );
+
+        List<JvmTimelineResponse> timelineResponses = new ArrayList<>();
+        if (searchHits.getAggregations() instanceof ElasticsearchAggregations esAggsImpl) {
+            ElasticsearchAggregation timelineAggregationWrapper = esAggsImpl.get(timelineAggregationName);
+            if (timelineAggregationWrapper != null
+                    && timelineAggregationWrapper.aggregation().getAggregate().isDateHistogram()) {
+                DateHistogramAggregate dateHistogram = timelineAggregationWrapper.aggregation().getAggregate().dateHistogram();
+                for (DateHistogramBucket bucket : dateHistogram.buckets().array()) {
+                    Map<String, Aggregate> jvm = filterSubAggregations(bucket.aggregations().get("jvm"));
+                    Map<String, Aggregate> latency = filterSubAggregations(bucket.aggregations().get("latency"));
+
+                    timelineResponses.add(JvmTimelineResponse.builder()
+                            .timestamp(LocalDateTime.ofInstant(Instant.ofEpochMilli(bucket.key()), ZoneId.of("Asia/Seoul")))
+                            .gcPauseMaxMs(metricValue(jvm.get("gcPauseMaxMs")))
+                            .gcPauseTotalMs(metricValue(jvm.get("gcPauseTotalMs")))
+                            .safepointMaxMs(metricValue(jvm.get("safepointMaxMs")))
+                            .monitorWaitTotalMs(metricValue(jvm.get("monitorWaitTotalMs")))
+                            .parkWaitTotalMs(metricValue(jvm.get("parkWaitTotalMs")))
+                            .allocationMbPerSec(metricValue(jvm.get("allocationMbPerSec")))
+                            .heapUsedAfterGcMb(metricValue(jvm.get("heapUsedAfterGcMb")))
+                            .avgResponseTimeMs(metricValue(latency.get("avgResponseTimeMs")))
+                            .maxResponseTimeMs(metricValue(latency.get("maxResponseTimeMs")))
+                            .routeP99MaxMs(metricValue(bucket.aggregations().get("routeP99MaxMs")))
+                            .build());
+                }
+            }
+        }
+        return timelineResponses;
+    }
+
+    /**
+     * filter 집계의 하위 집계를 반환합니다. 구간에 해당 문서가 없으면 빈 맵을 반환합니다.
+     */
+    private static Map<String, Aggregate> filterSubAggregations(Aggregate aggregate) {
+        if (aggregate == null || !aggregate.isFilter() || aggregate.filter().docCount() == 0) {
+            return Map.of();
+        }
+        return aggregate.filter().aggregations();
+    }
+
+    /**
+     * avg/weighted_avg/max/sum 집계 값을 반환합니다. 집계할 값이 없었으면 null을 반환합니다.
+     */
+    private static Double metricValue(Aggregate aggregate) {
+        if (aggregate == null) {
+            return null;
+        }
+        double value;
+        if (aggregate.isAvg()) {
+            value = aggregate.avg().value();
+        } else if (aggregate.isWeightedAvg()) {
+            value = aggregate.weightedAvg().value();
+        } else if (aggregate.isMax()) {
+            value = aggregate.max().value();
+        } else if (aggregate.isSum()) {
+            value = aggregate.sum().value();
+        } else {
+            return null;
+        }
+        return Double.isNaN(value) || Double.isInfinite(value) ? null : value;
+    }
+}
@@ -0,0 +1,72 @@
+package com.ssafy.cholog.domain.profile.controller;
+
+import com.ssafy.cholog.domain.profile.dto.response.FlameGraphDiffResponse;
+import com.ssafy.cholog.domain.profile.dto.response.FlameGraphResponse;
+import com.ssafy.cholog.domain.profile.service.ProfileService;
+import com.ssafy.cholog.global.aop.swagger.ApiErrorCodeExamples;
+import com.ssafy.cholog.global.common.response.CommonResponse;
+import com.ssafy.cholog.global.exception.code.ErrorCode;
+import com.ssafy.cholog.global.security.auth.UserPrincipal;
+import com.ssafy.cholog.global.util.AuthenticationUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+@RestController
+@RequestMapping("/api/profile")
+@RequiredArgsConstructor
+@Tag(name = "CPU 프로파일", description = "SDK 상시 CPU 프로파일링(profiling-enabled) 결과로 flame graph를 만드는 API \n\n 모든 날짜는 UTC 기준 yyyy-MM-ddTHH:mm:ss 형식")
+public class ProfileController {
+
+    private final ProfileService profileService;
+    private final AuthenticationUtil authenticationUtil;
+
+    @GetMapping("/{projectId}/flamegraph")
+    @Operation(summary = "구간 flame graph", description = "구간 내 CPU 프로파일을 합쳐 flame graph 트리를 반환하는 API \n\n 기본 조회 범위는 최근 1시간(UTC), serviceName을 생략하면 모든 서비스를 합침")
+    @PreAuthorize("isAuthenticated()")
+    @ApiErrorCodeExamples({ErrorCode.PROJECT_NOT_FOUND, ErrorCode.LOG_START_TIME_AFTER_END_TIME, ErrorCode.PROJECT_USER_NOT_FOUND, ErrorCode.INVALID_INPUT_VALUE})
+    public ResponseEntity<CommonResponse<FlameGraphResponse>> getFlameGraph(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Integer projectId,
+            @RequestParam(required = false) String serviceName,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate
+    ) {
+        Integer userId = authenticationUtil.getCurrentUserId(userPrincipal);
+
+        LocalDateTime nowUtc = LocalDateTime.now(ZoneOffset.UTC).withNano(0);
+        String effectiveEndDate = (endDate == null || endDate.trim().isEmpty())
+                ? nowUtc.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : endDate;
+        String effectiveStartDate = (startDate == null || startDate.trim().isEmpty())
+                ? nowUtc.minusHours(1).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : startDate;
+
+        return CommonResponse.ok(profileService.getFlameGraph(userId, projectId, serviceName, effectiveStartDate, effectiveEndDate));
+    }
+
+    @GetMapping("/{projectId}/flamegraph/diff")
+    @Operation(summary = "구간 비교 flame graph", description = "기준 구간(base)과 비교 구간(target)의 CPU 프로파일을 프레임별로 비교하는 API \n\n deltaPercent는 전체 샘플 대비 비율의 변화(%p)로, 양수면 비교 구간에서 CPU 비중이 늘어난 프레임")
+    @PreAuthorize("isAuthenticated()")
+    @ApiErrorCodeExamples({ErrorCode.PROJECT_NOT_FOUND, ErrorCode.LOG_START_TIME_AFTER_END_TIME, ErrorCode.PROJECT_USER_NOT_FOUND, ErrorCode.INVALID_INPUT_VALUE})
+    public ResponseEntity<CommonResponse<FlameGraphDiffResponse>> getFlameGraphDiff(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Integer projectId,
+            @RequestParam(required = false) String serviceName,
+            @RequestParam String baseStartDate,
+            @RequestParam String baseEndDate,
+            @RequestParam String targetStartDate,
+            @RequestParam String targetEndDate
+    ) {
+        Integer userId = authenticationUtil.getCurrentUserId(userPrincipal);
+
+        return CommonResponse.ok(profileService.getFlameGraphDiff(userId, projectId, serviceName,
+                baseStartDate, baseEndDate, targetStartDate, targetEndDate));
+    }
+}
@@ -0,0 +1,21 @@
+package com.ssafy.cholog.domain.profile.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class FlameGraphDiffNode {
+    @Schema(example = "com.example.UserService.findUser")
+    private String name;
+    @Schema(example = "320")
+    private Long baseValue;               // 기준 구간 샘플 수
+    @Schema(example = "1520")
+    private Long targetValue;             // 비교 구간 샘플 수
+    @Schema(example = "3.25")
+    private Double deltaPercent;          // 전체 샘플 대비 비율의 변화 (비교 - 기준, %p). 양수면 비교 구간에서 CPU 비중 증가
+    private List<FlameGraphDiffNode> children; // 비교 구간 샘플 수 내림차순
+}
@@ -0,0 +1,17 @@
+package com.ssafy.cholog.domain.profile.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class FlameGraphDiffResponse {
+    @Schema(example = "user-service")
+    private String serviceName;
+    @Schema(example = "36000")
+    private Long baseTotalSamples;   // 기준 구간 CPU 샘플 수
+    @Schema(example = "41200")
+    private Long targetTotalSamples; // 비교 구간 CPU 샘플 수
+    private FlameGraphDiffNode root;
+}
@@ -0,0 +1,17 @@
+package com.ssafy.cholog.domain.profile.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class FlameGraphNode {
+    @Schema(example = "com.example.UserService.findUser")
+    private String name;                  // 프레임 (클래스.메소드), 루트는 "all"
+    @Schema(example = "1520")
+    private Long value;                   // 이 프레임이 스택에 있었던 샘플 수 (자식 포함)
+    private List<FlameGraphNode> children; // 샘플 수 내림차순
+}
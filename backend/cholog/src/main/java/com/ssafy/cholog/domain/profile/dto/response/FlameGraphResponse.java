@@ -0,0 +1,17 @@
+package com.ssafy.cholog.domain.profile.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class FlameGraphResponse {
+    @Schema(example = "user-service")
+    private String serviceName;   // 조회한 서비스 (전체 조회 시 null)
+    @Schema(example = "60")
+    private Integer profileCount; // 합친 프로파일 로그 수
+    @Schema(example = "36000")
+    private Long totalSamples;    // 합친 CPU 샘플 수
+    private FlameGraphNode root;
+}
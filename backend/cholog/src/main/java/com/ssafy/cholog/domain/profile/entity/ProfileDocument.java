@@ -0,0 +1,58 @@
+package com.ssafy.cholog.domain.profile.entity;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+import java.time.Instant;
+
+@Data
+@Document(indexName = "pjt-*") // 프로파일은 로그와 같은 인덱스에 profile 필드를 가진 로그로 저장됨
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ProfileDocument {
+
+    @Id
+    private String id;
+
+    @Field(name = "timestamp", type = FieldType.Date, format = {}, pattern = "yyyy-MM-dd'T'HH:mm:ss[.SSS]'Z'")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
+    private Instant timestampOriginal;
+
+    @Field(name = "serviceName", type = FieldType.Keyword)
+    private String serviceName;
+
+    @Field(name = "hostName", type = FieldType.Keyword)
+    private String hostName;
+
+    @Field(name = "profile", type = FieldType.Object)
+    private ProfileInfo profile;
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ProfileInfo {
+        @Field(name = "intervalSeconds", type = FieldType.Integer)
+        private Integer intervalSeconds;   // SDK 집계 주기(초)
+
+        @Field(name = "sampleIntervalMs", type = FieldType.Long)
+        private Long sampleIntervalMs;     // 스레드별 샘플링 간격(ms)
+
+        @Field(name = "samples", type = FieldType.Long)
+        private Long samples;              // 주기 동안의 CPU 샘플 수
+
+        @Field(name = "stacks", type = FieldType.Integer)
+        private Integer stacks;            // 서로 다른 스택 수
+
+        @Field(name = "format", type = FieldType.Keyword)
+        private String format;             // "folded" (스택 샘플수 줄)
+
+        @Field(name = "encoding", type = FieldType.Keyword)
+        private String encoding;           // "gzip+base64"
+
+        @Field(name = "data", type = FieldType.Binary)
+        private String data;
+    }
+}
@@ -0,0 +1,283 @@
+package com.ssafy.cholog.domain.profile.service;
+
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
+import co.elastic.clients.json.JsonData;
+import com.ssafy.cholog.domain.profile.dto.response.FlameGraphDiffNode;
+import com.ssafy.cholog.domain.profile.dto.response.FlameGraphDiffResponse;
+import com.ssafy.cholog.domain.profile.dto.response.FlameGraphNode;
+import com.ssafy.cholog.domain.profile.dto.response.FlameGraphResponse;
+import com.ssafy.cholog.domain.profile.entity.ProfileDocument;
+import com.ssafy.cholog.domain.project.entity.Project;
+import com.ssafy.cholog.domain.project.repository.ProjectRepository;
+import com.ssafy.cholog.domain.project.repository.ProjectUserRepository;
+import com.ssafy.cholog.global.exception.CustomException;
+import com.ssafy.cholog.global.exception.code.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProfileService {
+
+    // SDK 기본 주기(60초) 기준 하루치 프로파일
+    private static final int MAX_PROFILES = 1440;
+    // 전체 샘플 대비 이 비율 미만인 프레임은 응답에서 제외 (부모 프레임의 값에는 포함됨)
+    private static final double MIN_NODE_RATIO = 0.0005;
+    private static final String ROOT_NAME = "all";
+    private static final String SUPPORTED_FORMAT = "folded";
+    private static final String SUPPORTED_ENCODING = "gzip+base64";
+
+    private final ProjectRepository projectRepository;
+    private final ProjectUserRepository projectUserRepository;
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    public FlameGraphResponse getFlameGraph(Integer userId, Integer projectId, String serviceName,
+                                            String startDateStr, String endDateStr) {
+        String indexName = resolveIndexName(userId, projectId);
+
+        ProfileSamples samples = loadSamples(indexName, serviceName, startDateStr, endDateStr);
+        FrameNode root = new FrameNode(ROOT_NAME);
+        samples.stacks.forEach((stack, count) -> root.add(stack, count, 0));
+        long minValue = (long) Math.ceil(samples.totalSamples * MIN_NODE_RATIO);
+
+        return FlameGraphResponse.builder()
+                .serviceName(serviceName)
+                .profileCount(samples.profileCount)
+                .totalSamples(samples.totalSamples)
+                .root(toFlameGraphNode(root, minValue))
+                .build();
+    }
+
+    public FlameGraphDiffResponse getFlameGraphDiff(Integer userId, Integer projectId, String serviceName,
+                                                    String baseStartDateStr, String baseEndDateStr,
+                                                    String targetStartDateStr, String targetEndDateStr) {
+        String indexName = resolveIndexName(userId, projectId);
+
+        ProfileSamples base = loadSamples(indexName, serviceName, baseStartDateStr, baseEndDateStr);
+        ProfileSamples target = loadSamples(indexName, serviceName, targetStartDateStr, targetEndDateStr);
+        FrameNode root = new FrameNode(ROOT_NAME);
+        base.stacks.forEach((stack, count) -> root.add(stack, 0, count));
+        target.stacks.forEach((stack, count) -> root.add(stack, count, 0));
+        long minBaseValue = (long) Math.ceil(base.totalSamples * MIN_NODE_RATIO);
+        long minTargetValue = (long) Math.ceil(target.totalSamples * MIN_NODE_RATIO);
+
+        return FlameGraphDiffResponse.builder()
+                .serviceName(serviceName)
+                .baseTotalSamples(base.totalSamples)
+                .targetTotalSamples(target.totalSamples)
+                .root(toFlameGraphDiffNode(root, base.totalSamples, target.totalSamples, minBaseValue, minTargetValue))
+                .build();
+    }
+
+    private String resolveIndexName(Integer userId, Integer projectId) {
+        if (!projectUserRepository.existsByProjectIdAndUserId(projectId, userId)) {
+            throw new CustomException(ErrorCode.PROJECT_USER_NOT_FOUND)
+                    .addParameter("userId", userId)
+                    .addParameter("projectId", projectId);
+        }
+
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new CustomException(ErrorCode.PROJECT_NOT_FOUND)
+                        .addParameter("projectId", projectId));
+        // CPU 프로파일은 백엔드 SDK만 보내므로 백엔드 인덱스만 조회
+        return "pjt-be-" + project.getProjectToken();
+    }
+
+    /**
+     * 구간 내 프로파일 로그를 읽어 접힌 스택별 샘플 수를 합칩니다.
+     */
+    private ProfileSamples loadSamples(String indexName, String serviceName, String startDateStr, String endDateStr) {
+        final ZonedDateTime startDateTimeUtc;
+        final ZonedDateTime endDateTimeUtc;
+        try {
+            startDateTimeUtc = LocalDateTime.parse(startDateStr, DateTimeFormatter.ISO_LOCAL_DATE_TIME).atZone(ZoneOffset.UTC);
+            endDateTimeUtc = LocalDateTime.parse(endDateStr, DateTimeFormatter.ISO_LOCAL_DATE_TIME).atZone(ZoneOffset.UTC);
+        } catch (DateTimeParseException | NullPointerException ex) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE)
+                    .addParameter("startDate", startDateStr)
+                    .addParameter("endDate", endDateStr)
+                    .addParameter("reason", "유효하지 않은 날짜 형식입니다. yyyy-MM-ddTHH:mm:ss 형식을 사용해주세요.");
+        }
+        if (startDateTimeUtc.isAfter(endDateTimeUtc)) {
+            throw new CustomException(ErrorCode.LOG_START_TIME_AFTER_END_TIME)
+                    .addParameter("startDate", startDateStr)
+                    .addParameter("endDate", endDateStr);
+        }
+
+        co.elastic.clients.elasticsearch._types.query_dsl.Query finalQuery = QueryBuilders.bool(b -> {
+            b.filter(QueryBuilders.range(r -> r
+                    .field("timestamp")
+                    .gte(JsonData.of(startDateTimeUtc.toInstant().toEpochMilli()))
+                    .lt(JsonData.of(endDateTimeUtc.toInstant().toEpochMilli()))
+            ));
+            b.filter(QueryBuilders.exists(e -> e.field("profile.samples")));
+            if (serviceName != null && !serviceName.isBlank()) {
+                b.filter(QueryBuilders.term(t -> t.field("serviceName.keyword").value(serviceName)));
+            }
+            return b;
+        });
+
+        NativeQuery searchQuery = NativeQuery.builder()
+                .withQuery(finalQuery)
+                .withSort(s -> s.field(f -> f.field("timestamp").order(SortOrder.Desc)))
+                .withMaxResults(MAX_PROFILES) // 범위가 넓으면 최근 프로파일만 합침
+                .build();
+
+        SearchHits<ProfileDocument> searchHits = elasticsearchOperations.search(
+                searchQuery,
+                ProfileDocument.class,
+                IndexCoordinates.of(indexName)
+        );
+
+        ProfileSamples samples = new ProfileSamples();
+        for (SearchHit<ProfileDocument> hit : searchHits.getSearchHits()) {
+            ProfileDocument.ProfileInfo profile = hit.getContent().getProfile();
+            if (profile == null || profile.getData() == null) {
+                continue;
+            }
+            if (!SUPPORTED_FORMAT.equals(profile.getFormat()) || !SUPPORTED_ENCODING.equals(profile.getEncoding())) {
+                log.warn("지원하지 않는 프로파일 형식입니다. id={}, format={}, encoding={}",
+                        hit.getId(), profile.getFormat(), profile.getEncoding());
+                continue;
+            }
+            try {
+                samples.totalSamples += mergeFoldedStacks(profile.getData(), samples.stacks);
+                samples.profileCount++;
+            } catch (IOException | IllegalArgumentException e) {
+                log.warn("프로파일 데이터를 읽을 수 없습니다. id={}: {}", hit.getId(), e.getMessage());
+            }
+        }
+        return samples;
+    }
+
+    /**
+     * gzip + Base64로 인코딩된 {@code 스택 샘플수} 줄들을 풀어 스택별 샘플 수에 더합니다.
+     *
+     * @return 더한 샘플 수
+     */
+    private long mergeFoldedStacks(String data, Map<String, Long> stacks) throws IOException {
+        long total = 0;
+        byte[] compressed = Base64.getDecoder().decode(data);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(compressed)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // 스택에는 공백이 없지만, 혹시 모를 경우를 위해 마지막 공백을 기준으로 나눔
+                int separator = line.lastIndexOf(' ');
+                if (separator <= 0) {
+                    continue;
+                }
+                long count;
+                try {
+                    count = Long.parseLong(line.substring(separator + 1));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                stacks.merge(line.substring(0, separator), count, Long::sum);
+                total += count;
+            }
+        }
+        return total;
+    }
+
+    private FlameGraphNode toFlameGraphNode(FrameNode node, long minValue) {
+        List<FlameGraphNode> children = new ArrayList<>();
+        node.children.values().stream()
+                .filter(child -> child.target >= minValue)
+                .sorted(Comparator.comparingLong((FrameNode child) -> child.target).reversed())
+                .forEach(child -> children.add(toFlameGraphNode(child, minValue)));
+        return FlameGraphNode.builder()
+                .name(node.name)
+                .value(node.target)
+                .children(children)
+                .build();
+    }
+
+    private FlameGraphDiffNode toFlameGraphDiffNode(FrameNode node, long baseTotal, long targetTotal,
+                                                    long minBaseValue, long minTargetValue) {
+        List<FlameGraphDiffNode> children = new ArrayList<>();
+        node.children.values().stream()
+                .filter(child -> child.base >= minBaseValue || child.target >= minTargetValue)
+                .sorted(Comparator.comparingLong((FrameNode child) -> child.target).reversed())
+                .forEach(child -> children.add(
+                        toFlameGraphDiffNode(child, baseTotal, targetTotal, minBaseValue, minTargetValue)));
+        return FlameGraphDiffNode.builder()
+                .name(node.name)
+                .baseValue(node.base)
+                .targetValue(node.target)
+                .deltaPercent(Math.round((ratio(node.target, targetTotal) - ratio(node.base, baseTotal)) * 10000) / 100.0)
+                .children(children)
+                .build();
+    }
+
+    private static double ratio(long value, long total) {
+        return total > 0 ? (double) value / total : 0.0;
+    }
+
+    private static class ProfileSamples {
+        private final Map<String, Long> stacks = new HashMap<>();
+        private long totalSamples;
+        private int profileCount;
+    }
+
+    /**
+     * 접힌 스택을 합치기 위한 프레임 트리 노드. 합치기(merge)는 target 값만, 비교(diff)는 base와 target 값을 모두 사용합니다.
+     */
+    private static class FrameNode {
+        private final String name;
+        private final Map<String, FrameNode> children = new HashMap<>();
+        private long target;
+        private long base;
+
+        private FrameNode(String name) {
+            this.name = name;
+        }
+
+        private void add(String foldedStack, long targetCount, long baseCount) {
+            FrameNode node = this;
+            node.target += targetCount;
+            node.base += baseCount;
+            int start = 0;
+            while (start < foldedStack.length()) {
+                int end = foldedStack.indexOf(';', start);
+                if (end < 0) {
+                    end = foldedStack.length();
+                }
+                if (end > start) {
+                    node = node.children.computeIfAbsent(foldedStack.substring(start, end), FrameNode::new);
+                    node.target += targetCount;
+                    node.base += baseCount;
+                }
+                start = end + 1;
+            }
+        }
+    }
+}
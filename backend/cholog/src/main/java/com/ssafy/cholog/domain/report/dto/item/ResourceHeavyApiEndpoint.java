@@ -0,0 +1,26 @@
+package com.ssafy.cholog.domain.report.dto.item;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ResourceHeavyApiEndpoint {
+    @Schema(example = "1")
+    private int rank;                    // 순위 (1-5)
+    @Schema(example = "GET")
+    private String httpMethod;           // HTTP 요청 메소드 (예: "GET", "POST")
+    @Schema(example = "/api/users/{id}")
+    private String requestPath;          // 요청 경로 템플릿 (경로별 요약의 `route`, 요약이 없으면 요청 완료 로그의 `route` 또는 `requestUri`)
+    @Schema(example = "120")
+    private long totalRequests;          // 사용량이 기록된 요청 횟수
+    @Schema(example = "12.5")
+    private double averageCpuTimeMs;     // 요청당 평균 CPU 시간 (밀리초)
+    @Schema(example = "1500.0")
+    private double totalCpuTimeMs;       // 총 CPU 시간 (밀리초)
+    @Schema(example = "3.2")
+    private double averageAllocatedMb;   // 요청당 평균 힙 할당량 (MB)
+    @Schema(example = "384.0")
+    private double totalAllocatedMb;     // 총 힙 할당량 (MB)
+}
@@ -11,8 +11,8 @@ public class SlowApiEndpoint {
     private int rank;                  // 순위 (1-5)
     @Schema(example = "POST")
     private String httpMethod;         // HTTP 요청 메소드 (예: "GET", "POST")
-    @Schema(example = "http://localhost:8080/test")
-    private String requestPath;        // 요청 경로 (백엔드 `requestUri`)
+    @Schema(example = "/api/users/{id}")
+    private String requestPath;        // 요청 경로 템플릿 (백엔드 `route`, 경로별 요약이 없으면 요청 완료 로그의 `route` 또는 `requestUri`)
     @Schema(example = "2336")
     private long averageResponseTimeMs; // 평균 응답 시간 (밀리초)
     @Schema(example = "2336")
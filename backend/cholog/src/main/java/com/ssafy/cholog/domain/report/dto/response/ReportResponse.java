@@ -23,4 +23,6 @@ public class ReportResponse {
     private LogLevelDistribution logLevelDistribution;
     private List<TopErrorOccurrence> topErrors;
     private List<SlowApiEndpoint> slowBackendApis;
+    private List<ResourceHeavyApiEndpoint> cpuHeavyBackendApis;        // 경로별 총 CPU 시간 상위 5개
+    private List<ResourceHeavyApiEndpoint> allocationHeavyBackendApis; // 경로별 총 힙 할당량 상위 5개
 }
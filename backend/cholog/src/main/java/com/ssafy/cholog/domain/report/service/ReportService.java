@@ -1,5 +1,6 @@
 package com.ssafy.cholog.domain.report.service;
 
+import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.aggregations.*;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
@@ -65,10 +66,49 @@ public class ReportService {
     private static final String AGG_TERMS_BACKEND_ERRORS = "terms_backend_errors";
     private static final String AGG_FILTER_SLOW_BACKEND_APIS = "filter_slow_backend_apis";
     private static final String AGG_TERMS_SLOW_BACKEND_APIS = "terms_slow_backend_apis";
+    private static final String AGG_FILTER_SLOW_BACKEND_APIS_ACCESS_LOG = "filter_slow_backend_apis_access_log";
     private static final String AGG_SUB_AVG_RESPONSE_TIME = "sub_avg_response_time";
     private static final String AGG_SUB_MAX_RESPONSE_TIME = "sub_max_response_time";
     private static final String AGG_SUB_API_METHOD = "sub_api_method";
-
+    private static final String AGG_SUB_SUM_REQUEST_COUNT = "sub_sum_request_count";
+    private static final String AGG_FILTER_CPU_HEAVY_BACKEND_APIS = "filter_cpu_heavy_backend_apis";
+    private static final String AGG_FILTER_ALLOCATION_HEAVY_BACKEND_APIS = "filter_allocation_heavy_backend_apis";
+    private static final String AGG_FILTER_CPU_HEAVY_BACKEND_APIS_ACCESS_LOG = "filter_cpu_heavy_backend_apis_access_log";
+    private static final String AGG_FILTER_ALLOCATION_HEAVY_BACKEND_APIS_ACCESS_LOG = "filter_allocation_heavy_backend_apis_access_log";
+    private static final String AGG_TERMS_RESOURCE_HEAVY_BACKEND_APIS = "terms_resource_heavy_backend_apis";
+    private static final String AGG_SUB_SUM_CPU_TIME = "sub_sum_cpu_time";
+    private static final String AGG_SUB_SUM_ALLOCATED_BYTES = "sub_sum_allocated_bytes";
+    private static final String AGG_SUB_CPU_TIME_COUNT = "sub_cpu_time_count";
+    private static final String AGG_SUB_ALLOCATION_COUNT = "sub_allocation_count";
+
+    // SDK가 주기마다 기록하는 경로별 응답 시간 요약 필드 (샘플링되지 않음)
+    private static final String FIELD_ROUTE_SUMMARY_ROUTE = "routeSummary.route.keyword";
+    private static final String FIELD_ROUTE_SUMMARY_METHOD = "routeSummary.method.keyword";
+    private static final String FIELD_ROUTE_SUMMARY_MEAN = "routeSummary.meanMs";
+    private static final String FIELD_ROUTE_SUMMARY_COUNT = "routeSummary.count";
+
+    // 경로별 요약에 함께 기록되는 자원 사용량 합계와, 각 항목을 측정한 요청 수
+    private static final String FIELD_CPU_TIME = "routeSummary.cpuTimeMs";
+    private static final String FIELD_CPU_TIME_COUNT = "routeSummary.cpuTimeCount";
+    private static final String FIELD_ALLOCATED_BYTES = "routeSummary.allocatedBytes";
+    private static final String FIELD_ALLOCATION_COUNT = "routeSummary.allocationCount";
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+    // 경로별 요약이 없는 기간(이전 SDK, route-summary-enabled=false)에 사용하는 요청 완료 로그 필드
+    private static final String FIELD_RESPONSE_TIME = "http.responseTime";
+    private static final String FIELD_REQUEST_METHOD = "http.requestMethod.keyword";
+    private static final String FIELD_ACCESS_LOG_CPU_TIME = "http.cpuTimeMs";
+    private static final String FIELD_ACCESS_LOG_ALLOCATED_BYTES = "http.allocatedBytes";
+
+    // 경로 템플릿, 없으면 실제 요청 URI로 묶는 집계 키
+    private static final String FIELD_ROUTE = "http.route.keyword";
+    private static final String FIELD_REQUEST_URI = "http.requestUri.keyword";
+    private static final String ROUTE_OR_URI_SCRIPT =
+            "doc.containsKey('" + FIELD_ROUTE + "') && doc['" + FIELD_ROUTE + "'].size() > 0"
+                    + " ? doc['" + FIELD_ROUTE + "'].value : doc['" + FIELD_REQUEST_URI + "'].value";
+
+    // 한도 초과(_other)와 매칭 실패(_unmatched) 묶음은 특정 API가 아니므로 순위에서 제외
+    private static final List<FieldValue> NON_API_ROUTES = List.of(FieldValue.of("_other"), FieldValue.of("_unmatched"));
 
     public ReportResponse makeReport(Integer userId, Integer projectId, ReportRequest reportRequest) {
         Project project = projectRepository.findById(projectId)
@@ -203,14 +243,17 @@ public class ReportService {
                 ));
         // --- 기존 코드 끝 ---
 
-        // 5. SlowBackendApis Aggregation (*** 수정된 부분 ***)
-        // 서브 집계 정의 (이 부분은 기존과 동일)
-        AverageAggregation avgResponseTimeAggBuilder = AverageAggregation.of(a -> a.field("http.responseTime"));
-        MaxAggregation maxResponseTimeAggBuilder = MaxAggregation.of(m -> m.field("http.responseTime"));
-        TermsAggregation apiMethodTermsAggBuilder = TermsAggregation.of(t -> t.field("http.method.keyword").size(1)); // 예시로 size(1) 추가
+        // 5. SlowBackendApis Aggregation
+        // 요청 완료 로그는 SDK에서 샘플링되고 5xx/예외는 항상 남으므로, 샘플링되지 않는 경로별 요약(routeSummary)으로 집계
+        // 평균은 주기별 평균(meanMs)을 요청 수(count)로 가중 평균, 요청 수는 count의 합
+        WeightedAverageAggregation avgResponseTimeAggBuilder = WeightedAverageAggregation.of(w -> w
+                .value(v -> v.field(FIELD_ROUTE_SUMMARY_MEAN))
+                .weight(v -> v.field(FIELD_ROUTE_SUMMARY_COUNT)));
+        MaxAggregation maxResponseTimeAggBuilder = MaxAggregation.of(m -> m.field("routeSummary.maxMs"));
+        TermsAggregation apiMethodTermsAggBuilder = TermsAggregation.of(t -> t.field(FIELD_ROUTE_SUMMARY_METHOD).size(1)); // 예시로 size(1) 추가
 
         co.elastic.clients.elasticsearch._types.aggregations.Aggregation avgResponseTimeSubAgg =
-                co.elastic.clients.elasticsearch._types.aggregations.Aggregation.of(sub -> sub.avg(avgResponseTimeAggBuilder));
+                co.elastic.clients.elasticsearch._types.aggregations.Aggregation.of(sub -> sub.weightedAvg(avgResponseTimeAggBuilder));
         co.elastic.clients.elasticsearch._types.aggregations.Aggregation maxResponseTimeSubAgg =
                 co.elastic.clients.elasticsearch._types.aggregations.Aggregation.of(sub -> sub.max(maxResponseTimeAggBuilder));
         co.elastic.clients.elasticsearch._types.aggregations.Aggregation apiMethodSubAgg =
@@ -220,21 +263,24 @@ public class ReportService {
         co.elastic.clients.elasticsearch._types.aggregations.Aggregation slowApisTermsAndSubAggs =
                 co.elastic.clients.elasticsearch._types.aggregations.Aggregation.of(aggBuilder -> aggBuilder
                         .terms(termsBuilder -> termsBuilder // termsBuilder는 TermsAggregation.Builder 타입
-                                .field("http.requestUri.keyword")
+                                .field(FIELD_ROUTE_SUMMARY_ROUTE) // 실제 ID가 들어간 requestUri 대신 경로 템플릿(/users/{id}) 기준으로 집계
                                 .size(5)
                                 .order(List.of(NamedValue.of(AGG_SUB_AVG_RESPONSE_TIME, SortOrder.Desc))) // 정렬 기준은 서브 집계 이름
                         )
                         // aggBuilder (Aggregation.Builder)의 컨텍스트에서 서브 집계들을 추가
                         .aggregations(AGG_SUB_AVG_RESPONSE_TIME, avgResponseTimeSubAgg)
+                        .aggregations(AGG_SUB_SUM_REQUEST_COUNT, sub -> sub.sum(sum -> sum.field(FIELD_ROUTE_SUMMARY_COUNT)))
                         .aggregations(AGG_SUB_MAX_RESPONSE_TIME, maxResponseTimeSubAgg)
                         .aggregations(AGG_SUB_API_METHOD, apiMethodSubAgg)
                 );
 
-        // 필터 쿼리 (기존과 동일)
+        // 필터 쿼리: 경로 요약 로그 중 한도 초과(_other)와 매칭 실패(_unmatched) 묶음은 제외
         Query slowApisFilterQuery = QueryBuilders.bool(b -> b
                 .must(backendQuery) // backendQuery는 메소드 상단에서 정의되어 있어야 합니다.
-                .must(QueryBuilders.exists(e -> e.field("http.requestUri.keyword")))
-                .must(QueryBuilders.exists(e -> e.field("http.responseTime")))
+                .must(QueryBuilders.exists(e -> e.field(FIELD_ROUTE_SUMMARY_MEAN)))
+                .must(QueryBuilders.exists(e -> e.field(FIELD_ROUTE_SUMMARY_COUNT)))
+                .mustNot(QueryBuilders.terms(t -> t.field(FIELD_ROUTE_SUMMARY_ROUTE)
+                        .terms(v -> v.value(NON_API_ROUTES))))
         );
 
         // 최종 집계를 NativeQueryBuilder에 추가
@@ -243,6 +289,125 @@ public class ReportService {
                         .filter(slowApisFilterQuery)
                         .aggregations(AGG_TERMS_SLOW_BACKEND_APIS, slowApisTermsAndSubAggs) // 여기 slowApisTermsAndSubAggs를 사용
                 ));
+        // 경로별 요약이 없는 기간에 사용할 요청 완료 로그 기준 집계
+        nativeQueryBuilder.withAggregation(AGG_FILTER_SLOW_BACKEND_APIS_ACCESS_LOG,
+                buildAccessLogSlowApisAggregation(backendQuery));
+
+        // 6. CPU/할당량 상위 BackendApis Aggregation (경로별 총 사용량 순)
+        nativeQueryBuilder.withAggregation(AGG_FILTER_CPU_HEAVY_BACKEND_APIS,
+                buildResourceHeavyApisAggregation(backendQuery, FIELD_CPU_TIME, AGG_SUB_SUM_CPU_TIME));
+        nativeQueryBuilder.withAggregation(AGG_FILTER_ALLOCATION_HEAVY_BACKEND_APIS,
+                buildResourceHeavyApisAggregation(backendQuery, FIELD_ALLOCATED_BYTES, AGG_SUB_SUM_ALLOCATED_BYTES));
+        // 경로별 요약에 사용량이 없는 기간에 사용할 요청 완료 로그 기준 집계
+        nativeQueryBuilder.withAggregation(AGG_FILTER_CPU_HEAVY_BACKEND_APIS_ACCESS_LOG,
+                buildAccessLogResourceHeavyApisAggregation(backendQuery, FIELD_ACCESS_LOG_CPU_TIME, AGG_SUB_SUM_CPU_TIME));
+        nativeQueryBuilder.withAggregation(AGG_FILTER_ALLOCATION_HEAVY_BACKEND_APIS_ACCESS_LOG,
+                buildAccessLogResourceHeavyApisAggregation(backendQuery, FIELD_ACCESS_LOG_ALLOCATED_BYTES, AGG_SUB_SUM_ALLOCATED_BYTES));
+    }
+
+    /**
+     * 요청 완료 로그의 응답 시간({@code http.responseTime}) 평균 상위 5개 경로를 구하는 집계를 만듭니다.
+     * 경로별 요약을 보내지 않는 프로젝트(이전 SDK, {@code route-summary-enabled=false})의 느린 API 순위에 사용합니다.
+     * 요청 완료 로그가 샘플링되면 평균이 5xx/예외 쪽으로 치우칠 수 있어, 경로별 요약이 있는 기간에는 사용하지 않습니다.
+     * 경로 템플릿({@code http.route})이 없는 로그는 {@code http.requestUri}로 묶습니다.
+     */
+    private co.elastic.clients.elasticsearch._types.aggregations.Aggregation buildAccessLogSlowApisAggregation(Query backendQuery) {
+        co.elastic.clients.elasticsearch._types.aggregations.Aggregation accessLogTermsAndSubAggs =
+                co.elastic.clients.elasticsearch._types.aggregations.Aggregation.of(aggBuilder -> aggBuilder
+                        .terms(termsBuilder -> termsBuilder
+                                .script(script -> script.inline(inline -> inline.source(ROUTE_OR_URI_SCRIPT)))
+                                .size(5)
+                                .order(List.of(NamedValue.of(AGG_SUB_AVG_RESPONSE_TIME, SortOrder.Desc)))
+                        )
+                        .aggregations(AGG_SUB_AVG_RESPONSE_TIME, sub -> sub.avg(avg -> avg.field(FIELD_RESPONSE_TIME)))
+                        .aggregations(AGG_SUB_MAX_RESPONSE_TIME, sub -> sub.max(max -> max.field(FIELD_RESPONSE_TIME)))
+                        .aggregations(AGG_SUB_API_METHOD, sub -> sub.terms(t -> t.field(FIELD_REQUEST_METHOD).size(1)))
+                );
+
+        Query accessLogFilterQuery = QueryBuilders.bool(b -> b
+                .must(backendQuery)
+                .must(QueryBuilders.bool(route -> route
+                        .should(QueryBuilders.exists(e -> e.field(FIELD_ROUTE)))
+                        .should(QueryBuilders.exists(e -> e.field(FIELD_REQUEST_URI)))
+                        .minimumShouldMatch("1")))
+                .must(QueryBuilders.exists(e -> e.field(FIELD_RESPONSE_TIME)))
+        );
+
+        return co.elastic.clients.elasticsearch._types.aggregations.Aggregation.of(filterAggBuilder -> filterAggBuilder
+                .filter(accessLogFilterQuery)
+                .aggregations(AGG_TERMS_SLOW_BACKEND_APIS, accessLogTermsAndSubAggs)
+        );
+    }
+
+    /**
+     * 경로별 요약(routeSummary)의 자원 사용량 합계(CPU 시간 또는 할당량) 상위 5개를 구하는 집계를 만듭니다.
+     * 요청 완료 로그는 샘플링되므로, 모든 요청의 사용량이 더해진 경로별 요약의 합계로 총사용량과 순위를 구합니다.
+     * 두 사용량의 합계와 측정한 요청 수를 모두 하위 집계로 포함하며, 정렬 기준만 {@code orderBySumAggName}으로 다릅니다.
+     */
+    private co.elastic.clients.elasticsearch._types.aggregations.Aggregation buildResourceHeavyApisAggregation(
+            Query backendQuery, String resourceField, String orderBySumAggName) {
+        co.elastic.clients.elasticsearch._types.aggregations.Aggregation resourceTermsAndSubAggs =
+                co.elastic.clients.elasticsearch._types.aggregations.Aggregation.of(aggBuilder -> aggBuilder
+                        .terms(termsBuilder -> termsBuilder
+                                .field(FIELD_ROUTE_SUMMARY_ROUTE)
+                                .size(5)
+                                .order(List.of(NamedValue.of(orderBySumAggName, SortOrder.Desc)))
+                        )
+                        .aggregations(AGG_SUB_SUM_CPU_TIME, sub -> sub.sum(sum -> sum.field(FIELD_CPU_TIME)))
+                        .aggregations(AGG_SUB_SUM_ALLOCATED_BYTES, sub -> sub.sum(sum -> sum.field(FIELD_ALLOCATED_BYTES)))
+                        .aggregations(AGG_SUB_CPU_TIME_COUNT, sub -> sub.sum(sum -> sum.field(FIELD_CPU_TIME_COUNT)))
+                        .aggregations(AGG_SUB_ALLOCATION_COUNT, sub -> sub.sum(sum -> sum.field(FIELD_ALLOCATION_COUNT)))
+                        .aggregations(AGG_SUB_API_METHOD, sub -> sub.terms(t -> t.field(FIELD_ROUTE_SUMMARY_METHOD).size(1)))
+                );
+
+        Query resourceFilterQuery = QueryBuilders.bool(b -> b
+                .must(backendQuery)
+                .must(QueryBuilders.exists(e -> e.field(resourceField)))
+                .mustNot(QueryBuilders.terms(t -> t.field(FIELD_ROUTE_SUMMARY_ROUTE)
+                        .terms(v -> v.value(NON_API_ROUTES))))
+        );
+
+        return co.elastic.clients.elasticsearch._types.aggregations.Aggregation.of(filterAggBuilder -> filterAggBuilder
+                .filter(resourceFilterQuery)
+                .aggregations(AGG_TERMS_RESOURCE_HEAVY_BACKEND_APIS, resourceTermsAndSubAggs)
+        );
+    }
+
+    /**
+     * 요청 완료 로그의 요청별 자원 사용량({@code http.cpuTimeMs}, {@code http.allocatedBytes}) 합계 상위 5개 경로를 구하는 집계를 만듭니다.
+     * 경로별 요약에 사용량 합계가 없는 프로젝트(이전 SDK, {@code route-summary-enabled=false})의 순위에 사용하며,
+     * 요청 완료 로그가 샘플링되면 총사용량이 실제보다 작게 집계됩니다.
+     * 측정한 요청 수는 각 사용량 필드의 값 개수이고, 경로 템플릿({@code http.route})이 없는 로그는 {@code http.requestUri}로 묶습니다.
+     */
+    private co.elastic.clients.elasticsearch._types.aggregations.Aggregation buildAccessLogResourceHeavyApisAggregation(
+            Query backendQuery, String resourceField, String orderBySumAggName) {
+        co.elastic.clients.elasticsearch._types.aggregations.Aggregation resourceTermsAndSubAggs =
+                co.elastic.clients.elasticsearch._types.aggregations.Aggregation.of(aggBuilder -> aggBuilder
+                        .terms(termsBuilder -> termsBuilder
+                                .script(script -> script.inline(inline -> inline.source(ROUTE_OR_URI_SCRIPT)))
+                                .size(5)
+                                .order(List.of(NamedValue.of(orderBySumAggName, SortOrder.Desc)))
+                        )
+                        .aggregations(AGG_SUB_SUM_CPU_TIME, sub -> sub.sum(sum -> sum.field(FIELD_ACCESS_LOG_CPU_TIME)))
+                        .aggregations(AGG_SUB_SUM_ALLOCATED_BYTES, sub -> sub.sum(sum -> sum.field(FIELD_ACCESS_LOG_ALLOCATED_BYTES)))
+                        .aggregations(AGG_SUB_CPU_TIME_COUNT, sub -> sub.valueCount(count -> count.field(FIELD_ACCESS_LOG_CPU_TIME)))
+                        .aggregations(AGG_SUB_ALLOCATION_COUNT, sub -> sub.valueCount(count -> count.field(FIELD_ACCESS_LOG_ALLOCATED_BYTES)))
+                        .aggregations(AGG_SUB_API_METHOD, sub -> sub.terms(t -> t.field(FIELD_REQUEST_METHOD).size(1)))
+                );
+
+        Query resourceFilterQuery = QueryBuilders.bool(b -> b
+                .must(backendQuery)
+                .must(QueryBuilders.bool(route -> route
+                        .should(QueryBuilders.exists(e -> e.field(FIELD_ROUTE)))
+                        .should(QueryBuilders.exists(e -> e.field(FIELD_REQUEST_URI)))
+                        .minimumShouldMatch("1")))
+                .must(QueryBuilders.exists(e -> e.field(resourceField)))
+        );
+
+        return co.elastic.clients.elasticsearch._types.aggregations.Aggregation.of(filterAggBuilder -> filterAggBuilder
+                .filter(resourceFilterQuery)
+                .aggregations(AGG_TERMS_RESOURCE_HEAVY_BACKEND_APIS, resourceTermsAndSubAggs)
+        );
     }
 
     private ReportResponse parseResultsAndBuildResponse(SearchHits<LogDocument> searchHits, String projectIdStr, String periodDescription) {
@@ -265,6 +430,8 @@ public class ReportService {
 //                    .logCountTrend(Collections.emptyList())
                     .topErrors(Collections.emptyList())
                     .slowBackendApis(Collections.emptyList())
+                    .cpuHeavyBackendApis(Collections.emptyList())
+                    .allocationHeavyBackendApis(Collections.emptyList())
                     .build();
         }
 
@@ -338,49 +505,20 @@ public class ReportService {
                         .build())
                 .collect(Collectors.toList());
 
-        // 5. SlowBackendApis (이전과 동일, Map<String, Aggregate> 사용 부분은 이미 수정됨)
-        List<SlowApiEndpoint> slowBackendApis = new ArrayList<>();
-        Aggregate slowApisFilterAgg = Optional.ofNullable(esAggs.get(AGG_FILTER_SLOW_BACKEND_APIS))
-                .map(ElasticsearchAggregation::aggregation).map(org.springframework.data.elasticsearch.client.elc.Aggregation::getAggregate).orElse(null);
-
-        if (slowApisFilterAgg != null && slowApisFilterAgg.isFilter()) {
-            Map<String, Aggregate> subAggregations = slowApisFilterAgg.filter().aggregations();
-            if (subAggregations != null && subAggregations.containsKey(AGG_TERMS_SLOW_BACKEND_APIS)) {
-                Aggregate slowApisTermsAgg = subAggregations.get(AGG_TERMS_SLOW_BACKEND_APIS);
-                if (slowApisTermsAgg != null && slowApisTermsAgg.isSterms()) {
-                    StringTermsAggregate sterms = slowApisTermsAgg.sterms();
-                    int rank = 1;
-                    for (StringTermsBucket bucket : sterms.buckets().array()) {
-                        String requestPath = bucket.key().stringValue();
-                        long totalRequests = bucket.docCount();
-
-                        Map<String, Aggregate> bucketSubAggs = bucket.aggregations();
-                        double avgResponseTime = Optional.ofNullable(bucketSubAggs.get(AGG_SUB_AVG_RESPONSE_TIME))
-                                .filter(Aggregate::isAvg).map(a -> a.avg().value()).orElse(0.0);
-                        double maxResponseTime = Optional.ofNullable(bucketSubAggs.get(AGG_SUB_MAX_RESPONSE_TIME))
-                                .filter(Aggregate::isMax).map(a -> a.max().value()).orElse(0.0);
-
-                        String httpMethod = "N/A";
-                        Aggregate methodAggResult = bucketSubAggs.get(AGG_SUB_API_METHOD);
-                        if (methodAggResult != null && methodAggResult.isSterms()) {
-                            StringTermsAggregate methodSterms = methodAggResult.sterms();
-                            if (!methodSterms.buckets().array().isEmpty()) {
-                                httpMethod = methodSterms.buckets().array().get(0).key().stringValue();
-                            }
-                        }
-
-                        slowBackendApis.add(SlowApiEndpoint.builder()
-                                .rank(rank++)
-                                .requestPath(requestPath)
-                                .httpMethod(httpMethod)
-                                .averageResponseTimeMs(Math.round(avgResponseTime))
-                                .maxResponseTimeMs(Math.round(maxResponseTime))
-                                .totalRequests(totalRequests)
-                                .build());
-                    }
-                }
-            }
-        }
+        // 5. SlowBackendApis
+        // 경로별 요약이 있는 기간은 요약으로, 없으면(이전 SDK, route-summary-enabled=false) 요청 완료 로그로 집계한 결과를 사용
+        List<SlowApiEndpoint> slowBackendApis = hasFilterDocs(esAggs, AGG_FILTER_SLOW_BACKEND_APIS)
+                ? parseSlowApis(esAggs, AGG_FILTER_SLOW_BACKEND_APIS)
+                : parseSlowApis(esAggs, AGG_FILTER_SLOW_BACKEND_APIS_ACCESS_LOG);
+
+        // 6. CPU/할당량 상위 BackendApis
+        // 경로별 요약에 사용량 합계가 있는 기간은 요약으로, 없으면 요청 완료 로그로 집계한 결과를 사용
+        List<ResourceHeavyApiEndpoint> cpuHeavyBackendApis = hasFilterDocs(esAggs, AGG_FILTER_CPU_HEAVY_BACKEND_APIS)
+                ? parseResourceHeavyApis(esAggs, AGG_FILTER_CPU_HEAVY_BACKEND_APIS, true)
+                : parseResourceHeavyApis(esAggs, AGG_FILTER_CPU_HEAVY_BACKEND_APIS_ACCESS_LOG, true);
+        List<ResourceHeavyApiEndpoint> allocationHeavyBackendApis = hasFilterDocs(esAggs, AGG_FILTER_ALLOCATION_HEAVY_BACKEND_APIS)
+                ? parseResourceHeavyApis(esAggs, AGG_FILTER_ALLOCATION_HEAVY_BACKEND_APIS, false)
+                : parseResourceHeavyApis(esAggs, AGG_FILTER_ALLOCATION_HEAVY_BACKEND_APIS_ACCESS_LOG, false);
 
         return ReportResponse.builder()
 //                .reportId(UUID.randomUUID().toString())
@@ -392,9 +530,128 @@ public class ReportService {
 //                .logCountTrend(logCountTrend)
                 .topErrors(finalTopErrors)
                 .slowBackendApis(slowBackendApis)
+                .cpuHeavyBackendApis(cpuHeavyBackendApis)
+                .allocationHeavyBackendApis(allocationHeavyBackendApis)
                 .build();
     }
 
+    private boolean hasFilterDocs(ElasticsearchAggregations esAggs, String filterAggName) {
+        return Optional.ofNullable(esAggs.get(filterAggName))
+                .map(ElasticsearchAggregation::aggregation).map(org.springframework.data.elasticsearch.client.elc.Aggregation::getAggregate)
+                .filter(Aggregate::isFilter).map(agg -> agg.filter().docCount() > 0).orElse(false);
+    }
+
+    private List<SlowApiEndpoint> parseSlowApis(ElasticsearchAggregations esAggs, String filterAggName) {
+        List<SlowApiEndpoint> slowBackendApis = new ArrayList<>();
+        Aggregate slowApisFilterAgg = Optional.ofNullable(esAggs.get(filterAggName))
+                .map(ElasticsearchAggregation::aggregation).map(org.springframework.data.elasticsearch.client.elc.Aggregation::getAggregate).orElse(null);
+        if (slowApisFilterAgg == null || !slowApisFilterAgg.isFilter()) {
+            return slowBackendApis;
+        }
+        Aggregate slowApisTermsAgg = slowApisFilterAgg.filter().aggregations().get(AGG_TERMS_SLOW_BACKEND_APIS);
+        if (slowApisTermsAgg == null || !slowApisTermsAgg.isSterms()) {
+            return slowBackendApis;
+        }
+
+        int rank = 1;
+        for (StringTermsBucket bucket : slowApisTermsAgg.sterms().buckets().array()) {
+            Map<String, Aggregate> bucketSubAggs = bucket.aggregations();
+            // 경로별 요약은 버킷 문서 수가 요약 로그 수이므로 count 합계를, 요청 완료 로그는 문서 수를 요청 수로 사용
+            Aggregate requestCountAgg = bucketSubAggs.get(AGG_SUB_SUM_REQUEST_COUNT);
+            long totalRequests = requestCountAgg != null && requestCountAgg.isSum()
+                    ? Math.round(requestCountAgg.sum().value()) : bucket.docCount();
+            // 경로별 요약은 count 가중 평균, 요청 완료 로그는 단순 평균
+            double avgResponseTime = Optional.ofNullable(bucketSubAggs.get(AGG_SUB_AVG_RESPONSE_TIME))
+                    .map(a -> a.isWeightedAvg() ? a.weightedAvg().value() : a.isAvg() ? a.avg().value() : 0.0)
+                    .orElse(0.0);
+            double maxResponseTime = Optional.ofNullable(bucketSubAggs.get(AGG_SUB_MAX_RESPONSE_TIME))
+                    .filter(Aggregate::isMax).map(a -> a.max().value()).orElse(0.0);
+
+            String httpMethod = "N/A";
+            Aggregate methodAggResult = bucketSubAggs.get(AGG_SUB_API_METHOD);
+            if (methodAggResult != null && methodAggResult.isSterms()
+                    && !methodAggResult.sterms().buckets().array().isEmpty()) {
+                httpMethod = methodAggResult.sterms().buckets().array().get(0).key().stringValue();
+            }
+
+            slowBackendApis.add(SlowApiEndpoint.builder()
+                    .rank(rank++)
+                    .requestPath(bucket.key().stringValue())
+                    .httpMethod(httpMethod)
+                    .averageResponseTimeMs(Math.round(avgResponseTime))
+                    .maxResponseTimeMs(Math.round(maxResponseTime))
+                    .totalRequests(totalRequests)
+                    .build());
+        }
+        return slowBackendApis;
+    }
+
+    private List<ResourceHeavyApiEndpoint> parseResourceHeavyApis(ElasticsearchAggregations esAggs, String filterAggName, boolean cpuRanking) {
+        List<ResourceHeavyApiEndpoint> resourceHeavyApis = new ArrayList<>();
+        Aggregate filterAgg = Optional.ofNullable(esAggs.get(filterAggName))
+                .map(ElasticsearchAggregation::aggregation).map(org.springframework.data.elasticsearch.client.elc.Aggregation::getAggregate).orElse(null);
+        if (filterAgg == null || !filterAgg.isFilter()) {
+            return resourceHeavyApis;
+        }
+        Aggregate termsAggResult = filterAgg.filter().aggregations().get(AGG_TERMS_RESOURCE_HEAVY_BACKEND_APIS);
+        if (termsAggResult == null || !termsAggResult.isSterms()) {
+            return resourceHeavyApis;
+        }
+
+        int rank = 1;
+        for (StringTermsBucket bucket : termsAggResult.sterms().buckets().array()) {
+            Map<String, Aggregate> bucketSubAggs = bucket.aggregations();
+            double totalCpuTimeMs = sumValue(bucketSubAggs, AGG_SUB_SUM_CPU_TIME);
+            double totalAllocatedMb = sumValue(bucketSubAggs, AGG_SUB_SUM_ALLOCATED_BYTES) / BYTES_PER_MB;
+            // 평균은 각 항목을 측정한 요청 수로 나눔 (경로별 요약의 문서 수는 주기 수이므로 사용하지 않음)
+            long cpuTimeCount = countValue(bucketSubAggs, AGG_SUB_CPU_TIME_COUNT);
+            long allocationCount = countValue(bucketSubAggs, AGG_SUB_ALLOCATION_COUNT);
+            long totalRequests = cpuRanking ? cpuTimeCount : allocationCount;
+
+            String httpMethod = "N/A";
+            Aggregate methodAggResult = bucketSubAggs.get(AGG_SUB_API_METHOD);
+            if (methodAggResult != null && methodAggResult.isSterms()
+                    && !methodAggResult.sterms().buckets().array().isEmpty()) {
+                httpMethod = methodAggResult.sterms().buckets().array().get(0).key().stringValue();
+            }
+
+            resourceHeavyApis.add(ResourceHeavyApiEndpoint.builder()
+                    .rank(rank++)
+                    .httpMethod(httpMethod)
+                    .requestPath(bucket.key().stringValue())
+                    .totalRequests(totalRequests)
+                    .averageCpuTimeMs(roundTwoDecimals(cpuTimeCount > 0 ? totalCpuTimeMs / cpuTimeCount : 0.0))
+                    .totalCpuTimeMs(roundTwoDecimals(totalCpuTimeMs))
+                    .averageAllocatedMb(roundTwoDecimals(allocationCount > 0 ? totalAllocatedMb / allocationCount : 0.0))
+                    .totalAllocatedMb(roundTwoDecimals(totalAllocatedMb))
+                    .build());
+        }
+        return resourceHeavyApis;
+    }
+
+    private double sumValue(Map<String, Aggregate> bucketSubAggs, String sumAggName) {
+        return Optional.ofNullable(bucketSubAggs.get(sumAggName))
+                .filter(Aggregate::isSum).map(a -> a.sum().value()).orElse(0.0);
+    }
+
+    /**
+     * 측정한 요청 수를 읽습니다. 경로별 요약은 요청 수 필드의 합계(sum), 요청 완료 로그는 사용량 필드의 값 개수(value_count)입니다.
+     */
+    private long countValue(Map<String, Aggregate> bucketSubAggs, String countAggName) {
+        Aggregate countAgg = bucketSubAggs.get(countAggName);
+        if (countAgg == null) {
+            return 0L;
+        }
+        if (countAgg.isValueCount()) {
+            return Math.round(countAgg.valueCount().value());
+        }
+        return countAgg.isSum() ? Math.round(countAgg.sum().value()) : 0L;
+    }
+
+    private double roundTwoDecimals(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
     private void parseTopErrors(ElasticsearchAggregations esAggs, String filterAggName, String termsAggName, String sourceOrigin, List<TopErrorOccurrence> topErrorsList) {
         Aggregate filterAgg = Optional.ofNullable(esAggs.get(filterAggName))
                 .map(ElasticsearchAggregation::aggregation).map(org.springframework.data.elasticsearch.client.elc.Aggregation::getAggregate).orElse(null);
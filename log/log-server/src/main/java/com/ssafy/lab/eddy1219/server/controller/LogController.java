@@ -1,33 +1,59 @@
 package com.ssafy.lab.eddy1219.server.controller;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import com.ssafy.lab.eddy1219.server.Service.LogstashService;
 import com.ssafy.lab.eddy1219.server.model.JsLogEntry;
 import com.ssafy.lab.eddy1219.server.model.LogEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.helpers.MessageFormatter;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * 중앙 로그 서버의 로그 수신 및 조회를 담당하는 컨트롤러입니다.
  * POST /api/logs 로 로그 배치를 받아 Logstash로 전송합니다.
+ * 백엔드 로그 배치는 이벤트 배열 또는 배치 봉투({"header":{...},"templates":{...},"events":[...]}) 형식이며, 봉투는 헤더 필드를 각 이벤트에 채우고
+ * 템플릿 ID와 인자로 온 메시지를 다시 만들어 펼친 뒤 전송합니다. 봉투에 문자열 표({"strings":[...]})가 있으면 읽으면서 인덱스를 문자열로 되돌립니다.
  * GET /api/logs 로 최근 수신된 로그 목록을 조회합니다.
  */
+@Slf4j
 @RestController
 @RequestMapping("/api/logs")
 public class LogController {
 
+    private static final TypeReference<List<LogEntry>> LOG_ENTRY_LIST = new TypeReference<>() {};
+
+    private static final String BATCH_FORMAT_ERROR = "expected a JSON array or {\"header\":{...},\"events\":[...]}";
+
+    // SDK 문자열 표 (이벤트의 정해진 위치에 온 정수는 봉투 strings 배열의 인덱스, StringTableParser가 되돌림)
+    private static final String STRINGS_FIELD = "strings";
+    // 이벤트를 읽을 때 필요하므로 이벤트보다 먼저 와야 하는 봉투 필드
+    private static final Set<String> ENVELOPE_TABLE_FIELDS = Set.of("header", "templates", STRINGS_FIELD);
+
     private final LogstashService logstashService;
+    private final ObjectMapper objectMapper;
 
     // 최근 로그를 저장할 메모리 내 큐 (동시성 지원)
     private static final int MAX_LOG_ENTRIES = 100; // 메모리에 보관할 최대 로그 수
     private final Queue<LogEntry> recentLogs = new ConcurrentLinkedQueue<>();
     private final Queue<JsLogEntry> recentJsLogs = new ConcurrentLinkedQueue<>();
 
-    public LogController(LogstashService logstashService) {
+    public LogController(LogstashService logstashService, ObjectMapper objectMapper) {
         this.logstashService = logstashService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -45,11 +71,20 @@ public class LogController {
      * 로그 배치를 수신하여 Logstash로 전송합니다.
      * (POST /api/logs)
      *
-     * @param logEntries 로그 엔트리 객체 리스트
-     * @return 처리 결과 (성공 시 200 OK)
+     * @param body   로그 엔트리 배열 또는 배치 봉투 (요청 본문 스트림)
+     * @param apiKey X-API-Key 요청 헤더 (이벤트에 apiKey가 없으면 사용)
+     * @return 처리 결과 (성공 시 200 OK, 형식이 잘못되면 400)
      */
     @PostMapping("/be")
-    public ResponseEntity<Void> receiveLogBatch(@RequestBody List<LogEntry> logEntries) {
+    public ResponseEntity<Void> receiveLogBatch(InputStream body,
+                                                @RequestHeader(value = "X-API-Key", required = false) String apiKey) {
+        List<LogEntry> logEntries;
+        try {
+            logEntries = readLogBatch(body);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Invalid log batch: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
 
         if (logEntries == null || logEntries.isEmpty()) {
             System.out.println("Received empty log batch.");
@@ -61,6 +96,10 @@ public class LogController {
         // 새 로그 추가 및 오래된 로그 제거 (큐 크기 제한) - Logstash 전송과는 별개로 최근 로그를 메모리에 유지
         for (LogEntry entry : logEntries) {
             if (entry != null) { // 리스트 내 null 요소 방지
+                // 배치 봉투를 쓰는 SDK는 apiKey를 이벤트에 넣지 않고 X-API-Key 헤더로만 보냄
+                if (entry.getApiKey() == null && apiKey != null && !apiKey.isEmpty()) {
+                    entry.setApiKey(apiKey);
+                }
                 // 1. LogEntry 생성 시 이미 projectKey가 설정된 경우 (예: MDC 통해)
                 // 2. apiKey 필드를 projectKey로 사용 (아래 예시)
                 // 3. 고정된 projectKey 사용 (환경변수/설정파일에서 주입)
@@ -93,6 +132,155 @@ public class LogController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 요청 본문을 읽어 LogEntry 목록으로 바인딩합니다. 이벤트 배열과 배치 봉투의 이벤트 모두 중간 트리나 맵 없이 파서에서 LogEntry로 바로 바인딩합니다.
+     * 봉투의 헤더, 템플릿 표, 문자열 표는 이벤트보다 먼저 와야 하며(SDK가 쓰는 순서), 이벤트마다 아래를 적용합니다.
+     * - 헤더는 배치마다 한 번만 LogEntry로 바인딩하고, 이벤트를 바인딩한 뒤 비어 있는 공통 필드(serviceName, environment, hostName 등)만 헤더 값으로 채웁니다.
+     * - 문자열 표 위치의 인덱스는 {@link StringTableParser}가 읽는 동안 문자열로 되돌립니다.
+     * - 템플릿 ID와 인자로 온 이벤트는 SLF4J와 같은 방식으로 message를 만들고 messageTemplate을 함께 남깁니다.
+     *
+     * @param body 요청 본문 스트림
+     * @return 로그 엔트리 목록, 본문이 비어 있으면 빈 목록
+     * @throws IOException JSON이 올바르지 않은 경우
+     * @throws IllegalArgumentException 배열도 배치 봉투도 아니거나, 헤더/표가 이벤트 뒤에 있거나, 표에 없는 인덱스가 있는 경우
+     */
+    private List<LogEntry> readLogBatch(InputStream body) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.VALUE_NULL) {
+                return List.of();
+            }
+            if (token == JsonToken.START_ARRAY) {
+                // 봉투 없는 이벤트 배열 (이전 SDK, 봉투를 끈 SDK): 트리를 만들지 않고 바로 바인딩
+                List<LogEntry> entries = objectMapper.readValue(parser, LOG_ENTRY_LIST);
+                for (LogEntry entry : entries) {
+                    if (entry != null && entry.getArgs() != null) {
+                        resolveMessageTemplate(entry, MissingNode.getInstance());
+                    }
+                }
+                return entries;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException(BATCH_FORMAT_ERROR);
+            }
+            LogEntry header = null;
+            JsonNode templates = MissingNode.getInstance();
+            List<String> strings = null;
+            List<LogEntry> entries = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("events".equals(field) && value == JsonToken.START_ARRAY) {
+                    entries = readEvents(parser, header, templates, strings);
+                } else if (entries != null && ENVELOPE_TABLE_FIELDS.contains(field)) {
+                    throw new IllegalArgumentException("\"" + field + "\" must precede \"events\"");
+                } else if (STRINGS_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    strings = new ArrayList<>();
+                    while (nextElement(parser)) {
+                        strings.add(parser.getValueAsString());
+                    }
+                } else if ("header".equals(field) && value == JsonToken.START_OBJECT) {
+                    // 헤더는 배치마다 한 번만 바인딩
+                    header = objectMapper.readValue(parser, LogEntry.class);
+                } else if ("templates".equals(field)) {
+                    templates = objectMapper.readTree(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (entries == null) {
+                throw new IllegalArgumentException(BATCH_FORMAT_ERROR);
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * 배치 봉투의 이벤트 배열을 LogEntry 목록으로 바인딩합니다. 파서는 배열의 시작({@code [})에 있어야 합니다.
+     */
+    private List<LogEntry> readEvents(JsonParser parser, LogEntry header, JsonNode templates, List<String> strings)
+            throws IOException {
+        JsonParser events = strings != null ? new StringTableParser(parser, strings) : parser;
+        List<LogEntry> entries = new ArrayList<>();
+        while (nextElement(events)) {
+            if (events.currentToken() != JsonToken.START_OBJECT) {
+                events.skipChildren();
+                continue;
+            }
+            LogEntry entry = objectMapper.readValue(events, LogEntry.class);
+            if (header != null) {
+                applyHeader(entry, header);
+            }
+            if (entry.getArgs() != null) {
+                resolveMessageTemplate(entry, templates);
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * 이벤트에 없는 공통 필드를 배치 헤더 값으로 채웁니다. 대상은 SDK가 헤더로 보내는 프로세스 공통 필드이며, 이벤트에 값이 있으면 유지합니다.
+     */
+    private static void applyHeader(LogEntry entry, LogEntry header) {
+        if (entry.getServiceName() == null) {
+            entry.setServiceName(header.getServiceName());
+        }
+        if (entry.getEnvironment() == null) {
+            entry.setEnvironment(header.getEnvironment());
+        }
+        if (entry.getVersion() == null) {
+            entry.setVersion(header.getVersion());
+        }
+        if (entry.getHostName() == null) {
+            entry.setHostName(header.getHostName());
+        }
+        if (entry.getIpAddress() == null) {
+            entry.setIpAddress(header.getIpAddress());
+        }
+        if (entry.getServerPort() == null) {
+            entry.setServerPort(header.getServerPort());
+        }
+        if (entry.getApiKey() == null) {
+            entry.setApiKey(header.getApiKey());
+        }
+    }
+
+    /**
+     * 배열의 다음 요소로 이동합니다.
+     *
+     * @return 요소가 있으면 true, 배열이 끝나면 false
+     * @throws IOException 배열이 닫히기 전에 본문이 끝난 경우
+     */
+    private static boolean nextElement(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new IOException("unexpected end of log batch");
+        }
+        return token != JsonToken.END_ARRAY;
+    }
+
+    /**
+     * 템플릿 ID(또는 디스크 재전송 배치의 messageTemplate)와 인자로 message를 만듭니다.
+     * 템플릿을 찾지 못하면 인자를 이어 붙여 message로 남깁니다.
+     */
+    private void resolveMessageTemplate(LogEntry entry, JsonNode templates) {
+        String template = entry.getMessageTemplate();
+        String templateId = entry.getTemplateId();
+        if (template == null && templateId != null && templates.path(templateId).isTextual()) {
+            template = templates.get(templateId).asText();
+        }
+        List<String> args = entry.getArgs();
+        if (entry.getMessage() == null) {
+            entry.setMessage(template != null
+                    ? MessageFormatter.arrayFormat(template, args.toArray()).getMessage()
+                    : "[template " + (templateId != null ? templateId : "?") + "] " + String.join(" ", args));
+        }
+        entry.setMessageTemplate(template);
+        entry.setTemplateId(null);
+        entry.setArgs(null);
+    }
+
     @PostMapping("/js")
     public ResponseEntity<Void> receiveJsLogBatch(@RequestBody List<JsLogEntry> logEntries) { // Jackson이 List<새로운 LogEntry>로 변환
         if (logEntries == null || logEntries.isEmpty()) {
@@ -0,0 +1,157 @@
+package com.ssafy.lab.eddy1219.server.controller;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.JsonTokenId;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 배치 봉투의 이벤트 배열을 읽는 파서에서, 문자열 표 위치에 온 정수 인덱스를 표의 문자열 토큰으로 바꿔 보여 주는 파서입니다.
+ * 이벤트를 트리로 만들지 않고 LogEntry로 바로 바인딩하면서 인덱스를 문자열로 되돌립니다.
+ * 대상 위치는 SDK StringDictionary와 같은 규칙입니다 (이벤트 최상위 필드, http 안의 필드, 헤더 맵의 값).
+ */
+final class StringTableParser extends JsonParserDelegate {
+
+    // 이벤트 최상위의 대상 필드
+    private static final Set<String> EVENT_FIELDS = Set.of(
+            "logger", "thread", "level", "source", "requestId", "clientIp", "userAgent", "uaPlatform", "messageTemplate");
+    // http 객체 안의 대상 필드
+    private static final Set<String> HTTP_FIELDS = Set.of("requestMethod", "requestUri");
+    // 값 전체가 대상인 객체 필드
+    private static final Set<String> MAP_FIELDS = Set.of("headers", "responseHeaders");
+
+    private final List<String> strings;
+    private final JsonStreamContext eventsArray;
+    private String replacement;
+
+    /**
+     * @param parser  이벤트 배열의 시작({@code [})에 있는 파서
+     * @param strings 문자열 표
+     */
+    StringTableParser(JsonParser parser, List<String> strings) {
+        super(parser);
+        this.strings = strings;
+        this.eventsArray = parser.getParsingContext();
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        replacement = null;
+        JsonToken token = delegate.nextToken();
+        if (token == JsonToken.VALUE_NUMBER_INT && isStringTableField(delegate.getParsingContext())) {
+            int index = delegate.getIntValue();
+            if (index < 0 || index >= strings.size()) {
+                throw new IllegalArgumentException("string table index out of range: " + index);
+            }
+            replacement = strings.get(index);
+            return JsonToken.VALUE_STRING;
+        }
+        return token;
+    }
+
+    @Override
+    public JsonToken nextValue() throws IOException {
+        JsonToken token = nextToken();
+        return token == JsonToken.FIELD_NAME ? nextToken() : token;
+    }
+
+    /**
+     * 현재 값이 문자열 표 대상 위치인지 확인합니다. 컨텍스트는 이벤트 배열 → 이벤트 객체 → (http/헤더 객체) 순입니다.
+     */
+    private boolean isStringTableField(JsonStreamContext context) {
+        if (!context.inObject()) {
+            return false;
+        }
+        JsonStreamContext parent = context.getParent();
+        if (parent == eventsArray) {
+            return EVENT_FIELDS.contains(context.getCurrentName());
+        }
+        if (!parent.inObject() || parent.getParent() != eventsArray) {
+            return false;
+        }
+        String objectName = parent.getCurrentName();
+        return MAP_FIELDS.contains(objectName)
+                || ("http".equals(objectName) && HTTP_FIELDS.contains(context.getCurrentName()));
+    }
+
+    @Override
+    public JsonToken currentToken() {
+        return replacement != null ? JsonToken.VALUE_STRING : delegate.currentToken();
+    }
+
+    @Deprecated // JsonParser에서 deprecated, 이전 API를 쓰는 역직렬화기도 같은 토큰을 보도록 유지
+    @Override
+    public JsonToken getCurrentToken() {
+        return currentToken();
+    }
+
+    @Override
+    public int currentTokenId() {
+        return replacement != null ? JsonTokenId.ID_STRING : delegate.currentTokenId();
+    }
+
+    @Override
+    public boolean hasToken(JsonToken token) {
+        return replacement != null ? token == JsonToken.VALUE_STRING : delegate.hasToken(token);
+    }
+
+    @Override
+    public boolean hasTokenId(int id) {
+        return replacement != null ? id == JsonTokenId.ID_STRING : delegate.hasTokenId(id);
+    }
+
+    @Override
+    public boolean isExpectedNumberIntToken() {
+        return replacement == null && delegate.isExpectedNumberIntToken();
+    }
+
+    @Override
+    public String getText() throws IOException {
+        return replacement != null ? replacement : delegate.getText();
+    }
+
+    @Override
+    public int getText(Writer writer) throws IOException {
+        if (replacement == null) {
+            return delegate.getText(writer);
+        }
+        writer.write(replacement);
+        return replacement.length();
+    }
+
+    @Override
+    public boolean hasTextCharacters() {
+        return replacement == null && delegate.hasTextCharacters();
+    }
+
+    @Override
+    public char[] getTextCharacters() throws IOException {
+        return replacement != null ? replacement.toCharArray() : delegate.getTextCharacters();
+    }
+
+    @Override
+    public int getTextLength() throws IOException {
+        return replacement != null ? replacement.length() : delegate.getTextLength();
+    }
+
+    @Override
+    public int getTextOffset() throws IOException {
+        return replacement != null ? 0 : delegate.getTextOffset();
+    }
+
+    @Override
+    public String getValueAsString() throws IOException {
+        return replacement != null ? replacement : delegate.getValueAsString();
+    }
+
+    @Override
+    public String getValueAsString(String defaultValue) throws IOException {
+        return replacement != null ? replacement : delegate.getValueAsString(defaultValue);
+    }
+}
@@ -1,6 +1,8 @@
 package com.ssafy.lab.eddy1219.server.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -15,6 +17,11 @@ public class LogEntry {
     private String level;
     private String logger;
     private String message;
+    private String messageTemplate; // SDK가 템플릿 ID와 인자로 보낸 로그의 메시지 템플릿 (예: "Request Finished: {} {} status={}")
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    private String templateId;      // SDK가 보낸 템플릿 ID (배치 봉투의 templates 표를 가리킴, message로 펼친 뒤 비움, Logstash로 보내지 않음)
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    private List<String> args;      // 템플릿 인자 (message로 펼친 뒤 비움, Logstash로 보내지 않음)
     private String thread;
     private Long sequence;     // 로그 시퀀스 번호
     private String source = "backend"; // 기본값을 "backend"로 명시
@@ -41,10 +48,13 @@ public class LogEntry {
 
     // HTTP 관련 정보 그룹화
     private Map<String, Object> http;  // requestMethod, requestUri, httpStatus, responseTime 포함
+    private Map<String, Object> stackSamples;  // 느린 요청의 처리 스레드 스택 샘플 (samples, states, stacks, thresholdMs, sampleIntervalMs)
+    private Map<String, Object> routeSummary;  // 경로별 응답 시간 요약, 샘플링되지 않음 (method, route, statusClass, count, errors, meanMs, p50Ms, p99Ms, maxMs, cpuTimeMs, allocatedBytes 등)
 
     // 헤더 정보
     private Map<String, String> headers;
     private Map<String, String> responseHeaders;
+    private Map<String, String> requestParams;  // 요청 파라미터 (민감 값은 SDK에서 마스킹됨)
 
     // MDC 정보
     private Map<String, Object> mdcContext;  // 이전 mdc
@@ -52,6 +62,16 @@ public class LogEntry {
     // 예외 정보
     private Map<String, Object> error;  // 이전 throwable
 
+    // 외부 HTTP 호출 정보 (requestId로 부모 요청과 연결)
+    private Map<String, Object> outbound;  // client, method, host, route, status, durationMs, error
+
+    // 느린 SQL 정보 (requestId로 부모 요청과 연결)
+    private Map<String, Object> db;  // statement, durationMs, batch, error
+
+    // SDK 구조화 이벤트 (로그 하나에 최대 하나만 존재)
+    private Map<String, Object> jvm;           // JVM 상태 요약 (gcPauseMaxMs, safepointMaxMs, allocationMbPerSec 등)
+    private Map<String, Object> profile;       // CPU 프로파일 (samples, stacks, format, encoding, data)
+
     // 성능 메트릭
     private PerformanceMetrics performanceMetrics;
 
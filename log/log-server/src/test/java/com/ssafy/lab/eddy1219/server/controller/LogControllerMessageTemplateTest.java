@@ -0,0 +1,123 @@
+package com.ssafy.lab.eddy1219.server.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ssafy.lab.eddy1219.server.Service.LogstashService;
+import com.ssafy.lab.eddy1219.server.model.LogEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 메시지 템플릿 배치 수신 테스트입니다. 템플릿과 인자로 만든 message가 SDK의 {@code event.getFormattedMessage()}와 같은지 검증합니다.
+ * {@code wire/message-templates.json}은 SDK 테스트에도 같은 파일이 있어, SDK가 보내는 템플릿과 인자, 기대 메시지를 그대로 사용합니다.
+ */
+class LogControllerMessageTemplateTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    private LogstashService logstashService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        logstashService = mock(LogstashService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new LogController(logstashService, OBJECT_MAPPER)).build();
+    }
+
+    static Stream<Arguments> templateCases() throws IOException {
+        try (InputStream in = LogControllerMessageTemplateTest.class.getClassLoader()
+                .getResourceAsStream("wire/message-templates.json")) {
+            List<JsonNode> cases = StreamSupport.stream(OBJECT_MAPPER.readTree(in).spliterator(), false).toList();
+            return cases.stream().map(entry -> Arguments.of(entry.get("name").asText(), entry));
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("templateCases")
+    void rebuildsMessageFromTemplateTable(String name, JsonNode expected) throws Exception {
+        ObjectNode event = event(expected);
+        event.put("templateId", "7");
+        ObjectNode templates = OBJECT_MAPPER.createObjectNode().put("7", expected.get("messageTemplate").asText());
+
+        assertMessage(receive(envelope(templates, event)), expected);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("templateCases")
+    void rebuildsMessageFromDiskReplayedEnvelope(String name, JsonNode expected) throws Exception {
+        // 디스크에 저장된 배치는 템플릿 ID 대신 템플릿 문자열을 담고, 재전송하는 프로세스의 헤더로 감싸 보냄
+        ObjectNode event = event(expected);
+        event.put("messageTemplate", expected.get("messageTemplate").asText());
+
+        assertMessage(receive(envelope(null, event)), expected);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("templateCases")
+    void rebuildsMessageFromDiskReplayedArray(String name, JsonNode expected) throws Exception {
+        ObjectNode event = event(expected);
+        event.put("messageTemplate", expected.get("messageTemplate").asText());
+        ArrayNode batch = OBJECT_MAPPER.createArrayNode().add(event);
+
+        assertMessage(receive(batch), expected);
+    }
+
+    private static ObjectNode event(JsonNode expected) {
+        ObjectNode event = OBJECT_MAPPER.createObjectNode();
+        event.put("timestamp", "2026-05-12T03:14:07.120Z");
+        event.put("level", "INFO");
+        event.put("logger", "com.example.order");
+        event.set("args", expected.get("args"));
+        return event;
+    }
+
+    private static ObjectNode envelope(ObjectNode templates, ObjectNode event) {
+        ObjectNode batch = OBJECT_MAPPER.createObjectNode();
+        batch.putObject("header").put("serviceName", "order-service");
+        if (templates != null) {
+            batch.set("templates", templates);
+        }
+        batch.putArray("events").add(event);
+        return batch;
+    }
+
+    private static void assertMessage(LogEntry entry, JsonNode expected) {
+        assertThat(entry.getMessage()).isEqualTo(expected.get("message").asText());
+        assertThat(entry.getMessageTemplate()).isEqualTo(expected.get("messageTemplate").asText());
+        assertThat(entry.getTemplateId()).isNull();
+        assertThat(entry.getArgs()).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private LogEntry receive(JsonNode batch) throws Exception {
+        mockMvc.perform(post("/api/logs/be")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch.toString()))
+                .andExpect(status().isOk());
+        ArgumentCaptor<List<LogEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(logstashService).sendLogs(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        return captor.getValue().get(0);
+    }
+}
@@ -0,0 +1,142 @@
+package com.ssafy.lab.eddy1219.server.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ssafy.lab.eddy1219.server.Service.LogstashService;
+import com.ssafy.lab.eddy1219.server.model.LogEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SDK 문자열 표 배치 봉투 수신 테스트입니다.
+ * {@code wire/string-table-batch.json}은 SDK 테스트에도 같은 파일이 있어, SDK가 만드는 봉투를 그대로 받는지 검증합니다.
+ */
+class LogControllerStringTableTest {
+
+    private static final String API_KEY = "project-key-1";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private LogstashService logstashService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        logstashService = mock(LogstashService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new LogController(logstashService, objectMapper)).build();
+    }
+
+    @Test
+    void stringTableBatchMatchesSameEventsWithoutTable() throws Exception {
+        List<LogEntry> decoded = receive(resource("wire/string-table-batch.json").toString());
+
+        // 같은 헤더와 이벤트를 문자열 표 없이 보낸 배치와 결과가 같아야 함
+        ObjectNode plain = objectMapper.createObjectNode();
+        plain.set("header", resource("wire/string-table-batch.json").get("header"));
+        plain.set("events", resource("wire/string-table-events.json"));
+        clearInvocations(logstashService);
+        List<LogEntry> expected = receive(plain.toString());
+
+        assertThat(decoded).hasSize(3).isEqualTo(expected);
+    }
+
+    @Test
+    void restoresHeaderAndContextFields() throws Exception {
+        List<LogEntry> entries = receive(resource("wire/string-table-batch.json").toString());
+
+        LogEntry first = entries.get(0);
+        assertThat(first.getServiceName()).isEqualTo("order-service");
+        assertThat(first.getEnvironment()).isEqualTo("prod");
+        assertThat(first.getVersion()).isEqualTo("1.4.2");
+        assertThat(first.getHostName()).isEqualTo("order-7f9c");
+        assertThat(first.getIpAddress()).isEqualTo("10.0.3.17");
+        assertThat(first.getServerPort()).isEqualTo("8080");
+        assertThat(first.getApiKey()).isEqualTo(API_KEY);
+        assertThat(first.getLogger()).isEqualTo("com.example.order.OrderController");
+        assertThat(first.getThread()).isEqualTo("http-nio-8080-exec-1");
+        assertThat(first.getUserAgent()).isEqualTo("Mozilla/5.0 (X11; Linux x86_64)");
+        assertThat(first.getHttp()).containsEntry("requestMethod", "GET").containsEntry("requestUri", "/api/orders/42");
+        assertThat(entries.get(2).getLevel()).isEqualTo("WARN");
+    }
+
+    @Test
+    void keepsNumericLookingStringsAndNumbersOutsideTablePositions() throws Exception {
+        List<LogEntry> entries = receive(resource("wire/string-table-batch.json").toString());
+
+        LogEntry first = entries.get(0);
+        // 표에 들어간 값 "3"과 한 번만 나온 문자열 "1001", "42"는 모두 문자열
+        assertThat(first.getHeaders()).containsEntry("x-retry-count", "3");
+        assertThat(first.getRequestId()).isEqualTo("1001");
+        assertThat(entries.get(2).getThread()).isEqualTo("42");
+        // mdcContext는 대상 위치가 아니므로 필드 이름이 logger여도 숫자 그대로
+        assertThat(first.getMdcContext()).containsEntry("logger", 3);
+        assertThat(first.getSequence()).isEqualTo(1L);
+    }
+
+    @Test
+    void rejectsIndexOutOfRange() throws Exception {
+        String body = "{\"header\":{\"serviceName\":\"order-service\"},\"strings\":[\"INFO\"],"
+                + "\"events\":[{\"level\":0,\"logger\":1,\"message\":\"m\"}]}";
+
+        postBatch(body).andExpect(status().isBadRequest());
+        verify(logstashService, never()).sendLogs(any());
+    }
+
+    @Test
+    void rejectsStringsAfterEvents() throws Exception {
+        String body = "{\"header\":{\"serviceName\":\"order-service\"},"
+                + "\"events\":[{\"level\":0,\"message\":\"m\"}],\"strings\":[\"INFO\"]}";
+
+        postBatch(body).andExpect(status().isBadRequest());
+        verify(logstashService, never()).sendLogs(any());
+    }
+
+    @Test
+    void rejectsTemplatesAfterEvents() throws Exception {
+        String body = "{\"header\":{\"serviceName\":\"order-service\"},"
+                + "\"events\":[{\"templateId\":\"1\",\"args\":[\"a\"]}],\"templates\":{\"1\":\"value {}\"}}";
+
+        postBatch(body).andExpect(status().isBadRequest());
+        verify(logstashService, never()).sendLogs(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<LogEntry> receive(String body) throws Exception {
+        postBatch(body).andExpect(status().isOk());
+        ArgumentCaptor<List<LogEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(logstashService).sendLogs(captor.capture());
+        return captor.getValue();
+    }
+
+    private ResultActions postBatch(String body) throws Exception {
+        return mockMvc.perform(post("/api/logs/be")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-API-Key", API_KEY)
+                .content(body));
+    }
+
+    private JsonNode resource(String name) throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(name)) {
+            return objectMapper.readTree(in);
+        }
+    }
+}
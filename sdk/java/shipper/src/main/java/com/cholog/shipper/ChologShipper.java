@@ -0,0 +1,195 @@
+package com.cholog.shipper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CHO:LOG Shipper 진입점입니다.
+ * SDK를 {@code cholog.logger.transport=spool}로 설정한 애플리케이션이 기록한 스풀 파일을 사이드카 프로세스에서 읽어,
+ * SDK의 HTTP 전송과 같은 배치 크기/플러시 간격/압축 설정으로 로그 서버에 전달합니다.
+ *
+ * 배치 전송에 성공할 때마다 전달 위치를 {@link OffsetStore}에 저장하므로, 재시작해도 마지막 위치부터 이어서 전달합니다.
+ * 로그 서버가 응답하지 않으면 같은 배치를 지수 백오프로 무기한 재시도하며, 그동안 로그는 스풀 파일에 남아 있습니다.
+ *
+ * 실행 예: {@code cholog-shipper spool-path=/var/log/cholog-spool url=https://cholog-server.shop/api/logs/be api-key=...}
+ */
+public final class ChologShipper {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChologShipper.class);
+
+    private static final long STATS_INTERVAL_MS = 60_000;
+    private static final long STOP_TIMEOUT_MS = 10_000;
+
+    private final ShipperConfig config;
+    private final Object wakeup = new Object();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private volatile boolean running = true;
+
+    private long shippedLogs;
+    private long shippedBatches;
+    private long rejectedLogs;
+    private long retries;
+
+    ChologShipper(ShipperConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) {
+        ShipperConfig config;
+        try {
+            config = ShipperConfig.load(args, System.getenv());
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.println("Invalid shipper configuration: " + e.getMessage());
+            System.err.println("Usage: cholog-shipper spool-path=<dir> url=<log-server-url> api-key=<key> "
+                    + "[batch-size=100] [batch-flush-interval=1000] [compress-logs=false] [config=<file>]");
+            System.exit(2);
+            return;
+        }
+
+        ChologShipper shipper = new ChologShipper(config);
+        Runtime.getRuntime().addShutdownHook(new Thread(shipper::stop, "cholog-shipper-shutdown"));
+        try {
+            shipper.run();
+        } catch (Exception e) {
+            logger.error("Shipper stopped unexpectedly: {}", e.getMessage(), e);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * {@link #stop()}이 호출될 때까지 스풀을 읽어 로그 서버로 전달합니다.
+     *
+     * @throws IOException 스풀 디렉토리나 전달 위치 파일에 접근할 수 없는 경우
+     */
+    void run() throws IOException {
+        logger.info("CHO:LOG Shipper started: {}", config);
+        OffsetStore offsetStore = new OffsetStore(config.offsetFile);
+        try (SpoolReader reader = new SpoolReader(config.spoolPath, offsetStore.load(), config.deleteShipped);
+             LogForwarder forwarder = new LogForwarder(config)) {
+
+            List<String> pending = new ArrayList<>(config.batchSize);
+            long pendingBytes = 0;
+            long firstPendingAt = 0;
+            long lastStatsAt = System.currentTimeMillis();
+
+            while (running) {
+                long budget = config.maxBatchBytes - pendingBytes;
+                int before = pending.size();
+                SpoolReader.ReadStatus status = budget > 0
+                        ? reader.read(pending, config.batchSize, budget)
+                        : SpoolReader.ReadStatus.MORE;
+                for (int i = before; i < pending.size(); i++) {
+                    pendingBytes += pending.get(i).length() + 1;
+                }
+
+                long now = System.currentTimeMillis();
+                if (!pending.isEmpty() && firstPendingAt == 0) {
+                    firstPendingAt = now;
+                }
+                boolean due = !pending.isEmpty() && (status == SpoolReader.ReadStatus.MORE
+                        || status == SpoolReader.ReadStatus.END_OF_SEGMENT
+                        || now - firstPendingAt >= config.batchFlushInterval);
+
+                if (due) {
+                    if (!sendWithRetries(forwarder, pending)) {
+                        break; // 중지 요청: 전달 위치를 저장하지 않았으므로 다음 실행에서 이 배치를 다시 전송함
+                    }
+                    offsetStore.save(reader.position());
+                    pending.clear();
+                    pendingBytes = 0;
+                    firstPendingAt = 0;
+                    continue;
+                }
+
+                if (status == SpoolReader.ReadStatus.END_OF_SEGMENT && pending.isEmpty() && reader.advance()) {
+                    if (reader.position() != null) {
+                        offsetStore.save(reader.position());
+                    }
+                    continue;
+                }
+
+                if (now - lastStatsAt >= STATS_INTERVAL_MS) {
+                    logStats();
+                    lastStatsAt = now;
+                }
+                long wait = config.pollInterval;
+                if (firstPendingAt > 0) {
+                    wait = Math.max(1, Math.min(wait, firstPendingAt + config.batchFlushInterval - now));
+                }
+                pause(wait);
+            }
+        } finally {
+            logStats();
+            logger.info("CHO:LOG Shipper stopped.");
+            stopped.countDown();
+        }
+    }
+
+    /**
+     * 배치를 전송하고, 실패하면 중지 요청이 있을 때까지 지수 백오프로 재시도합니다.
+     *
+     * @return 전송을 마쳤으면(서버가 받았거나 거부했으면) {@code true}, 중지 요청으로 중단되었으면 {@code false}
+     */
+    private boolean sendWithRetries(LogForwarder forwarder, List<String> batch) {
+        long delay = config.retryDelay;
+        while (running) {
+            LogForwarder.Result result = forwarder.send(batch);
+            if (result == LogForwarder.Result.ACCEPTED) {
+                shippedLogs += batch.size();
+                shippedBatches++;
+                return true;
+            }
+            if (result == LogForwarder.Result.REJECTED) {
+                rejectedLogs += batch.size();
+                return true;
+            }
+            retries++;
+            logger.info("{}ms 후 로그 {}건을 다시 전송합니다.", delay, batch.size());
+            pause(delay);
+            delay = Math.min(config.maxBackoffDelay, delay * 2);
+        }
+        return false;
+    }
+
+    private void pause(long millis) {
+        synchronized (wakeup) {
+            if (!running) {
+                return;
+            }
+            try {
+                wakeup.wait(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+        }
+    }
+
+    private void logStats() {
+        logger.info("전달 통계: 로그 {}건 / 배치 {}개 전송, 거부 {}건, 재시도 {}회",
+                shippedLogs, shippedBatches, rejectedLogs, retries);
+    }
+
+    /**
+     * 전달을 중지하고 진행 중인 전송이 끝날 때까지 기다립니다.
+     */
+    void stop() {
+        synchronized (wakeup) {
+            running = false;
+            wakeup.notifyAll();
+        }
+        try {
+            if (!stopped.await(STOP_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                logger.warn("진행 중인 전송이 {}ms 안에 끝나지 않았습니다.", STOP_TIMEOUT_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.cholog.shipper;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 로그 배치를 로그 서버로 전송합니다.
+ * 요청 형식은 SDK의 {@code LogSenderService}와 같습니다: JSON 배열 본문, {@code X-API-Key} 헤더,
+ * {@code compress-logs}가 켜져 있으면 gzip 압축과 {@code Content-Encoding: gzip}.
+ */
+final class LogForwarder implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogForwarder.class);
+
+    /** 전송 결과 */
+    enum Result {
+        /** 서버가 배치를 받음 (2xx) */
+        ACCEPTED,
+        /** 다시 보내도 받지 않을 배치 (408, 429를 제외한 4xx) */
+        REJECTED,
+        /** 연결 오류, 타임아웃, 5xx, 408, 429: 같은 배치를 다시 전송해야 함 */
+        RETRY
+    }
+
+    private final ShipperConfig config;
+    private final CloseableHttpClient httpClient;
+
+    LogForwarder(ShipperConfig config) {
+        this.config = config;
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(config.requestTimeout)
+                .setSocketTimeout(config.requestTimeout)
+                .setConnectionRequestTimeout(config.requestTimeout)
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setDefaultRequestConfig(requestConfig)
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    /**
+     * 로그 목록을 JSON 배열로 묶어 한 번 전송합니다.
+     *
+     * @param logs 각 항목이 JSON 객체 문자열인 로그 목록
+     * @return 전송 결과
+     */
+    Result send(List<String> logs) {
+        HttpPost post = new HttpPost(config.url);
+        post.setHeader("Content-Type", "application/json");
+        post.setHeader("Accept", "application/json");
+        if (config.apiKey != null && !config.apiKey.isEmpty()) {
+            post.setHeader("X-API-Key", config.apiKey);
+        }
+        try {
+            byte[] body = ("[" + String.join(",", logs) + "]").getBytes(StandardCharsets.UTF_8);
+            if (config.compressLogs) {
+                body = gzip(body);
+                post.setHeader("Content-Encoding", "gzip");
+            }
+            post.setEntity(new ByteArrayEntity(body));
+
+            try (CloseableHttpResponse response = httpClient.execute(post)) {
+                int statusCode = response.getStatusLine().getStatusCode();
+                EntityUtils.consumeQuietly(response.getEntity());
+                if (statusCode >= 200 && statusCode < 300) {
+                    return Result.ACCEPTED;
+                }
+                if (statusCode >= 400 && statusCode < 500 && statusCode != 408 && statusCode != 429) {
+                    if (statusCode == 401 || statusCode == 403) {
+                        // 인증 오류는 설정으로 해결해야 하므로 버리지 않고 재시도
+                        logger.error("인증 오류 (상태 코드: {}). api-key 설정을 확인하세요.", statusCode);
+                        return Result.RETRY;
+                    }
+                    logger.error("로그 서버가 배치를 거부했습니다 (상태 코드: {}). 로그 {}건을 건너뜁니다.", statusCode, logs.size());
+                    return Result.REJECTED;
+                }
+                logger.warn("로그 배치 전송 실패. 서버 응답 상태 코드: {}", statusCode);
+                return Result.RETRY;
+            }
+        } catch (IOException e) {
+            logger.warn("로그 서버 연결 실패: {}", e.getMessage());
+            return Result.RETRY;
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream(data.length);
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(byteStream)) {
+            gzipStream.write(data);
+        }
+        return byteStream.toByteArray();
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+}
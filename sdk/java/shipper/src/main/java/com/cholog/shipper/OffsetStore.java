@@ -0,0 +1,77 @@
+package com.cholog.shipper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 로그 서버에 전달을 마친 스풀 위치(세그먼트 파일 이름과 바이트 오프셋)를 파일에 저장합니다.
+ * 임시 파일에 쓰고 동기화한 뒤 원자적으로 이름을 바꾸므로, Shipper가 비정상 종료되어도 마지막으로 저장한 위치부터 다시 전달합니다
+ * (저장 직전에 전송한 배치는 다시 전송될 수 있음, at-least-once).
+ */
+final class OffsetStore {
+
+    /**
+     * 스풀 위치입니다.
+     *
+     * @param segment  세그먼트 파일 이름
+     * @param position 세그먼트 안의 바이트 오프셋 (이 위치 앞의 로그는 모두 전달됨)
+     */
+    record Position(String segment, long position) {
+    }
+
+    private final Path file;
+
+    OffsetStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * @return 저장된 위치, 없거나 읽을 수 없으면 null
+     * @throws IOException 파일을 읽을 수 없는 경우
+     */
+    Position load() throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        String[] parts = Files.readString(file, StandardCharsets.UTF_8).trim().split("\\s+");
+        if (parts.length != 2) {
+            return null;
+        }
+        try {
+            return new Position(parts[0], Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 위치를 저장합니다.
+     *
+     * @param position 저장할 위치
+     * @throws IOException 기록 실패 시
+     */
+    void save(Position position) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        byte[] data = (position.segment() + " " + position.position() + "\n").getBytes(StandardCharsets.UTF_8);
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.cholog.shipper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * CHO:LOG Shipper 설정입니다.
+ *
+ * 설정 값은 다음 우선순위로 읽습니다 (앞쪽이 우선):
+ *     명령행 인수 {@code key=value} (예: {@code url=https://...})
+ *     환경 변수 {@code CHOLOG_SHIPPER_<KEY>} (예: {@code CHOLOG_SHIPPER_API_KEY})
+ *     {@code config=<파일>}로 지정한 properties 파일
+ *     기본값
+ * 전송 관련 키는 SDK의 {@code cholog.logger.*} 속성과 같은 이름과 의미를 가집니다
+ * ({@code url}, {@code api-key}, {@code batch-size}, {@code batch-flush-interval}, {@code compress-logs}, {@code retry-delay}, {@code max-backoff-delay}).
+ */
+final class ShipperConfig {
+
+    private static final String ENV_PREFIX = "CHOLOG_SHIPPER_";
+
+    /** 스풀 디렉토리 (SDK의 {@code cholog.logger.spool-path}와 같은 경로). 기본값: ./log-spool */
+    Path spoolPath = Paths.get("./log-spool");
+    /** 로그 서버 URL. 기본값: https://cholog-server.shop/api/logs/be */
+    String url = "https://cholog-server.shop/api/logs/be";
+    /** 프로젝트 API 키 */
+    String apiKey;
+    /** 한 번에 전송할 최대 로그 수. 기본값: 100 */
+    int batchSize = 100;
+    /** 한 번에 전송할 최대 바이트 수 (압축 전). 기본값: 1048576 (1MB) */
+    long maxBatchBytes = 1024 * 1024;
+    /** 배치가 가득 차지 않아도 전송하는 최대 대기 시간(ms). 기본값: 1000 */
+    long batchFlushInterval = 1000;
+    /** gzip 압축 전송 여부. 기본값: false */
+    boolean compressLogs = false;
+    /** 전송 실패 후 첫 재시도 대기 시간(ms). 실패가 반복되면 두 배씩 늘어납니다. 기본값: 1000 */
+    long retryDelay = 1000;
+    /** 재시도 대기 시간 상한(ms). 기본값: 30000 */
+    long maxBackoffDelay = 30000;
+    /** 새 로그가 없을 때 스풀을 다시 확인하는 간격(ms). 기본값: 200 */
+    long pollInterval = 200;
+    /** 모두 전달한 세그먼트 파일 삭제 여부. 기본값: true */
+    boolean deleteShipped = true;
+    /** 전달 위치 저장 파일. 기본값: {@code <spool-path>/.shipper-offset} */
+    Path offsetFile;
+    /** 연결/응답 타임아웃(ms). 기본값: 10000 */
+    int requestTimeout = 10000;
+
+    /**
+     * 명령행 인수, 환경 변수, 설정 파일을 읽어 설정을 만듭니다.
+     *
+     * @param args 명령행 인수 ({@code key=value})
+     * @param env  환경 변수
+     * @return 설정
+     * @throws IOException 설정 파일을 읽을 수 없는 경우
+     * @throws IllegalArgumentException 인수 형식이나 값이 잘못된 경우
+     */
+    static ShipperConfig load(String[] args, Map<String, String> env) throws IOException {
+        Properties values = new Properties();
+
+        Properties arguments = new Properties();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int eq = option.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected key=value argument but got: " + arg);
+            }
+            arguments.setProperty(option.substring(0, eq).trim(), option.substring(eq + 1).trim());
+        }
+
+        String configFile = arguments.getProperty("config", env.get(ENV_PREFIX + "CONFIG"));
+        if (configFile != null && !configFile.isBlank()) {
+            try (InputStream in = Files.newInputStream(Paths.get(configFile))) {
+                values.load(in);
+            }
+        }
+        for (Map.Entry<String, String> entry : env.entrySet()) {
+            if (entry.getKey().startsWith(ENV_PREFIX)) {
+                String key = entry.getKey().substring(ENV_PREFIX.length()).toLowerCase(Locale.ROOT).replace('_', '-');
+                values.setProperty(key, entry.getValue());
+            }
+        }
+        values.putAll(arguments);
+
+        ShipperConfig config = new ShipperConfig();
+        for (String key : values.stringPropertyNames()) {
+            config.apply(key, values.getProperty(key).trim());
+        }
+        if (config.offsetFile == null) {
+            config.offsetFile = config.spoolPath.resolve(".shipper-offset");
+        }
+        if (config.url == null || config.url.isBlank()) {
+            throw new IllegalArgumentException("url must not be empty");
+        }
+        return config;
+    }
+
+    private void apply(String key, String value) {
+        switch (key) {
+            case "config" -> { }
+            case "spool-path" -> spoolPath = Paths.get(value);
+            case "url" -> url = value;
+            case "api-key" -> apiKey = value;
+            case "batch-size" -> batchSize = Math.max(1, Integer.parseInt(value));
+            case "max-batch-bytes" -> maxBatchBytes = Math.max(1, Long.parseLong(value));
+            case "batch-flush-interval" -> batchFlushInterval = Math.max(0, Long.parseLong(value));
+            case "compress-logs" -> compressLogs = Boolean.parseBoolean(value);
+            case "retry-delay" -> retryDelay = Math.max(1, Long.parseLong(value));
+            case "max-backoff-delay" -> maxBackoffDelay = Math.max(1, Long.parseLong(value));
+            case "poll-interval" -> pollInterval = Math.max(1, Long.parseLong(value));
+            case "delete-shipped" -> deleteShipped = Boolean.parseBoolean(value);
+            case "offset-file" -> offsetFile = Paths.get(value);
+            case "request-timeout" -> requestTimeout = Math.max(1, Integer.parseInt(value));
+            default -> throw new IllegalArgumentException("Unknown shipper option: " + key);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("spoolPath=%s, url=%s, batchSize=%d, maxBatchBytes=%d, batchFlushInterval=%dms, "
+                        + "compressLogs=%b, deleteShipped=%b, offsetFile=%s",
+                spoolPath.toAbsolutePath(), url, batchSize, maxBatchBytes, batchFlushInterval,
+                compressLogs, deleteShipped, offsetFile.toAbsolutePath());
+    }
+}
@@ -0,0 +1,226 @@
+package com.cholog.shipper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * SDK의 {@code spool} 전송 방식이 기록한 스풀 세그먼트를 순서대로 읽습니다.
+ *
+ * 스풀 형식은 SDK의 {@code com.cholog.logger.service.SpoolWriter}와 같습니다:
+ * 세그먼트는 {@code spool-<20자리 순번>.ndjson}이고, 로그 JSON이 한 줄에 하나씩 기록되며,
+ * 첫 번째 0 바이트는 아직 기록되지 않은 위치, {@code 0x04}는 봉인(더 이상 기록하지 않음)을 뜻합니다.
+ * 줄바꿈으로 끝난 완전한 줄만 읽으므로, 기록 중인 배치를 절반만 전달하는 일은 없습니다.
+ */
+final class SpoolReader implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpoolReader.class);
+
+    static final String SEGMENT_PREFIX = "spool-";
+    static final String SEGMENT_SUFFIX = ".ndjson";
+    private static final byte SEAL_MARKER = 0x04;
+    private static final int INITIAL_BUFFER_SIZE = 256 * 1024;
+
+    /** {@link #read(List, int, long)} 결과 */
+    enum ReadStatus {
+        /** 요청한 한도까지 읽었거나 더 읽을 수 있음 */
+        MORE,
+        /** 현재 세그먼트에 아직 기록되지 않은 위치에 도달함 */
+        CAUGHT_UP,
+        /** 봉인되었거나 끝까지 채워진 세그먼트를 모두 읽음 */
+        END_OF_SEGMENT,
+        /** 읽을 세그먼트가 아직 없음 */
+        NO_SEGMENT
+    }
+
+    private final Path directory;
+    private final boolean deleteShipped;
+
+    private Path segment;
+    // 현재 세그먼트가 없을 때 이 이름 다음의 세그먼트부터 읽음 (이미 전달한 세그먼트를 다시 읽지 않도록)
+    private String resumeAfter;
+    private FileChannel channel;
+    private long position;
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+
+    /**
+     * @param directory     스풀 디렉토리
+     * @param start         저장된 전달 위치, 없으면 null (가장 오래된 세그먼트부터 읽음)
+     * @param deleteShipped 다 읽고 전달을 마친 세그먼트를 삭제할지 여부
+     */
+    SpoolReader(Path directory, OffsetStore.Position start, boolean deleteShipped) throws IOException {
+        this.directory = directory;
+        this.deleteShipped = deleteShipped;
+        if (start != null) {
+            Path stored = directory.resolve(start.segment());
+            if (Files.exists(stored)) {
+                open(stored, start.position());
+            } else {
+                Path next = nextSegmentAfter(start.segment());
+                logger.warn("저장된 전달 위치의 세그먼트 {}가 없습니다 (스풀 최대 크기 초과로 삭제되었을 수 있음). {}부터 읽습니다.",
+                        start.segment(), next != null ? next.getFileName() : "다음 세그먼트");
+                resumeAfter = start.segment();
+                if (next != null) {
+                    open(next, 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return 다음에 읽을 위치 (이 위치 앞의 로그는 모두 {@link #read(List, int, long)}로 반환됨), 세그먼트가 없으면 null
+     */
+    OffsetStore.Position position() {
+        return segment == null ? null : new OffsetStore.Position(segment.getFileName().toString(), position);
+    }
+
+    /**
+     * 현재 위치부터 완전한 줄을 읽어 {@code out}에 추가하고 위치를 옮깁니다.
+     *
+     * @param out      읽은 로그를 추가할 목록
+     * @param maxLines 최대 줄 수 ({@code out}에 이미 들어 있는 줄 포함)
+     * @param maxBytes 이번 호출에서 읽을 최대 바이트 수 (한 줄이 이보다 크면 그 한 줄만 읽음)
+     * @return 읽기 상태
+     * @throws IOException 세그먼트를 읽을 수 없는 경우
+     */
+    ReadStatus read(List<String> out, int maxLines, long maxBytes) throws IOException {
+        if (segment == null) {
+            Path first = nextSegmentAfter(resumeAfter);
+            if (first == null) {
+                return ReadStatus.NO_SEGMENT;
+            }
+            open(first, 0);
+            if (segment == null) {
+                return ReadStatus.NO_SEGMENT;
+            }
+        }
+
+        long readBytes = 0;
+        while (out.size() < maxLines) {
+            buffer.clear();
+            int n = channel.read(buffer, position);
+            if (n <= 0) {
+                return ReadStatus.END_OF_SEGMENT; // 끝까지 채워진 세그먼트
+            }
+            int lineStart = 0;
+            boolean progressed = false;
+            for (int i = 0; i < n; i++) {
+                byte b = buffer.get(i);
+                if (b == 0) {
+                    position += lineStart;
+                    return ReadStatus.CAUGHT_UP;
+                }
+                if (b == SEAL_MARKER && i == lineStart) {
+                    position += lineStart;
+                    return ReadStatus.END_OF_SEGMENT;
+                }
+                if (b == '\n') {
+                    int length = i - lineStart;
+                    if (readBytes > 0 && readBytes + length > maxBytes) {
+                        position += lineStart;
+                        return ReadStatus.MORE;
+                    }
+                    if (length > 0) {
+                        out.add(new String(buffer.array(), lineStart, length, StandardCharsets.UTF_8));
+                    }
+                    readBytes += length + 1;
+                    lineStart = i + 1;
+                    progressed = true;
+                    if (out.size() >= maxLines) {
+                        break;
+                    }
+                }
+            }
+            position += lineStart;
+            if (!progressed) {
+                if (n < buffer.capacity()) {
+                    return ReadStatus.END_OF_SEGMENT; // 파일 끝에 남은 불완전한 데이터 (정상적인 기록에서는 발생하지 않음)
+                }
+                // 버퍼보다 긴 줄: 버퍼를 늘려 다시 읽음
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            }
+        }
+        return ReadStatus.MORE;
+    }
+
+    /**
+     * 다 읽은 세그먼트 다음의 세그먼트로 이동합니다. 현재 위치까지 모두 전달을 마친 뒤 호출해야 합니다.
+     *
+     * @return 다음 세그먼트로 이동했으면 {@code true}, 다음 세그먼트가 아직 없으면 {@code false}
+     * @throws IOException 다음 세그먼트를 열 수 없는 경우
+     */
+    boolean advance() throws IOException {
+        Path next = nextSegmentAfter(segment.getFileName().toString());
+        if (next == null) {
+            return false;
+        }
+        Path finished = segment;
+        closeChannel();
+        if (deleteShipped) {
+            Files.deleteIfExists(finished);
+            logger.debug("전달을 마친 세그먼트를 삭제했습니다: {}", finished.getFileName());
+        }
+        open(next, 0);
+        return true;
+    }
+
+    private void open(Path path, long startPosition) throws IOException {
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            // 스풀 최대 크기 초과로 방금 삭제됨: 다음 호출에서 다음 세그먼트를 찾음
+            channel = null;
+            segment = null;
+            resumeAfter = path.getFileName().toString();
+            position = 0;
+            return;
+        }
+        segment = path;
+        position = startPosition;
+        logger.info("세그먼트 읽기 시작: {} (위치 {})", path.getFileName(), startPosition);
+    }
+
+    private Path nextSegmentAfter(String name) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> newer = files.filter(p -> {
+                        String fileName = p.getFileName().toString();
+                        return fileName.startsWith(SEGMENT_PREFIX) && fileName.endsWith(SEGMENT_SUFFIX)
+                                && (name == null || fileName.compareTo(name) > 0);
+                    })
+                    .sorted()
+                    .limit(1)
+                    .collect(Collectors.toList());
+            return newer.isEmpty() ? null : newer.get(0);
+        } catch (NoSuchFileException e) {
+            return null; // 애플리케이션이 아직 스풀 디렉토리를 만들지 않음
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // 읽기 전용 채널
+            }
+            channel = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        closeChannel();
+    }
+}
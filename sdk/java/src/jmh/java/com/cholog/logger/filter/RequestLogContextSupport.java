@@ -0,0 +1,41 @@
+package com.cholog.logger.filter;
+
+import com.cholog.logger.service.RedactionEngine;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 다른 패키지의 벤치마크에서 {@link RequestLogContext}를 바인딩/해제할 수 있도록 노출하는 헬퍼입니다.
+ */
+public final class RequestLogContextSupport {
+
+    private RequestLogContextSupport() {
+    }
+
+    /**
+     * 요청에서 컨텍스트를 생성합니다.
+     *
+     * @param requestId       요청 ID
+     * @param request         HTTP 요청
+     * @param redactionEngine 민감 정보 치환 엔진
+     * @return 생성된 컨텍스트
+     */
+    public static RequestLogContext capture(String requestId, HttpServletRequest request, RedactionEngine redactionEngine) {
+        return RequestLogContext.capture(requestId, request, redactionEngine);
+    }
+
+    /**
+     * 현재 스레드에 컨텍스트를 바인딩합니다.
+     *
+     * @param context 바인딩할 컨텍스트
+     */
+    public static void bind(RequestLogContext context) {
+        RequestLogContext.bind(context);
+    }
+
+    /**
+     * 현재 스레드의 컨텍스트를 해제합니다.
+     */
+    public static void clear() {
+        RequestLogContext.clear();
+    }
+}
@@ -0,0 +1,100 @@
+package com.cholog.logger.service;
+
+import ch.qos.logback.classic.Level;
+import com.cholog.logger.config.LogServerProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 벤치마크 공용 헬퍼입니다.
+ * 백그라운드 전송/디스크 큐/JMX 등록이 측정에 끼어들지 않도록 설정된 {@link LogServerProperties}와,
+ * 큐에 넣는 대신 전달된 로그만 세는 {@link LogSenderService}를 제공합니다.
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * 측정 중 백그라운드 작업이 실행되지 않도록 구성된 설정을 생성합니다.
+     *
+     * @return 벤치마크용 설정
+     */
+    public static LogServerProperties quietProperties() {
+        LogServerProperties properties = new LogServerProperties();
+        properties.setUrl("http://127.0.0.1:9/api/logs/be");
+        properties.setApiKey("benchmark-api-key");
+        properties.setServiceName("benchmark-service");
+        properties.setDiskQueueEnabled(false);
+        properties.setExposeMetricsViaJmx(false);
+        properties.setMetricsEnabled(false);
+        properties.setBatchFlushInterval(3_600_000);
+        properties.setConnectionCheckInterval(3_600_000L);
+        return properties;
+    }
+
+    /**
+     * 대표적인 HTTP 요청 로그 한 건의 JSON 문자열을 반환합니다 (약 1.2KB).
+     *
+     * @param sequence 로그 구분용 번호
+     * @return 로그 JSON
+     */
+    public static String sampleLogJson(int sequence) {
+        return "{\"timestamp\":\"2025-05-16T10:30:00.123Z\",\"level\":\"INFO\",\"logger\":\"com.example.service.OrderService\","
+                + "\"message\":\"Order ORD" + sequence + " processed successfully for user usr_abc\",\"thread\":\"http-nio-8080-exec-5\","
+                + "\"source\":\"backend\",\"sequence\":1,\"serviceName\":\"order-processing-service\",\"version\":\"1.2.5\","
+                + "\"environment\":\"prod\",\"hostName\":\"appserver-prod-01.example.com\",\"ipAddress\":\"10.0.1.100\","
+                + "\"serverPort\":\"8080\",\"apiKey\":\"benchmark-api-key\",\"requestId\":\"req-" + sequence + "\","
+                + "\"clientIp\":\"203.0.113.45\",\"userAgent\":\"Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 Chrome/123.0.0.0\","
+                + "\"uaMobile\":false,\"uaPlatform\":\"Windows\",\"headers\":{\"content-type\":\"application/json\","
+                + "\"accept\":\"application/json\",\"authorization\":\"***\",\"x-request-id\":\"req-" + sequence + "\"},"
+                + "\"requestParams\":{\"page\":\"1\",\"size\":\"20\"},\"mdcContext\":{\"userId\":\"usr_abc\",\"tenantId\":\"tenant_123\","
+                + "\"password\":\"hunter2\"},\"performanceMetrics\":{\"cpuUsage\":35,\"memoryUsage\":768,\"activeThreads\":25,"
+                + "\"totalThreads\":150},\"http\":{\"requestMethod\":\"POST\",\"requestUri\":\"/api/v1/orders\",\"httpStatus\":201,"
+                + "\"responseTime\":125}}";
+    }
+
+    /**
+     * 지정된 개수의 샘플 로그로 배치를 구성합니다.
+     *
+     * @param size 배치 크기
+     * @return 로그 JSON 목록
+     */
+    public static List<String> sampleBatch(int size) {
+        List<String> batch = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            batch.add(sampleLogJson(i));
+        }
+        return batch;
+    }
+
+    /**
+     * 로그를 큐에 넣지 않고 개수와 바이트 수만 집계하는 전송 서비스입니다.
+     * Appender/필터 벤치마크에서 전송 경로를 측정 대상에서 제외할 때 사용합니다.
+     */
+    public static class CountingLogSenderService extends LogSenderService {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        public CountingLogSenderService(LogServerProperties properties) {
+            super(properties);
+        }
+
+        @Override
+        public void addToQueue(String jsonLog, Level level) {
+            count.increment();
+            bytes.add(jsonLog.length());
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getBytes() {
+            return bytes.sum();
+        }
+    }
+}
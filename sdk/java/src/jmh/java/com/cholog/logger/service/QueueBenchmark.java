@@ -0,0 +1,73 @@
+package com.cholog.logger.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그 큐의 경합 상황을 측정하는 벤치마크입니다.
+ * {@link LogSenderService}의 {@code logQueue}와 같은 구성({@link HeapLogEventQueue} 또는 {@link OffHeapLogEventQueue}, 바이트 예산 64MB)에서
+ * 애플리케이션 스레드 4개가 {@code offer}하고 전송 스레드 1개가 {@code drainBatch(batchSize)}로 배치를 꺼내 요청 본문을 쓰는 상황을 재현합니다.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QueueBenchmark {
+
+    private static final long MAX_QUEUE_BYTES = 64L * 1024 * 1024;
+
+    @Param({"heap", "offheap"})
+    public String queueType;
+
+    @Param({"10000"})
+    public int queueCapacity;
+
+    @Param({"100"})
+    public int batchSize;
+
+    private LogEventQueue queue;
+    private String log;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        queue = "offheap".equals(queueType)
+                ? new OffHeapLogEventQueue(new OffHeapLogEventQueue.SlabArena(MAX_QUEUE_BYTES, 1024 * 1024), () -> queueCapacity)
+                : new HeapLogEventQueue(() -> queueCapacity, new HeapLogEventQueue.ByteBudget(MAX_QUEUE_BYTES));
+        log = BenchmarkSupport.sampleLogJson(1);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(4)
+    public boolean offer() {
+        return queue.offer(log);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public int drain() throws IOException {
+        LogEventQueue.Batch batch = queue.drainBatch(batchSize);
+        if (batch == null) {
+            return 0;
+        }
+        try {
+            batch.writeJsonArray(OutputStream.nullOutputStream());
+            return batch.size();
+        } finally {
+            batch.release();
+        }
+    }
+}
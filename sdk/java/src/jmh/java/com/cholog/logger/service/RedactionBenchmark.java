@@ -0,0 +1,111 @@
+package com.cholog.logger.service;
+
+import com.cholog.logger.config.LogServerProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 민감 정보 판별 비용을 이전 구현과 {@link RedactionEngine}으로 비교하는 벤치마크입니다.
+ *
+ * - {@code legacy*}: 이전 필터 구현의 복제. 값마다 {@code String.matches}로 세 정규식을 매번 컴파일하고,
+ *   키워드마다 {@code toLowerCase().contains}를 반복합니다.
+ * - {@code engine*}: Aho-Corasick 키워드 오토마톤과 사전 컴파일된 결합 값 패턴을 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedactionBenchmark {
+
+    private static final String[] LEGACY_PATTERNS = {
+        "\\d{4}[\\s-]?\\d{4}[\\s-]?\\d{4}[\\s-]?\\d{4}",
+        "[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}",
+        "\\d{2}(0[1-9]|1[0-2])(0[1-9]|[12]\\d|3[01])[\\s-]?[1-4]\\d{6}"
+    };
+
+    private static final String[] LEGACY_KEYWORDS = {
+        "password", "pwd", "secret", "token", "auth", "key", "apikey", "api-key", "credential",
+        "card", "credit", "cvv", "cvc", "pin", "ssn", "social", "sin", "tax", "fiscal",
+        "passport", "license", "national", "identity", "private"
+    };
+
+    /** 요청 파라미터 이름/값 샘플 (일반 값과 민감 값 혼합) */
+    private static final String[][] PARAMS = {
+        {"page", "1"}, {"size", "20"}, {"sort", "createdAt,desc"}, {"query", "wireless headphones"},
+        {"email", "user@example.com"}, {"cardNumber", "1234-5678-9012-3456"}, {"memo", "950101-1234567"},
+        {"category", "electronics"}
+    };
+
+    private static final String BODY = "{\"orderId\":\"ORD-20250516-0001\",\"customer\":{\"name\":\"홍길동\","
+            + "\"email\":\"gildong@example.com\",\"rrn\":\"950101-1234567\"},\"payment\":{\"method\":\"card\","
+            + "\"number\":\"1234 5678 9012 3456\"},\"items\":[{\"sku\":\"A-100\",\"qty\":2},{\"sku\":\"B-200\",\"qty\":1}]}";
+
+    private RedactionEngine engine;
+
+    @Setup
+    public void setUp() {
+        engine = new RedactionEngine(new LogServerProperties());
+    }
+
+    @Benchmark
+    public void legacyParameterCheck(Blackhole bh) {
+        for (String[] param : PARAMS) {
+            bh.consume(legacyIsSensitiveParameter(param[0]) || legacyContainsSensitiveValue(param[1]));
+        }
+    }
+
+    @Benchmark
+    public void engineParameterCheck(Blackhole bh) {
+        for (String[] param : PARAMS) {
+            bh.consume(engine.isSensitiveKey(param[0]) || engine.isSensitiveValue(param[1]));
+        }
+    }
+
+    @Benchmark
+    public String legacyBodyRedaction() {
+        String body = BODY;
+        for (String pattern : LEGACY_PATTERNS) {
+            body = body.replaceAll(pattern, "***");
+        }
+        return body;
+    }
+
+    @Benchmark
+    public String engineBodyRedaction() {
+        return engine.redactValues(BODY);
+    }
+
+    private static boolean legacyIsSensitiveParameter(String key) {
+        for (String keyword : LEGACY_KEYWORDS) {
+            if (key.toLowerCase().contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean legacyContainsSensitiveValue(String value) {
+        if (value == null || value.length() < 5) {
+            return false;
+        }
+        for (String pattern : LEGACY_PATTERNS) {
+            if (value.matches(pattern)) {
+                return true;
+            }
+        }
+        String lowerValue = value.toLowerCase();
+        for (String keyword : LEGACY_KEYWORDS) {
+            if (lowerValue.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
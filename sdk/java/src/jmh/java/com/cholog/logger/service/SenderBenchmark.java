@@ -0,0 +1,119 @@
+package com.cholog.logger.service;
+
+import com.cholog.logger.config.LogServerProperties;
+import org.apache.http.HttpEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LogSenderService}의 큐 적재/전송 준비 경로를 측정하는 벤치마크입니다.
+ *
+ * - {@code filterSensitiveValues}: 로그 한 건의 경로 기반 민감 정보 필터링 (큐 적재 시 호출)
+ * - {@code prepareBatch}: 배치 JSON 배열 생성({@code convertBatchToJsonString}) + 요청 엔티티 생성({@code createRequestEntity}).
+ *   {@code compress} 파라미터로 GZIP 압축 유무를 비교합니다.
+ * - {@code writeBatchBody*}: 요청 본문을 연결(카운팅 스트림)에 쓰기까지의 전체 비용.
+ *   {@code Legacy}는 문자열 결합 → {@code getBytes} → 압축 배열 → {@code ByteArrayEntity} 경로,
+ *   {@code Heap}/{@code OffHeap}은 큐의 인코딩된 이벤트를 {@link BatchEntity}로 바로 스트리밍(압축 포함)하는 경로입니다.
+ *   {@code gc.alloc.rate.norm}으로 배치당 할당량을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SenderBenchmark {
+
+    @Param({"false", "true"})
+    public boolean compress;
+
+    @Param({"100"})
+    public int batchSize;
+
+    private LogSenderService sender;
+    private String singleLog;
+    private List<String> batch;
+    private LogEventQueue.Batch heapBatch;
+    private LogEventQueue.Batch offHeapBatch;
+
+    @Setup
+    public void setUp() {
+        LogServerProperties properties = BenchmarkSupport.quietProperties();
+        properties.setCompressLogs(compress);
+        properties.setSensitivePatterns(Arrays.asList("mdcContext.password", "password", "token"));
+        sender = new LogSenderService(properties);
+        singleLog = BenchmarkSupport.sampleLogJson(1);
+        batch = BenchmarkSupport.sampleBatch(batchSize);
+        heapBatch = drainedBatch(new HeapLogEventQueue(() -> batchSize, null));
+        offHeapBatch = drainedBatch(new OffHeapLogEventQueue(
+                new OffHeapLogEventQueue.SlabArena(16L * 1024 * 1024, 1024 * 1024), () -> batchSize));
+    }
+
+    private LogEventQueue.Batch drainedBatch(LogEventQueue queue) {
+        batch.forEach(queue::offer);
+        return queue.drainBatch(batchSize);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        heapBatch.release();
+        offHeapBatch.release();
+        sender.destroy();
+    }
+
+    @Benchmark
+    public String filterSensitiveValues() {
+        return sender.filterSensitiveValues(singleLog);
+    }
+
+    @Benchmark
+    public HttpEntity prepareBatch() throws IOException {
+        return sender.createRequestEntity(sender.convertBatchToJsonString(batch));
+    }
+
+    @Benchmark
+    public long writeBatchBodyLegacy() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        sender.createRequestEntity(sender.convertBatchToJsonString(batch)).writeTo(out);
+        return out.count;
+    }
+
+    @Benchmark
+    public long writeBatchBodyHeap() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        new BatchEntity(heapBatch, compress).writeTo(out);
+        return out.count;
+    }
+
+    @Benchmark
+    public long writeBatchBodyOffHeap() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        new BatchEntity(offHeapBatch, compress).writeTo(out);
+        return out.count;
+    }
+
+    /** 연결 대신 쓰인 바이트 수만 세는 스트림 */
+    private static final class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.cholog.logger.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 배치별 문자열 표({@link StringDictionary}) 인코딩/디코딩 비용을 측정하는 벤치마크입니다.
+ *
+ * - {@code encode}: 이벤트 JSON 배열을 두 번 훑어(등장 횟수 집계, 인덱스로 바꿔 쓰기) 문자열 표를 정하고 인코딩된 배열을 스트림에 쓰는 비용 (전송 시 배치당 1회)
+ * - {@code decode}: 인코딩된 배열을 원래 형식으로 되돌리는 비용 (로그 서버와 같은 규칙)
+ * - {@code copyPlain}: 문자열 표 없이 같은 배열을 파서에서 생성기로 복사하는 기준 비용
+ *
+ * 배치 크기(문자열 표 유무, gzip 전/후)는 측정 시작 시 한 번 출력합니다.
+ * 샘플 배치는 스레드 10개, 요청 URI는 이벤트마다 다르게 구성해 표에 들어가지 않는 값도 섞여 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StringDictionaryBenchmark {
+
+    @Param({"100"})
+    public int batchSize;
+
+    private JsonFactory factory;
+    private byte[] plain;
+    private StringDictionary.Encoded encoded;
+    private byte[] encodedEvents;
+
+    @Setup
+    public void setUp() throws IOException {
+        factory = new JsonFactory();
+        String[] events = new String[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            events[i] = BenchmarkSupport.sampleLogJson(i)
+                    .replace("http-nio-8080-exec-5", "http-nio-8080-exec-" + (i % 10))
+                    .replace("\"/api/v1/orders\"", "\"/api/v1/orders/ORD" + i + "\"");
+        }
+        plain = ("[" + String.join(",", events) + "]").getBytes(StandardCharsets.UTF_8);
+        encoded = StringDictionary.encode(factory, plain);
+        ByteArrayOutputStream encodedOut = new ByteArrayOutputStream();
+        encoded.writeTo(encodedOut);
+        encodedEvents = encodedOut.toByteArray();
+
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        StringDictionary.decode(factory, encodedEvents, encoded.strings, decoded);
+        if (!new String(decoded.toByteArray(), StandardCharsets.UTF_8).equals(new String(plain, StandardCharsets.UTF_8))) {
+            throw new IllegalStateException("string table round trip mismatch");
+        }
+
+        byte[] table = ("\"strings\":" + toJson(encoded.strings.toArray(new String[0])) + ",").getBytes(StandardCharsets.UTF_8);
+        byte[] dictionary = concat(table, encodedEvents);
+        System.out.printf("%n[StringDictionary] batchSize=%d strings=%d plain=%dB dictionary=%dB (%.1f%%) gzip plain=%dB gzip dictionary=%dB (%.1f%%)%n",
+                batchSize, encoded.strings.size(), plain.length, dictionary.length, saved(plain.length, dictionary.length),
+                gzipSize(plain), gzipSize(dictionary), saved(gzipSize(plain), gzipSize(dictionary)));
+    }
+
+    @Benchmark
+    public long encode() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        StringDictionary.encode(factory, plain).writeTo(out);
+        return out.count;
+    }
+
+    @Benchmark
+    public long decode() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        StringDictionary.decode(factory, encodedEvents, encoded.strings, out);
+        return out.count;
+    }
+
+    @Benchmark
+    public long copyPlain() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        try (JsonParser parser = factory.createParser(plain);
+             JsonGenerator generator = factory.createGenerator(out)) {
+            for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                generator.copyCurrentEvent(parser);
+            }
+        }
+        return out.count;
+    }
+
+    private String toJson(String[] strings) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            generator.writeArray(strings, 0, strings.length);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] joined = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
+
+    private static int gzipSize(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.size();
+    }
+
+    private static double saved(int before, int after) {
+        return 100.0 * (before - after) / before;
+    }
+
+    /** 연결 대신 쓰인 바이트 수만 세는 스트림 */
+    private static final class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
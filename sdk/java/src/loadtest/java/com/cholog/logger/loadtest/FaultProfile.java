@@ -0,0 +1,154 @@
+package com.cholog.logger.loadtest;
+
+import java.util.Locale;
+
+/**
+ * 스텁 로그 서버가 한 구간(phase) 동안 적용하는 장애 설정입니다.
+ *
+ * 문법: {@code ok}, {@code down}, 또는 쉼표로 구분된 {@code key=value} 목록
+ * <ul>
+ *     <li>{@code latency}: 응답 지연 (ms)</li>
+ *     <li>{@code jitter}: 응답 지연에 더해지는 0 ~ jitter 사이의 무작위 지연 (ms)</li>
+ *     <li>{@code error}: 500 응답 비율 (0.0 ~ 1.0)</li>
+ *     <li>{@code throttle}: 429 응답 비율</li>
+ *     <li>{@code reset}: 요청 본문을 받은 뒤 처리하지 않고 연결을 RST로 끊는 비율</li>
+ *     <li>{@code ackloss}: 로그를 수신 처리한 뒤 응답 대신 연결을 RST로 끊는 비율 (클라이언트 재전송 시 중복 발생)</li>
+ * </ul>
+ * 예: {@code latency=200,jitter=100,error=0.1,throttle=0.05}
+ */
+final class FaultProfile {
+
+    static final FaultProfile HEALTHY = new FaultProfile(false, 0, 0, 0, 0, 0, 0);
+    static final FaultProfile DOWN = new FaultProfile(true, 0, 0, 0, 0, 0, 0);
+
+    private final boolean down;
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double errorRate;
+    private final double throttleRate;
+    private final double resetRate;
+    private final double ackLossRate;
+
+    private FaultProfile(boolean down, long latencyMs, long jitterMs, double errorRate, double throttleRate,
+                         double resetRate, double ackLossRate) {
+        this.down = down;
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.errorRate = errorRate;
+        this.throttleRate = throttleRate;
+        this.resetRate = resetRate;
+        this.ackLossRate = ackLossRate;
+    }
+
+    /**
+     * 장애 설정 문자열을 파싱합니다.
+     *
+     * @param spec 장애 설정 문자열
+     * @return 파싱된 장애 설정
+     * @throws IllegalArgumentException 알 수 없는 키 또는 잘못된 값이 포함된 경우
+     */
+    static FaultProfile parse(String spec) {
+        String trimmed = spec.trim().toLowerCase(Locale.ROOT);
+        if (trimmed.isEmpty() || "ok".equals(trimmed)) {
+            return HEALTHY;
+        }
+        if ("down".equals(trimmed)) {
+            return DOWN;
+        }
+        long latency = 0;
+        long jitter = 0;
+        double error = 0;
+        double throttle = 0;
+        double reset = 0;
+        double ackLoss = 0;
+        for (String pair : trimmed.split(",")) {
+            String[] kv = pair.split("=", 2);
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Invalid fault setting '" + pair + "' in '" + spec + "'");
+            }
+            String value = kv[1].trim();
+            switch (kv[0].trim()) {
+                case "latency" -> latency = Long.parseLong(value);
+                case "jitter" -> jitter = Long.parseLong(value);
+                case "error" -> error = rate(value);
+                case "throttle" -> throttle = rate(value);
+                case "reset" -> reset = rate(value);
+                case "ackloss" -> ackLoss = rate(value);
+                default -> throw new IllegalArgumentException("Unknown fault setting '" + kv[0] + "' in '" + spec + "'");
+            }
+        }
+        if (reset + error + throttle > 1.0) {
+            throw new IllegalArgumentException("reset + error + throttle must not exceed 1.0: " + spec);
+        }
+        return new FaultProfile(false, latency, jitter, error, throttle, reset, ackLoss);
+    }
+
+    private static double rate(String value) {
+        double rate = Double.parseDouble(value);
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("Rate must be between 0.0 and 1.0: " + value);
+        }
+        return rate;
+    }
+
+    boolean isDown() {
+        return down;
+    }
+
+    /** 지연/오류 없이 정상 응답하는 설정인지 여부 (복구 시간 측정 기준) */
+    boolean isHealthy() {
+        return !down && latencyMs == 0 && jitterMs == 0 && errorRate == 0 && throttleRate == 0
+                && resetRate == 0 && ackLossRate == 0;
+    }
+
+    long getLatencyMs() {
+        return latencyMs;
+    }
+
+    long getJitterMs() {
+        return jitterMs;
+    }
+
+    double getErrorRate() {
+        return errorRate;
+    }
+
+    double getThrottleRate() {
+        return throttleRate;
+    }
+
+    double getResetRate() {
+        return resetRate;
+    }
+
+    double getAckLossRate() {
+        return ackLossRate;
+    }
+
+    @Override
+    public String toString() {
+        if (down) {
+            return "down";
+        }
+        if (isHealthy()) {
+            return "ok";
+        }
+        StringBuilder sb = new StringBuilder();
+        append(sb, "latency", latencyMs, latencyMs > 0);
+        append(sb, "jitter", jitterMs, jitterMs > 0);
+        append(sb, "error", errorRate, errorRate > 0);
+        append(sb, "throttle", throttleRate, throttleRate > 0);
+        append(sb, "reset", resetRate, resetRate > 0);
+        append(sb, "ackloss", ackLossRate, ackLossRate > 0);
+        return sb.toString();
+    }
+
+    private static void append(StringBuilder sb, String key, Object value, boolean present) {
+        if (present) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(key).append('=').append(value);
+        }
+    }
+}
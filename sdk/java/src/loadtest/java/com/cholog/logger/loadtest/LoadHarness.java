@@ -0,0 +1,409 @@
+package com.cholog.logger.loadtest;
+
+import com.cholog.logger.config.LogServerProperties;
+import com.cholog.logger.service.LogSenderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * 내장 스텁 로그 서버를 대상으로 {@link LogSenderService}에 부하를 주고 장애를 주입하는 end-to-end 하네스입니다.
+ *
+ * 실행: {@code ./gradlew loadTest --args="scenario=outage rate=2000"}
+ *
+ * <ul>
+ *     <li>{@code scenario}: 미리 정의된 시나리오({@code steady}, {@code slow}, {@code flapping}, {@code outage}, {@code errors})
+ *         또는 구간 문자열 (예: {@code 10s:ok;20s:down;30s:ok}, 문법은 {@link LoadScenario} 참고). 기본값: {@code outage}</li>
+ *     <li>{@code rate}: 초당 생성 로그 수. 기본값: 1000</li>
+ *     <li>{@code producers}: 로그를 생성하는 스레드 수. 기본값: 2</li>
+ *     <li>{@code payloadBytes}: 로그 한 건에 추가되는 메시지 본문 크기. 기본값: 256</li>
+ *     <li>{@code drainTimeout}: 시나리오 종료 후 잔여 로그 수신을 기다리는 최대 시간(초). 기본값: 120</li>
+ *     <li>{@code report}: JSON 결과 파일 경로. 기본값: {@code build/reports/loadtest/report.json}</li>
+ *     <li>{@code sdk.<속성>}: {@link LogServerProperties} 속성 재정의 (예: {@code sdk.batch-size=500 sdk.disk-resend-interval=5000})</li>
+ * </ul>
+ *
+ * 모든 로그에는 고유 번호({@code loadSeq})가 포함되며, 스텁 서버가 수신 처리한 번호를 집계하여
+ * 처리량, 적재 → 수신 지연(p50/p99), 디스크 큐 증가량, 장애 해소 후 복구 시간, 정확한 유실/중복 건수를 보고합니다.
+ */
+public final class LoadHarness {
+
+    private static final String DEFAULT_REPORT = "build/reports/loadtest/report.json";
+    private static final long SAMPLE_INTERVAL_MS = 250;
+    private static final String DISK_QUEUE_FILE_SUFFIX = ".logbatch";
+
+    private final LoadScenario scenario;
+    private final int rate;
+    private final int producers;
+    private final String payload;
+    private final long drainTimeoutMs;
+
+    private final LoadRecorder recorder;
+    private final StubLogServer server;
+    private final LogSenderService sender;
+    private final Path diskQueueDir;
+
+    private final AtomicInteger nextSeq = new AtomicInteger();
+    private final AtomicInteger produced = new AtomicInteger();
+    private volatile boolean producing = true;
+    private volatile String currentPhase = "-";
+    private long startNanos;
+
+    /** 복구 시간 측정 대상 (장애 구간 → 정상 구간 전환) */
+    private final List<Recovery> recoveries = new ArrayList<>();
+    private final List<Map<String, Object>> timeline = new ArrayList<>();
+    private long peakDiskFiles;
+    private long peakDiskBytes;
+    private long lastTimelineNanos;
+
+    private LoadHarness(LoadScenario scenario, int rate, int producers, int payloadBytes, long drainTimeoutMs,
+                        LoadRecorder recorder, StubLogServer server, LogSenderService sender, Path diskQueueDir) {
+        this.scenario = scenario;
+        this.rate = rate;
+        this.producers = producers;
+        this.payload = "x".repeat(Math.max(0, payloadBytes));
+        this.drainTimeoutMs = drainTimeoutMs;
+        this.recorder = recorder;
+        this.server = server;
+        this.sender = sender;
+        this.diskQueueDir = diskQueueDir;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        LoadScenario scenario = LoadScenario.of(options.getOrDefault("scenario", "outage"));
+        int rate = Integer.parseInt(options.getOrDefault("rate", "1000"));
+        int producers = Integer.parseInt(options.getOrDefault("producers", "2"));
+        int payloadBytes = Integer.parseInt(options.getOrDefault("payloadBytes", "256"));
+        long drainTimeoutMs = Long.parseLong(options.getOrDefault("drainTimeout", "120")) * 1000;
+        Path reportPath = Paths.get(options.getOrDefault("report",
+                System.getProperty("cholog.loadtest.report", DEFAULT_REPORT)));
+
+        long capacity = (long) rate * scenario.getTotalDurationMs() / 1000;
+        if (rate <= 0 || producers <= 0 || capacity <= 0 || capacity > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("rate/producers must be positive and rate * duration must fit in an int");
+        }
+
+        LoadRecorder recorder = new LoadRecorder((int) capacity);
+        Path diskQueueDir = Files.createTempDirectory("cholog-loadtest-");
+        try (StubLogServer server = new StubLogServer(recorder)) {
+            server.start();
+
+            LogServerProperties properties = new LogServerProperties();
+            properties.setUrl(server.getUrl());
+            properties.setApiKey("loadtest-api-key");
+            properties.setServiceName("cholog-loadtest");
+            properties.setDiskQueuePath(diskQueueDir.toString());
+            properties.setExposeMetricsViaJmx(false);
+            applySdkOverrides(properties, options);
+
+            LogSenderService sender = new LogSenderService(properties);
+            LoadHarness harness = new LoadHarness(scenario, rate, producers, payloadBytes, drainTimeoutMs,
+                    recorder, server, sender, diskQueueDir);
+            Map<String, Object> report = harness.run(properties);
+
+            print(report);
+            Path parent = reportPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+            System.out.println("Report written to " + reportPath.toAbsolutePath());
+        } finally {
+            deleteRecursively(diskQueueDir);
+        }
+    }
+
+    private Map<String, Object> run(LogServerProperties properties) throws Exception {
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        startNanos = System.nanoTime();
+        List<Thread> producerThreads = new ArrayList<>();
+        for (int i = 0; i < producers; i++) {
+            Thread thread = new Thread(this::produce, "loadtest-producer-" + i);
+            thread.start();
+            producerThreads.add(thread);
+        }
+        sampler.scheduleAtFixedRate(this::sampleSafely, 0, SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+        // 1. 시나리오 구간별 장애 주입
+        FaultProfile previous = null;
+        for (LoadScenario.Phase phase : scenario.getPhases()) {
+            applyPhase(phase.toString(), phase.getProfile(), previous);
+            previous = phase.getProfile();
+            Thread.sleep(phase.getDurationMs());
+        }
+        producing = false;
+        for (Thread thread : producerThreads) {
+            thread.join();
+        }
+        long productionEndNanos = System.nanoTime();
+
+        // 2. 정상 상태에서 잔여 로그 수신 대기
+        applyPhase("drain:ok", FaultProfile.HEALTHY, previous);
+        long drainDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(drainTimeoutMs);
+        while (recorder.getDistinctAcks() < produced.get() && System.nanoTime() < drainDeadline) {
+            Thread.sleep(SAMPLE_INTERVAL_MS);
+        }
+        boolean drained = recorder.getDistinctAcks() >= produced.get();
+        long drainEndNanos = System.nanoTime();
+
+        // 3. 서비스 종료 (메모리 큐 최종 전송 포함) 후 최종 집계
+        sender.destroy();
+        sampler.shutdown();
+        sampler.awaitTermination(5, TimeUnit.SECONDS);
+        sampleSafely();
+
+        return buildReport(properties, productionEndNanos, drainEndNanos, drained);
+    }
+
+    private void applyPhase(String name, FaultProfile profile, FaultProfile previous) throws IOException {
+        synchronized (recoveries) {
+            currentPhase = name;
+            if (previous != null && !previous.isHealthy() && profile.isHealthy()) {
+                recoveries.add(new Recovery(name, System.nanoTime(), produced.get()));
+            }
+        }
+        server.setProfile(profile);
+    }
+
+    private void produce() {
+        double intervalNanos = 1_000_000_000.0 / rate;
+        int capacity = recorder.getCapacity();
+        while (producing) {
+            int seq = nextSeq.getAndIncrement();
+            if (seq >= capacity) {
+                return;
+            }
+            long due = startNanos + (long) (seq * intervalNanos);
+            long wait;
+            while ((wait = due - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            recorder.onEnqueue(seq);
+            sender.addToQueue(logJson(seq));
+            produced.incrementAndGet();
+        }
+    }
+
+    private String logJson(int seq) {
+        return "{\"timestamp\":\"" + Instant.now() + "\",\"level\":\"INFO\",\"logger\":\"com.cholog.loadtest\","
+                + "\"message\":\"load event " + seq + " " + payload + "\",\"thread\":\"" + Thread.currentThread().getName() + "\","
+                + "\"serviceName\":\"cholog-loadtest\",\"environment\":\"loadtest\",\"loadSeq\":" + seq + "}";
+    }
+
+    private void sampleSafely() {
+        try {
+            sample();
+        } catch (Exception e) {
+            System.err.println("Sampling failed: " + e.getMessage());
+        }
+    }
+
+    private void sample() throws IOException {
+        long now = System.nanoTime();
+        long[] disk = diskUsage(diskQueueDir);
+        synchronized (recoveries) {
+            peakDiskFiles = Math.max(peakDiskFiles, disk[0]);
+            peakDiskBytes = Math.max(peakDiskBytes, disk[1]);
+            for (Recovery recovery : recoveries) {
+                if (recovery.recoveredMs == null) {
+                    if (!recorder.allAckedBelow(recovery.seqBoundary)) {
+                        break;
+                    }
+                    recovery.recoveredMs = TimeUnit.NANOSECONDS.toMillis(now - recovery.startNanos);
+                }
+            }
+            if (now - lastTimelineNanos >= TimeUnit.SECONDS.toNanos(1)) {
+                lastTimelineNanos = now;
+                long acked = recorder.getDistinctAcks();
+                Map<String, Object> point = new LinkedHashMap<>();
+                point.put("t", Math.round((now - startNanos) / 1e8) / 10.0);
+                point.put("phase", currentPhase);
+                point.put("produced", produced.get());
+                point.put("acked", acked);
+                point.put("outstanding", produced.get() - acked);
+                point.put("diskFiles", disk[0]);
+                point.put("diskBytes", disk[1]);
+                timeline.add(point);
+            }
+        }
+    }
+
+    private Map<String, Object> buildReport(LogServerProperties properties, long productionEndNanos,
+                                            long drainEndNanos, boolean drained) throws IOException {
+        int producedCount = produced.get();
+        long acked = recorder.getDistinctAcks();
+        double productionSec = (productionEndNanos - startNanos) / 1e9;
+        double totalSec = (drainEndNanos - startNanos) / 1e9;
+        double[] latency = recorder.latencyPercentilesMs(producedCount);
+        long[] finalDisk = diskUsage(diskQueueDir);
+        long[] retriedDisk = diskUsage(diskQueueDir.resolve("retried"));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("scenario", scenario.getName());
+        report.put("phases", scenario.toString());
+        report.put("targetRate", rate);
+        report.put("producers", producers);
+        report.put("batchSize", properties.getBatchSize());
+        report.put("queueCapacity", properties.getQueueCapacity());
+        report.put("diskQueueEnabled", properties.isDiskQueueEnabled());
+        report.put("compressLogs", properties.isCompressLogs());
+
+        report.put("produced", producedCount);
+        report.put("acked", acked);
+        report.put("lost", producedCount - acked);
+        report.put("duplicates", recorder.getDuplicateAcks());
+        report.put("unknownAcks", recorder.getUnknownAcks());
+        report.put("drainedBeforeShutdown", drained);
+
+        report.put("offeredRatePerSec", round(producedCount / productionSec));
+        report.put("ackThroughputPerSec", round(acked / totalSec));
+        report.put("latencyP50Ms", latency[0]);
+        report.put("latencyP99Ms", latency[1]);
+        report.put("latencyMaxMs", latency[2]);
+
+        report.put("diskPeakFiles", peakDiskFiles);
+        report.put("diskPeakBytes", peakDiskBytes);
+        report.put("diskFinalFiles", finalDisk[0]);
+        report.put("diskFinalBytes", finalDisk[1]);
+        report.put("diskRetriedFiles", retriedDisk[0]);
+
+        List<Map<String, Object>> recoveryReport = new ArrayList<>();
+        for (Recovery recovery : recoveries) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("phase", recovery.phase);
+            entry.put("atSec", round((recovery.startNanos - startNanos) / 1e9));
+            entry.put("recoveryMs", recovery.recoveredMs);
+            recoveryReport.add(entry);
+        }
+        report.put("recoveries", recoveryReport);
+
+        Map<String, Object> serverStats = new LinkedHashMap<>();
+        serverStats.put("batchRequests", server.batchRequests.sum());
+        serverStats.put("accepted", server.accepted.sum());
+        serverStats.put("serverErrors", server.serverErrors.sum());
+        serverStats.put("throttled", server.throttled.sum());
+        serverStats.put("resets", server.resets.sum());
+        serverStats.put("ackLosses", server.ackLosses.sum());
+        serverStats.put("healthChecks", server.healthChecks.sum());
+        serverStats.put("bytesReceived", server.bytesReceived.sum());
+        report.put("server", serverStats);
+        report.put("timeline", timeline);
+        return report;
+    }
+
+    private static void print(Map<String, Object> report) {
+        System.out.println();
+        System.out.println("=== CHO:LOG load test: " + report.get("scenario") + " (" + report.get("phases") + ") ===");
+        for (Map.Entry<String, Object> entry : report.entrySet()) {
+            if (!"timeline".equals(entry.getKey())) {
+                System.out.printf("  %-22s %s%n", entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /** 디스크 큐 디렉토리 최상위의 배치 파일 수와 총 크기 */
+    private static long[] diskUsage(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return new long[]{0, 0};
+        }
+        long files = 0;
+        long bytes = 0;
+        try (Stream<Path> stream = Files.list(dir)) {
+            for (Path path : (Iterable<Path>) stream::iterator) {
+                if (path.toString().endsWith(DISK_QUEUE_FILE_SUFFIX)) {
+                    try {
+                        bytes += Files.size(path);
+                        files++;
+                    } catch (IOException ignored) {
+                        // 재전송 후 삭제된 파일
+                    }
+                }
+            }
+        }
+        return new long[]{files, bytes};
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Arguments must be key=value: " + arg);
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+
+    private static void applySdkOverrides(LogServerProperties properties, Map<String, String> options) {
+        BeanWrapperImpl wrapper = new BeanWrapperImpl(properties);
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            if (option.getKey().startsWith("sdk.")) {
+                wrapper.setPropertyValue(toCamelCase(option.getKey().substring(4)), option.getValue());
+            }
+        }
+    }
+
+    private static String toCamelCase(String kebab) {
+        StringBuilder sb = new StringBuilder(kebab.length());
+        boolean upper = false;
+        for (char c : kebab.toCharArray()) {
+            if (c == '-') {
+                upper = true;
+            } else {
+                sb.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+
+    private static void deleteRecursively(Path root) throws IOException {
+        if (!Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> stream = Files.walk(root)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /** 장애 구간 종료 시점과 그 이전에 적재된 로그 범위 */
+    private static final class Recovery {
+        private final String phase;
+        private final long startNanos;
+        private final long seqBoundary;
+        private Long recoveredMs;
+
+        private Recovery(String phase, long startNanos, long seqBoundary) {
+            this.phase = phase;
+            this.startNanos = startNanos;
+            this.seqBoundary = seqBoundary;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.cholog.logger.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그별 적재(enqueue) 시각과 서버 수신(ack) 시각/횟수를 기록합니다.
+ * 로그는 0부터 시작하는 {@code loadSeq}로 식별되며, 이를 통해 유실/중복 건수를 정확히 계산합니다.
+ */
+final class LoadRecorder implements StubLogServer.AckListener {
+
+    private final int capacity;
+    private final AtomicLongArray enqueuedAt;
+    private final AtomicLongArray firstAckAt;
+    private final AtomicIntegerArray ackCounts;
+
+    private final LongAdder distinctAcks = new LongAdder();
+    private final LongAdder duplicateAcks = new LongAdder();
+    private final LongAdder unknownAcks = new LongAdder();
+
+    /** {@link #allAckedBelow(long)}용 커서: 이 값 미만의 로그는 모두 수신됨 (샘플러 스레드 전용) */
+    private int ackedPrefix;
+
+    LoadRecorder(int capacity) {
+        this.capacity = capacity;
+        this.enqueuedAt = new AtomicLongArray(capacity);
+        this.firstAckAt = new AtomicLongArray(capacity);
+        this.ackCounts = new AtomicIntegerArray(capacity);
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 로그를 큐에 넣기 직전에 호출합니다.
+     *
+     * @param seq 로그 번호
+     */
+    void onEnqueue(int seq) {
+        enqueuedAt.set(seq, System.nanoTime());
+    }
+
+    @Override
+    public void onAck(long seq) {
+        if (seq < 0 || seq >= capacity) {
+            unknownAcks.increment();
+            return;
+        }
+        int index = (int) seq;
+        if (ackCounts.incrementAndGet(index) == 1) {
+            firstAckAt.set(index, System.nanoTime());
+            distinctAcks.increment();
+        } else {
+            duplicateAcks.increment();
+        }
+    }
+
+    long getDistinctAcks() {
+        return distinctAcks.sum();
+    }
+
+    long getDuplicateAcks() {
+        return duplicateAcks.sum();
+    }
+
+    long getUnknownAcks() {
+        return unknownAcks.sum();
+    }
+
+    /**
+     * 번호가 {@code seq} 미만인 로그가 모두 한 번 이상 수신되었는지 확인합니다.
+     *
+     * @param seq 기준 번호 (배타적)
+     * @return 모두 수신되었으면 {@code true}
+     */
+    boolean allAckedBelow(long seq) {
+        long limit = Math.min(seq, capacity);
+        while (ackedPrefix < limit && ackCounts.get(ackedPrefix) > 0) {
+            ackedPrefix++;
+        }
+        return ackedPrefix >= limit;
+    }
+
+    /**
+     * 적재부터 최초 수신까지의 지연 시간 분포를 계산합니다.
+     *
+     * @param produced 적재된 로그 수
+     * @return {p50, p99, max} (ms), 수신된 로그가 없으면 모두 -1
+     */
+    double[] latencyPercentilesMs(int produced) {
+        long[] latencies = new long[produced];
+        int count = 0;
+        for (int i = 0; i < produced; i++) {
+            long ack = firstAckAt.get(i);
+            if (ack != 0) {
+                latencies[count++] = ack - enqueuedAt.get(i);
+            }
+        }
+        if (count == 0) {
+            return new double[]{-1, -1, -1};
+        }
+        Arrays.sort(latencies, 0, count);
+        return new double[]{
+                toMs(latencies[percentileIndex(count, 0.50)]),
+                toMs(latencies[percentileIndex(count, 0.99)]),
+                toMs(latencies[count - 1])
+        };
+    }
+
+    private static int percentileIndex(int count, double percentile) {
+        return Math.min(count - 1, (int) Math.ceil(percentile * count) - 1);
+    }
+
+    private static double toMs(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
@@ -0,0 +1,125 @@
+package com.cholog.logger.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 시나리오(장애 구간 목록)입니다.
+ *
+ * 구간 문법: {@code <초>s:<장애 설정>}을 세미콜론으로 연결합니다. 장애 설정 문법은 {@link FaultProfile}을 참고하세요.
+ * 예: {@code 10s:ok;20s:down;30s:ok}
+ */
+final class LoadScenario {
+
+    /** 미리 정의된 시나리오 */
+    private static final Map<String, String> PRESETS = Map.of(
+            "steady", "30s:ok",
+            "slow", "10s:ok;20s:latency=2000,jitter=1000;20s:ok",
+            "flapping", "5s:ok;5s:down;5s:ok;5s:down;5s:ok;5s:down;10s:ok",
+            "outage", "10s:ok;30s:down;30s:ok",
+            "errors", "10s:ok;30s:error=0.2,throttle=0.1,reset=0.05,ackloss=0.02;20s:ok"
+    );
+
+    /** 시나리오의 한 구간 */
+    static final class Phase {
+        private final long durationMs;
+        private final FaultProfile profile;
+
+        Phase(long durationMs, FaultProfile profile) {
+            this.durationMs = durationMs;
+            this.profile = profile;
+        }
+
+        long getDurationMs() {
+            return durationMs;
+        }
+
+        FaultProfile getProfile() {
+            return profile;
+        }
+
+        @Override
+        public String toString() {
+            return (durationMs / 1000) + "s:" + profile;
+        }
+    }
+
+    private final String name;
+    private final List<Phase> phases;
+
+    private LoadScenario(String name, List<Phase> phases) {
+        this.name = name;
+        this.phases = Collections.unmodifiableList(phases);
+    }
+
+    /**
+     * 미리 정의된 시나리오 이름 또는 구간 문자열로 시나리오를 생성합니다.
+     *
+     * @param nameOrPhases 시나리오 이름({@code steady}, {@code slow}, {@code flapping}, {@code outage}, {@code errors}) 또는 구간 문자열
+     * @return 시나리오
+     * @throws IllegalArgumentException 구간 문자열이 잘못된 경우
+     */
+    static LoadScenario of(String nameOrPhases) {
+        String preset = PRESETS.get(nameOrPhases);
+        if (preset != null) {
+            return new LoadScenario(nameOrPhases, parsePhases(preset));
+        }
+        return new LoadScenario("custom", parsePhases(nameOrPhases));
+    }
+
+    private static List<Phase> parsePhases(String spec) {
+        List<Phase> phases = new ArrayList<>();
+        for (String part : spec.split(";")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            int colon = part.indexOf(':');
+            if (colon < 0) {
+                throw new IllegalArgumentException("Phase must be '<seconds>s:<faults>': " + part);
+            }
+            String duration = part.substring(0, colon).trim();
+            if (duration.endsWith("s")) {
+                duration = duration.substring(0, duration.length() - 1);
+            }
+            long seconds = Long.parseLong(duration);
+            if (seconds <= 0) {
+                throw new IllegalArgumentException("Phase duration must be positive: " + part);
+            }
+            phases.add(new Phase(seconds * 1000, FaultProfile.parse(part.substring(colon + 1))));
+        }
+        if (phases.isEmpty()) {
+            throw new IllegalArgumentException("Scenario has no phases: " + spec);
+        }
+        return phases;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    List<Phase> getPhases() {
+        return phases;
+    }
+
+    long getTotalDurationMs() {
+        long total = 0;
+        for (Phase phase : phases) {
+            total += phase.getDurationMs();
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Phase phase : phases) {
+            if (sb.length() > 0) {
+                sb.append(';');
+            }
+            sb.append(phase);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,407 @@
+package com.cholog.logger.loadtest;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import com.cholog.logger.appender.CentralLogAppender;
+import com.cholog.logger.config.LogServerProperties;
+import com.cholog.logger.filter.ReactiveBodyLoggingFilter;
+import com.cholog.logger.filter.ReactiveRequestTimingFilter;
+import com.cholog.logger.service.LogSenderService;
+import com.cholog.logger.service.RedactionEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.netty.buffer.Unpooled;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebHandler;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reactor Netty 서버에서 WebFlux 로깅 필터({@link ReactiveRequestTimingFilter}, {@link ReactiveBodyLoggingFilter})가
+ * 요청 처리량과 지연 시간에 주는 영향을 측정하는 부하 테스트입니다.
+ *
+ * 실행: {@code ./gradlew reactiveLoadTest --args="concurrency=128 duration=30"}
+ *
+ * 같은 애플리케이션 핸들러(요청 본문을 읽고 JSON 응답)를 필터 구성만 바꿔 차례로 띄우고,
+ * 같은 프로세스의 Reactor Netty 클라이언트로 고정 동시성 부하를 줍니다.
+ * 요청 완료 로그는 {@link CentralLogAppender}로 실제 JSON 인코딩까지 수행하며, 전송만 건수 집계로 대체합니다.
+ *
+ * <ul>
+ *     <li>{@code modes}: 측정할 필터 구성({@code none}: 필터 없음, {@code timing}: 요청 컨텍스트/완료 로그,
+ *         {@code full}: 본문 캡처 포함). 기본값: {@code none,timing,full}</li>
+ *     <li>{@code concurrency}: 동시 요청 수(연결 수). 기본값: 64</li>
+ *     <li>{@code duration}, {@code warmup}: 구성별 측정/워밍업 시간(초). 기본값: 20, 5</li>
+ *     <li>{@code bodyBytes}: 요청/응답 본문 크기. 기본값: 1024</li>
+ *     <li>{@code encode}: 요청 완료 로그를 {@link CentralLogAppender}로 인코딩할지 여부.
+ *         {@code false}이면 로그 이벤트까지만 만들어 필터 자체의 비용을 분리합니다. 기본값: {@code true}</li>
+ *     <li>{@code report}: JSON 결과 파일 경로. 기본값: {@code build/reports/loadtest/reactive-report.json}</li>
+ * </ul>
+ *
+ * 구성별 처리량(req/s), 지연 시간(p50/p99/max), 요청당 할당 바이트(클라이언트 포함 JVM 전체)와
+ * 필터가 없는 구성 대비 차이를 보고합니다.
+ */
+public final class ReactiveFilterLoadTest {
+
+    private static final String DEFAULT_REPORT = "build/reports/loadtest/reactive-report.json";
+    /** 지연 시간 표본 최대 개수 (초과분은 처리량에만 반영) */
+    private static final int MAX_LATENCY_SAMPLES = 4_000_000;
+
+    private final int concurrency;
+    private final long durationMs;
+    private final long warmupMs;
+    private final byte[] requestBody;
+    private final byte[] responseBody;
+
+    private ReactiveFilterLoadTest(int concurrency, long durationMs, long warmupMs, int bodyBytes) {
+        this.concurrency = concurrency;
+        this.durationMs = durationMs;
+        this.warmupMs = warmupMs;
+        this.requestBody = jsonBody("order", bodyBytes);
+        this.responseBody = jsonBody("result", bodyBytes);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Arguments must be key=value: " + arg);
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        List<String> modes = Arrays.asList(options.getOrDefault("modes", "none,timing,full").split(","));
+        ReactiveFilterLoadTest test = new ReactiveFilterLoadTest(
+                Integer.parseInt(options.getOrDefault("concurrency", "64")),
+                Long.parseLong(options.getOrDefault("duration", "20")) * 1000,
+                Long.parseLong(options.getOrDefault("warmup", "5")) * 1000,
+                Integer.parseInt(options.getOrDefault("bodyBytes", "1024")));
+        Path reportPath = Paths.get(options.getOrDefault("report",
+                System.getProperty("cholog.loadtest.reactiveReport", DEFAULT_REPORT)));
+
+        LogServerProperties properties = quietProperties();
+        CountingLogSenderService sender = new CountingLogSenderService(properties);
+        CentralLogAppender appender = attachAppender(sender, properties,
+                Boolean.parseBoolean(options.getOrDefault("encode", "true")));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("concurrency", test.concurrency);
+        report.put("durationSec", test.durationMs / 1000);
+        report.put("bodyBytes", test.requestBody.length);
+        report.put("encode", appender != null);
+        List<Map<String, Object>> results = new ArrayList<>();
+        List<Target> targets = new ArrayList<>();
+        try {
+            for (String mode : modes) {
+                targets.add(test.start(mode.trim(), properties));
+            }
+            // 먼저 모든 구성을 워밍업하여 측정 순서에 따른 JIT 컴파일 편차를 줄임
+            for (Target target : targets) {
+                test.drive(target.client, test.warmupMs, null);
+            }
+            for (Target target : targets) {
+                Map<String, Object> result = test.measure(target, sender);
+                results.add(result);
+                print(result);
+            }
+        } finally {
+            for (Target target : targets) {
+                target.close();
+            }
+            if (appender != null) {
+                appender.stop();
+            }
+            sender.destroy();
+        }
+        addOverhead(results);
+        report.put("results", results);
+
+        Path parent = reportPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        System.out.println("Report written to " + reportPath.toAbsolutePath());
+    }
+
+    /** 필터 구성에 맞는 서버와 전용 연결 풀의 클라이언트를 시작합니다. */
+    private Target start(String mode, LogServerProperties properties) {
+        RedactionEngine redactionEngine = new RedactionEngine(properties);
+        List<WebFilter> filters = new ArrayList<>();
+        switch (mode) {
+            case "none":
+                break;
+            case "timing":
+                filters.add(new ReactiveRequestTimingFilter(properties, redactionEngine));
+                break;
+            case "full":
+                filters.add(new ReactiveRequestTimingFilter(properties, redactionEngine));
+                filters.add(new ReactiveBodyLoggingFilter(properties, redactionEngine, true, true));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown mode: " + mode);
+        }
+
+        HttpHandler handler = WebHttpHandlerBuilder.webHandler(applicationHandler()).filters(list -> list.addAll(filters)).build();
+        DisposableServer server = HttpServer.create().host("127.0.0.1").port(0)
+                .handle(new ReactorHttpHandlerAdapter(handler)).bindNow();
+        ConnectionProvider provider = ConnectionProvider.builder("reactive-loadtest")
+                .maxConnections(concurrency).pendingAcquireMaxCount(-1).build();
+        HttpClient client = HttpClient.create(provider).host("127.0.0.1").port(server.port())
+                .headers(headers -> headers.set("Content-Type", "application/json")
+                        .set("User-Agent", "cholog-reactive-loadtest")
+                        .set("Authorization", "Bearer loadtest-token"));
+        return new Target(mode, server, provider, client);
+    }
+
+    private Map<String, Object> measure(Target target, CountingLogSenderService sender) {
+        long logsBefore = sender.getCount();
+        Recorder recorder = new Recorder();
+        long allocBefore = allocatedBytes();
+        long start = System.nanoTime();
+        drive(target.client, durationMs, recorder);
+        double elapsedSec = (System.nanoTime() - start) / 1e9;
+        long allocated = allocatedBytes() - allocBefore;
+
+        long requests = recorder.completed.sum();
+        long[] latencies = recorder.sortedLatencies();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mode", target.mode);
+        result.put("requests", requests);
+        result.put("errors", recorder.errors.sum());
+        result.put("throughputPerSec", round(requests / elapsedSec));
+        result.put("latencyP50Ms", percentileMs(latencies, 0.50));
+        result.put("latencyP99Ms", percentileMs(latencies, 0.99));
+        result.put("latencyMaxMs", latencies.length > 0 ? round(latencies[latencies.length - 1] / 1e6) : 0.0);
+        result.put("allocBytesPerRequest", requests > 0 ? allocated / requests : 0);
+        result.put("logsEncoded", sender.getCount() - logsBefore);
+        return result;
+    }
+
+    /** 요청 본문을 끝까지 읽은 뒤 고정 JSON 응답을 쓰는 애플리케이션 핸들러 */
+    private WebHandler applicationHandler() {
+        return exchange -> DataBufferUtils.join(exchange.getRequest().getBody())
+                .doOnNext(DataBufferUtils::release)
+                .then(Mono.defer(() -> {
+                    exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    return exchange.getResponse().writeWith(
+                            Mono.just(exchange.getResponse().bufferFactory().wrap(responseBody)));
+                }));
+    }
+
+    /** 동시성 수만큼의 요청 루프를 주어진 시간 동안 실행합니다. */
+    private void drive(HttpClient client, long millis, Recorder recorder) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        Flux.range(0, concurrency)
+                .flatMap(worker -> Mono.defer(() -> send(client, recorder))
+                        .repeat(() -> System.nanoTime() < deadline), concurrency)
+                .blockLast();
+    }
+
+    private Mono<Void> send(HttpClient client, Recorder recorder) {
+        long start = System.nanoTime();
+        return client.post().uri("/api/v1/orders?page=1&size=20")
+                .send(ByteBufFlux.fromInbound(Mono.fromSupplier(() -> Unpooled.wrappedBuffer(requestBody))))
+                .responseSingle((response, body) -> body.then(Mono.just(response.status().code())))
+                .doOnNext(status -> {
+                    if (recorder != null) {
+                        recorder.record(status, System.nanoTime() - start);
+                    }
+                })
+                .onErrorResume(error -> {
+                    if (recorder != null) {
+                        recorder.errors.increment();
+                    }
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private static void addOverhead(List<Map<String, Object>> results) {
+        Map<String, Object> baseline = null;
+        for (Map<String, Object> result : results) {
+            if ("none".equals(result.get("mode"))) {
+                baseline = result;
+            }
+        }
+        if (baseline == null) {
+            return;
+        }
+        double baseThroughput = (double) baseline.get("throughputPerSec");
+        for (Map<String, Object> result : results) {
+            if (result != baseline) {
+                result.put("throughputDeltaPct", round(((double) result.get("throughputPerSec") / baseThroughput - 1) * 100));
+                result.put("latencyP50DeltaMs", round((double) result.get("latencyP50Ms") - (double) baseline.get("latencyP50Ms")));
+                result.put("latencyP99DeltaMs", round((double) result.get("latencyP99Ms") - (double) baseline.get("latencyP99Ms")));
+                result.put("allocDeltaBytesPerRequest",
+                        (long) result.get("allocBytesPerRequest") - (long) baseline.get("allocBytesPerRequest"));
+            }
+        }
+        System.out.println();
+        System.out.println("=== overhead vs. no filters ===");
+        for (Map<String, Object> result : results) {
+            if (result != baseline) {
+                System.out.printf("  %-8s throughput %s%%, p50 +%sms, p99 +%sms, alloc +%sB/req%n", result.get("mode"),
+                        result.get("throughputDeltaPct"), result.get("latencyP50DeltaMs"),
+                        result.get("latencyP99DeltaMs"), result.get("allocDeltaBytesPerRequest"));
+            }
+        }
+    }
+
+    private static void print(Map<String, Object> result) {
+        System.out.println();
+        System.out.println("=== CHO:LOG reactive load test: " + result.get("mode") + " ===");
+        result.forEach((key, value) -> System.out.printf("  %-22s %s%n", key, value));
+    }
+
+    private static LogServerProperties quietProperties() {
+        LogServerProperties properties = new LogServerProperties();
+        properties.setUrl("http://127.0.0.1:9/api/logs/be");
+        properties.setApiKey("loadtest-api-key");
+        properties.setServiceName("cholog-reactive-loadtest");
+        properties.setDiskQueueEnabled(false);
+        properties.setExposeMetricsViaJmx(false);
+        properties.setMetricsEnabled(false);
+        properties.setBatchFlushInterval(3_600_000);
+        properties.setConnectionCheckInterval(3_600_000L);
+        return properties;
+    }
+
+    /** 요청 완료 로그만 {@link CentralLogAppender}로 인코딩되도록 필터 로거에 Appender를 연결합니다. */
+    private static CentralLogAppender attachAppender(LogSenderService sender, LogServerProperties properties, boolean encode) {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger filterLogger = loggerContext.getLogger(ReactiveRequestTimingFilter.class);
+        filterLogger.setLevel(Level.INFO);
+        filterLogger.setAdditive(false);
+        if (!encode) {
+            return null;
+        }
+        CentralLogAppender appender = new CentralLogAppender(sender, properties, new StandardEnvironment());
+        appender.setContext(loggerContext);
+        appender.setName("LOADTEST_APPENDER");
+        appender.start();
+        filterLogger.addAppender(appender);
+        return appender;
+    }
+
+    /** 살아 있는 모든 스레드의 누적 할당 바이트 (이벤트 루프 스레드는 측정 동안 유지됨) */
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (long allocated : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (allocated > 0) {
+                total += allocated;
+            }
+        }
+        return total;
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return round(sorted[Math.max(0, index)] / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static byte[] jsonBody(String field, int bytes) {
+        String prefix = "{\"" + field + "\":\"";
+        String suffix = "\",\"userId\":\"usr_abc\"}";
+        return (prefix + "x".repeat(Math.max(0, bytes - prefix.length() - suffix.length())) + suffix)
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** 필터 구성별 서버와 클라이언트 */
+    private static final class Target {
+        private final String mode;
+        private final DisposableServer server;
+        private final ConnectionProvider provider;
+        private final HttpClient client;
+
+        Target(String mode, DisposableServer server, ConnectionProvider provider, HttpClient client) {
+            this.mode = mode;
+            this.server = server;
+            this.provider = provider;
+            this.client = client;
+        }
+
+        void close() {
+            provider.disposeLater().block();
+            server.disposeNow();
+        }
+    }
+
+    /** 응답 지연 시간(ns) 표본과 완료/오류 건수 */
+    private static final class Recorder {
+        private final long[] latencies = new long[MAX_LATENCY_SAMPLES];
+        private final AtomicInteger samples = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        void record(int status, long latencyNanos) {
+            if (status >= 400) {
+                errors.increment();
+                return;
+            }
+            completed.increment();
+            int index = samples.getAndIncrement();
+            if (index < latencies.length) {
+                latencies[index] = latencyNanos;
+            }
+        }
+
+        long[] sortedLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, Math.min(samples.get(), latencies.length));
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+    /** 로그를 큐에 넣지 않고 인코딩된 건수만 세는 전송 서비스 */
+    private static final class CountingLogSenderService extends LogSenderService {
+        private final LongAdder count = new LongAdder();
+
+        CountingLogSenderService(LogServerProperties properties) {
+            super(properties);
+        }
+
+        @Override
+        public void addToQueue(String jsonLog, Level level) {
+            count.increment();
+        }
+
+        long getCount() {
+            return count.sum();
+        }
+    }
+}
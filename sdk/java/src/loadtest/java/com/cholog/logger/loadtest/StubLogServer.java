@@ -0,0 +1,315 @@
+package com.cholog.logger.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 로그 서버의 {@code /api/logs/be} 엔드포인트를 흉내 내는 내장 스텁 서버입니다.
+ *
+ * 실제 로그 서버와 동일하게 {@code GET}은 헬스 체크(200), {@code POST}는 로그 배치(JSON 배열, 선택적으로 gzip) 수신으로 처리하며,
+ * 현재 {@link FaultProfile}에 따라 지연, 500/429 응답, 연결 리셋(RST), 서버 중단(연결 거부)을 주입합니다.
+ * 장애를 소켓 수준에서 제어하기 위해 HTTP/1.1(keep-alive, Content-Length 본문)만 최소한으로 구현합니다.
+ */
+final class StubLogServer implements Closeable {
+
+    /** 수신 처리(ack)된 로그를 통보받는 리스너 */
+    interface AckListener {
+        /**
+         * 로그 한 건이 수신 처리되었을 때 호출됩니다.
+         *
+         * @param seq 로그의 {@code loadSeq} 값, 없으면 -1
+         */
+        void onAck(long seq);
+    }
+
+    private static final String PATH = "/api/logs/be";
+
+    private final AckListener listener;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService workers = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "stub-log-server");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    private volatile FaultProfile profile = FaultProfile.HEALTHY;
+    private volatile ServerSocket serverSocket;
+    private int port;
+
+    final LongAdder batchRequests = new LongAdder();
+    final LongAdder healthChecks = new LongAdder();
+    final LongAdder accepted = new LongAdder();
+    final LongAdder serverErrors = new LongAdder();
+    final LongAdder throttled = new LongAdder();
+    final LongAdder resets = new LongAdder();
+    final LongAdder ackLosses = new LongAdder();
+    final LongAdder bytesReceived = new LongAdder();
+
+    StubLogServer(AckListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 루프백 주소의 임의 포트에서 요청 수신을 시작합니다.
+     *
+     * @throws IOException 포트 바인딩 실패 시
+     */
+    synchronized void start() throws IOException {
+        startAccepting();
+    }
+
+    /**
+     * @return 서버 포트
+     */
+    int getPort() {
+        return port;
+    }
+
+    /**
+     * @return 로그 수신 URL
+     */
+    String getUrl() {
+        return "http://127.0.0.1:" + port + PATH;
+    }
+
+    /**
+     * 장애 설정을 변경합니다. {@code down}이면 리스닝 소켓과 열린 연결을 모두 닫아 연결 거부 상태가 되고,
+     * 다시 정상 설정으로 바뀌면 같은 포트에서 수신을 재개합니다.
+     *
+     * @param newProfile 적용할 장애 설정
+     * @throws IOException 수신 재개 시 포트 바인딩 실패 시
+     */
+    synchronized void setProfile(FaultProfile newProfile) throws IOException {
+        this.profile = newProfile;
+        if (newProfile.isDown()) {
+            stopAccepting();
+        } else if (serverSocket == null) {
+            startAccepting();
+        }
+    }
+
+    private void startAccepting() throws IOException {
+        ServerSocket socket = new ServerSocket();
+        socket.setReuseAddress(true);
+        socket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 256);
+        port = socket.getLocalPort();
+        serverSocket = socket;
+        Thread acceptor = new Thread(() -> acceptLoop(socket), "stub-log-server-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    private void stopAccepting() {
+        ServerSocket socket = serverSocket;
+        serverSocket = null;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // 이미 닫힌 소켓
+            }
+        }
+        for (Socket connection : connections) {
+            abort(connection);
+        }
+    }
+
+    private void acceptLoop(ServerSocket socket) {
+        while (!socket.isClosed()) {
+            try {
+                Socket connection = socket.accept();
+                connections.add(connection);
+                workers.execute(() -> serve(connection));
+            } catch (IOException e) {
+                return; // stopAccepting()으로 닫힘
+            }
+        }
+    }
+
+    private void serve(Socket connection) {
+        try (connection) {
+            connection.setTcpNoDelay(true);
+            InputStream in = new BufferedInputStream(connection.getInputStream());
+            OutputStream out = connection.getOutputStream();
+            while (true) {
+                String requestLine = readLine(in);
+                if (requestLine == null || requestLine.isEmpty()) {
+                    return;
+                }
+                int contentLength = 0;
+                boolean gzip = false;
+                boolean close = false;
+                String header;
+                while ((header = readLine(in)) != null && !header.isEmpty()) {
+                    int colon = header.indexOf(':');
+                    if (colon < 0) {
+                        continue;
+                    }
+                    String name = header.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+                    String value = header.substring(colon + 1).trim();
+                    switch (name) {
+                        case "content-length" -> contentLength = Integer.parseInt(value);
+                        case "content-encoding" -> gzip = value.equalsIgnoreCase("gzip");
+                        case "connection" -> close = value.equalsIgnoreCase("close");
+                        default -> { }
+                    }
+                }
+                byte[] body = in.readNBytes(contentLength);
+                if (body.length < contentLength) {
+                    return;
+                }
+                if (!handle(requestLine, body, gzip, connection, out) || close) {
+                    return;
+                }
+            }
+        } catch (IOException ignored) {
+            // 클라이언트 종료, 서버 중단 또는 주입된 리셋
+        } finally {
+            connections.remove(connection);
+        }
+    }
+
+    /**
+     * 요청 하나를 처리합니다.
+     *
+     * @return 연결을 계속 사용할 수 있으면 {@code true}, 리셋으로 끊었으면 {@code false}
+     */
+    private boolean handle(String requestLine, byte[] body, boolean gzip, Socket connection, OutputStream out)
+            throws IOException {
+        if (requestLine.startsWith("GET ")) {
+            healthChecks.increment();
+            respond(out, 200, "OK");
+            return true;
+        }
+        if (!requestLine.startsWith("POST ")) {
+            respond(out, 405, "Method Not Allowed");
+            return true;
+        }
+
+        batchRequests.increment();
+        bytesReceived.add(body.length);
+        FaultProfile current = profile;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long delay = current.getLatencyMs() + (current.getJitterMs() > 0 ? random.nextLong(current.getJitterMs() + 1) : 0);
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        double roll = random.nextDouble();
+        if (roll < current.getResetRate()) {
+            resets.increment();
+            abort(connection);
+            return false;
+        }
+        roll -= current.getResetRate();
+        if (roll < current.getErrorRate()) {
+            serverErrors.increment();
+            respond(out, 500, "Internal Server Error");
+            return true;
+        }
+        roll -= current.getErrorRate();
+        if (roll < current.getThrottleRate()) {
+            throttled.increment();
+            respond(out, 429, "Too Many Requests");
+            return true;
+        }
+
+        acknowledge(gzip ? gunzip(body) : body);
+        accepted.increment();
+        if (random.nextDouble() < current.getAckLossRate()) {
+            ackLosses.increment();
+            abort(connection);
+            return false;
+        }
+        respond(out, 200, "OK");
+        return true;
+    }
+
+    private void acknowledge(byte[] json) throws IOException {
+        JsonNode root = objectMapper.readTree(json);
+        if (root == null || !root.isArray()) {
+            return;
+        }
+        for (JsonNode log : root) {
+            JsonNode seq = log.get("loadSeq");
+            listener.onAck(seq != null && seq.canConvertToLong() ? seq.asLong() : -1);
+        }
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static void respond(OutputStream out, int status, String reason) throws IOException {
+        String head = "HTTP/1.1 " + status + " " + reason + "\r\n"
+                + (status == 429 ? "Retry-After: 1\r\n" : "")
+                + "Content-Length: 0\r\n\r\n";
+        out.write(head.getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    /** SO_LINGER 0으로 닫아 FIN 대신 RST를 보냅니다. */
+    private static void abort(Socket connection) {
+        try {
+            connection.setSoLinger(true, 0);
+            connection.close();
+        } catch (IOException ignored) {
+            // 이미 닫힌 연결
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                int length = line.size();
+                byte[] bytes = line.toByteArray();
+                return new String(bytes, 0, length > 0 && bytes[length - 1] == '\r' ? length - 1 : length,
+                        StandardCharsets.US_ASCII);
+            }
+            line.write(b);
+        }
+        if (line.size() > 0) {
+            throw new EOFException("Connection closed mid-line");
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized void close() {
+        stopAccepting();
+        workers.shutdownNow();
+    }
+}
@@ -1,12 +1,19 @@
 package com.cholog.logger.appender;
 
+import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.classic.spi.IThrowableProxy;
 import ch.qos.logback.classic.spi.StackTraceElementProxy;
 import ch.qos.logback.core.AppenderBase;
 import com.cholog.logger.config.LogServerProperties;
+import com.cholog.logger.filter.RequestLogContext;
+import com.cholog.logger.filter.RequestQueryStats;
+import com.cholog.logger.filter.RequestResourceUsage;
+import com.cholog.logger.filter.RequestStackSamples;
 import com.cholog.logger.service.LogSenderService;
+import com.cholog.logger.service.MessageTemplates;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.helpers.MessageFormatter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
@@ -19,10 +26,15 @@ import java.lang.management.ThreadMXBean;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * CHO:LOG Logging Library의 핵심 클래스로, Logback 프레임워크의 Appender 역할을 합니다.
@@ -88,6 +100,12 @@ public class CentralLogAppender extends AppenderBase<ILoggingEvent> {
     private String ipAddress;
     private String serverPort;
 
+    // 배치 봉투 사용 여부 (true면 공통 필드를 이벤트마다 쓰지 않고 배치 헤더로 한 번만 전송)
+    private final boolean sharedFieldsInHeader;
+
+    // 메시지 템플릿 저장소 (null이면 포맷팅된 메시지를 그대로 전송)
+    private final MessageTemplates messageTemplates;
+
     // 시스템 메트릭 수집을 위한 MXBean 필드
     private final OperatingSystemMXBean osBean;
     private final MemoryMXBean memoryBean;
@@ -123,6 +141,17 @@ public class CentralLogAppender extends AppenderBase<ILoggingEvent> {
 
         // 서버 정보 초기화
         initializeServerInfo();
+
+        // 배치 봉투: 프로세스마다 같은 필드는 배치 헤더로 한 번만 전송 (API 키는 X-API-Key 요청 헤더로 전송됨)
+        if (properties.isBatchEnvelopeEnabled()) {
+            Map<String, Object> header = new LinkedHashMap<>();
+            putSharedFields(header);
+            this.sharedFieldsInHeader = logSenderService.useBatchEnvelope(header);
+        } else {
+            this.sharedFieldsInHeader = false;
+        }
+        this.messageTemplates = sharedFieldsInHeader && properties.isMessageTemplatesEnabled()
+                ? logSenderService.useMessageTemplates() : null;
     }
 
     /**
@@ -165,6 +194,42 @@ public class CentralLogAppender extends AppenderBase<ILoggingEvent> {
         addInfo("CentralLogAppender started successfully");
     }
 
+    /**
+     * 프로세스마다 같은 애플리케이션 정보(서비스 이름, 버전, 활성 프로필)와 서버 정보(호스트 이름, IP 주소, 포트)를 추가합니다.
+     * 배치 봉투를 사용하면 배치 헤더에, 아니면 이벤트마다 추가됩니다.
+     *
+     * @param target 필드를 추가할 맵
+     */
+    private void putSharedFields(Map<String, Object> target) {
+        String serviceName = properties.getServiceName();
+        // 서비스 이름이 설정되지 않았을 경우 기본값 사용
+        target.put("serviceName", serviceName != null && !serviceName.isEmpty() ? serviceName : "unknown-service");
+
+        // 버전 정보 추가
+        String version = environment.getProperty("app.version");
+        if (version != null) {
+            target.put("version", version);
+        }
+
+        // Spring 활성 프로필 정보 추가
+        String[] activeProfiles = environment.getActiveProfiles();
+        if (activeProfiles.length > 0) {
+            target.put("environment", String.join(",", activeProfiles));
+        } else {
+            // 기본 프로필이 사용 중인 경우
+            String[] defaultProfiles = environment.getDefaultProfiles();
+            if (defaultProfiles.length > 0) {
+                target.put("environment", String.join(",", defaultProfiles));
+            } else {
+                target.put("environment", "default");
+            }
+        }
+
+        target.put("hostName", this.hostName);
+        target.put("ipAddress", this.ipAddress);
+        target.put("serverPort", this.serverPort);
+    }
+
     /**
      * Appender 초기화 시 서버의 호스트 이름, IP 주소, 포트 번호를 조회하여 내부 필드에 저장합니다.
      * 포트 번호는 Spring Environment를 통해 주입된 값을 사용합니다.
@@ -231,8 +296,8 @@ public class CentralLogAppender extends AppenderBase<ILoggingEvent> {
 
     /**
      * Logback에 의해 호출되는 핵심 메소드. 로그 이벤트를 받아 처리합니다.
-     * 설정된 로그 레벨({@link LogServerProperties#getLogLevel()}) 이상의 이벤트만 처리하며,
-     * 각종 정보를 수집/보강하여 JSON으로 변환 후 {@link LogSenderService#addToQueue(String)}로 전송 요청합니다.
+     * 설정된 로그 레벨({@link LogServerProperties#getLogLevel()}) 이상의 이벤트만 처리하며(WARN 미만은 {@link LogServerProperties#getSampleRate()} 비율로 샘플링),
+     * 각종 정보를 수집/보강하여 JSON으로 변환 후 {@link LogSenderService#addToQueue(String, Level)}로 전송 요청합니다.
      * <p>
      * v1.0.3부터는 {@link com.cholog.logger.filter.RequestTimingFilter}에 의해 MDC에 저장된 `requestId`가 있다면,
      * 이를 추출하여 모든 로그(Tomcat/Servlet 컨테이너 자체 에러 로그 포함)의 `requestId` 필드에 주입합니다.
@@ -251,6 +316,16 @@ public class CentralLogAppender extends AppenderBase<ILoggingEvent> {
             return;
         }
 
+        // 2-1. 샘플링: WARN 미만 로그는 sampleRate 비율만 전송 (WARN 이상과 요약 이벤트는 항상 전송)
+        double sampleRate = properties.getSampleRate();
+        if (sampleRate < 1.0 && !event.getLevel().isGreaterOrEqual(Level.WARN)
+                && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            ChildLogEvent sampledEvent = findChildEvent(event);
+            if (sampledEvent == null || !sampledEvent.isExemptFromSampling()) {
+                return;
+            }
+        }
+
         try {
             // 3. 최종 로그 데이터 담을 Map 생성
             Map<String, Object> logData = new HashMap<>();
@@ -260,7 +335,9 @@ public class CentralLogAppender extends AppenderBase<ILoggingEvent> {
             logData.put("level", event.getLevel().toString());
             String eventLoggerName = event.getLoggerName();
             logData.put("logger", eventLoggerName);
-            logData.put("message", event.getFormattedMessage()); // 포맷팅된 메시지 사용
+            if (!putMessageTemplate(logData, event)) {
+                logData.put("message", event.getFormattedMessage()); // 포맷팅된 메시지 사용
+            }
             logData.put("thread", event.getThreadName());
 
             // source 추가 (backend)
@@ -269,64 +346,54 @@ public class CentralLogAppender extends AppenderBase<ILoggingEvent> {
             // 시퀀스 번호 추가 (설정이 활성화된 경우)
             logData.put("sequence", 1L);
 
-            // 5. 애플리케이션 정보 추가
+            // 5~6. 애플리케이션/서버 정보 추가 (배치 봉투를 사용하면 배치 헤더로 한 번만 전송)
             String serviceName = properties.getServiceName();
-            if (serviceName != null && !serviceName.isEmpty()) {
-                logData.put("serviceName", serviceName);
-            } else {
-                // 서비스 이름이 설정되지 않았을 경우 기본값이나 경고 메시지
-                logData.put("serviceName", "unknown-service");
+            if (serviceName == null || serviceName.isEmpty()) {
                 addWarn("서비스 이름(service-name)이 설정되지 않았습니다. 'cholog.logger.service-name' 속성을 설정하세요.");
             }
-//            logData.put("environment", properties.getEnvironment());
-            
-            // 버전 정보 추가
-            String version = environment.getProperty("app.version");
-            if (version != null) {
-                logData.put("version", version);
-            }
-            
-            // Spring 활성 프로필 정보 추가
-            String[] activeProfiles = environment.getActiveProfiles();
-            if (activeProfiles.length > 0) {
-                logData.put("environment", String.join(",", activeProfiles));
-            } else {
-                // 기본 프로필이 사용 중인 경우
-                String[] defaultProfiles = environment.getDefaultProfiles();
-                if (defaultProfiles.length > 0) {
-                    logData.put("environment", String.join(",", defaultProfiles));
-                } else {
-                    logData.put("environment", "default");
-                }
-            }
-
-            // 6. 서버 정보 추가
-            logData.put("hostName", this.hostName);
-            logData.put("ipAddress", this.ipAddress);
-            logData.put("serverPort", this.serverPort);
+            if (!sharedFieldsInHeader) {
+                putSharedFields(logData);
 
-            // API 키를 apiKey 필드에 추가
-            String apiKey = properties.getApiKey();
-            if (apiKey != null && !apiKey.trim().isEmpty()) {
-                logData.put("apiKey", apiKey);
+                // API 키를 apiKey 필드에 추가
+                String apiKey = properties.getApiKey();
+                if (apiKey != null && !apiKey.trim().isEmpty()) {
+                    logData.put("apiKey", apiKey);
+                }
             }
 
             // 7. 시스템 성능 메트릭 수집 (CPU, Memory, Threads) - 요청 시간은 나중에 처리
             Map<String, Object> systemMetrics = collectSystemMetrics(event);
 
             // 8. MDC(Mapped Diagnostic Context) 정보 처리
+            // 요청 처리 스레드라면 RequestTimingFilter가 바인딩한 요청 컨텍스트를 그대로 사용 (JSON 재파싱 없음)
+            // 자식 로그(외부 호출, 느린 SQL 등)는 부모 요청의 HTTP 정보 대신 이벤트 필드만 기록 (requestId로 부모 요청과 연결)
+            ChildLogEvent childEvent = findChildEvent(event);
             Map<String, String> mdcProperties = event.getMDCPropertyMap();
-            if (mdcProperties != null && !mdcProperties.isEmpty()) {
+            RequestLogContext requestContext = childEvent == null ? RequestLogContext.current() : null;
+            if (mdcProperties == null) {
+                mdcProperties = Collections.emptyMap();
+            }
+            if (!mdcProperties.isEmpty() || requestContext != null) {
                 Map<String, Object> mdcForOutput = new HashMap<>();
-                Map<String, String> headers = new HashMap<>();
+                Map<String, String> headers = Collections.emptyMap();
 
-                // 8a. MDC에서 핵심 정보 추출하여 루트 필드로 저장 (중복 방지)
+                // 8a. 요청 컨텍스트(없으면 MDC)에서 핵심 정보 추출하여 루트 필드로 저장 (중복 방지)
                 String requestIdFromMDC = mdcProperties.get(REQUEST_ID_MDC_KEY);
                 String requestMethod = mdcProperties.get(REQUEST_METHOD_MDC_KEY);
                 String requestUri = mdcProperties.get(REQUEST_URI_MDC_KEY);
                 String clientIp = mdcProperties.get(REQUEST_CLIENT_IP_MDC_KEY);
                 String userAgent = mdcProperties.get(REQUEST_USER_AGENT_MDC_KEY);
                 String statusStr = mdcProperties.get(HTTP_STATUS_MDC_KEY);
+                if (childEvent != null && childEvent.getRequestId() != null) {
+                    requestIdFromMDC = childEvent.getRequestId();
+                }
+                if (requestContext != null) {
+                    if (requestIdFromMDC == null) requestIdFromMDC = requestContext.getRequestId();
+                    if (requestMethod == null) requestMethod = requestContext.getMethod();
+                    if (requestUri == null) requestUri = requestContext.getUri();
+                    if (clientIp == null) clientIp = requestContext.getClientIp();
+                    if (userAgent == null) userAgent = requestContext.getUserAgent();
+                }
 
                 // 현재 스레드 이름
                 String threadName = event.getThreadName();
@@ -335,8 +402,8 @@ public class CentralLogAppender extends AppenderBase<ILoggingEvent> {
                 if (requestIdFromMDC != null) {
                     // MDC에 requestId가 있으면 스레드별 맵에 저장
                     threadRequestIdMap.put(threadName, requestIdFromMDC);
-                } else {
-                    // MDC에 requestId가 없으면 스레드별 맵에서 조회
+                } else if (childEvent == null) {
+                    // MDC에 requestId가 없으면 스레드별 맵에서 조회 (자식 로그는 다른 요청의 ID가 붙지 않도록 제외)
                     requestIdFromMDC = threadRequestIdMap.get(threadName);
                 }
 
@@ -351,6 +418,7 @@ public class CentralLogAppender extends AppenderBase<ILoggingEvent> {
                 // HTTP 정보는 http 객체에만 추가 (루트에는 추가하지 않음)
                 if (requestMethod != null) httpData.put("requestMethod", requestMethod);
                 if (requestUri != null) httpData.put("requestUri", requestUri);
+                if (requestContext != null) httpData.put("route", requestContext.getRoute()); // 집계용 경로 템플릿
                 if (clientIp != null) logData.put("clientIp", clientIp); // clientIp는 루트에 유지
 
                 // HTTP 상태 코드 처리 (숫자로 변환)
@@ -371,6 +439,19 @@ public class CentralLogAppender extends AppenderBase<ILoggingEvent> {
                     } catch (NumberFormatException e) {
                         addWarn("Could not parse responseTime from MDC: " + responseTimeStr);
                     }
+                    // 요청 완료 로그에 요청 중 실행된 SQL 통계 추가 (JDBC 계측이 켜져 있을 때만 값이 있음)
+                    if (requestContext != null) {
+                        addQueryStats(httpData, requestContext.getQueryStats());
+                        addResourceUsage(httpData, requestContext.getResourceUsage());
+                        // 처리 시간이 기준을 넘긴 요청의 스택 샘플 추가 (느린 요청 샘플링이 켜져 있을 때만 값이 있음)
+                        RequestStackSamples stackSamples = requestContext.getStackSamples();
+                        if (stackSamples != null) {
+                            Map<String, Object> stackSampleData = stackSamples.toMap();
+                            stackSampleData.put("thresholdMs", properties.getSlowRequestThresholdMs());
+                            stackSampleData.put("sampleIntervalMs", properties.getSlowRequestSampleIntervalMs());
+                            logData.put("stackSamples", stackSampleData);
+                        }
+                    }
                 }
 
                 // HTTP 데이터가 비어있지 않으면 로그에 추가
@@ -383,52 +464,17 @@ public class CentralLogAppender extends AppenderBase<ILoggingEvent> {
                     logData.put("userAgent", userAgent);
                 }
 
-                // 8b. request_headers 처리 - 헤더 객체로 통합, 중복 방지
-                String headerJsonStr = mdcProperties.get("request_headers");
-                if (headerJsonStr != null && !headerJsonStr.isEmpty() && !headerJsonStr.equals("{}")) {
-                    try {
-                        // JSON 문자열에서 헤더 맵으로 변환
-                        headers = objectMapper.readValue(headerJsonStr,
-                                objectMapper.getTypeFactory().constructMapType(HashMap.class, String.class, String.class));
-
-                        // 중요 헤더 정보 추출 (sec-ch-ua-mobile, sec-ch-ua-platform 등)
-                        String uaMobile = headers.get("sec-ch-ua-mobile");
-                        if (uaMobile != null) {
-                            logData.put("uaMobile", !uaMobile.replace("?", "").equals("0"));
-                        }
-
-                        String uaPlatform = headers.get("sec-ch-ua-platform");
-                        if (uaPlatform != null) {
-                            // "Windows" 같은 형식으로 따옴표 제거
-                            logData.put("uaPlatform", uaPlatform.replace("\"", ""));
-                        }
-
-                        // UserAgent 필드가 아직 없으면 헤더에서 가져옴
-                        if (userAgent == null) {
-                            userAgent = headers.get("user-agent");
-                            if (userAgent != null) {
-                                logData.put("userAgent", userAgent);
-                            }
-                        } else {
-                            logData.put("userAgent", userAgent);
-                        }
-                    } catch (Exception e) {
-                        addWarn("Failed to parse request_headers JSON: " + headerJsonStr, e);
+                // 8b. 요청 헤더/파라미터 처리 - 필터에서 이미 마스킹된 읽기 전용 맵을 그대로 사용
+                if (requestContext != null) {
+                    headers = requestContext.getHeaders();
+                    if (requestContext.getUaMobile() != null) {
+                        logData.put("uaMobile", requestContext.getUaMobile());
                     }
-                }
-
-                // 요청 매개변수 포함 (있는 경우)
-                String requestParams = mdcProperties.get("request_params");
-                if (requestParams != null && !requestParams.isEmpty() && !requestParams.equals("{}")) {
-                    try {
-                        // JSON 문자열을 객체로 변환하여 저장
-                        Map<String, Object> paramsMap = objectMapper.readValue(requestParams,
-                                objectMapper.getTypeFactory().constructMapType(HashMap.class, String.class, Object.class));
-                        logData.put("requestParams", paramsMap);
-                    } catch (Exception e) {
-                        // 파싱 실패 시 원래 문자열 그대로 사용
-                        addWarn("Failed to parse request_params JSON: " + requestParams, e);
-                        logData.put("requestParams", requestParams);
+                    if (requestContext.getUaPlatform() != null) {
+                        logData.put("uaPlatform", requestContext.getUaPlatform());
+                    }
+                    if (!requestContext.getParams().isEmpty()) {
+                        logData.put("requestParams", requestContext.getParams());
                     }
                 }
 
@@ -479,6 +525,14 @@ public class CentralLogAppender extends AppenderBase<ILoggingEvent> {
                 }
             }
 
+            // 8d. 자식 로그 정보 추가 (MDC가 비어 있는 스레드에서 기록된 경우에도 부모 요청 ID 유지)
+            if (childEvent != null) {
+                logData.put(childEvent.getFieldName(), childEvent.toMap());
+                if (childEvent.getRequestId() != null) {
+                    logData.put("requestId", childEvent.getRequestId());
+                }
+            }
+
             // 9. 성능 메트릭 추가 (responseTime 제외 - http 객체로 이동됨)
             if (!systemMetrics.isEmpty()) {
                 logData.put("performanceMetrics", systemMetrics);
@@ -614,7 +668,7 @@ public class CentralLogAppender extends AppenderBase<ILoggingEvent> {
             String jsonLog = objectMapper.writeValueAsString(logData);
 
             // 12. LogSenderService의 큐에 추가하여 비동기 전송 요청
-            logSenderService.addToQueue(jsonLog);
+            logSenderService.addToQueue(jsonLog, event.getLevel());
 
         } catch (Exception e) {
             // Appender 내부에서 심각한 오류 발생 시 Logback 상태 시스템에 에러 기록
@@ -622,6 +676,97 @@ public class CentralLogAppender extends AppenderBase<ILoggingEvent> {
         }
     }
 
+    /**
+     * 요청 중 실행된 SQL 통계를 http 객체에 추가합니다. 실행된 SQL이 없으면 아무것도 추가하지 않습니다.
+     * 같은 쿼리 지문이 {@code jdbcRepeatedQueryThreshold}번 이상 실행되었으면 N+1 의심 쿼리로 함께 기록합니다.
+     */
+    private void addQueryStats(Map<String, Object> httpData, RequestQueryStats queryStats) {
+        if (queryStats.getQueryCount() == 0) {
+            return;
+        }
+        httpData.put("dbTimeMs", Math.round(queryStats.getTotalTimeMillis() * 1000) / 1000.0);
+        httpData.put("dbQueryCount", queryStats.getQueryCount());
+        int repeatedThreshold = properties.getJdbcRepeatedQueryThreshold();
+        if (repeatedThreshold > 0 && queryStats.getMostRepeatedCount() >= repeatedThreshold) {
+            httpData.put("dbRepeatedQuery", queryStats.getMostRepeatedFingerprint());
+            httpData.put("dbRepeatedQueryCount", queryStats.getMostRepeatedCount());
+        }
+    }
+
+    /**
+     * 요청 처리에 사용한 CPU 시간과 힙 할당량을 http 객체에 추가합니다. 측정하지 않았거나 측정할 수 없는 항목은 추가하지 않습니다.
+     */
+    private static void addResourceUsage(Map<String, Object> httpData, RequestResourceUsage resourceUsage) {
+        if (resourceUsage == null) {
+            return;
+        }
+        if (resourceUsage.isCpuTimeMeasured()) {
+            httpData.put("cpuTimeMs", Math.round(resourceUsage.getCpuTimeMillis() * 1000) / 1000.0);
+        }
+        if (resourceUsage.isAllocationMeasured()) {
+            httpData.put("allocatedBytes", resourceUsage.getAllocatedBytes());
+        }
+    }
+
+    /**
+     * 메시지 템플릿을 사용하면 포맷팅된 메시지 대신 템플릿 ID와 인자 문자열을 추가합니다.
+     * 인자는 SLF4J가 메시지를 만들 때와 같은 문자열로 바꾸므로, 로그 서버가 같은 {@code MessageFormatter}로 같은 메시지를 만듭니다.
+     * 인자가 없는 로그, 템플릿 수가 최대에 이른 경우, 인자를 문자열로 바꾸지 못한 경우, 자식 로그 객체가 메시지에 쓰인 경우에는 아무것도 추가하지 않습니다.
+     *
+     * @return 템플릿 ID와 인자를 추가했으면 true
+     */
+    private boolean putMessageTemplate(Map<String, Object> logData, ILoggingEvent event) {
+        if (messageTemplates == null) {
+            return false;
+        }
+        String template = event.getMessage();
+        Object[] arguments = event.getArgumentArray();
+        if (template == null || arguments == null) {
+            return false;
+        }
+        // 마지막 인자로 전달된 ChildLogEvent는 보통 메시지에 쓰이지 않음
+        boolean childEvent = findChildEvent(event) != null;
+        int argumentCount = childEvent ? arguments.length - 1 : arguments.length;
+        if (argumentCount == 0) {
+            return false;
+        }
+        List<String> args = new ArrayList<>(argumentCount);
+        try {
+            for (int i = 0; i < argumentCount; i++) {
+                Object argument = arguments[i];
+                args.add(argument != null && argument.getClass().isArray()
+                        ? MessageFormatter.arrayFormat("{}", new Object[]{argument}).getMessage()
+                        : String.valueOf(argument));
+            }
+        } catch (RuntimeException e) {
+            return false; // toString() 실패: SLF4J와 같은 결과를 보장할 수 없으므로 포맷팅된 메시지 사용
+        }
+        // ChildLogEvent가 자리표시자에 쓰인 경우: 인자에서 뺀 메시지가 달라지므로 포맷팅된 메시지 사용
+        if (childEvent && !MessageFormatter.arrayFormat(template, args.toArray()).getMessage()
+                .equals(event.getFormattedMessage())) {
+            return false;
+        }
+        int templateId = messageTemplates.idOf(template);
+        if (templateId < 0) {
+            return false;
+        }
+        logData.put(MessageTemplates.TEMPLATE_ID_FIELD, templateId);
+        logData.put(MessageTemplates.ARGS_FIELD, args);
+        return true;
+    }
+
+    /**
+     * 로그의 마지막 인자로 전달된 {@link ChildLogEvent}를 찾습니다.
+     */
+    private static ChildLogEvent findChildEvent(ILoggingEvent event) {
+        Object[] arguments = event.getArgumentArray();
+        if (arguments == null || arguments.length == 0) {
+            return null;
+        }
+        Object last = arguments[arguments.length - 1];
+        return last instanceof ChildLogEvent ? (ChildLogEvent) last : null;
+    }
+
     // 맵 정리를 위한 메서드 (필요 시 주기적으로 호출할 수 있음)
     private void cleanupRequestIdMap() {
         if (threadRequestIdMap.size() > 1000) { // 맵 크기가 너무 크면 정리
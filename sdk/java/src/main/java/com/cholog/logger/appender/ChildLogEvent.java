@@ -0,0 +1,38 @@
+package com.cholog.logger.appender;
+
+import java.util.Map;
+
+/**
+ * 요청 처리 중 발생한 개별 작업(외부 HTTP 호출, 느린 SQL 등)을 부모 요청과 연결된 자식 로그로 기록하기 위한 인터페이스입니다.
+ *
+ * 로그 호출의 마지막 인자로 전달하면 {@link CentralLogAppender}가 {@link #getFieldName()} 필드에 {@link #toMap()} 결과를 기록하고,
+ * {@code requestId}를 {@link #getRequestId()}로 설정합니다. 자식 로그에는 부모 요청의 HTTP 정보와 헤더를 반복하지 않습니다.
+ * 경로별 응답 시간 요약처럼 특정 요청에 속하지 않는 구조화 이벤트도 같은 방식으로 기록합니다 ({@code requestId} 없음).
+ */
+public interface ChildLogEvent {
+
+    /**
+     * @return 부모 요청의 ID, 요청 처리 중이 아니었으면 {@code null}
+     */
+    String getRequestId();
+
+    /**
+     * @return 로그 JSON에서 이 이벤트 정보를 담을 필드 이름 (예: {@code outbound})
+     */
+    String getFieldName();
+
+    /**
+     * @return 로그 JSON에 기록할 이벤트 정보
+     */
+    Map<String, Object> toMap();
+
+    /**
+     * 로그 샘플링({@code sample-rate})과 관계없이 항상 전송해야 하는 이벤트인지 반환합니다.
+     * 여러 요청을 집계한 요약 이벤트처럼 샘플링으로 버리면 복구할 수 없는 이벤트에 사용합니다.
+     *
+     * @return 항상 전송하면 true (기본값 false)
+     */
+    default boolean isExemptFromSampling() {
+        return false;
+    }
+}
@@ -0,0 +1,134 @@
+package com.cholog.logger.client;
+
+import com.cholog.logger.appender.ChildLogEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 하나의 외부 HTTP 호출(outbound call) 결과를 담는 불변 객체입니다.
+ * {@link OutboundCallRecorder}가 호출 완료 로그의 인자로 전달하며,
+ * {@link com.cholog.logger.appender.CentralLogAppender}는 이 객체를 {@code outbound} 필드로 기록합니다.
+ * 부모 요청과는 {@code requestId}로 연결됩니다.
+ *
+ * @see OutboundCallRecorder
+ */
+public final class OutboundCall implements ChildLogEvent {
+
+    private final String requestId;
+    private final String client;
+    private final String method;
+    private final String host;
+    private final String route;
+    private final Integer status;
+    private final long durationMicros;
+    private final String errorClass;
+
+    OutboundCall(String requestId, String client, String method, String host, String route,
+                 Integer status, long durationMicros, String errorClass) {
+        this.requestId = requestId;
+        this.client = client;
+        this.method = method;
+        this.host = host;
+        this.route = route;
+        this.status = status;
+        this.durationMicros = durationMicros;
+        this.errorClass = errorClass;
+    }
+
+    /**
+     * @return 호출을 시작한 요청의 ID, 요청 처리 중이 아니었으면 {@code null}
+     */
+    @Override
+    public String getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * @return 호출에 사용한 클라이언트 ({@code RestTemplate}, {@code RestClient}, {@code WebClient})
+     */
+    public String getClient() {
+        return client;
+    }
+
+    /**
+     * @return HTTP 메소드
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return 대상 호스트 ({@code host} 또는 {@code host:port})
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return URI 템플릿의 경로 부분 (예: {@code /users/{id}}), 템플릿을 알 수 없으면 쿼리를 제외한 실제 경로
+     */
+    public String getRoute() {
+        return route;
+    }
+
+    /**
+     * @return 응답 상태 코드, 응답을 받지 못했으면 {@code null}
+     */
+    public Integer getStatus() {
+        return status;
+    }
+
+    /**
+     * @return 응답 헤더를 받을 때까지의 시간(µs)
+     */
+    public long getDurationMicros() {
+        return durationMicros;
+    }
+
+    /**
+     * @return 호출 중 발생한 예외 클래스 이름, 없으면 {@code null}
+     */
+    public String getErrorClass() {
+        return errorClass;
+    }
+
+    /**
+     * @return 오류 응답(5xx)을 받았거나 예외로 끝난 호출이면 true
+     */
+    public boolean isFailed() {
+        return errorClass != null || (status != null && status >= 500);
+    }
+
+    /**
+     * @return {@code outbound}
+     */
+    @Override
+    public String getFieldName() {
+        return "outbound";
+    }
+
+    /**
+     * 로그 JSON의 {@code outbound} 필드로 쓸 맵을 만듭니다.
+     *
+     * @return 호출 정보 맵
+     */
+    @Override
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("client", client);
+        map.put("method", method);
+        map.put("host", host);
+        if (route != null) {
+            map.put("route", route);
+        }
+        if (status != null) {
+            map.put("status", status);
+        }
+        map.put("durationMs", durationMicros / 1000.0);
+        if (errorClass != null) {
+            map.put("error", errorClass);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,182 @@
+package com.cholog.logger.client;
+
+import com.cholog.logger.appender.CentralLogAppender;
+import com.cholog.logger.config.LogServerProperties;
+import com.cholog.logger.filter.RequestLogContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+
+/**
+ * 외부 HTTP 호출 인터셉터들이 공유하는 기록기입니다.
+ *
+ * 호출이 끝날 때마다 대상 호스트별 응답 시간 분포({@link OutboundMetrics}, JMX {@value OutboundMetrics#OBJECT_NAME})에 누적하고,
+ * 설정에 따라 호출 완료 로그를 남깁니다. 호출 완료 로그는 {@link OutboundCall}을 인자로 전달하여
+ * {@link CentralLogAppender}가 {@code outbound} 필드와 부모 요청의 {@code requestId}로 기록하는 자식 이벤트입니다.
+ *
+ * @see OutboundClientHttpRequestInterceptor
+ * @see OutboundExchangeFilterFunction
+ */
+public class OutboundCallRecorder implements DisposableBean {
+
+    /** 요청 ID를 전파하는 헤더 ({@link com.cholog.logger.filter.RequestTimingFilter}가 읽는 헤더와 같음) */
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    private static final Logger log = LoggerFactory.getLogger(OutboundCallRecorder.class);
+
+    private final OutboundMetrics metrics;
+    private final boolean eventLogging;
+    private final long eventMinDurationMicros;
+    private boolean jmxRegistered;
+
+    /**
+     * 생성자를 통한 LogServerProperties 주입. 응답 시간 분포를 JMX에 등록합니다.
+     *
+     * @param properties 로그 서버 설정
+     */
+    public OutboundCallRecorder(LogServerProperties properties) {
+        this.metrics = new OutboundMetrics(properties.getOutboundMaxHosts());
+        this.eventLogging = properties.isOutboundEventLogging();
+        this.eventMinDurationMicros = Math.max(0, properties.getOutboundEventMinDurationMs()) * 1000;
+        registerJmxMetrics();
+    }
+
+    /**
+     * 현재 스레드에서 처리 중인 요청의 ID를 반환합니다.
+     * 요청 컨텍스트가 바인딩되어 있으면 그 값을, 없으면 MDC의 {@code requestId}를 사용합니다.
+     *
+     * @return 요청 ID, 요청 처리 중이 아니면 {@code null}
+     */
+    public static String currentRequestId() {
+        RequestLogContext context = RequestLogContext.current();
+        if (context != null) {
+            return context.getRequestId();
+        }
+        return MDC.get(CentralLogAppender.REQUEST_ID_MDC_KEY);
+    }
+
+    /**
+     * 완료된 외부 호출을 기록합니다.
+     *
+     * @param client      호출에 사용한 클라이언트 이름
+     * @param method      HTTP 메소드
+     * @param uri         실제 호출한 URI
+     * @param uriTemplate 호출에 사용한 URI 템플릿 (알 수 없으면 {@code null})
+     * @param requestId   부모 요청 ID (없으면 {@code null})
+     * @param status      응답 상태 코드 (응답을 받지 못했으면 {@code null})
+     * @param startNanos  호출 시작 시각 ({@link System#nanoTime()})
+     * @param error       호출 중 발생한 예외 (없으면 {@code null})
+     */
+    void record(String client, String method, URI uri, String uriTemplate, String requestId,
+                Integer status, long startNanos, Throwable error) {
+        try {
+            long durationMicros = (System.nanoTime() - startNanos) / 1_000;
+            OutboundCall call = new OutboundCall(requestId, client, method, hostOf(uri), routeOf(uriTemplate, uri),
+                    status, durationMicros, error != null ? error.getClass().getName() : null);
+            metrics.record(call);
+
+            if (!eventLogging || (!call.isFailed() && durationMicros < eventMinDurationMicros)) {
+                return;
+            }
+            // 마지막 인자(OutboundCall)는 메시지에 쓰이지 않고 CentralLogAppender가 outbound 필드로 기록
+            String message = call.getErrorClass() != null
+                    ? "Outbound Call: {} {}{} status={} duration={}ms error={}"
+                    : "Outbound Call: {} {}{} status={} duration={}ms";
+            Object[] arguments = {call.getMethod(), call.getHost(), call.getRoute(), call.getStatus(),
+                    durationMicros / 1000, call.getErrorClass(), call};
+            if (call.isFailed()) {
+                log.warn(message, arguments);
+            } else {
+                log.info(message, arguments);
+            }
+        } catch (Exception e) {
+            log.debug("Failed to record outbound call: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return 호스트별 응답 시간 분포
+     */
+    public OutboundMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * 호스트 이름과 기본 포트가 아닌 포트를 집계 키로 사용합니다.
+     */
+    static String hostOf(URI uri) {
+        String host = uri.getHost();
+        if (host == null) {
+            return "unknown";
+        }
+        return uri.getPort() != -1 ? host + ":" + uri.getPort() : host;
+    }
+
+    /**
+     * URI 템플릿(또는 실제 URI)에서 스킴, 호스트, 쿼리를 제외한 경로 부분을 꺼냅니다.
+     * 템플릿의 변수 자리({@code {id}})는 그대로 유지되므로 같은 API 호출은 같은 경로로 묶입니다.
+     */
+    static String routeOf(String uriTemplate, URI uri) {
+        if (uriTemplate == null) {
+            String path = uri.getRawPath();
+            return path != null && !path.isEmpty() ? path : "/";
+        }
+        String route = uriTemplate;
+        int scheme = route.indexOf("://");
+        if (scheme >= 0) {
+            int pathStart = route.indexOf('/', scheme + 3);
+            route = pathStart >= 0 ? route.substring(pathStart) : "/";
+        }
+        int end = route.length();
+        int query = route.indexOf('?');
+        if (query >= 0) {
+            end = query;
+        }
+        int fragment = route.indexOf('#');
+        if (fragment >= 0 && fragment < end) {
+            end = fragment;
+        }
+        route = route.substring(0, end);
+        return route.isEmpty() ? "/" : route;
+    }
+
+    private void registerJmxMetrics() {
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OutboundMetrics.OBJECT_NAME);
+            if (mbs.isRegistered(name)) {
+                mbs.unregisterMBean(name);
+            }
+            mbs.registerMBean(metrics, name);
+            jmxRegistered = true;
+            log.info("OutboundMetrics가 JMX에 등록되었습니다. 이름: {}", name);
+        } catch (Exception e) {
+            log.warn("OutboundMetrics JMX 등록 실패. 외부 호출 통계는 JMX로 조회할 수 없습니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * JMX에 등록한 응답 시간 분포를 해제합니다.
+     */
+    @Override
+    public void destroy() {
+        if (!jmxRegistered) {
+            return;
+        }
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OutboundMetrics.OBJECT_NAME);
+            if (mbs.isRegistered(name)) {
+                mbs.unregisterMBean(name);
+            }
+        } catch (Exception e) {
+            log.warn("JMX에서 OutboundMetrics 등록 해제 실패: {}", e.getMessage());
+        }
+    }
+}
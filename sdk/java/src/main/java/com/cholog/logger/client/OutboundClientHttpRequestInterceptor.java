@@ -0,0 +1,141 @@
+package com.cholog.logger.client;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriTemplateHandler;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * {@code RestTemplate}과 {@code RestClient}의 외부 HTTP 호출을 계측하는 인터셉터입니다.
+ *
+ * 현재 요청의 ID를 {@value OutboundCallRecorder#REQUEST_ID_HEADER} 헤더로 전파하고(이미 헤더가 있으면 유지),
+ * 응답 헤더를 받을 때까지의 시간과 상태 코드를 {@link OutboundCallRecorder}에 기록합니다.
+ * 경로 템플릿은 {@code RestClient}의 경우 요청 attribute에서, {@code RestTemplate}의 경우
+ * {@link #instrument(RestTemplate, OutboundCallRecorder)}가 감싼 {@link UriTemplateHandler}에서 얻습니다.
+ *
+ * @see OutboundCallRecorder
+ */
+public class OutboundClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    /** {@code RestClient}가 URI 템플릿을 저장하는 요청 attribute 이름 */
+    static final String REST_CLIENT_URI_TEMPLATE_ATTRIBUTE = RestClient.class.getName() + ".uriTemplate";
+
+    private final OutboundCallRecorder recorder;
+    private final String client;
+
+    /**
+     * 인터셉터를 생성합니다.
+     *
+     * @param recorder 외부 호출 기록기
+     * @param client   로그에 기록할 클라이언트 이름 (예: {@code RestClient})
+     */
+    public OutboundClientHttpRequestInterceptor(OutboundCallRecorder recorder, String client) {
+        this.recorder = recorder;
+        this.client = client;
+    }
+
+    /**
+     * {@link RestTemplate}에 인터셉터를 등록하고, 경로 템플릿을 얻기 위해 {@link UriTemplateHandler}를 감쌉니다.
+     * 이미 계측된 {@link RestTemplate}이면 아무것도 하지 않습니다.
+     *
+     * @param restTemplate 계측할 {@link RestTemplate}
+     * @param recorder     외부 호출 기록기
+     */
+    public static void instrument(RestTemplate restTemplate, OutboundCallRecorder recorder) {
+        for (ClientHttpRequestInterceptor interceptor : restTemplate.getInterceptors()) {
+            if (interceptor instanceof OutboundClientHttpRequestInterceptor) {
+                return;
+            }
+        }
+        restTemplate.getInterceptors().add(new OutboundClientHttpRequestInterceptor(recorder, "RestTemplate"));
+        restTemplate.setUriTemplateHandler(new TemplateCapturingHandler(restTemplate.getUriTemplateHandler()));
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String uriTemplate = uriTemplateOf(request);
+        String requestId = OutboundCallRecorder.currentRequestId();
+        if (requestId != null && !request.getHeaders().containsKey(OutboundCallRecorder.REQUEST_ID_HEADER)) {
+            request.getHeaders().set(OutboundCallRecorder.REQUEST_ID_HEADER, requestId);
+        }
+
+        long startTime = System.nanoTime();
+        ClientHttpResponse response = null;
+        Throwable error = null;
+        try {
+            response = execution.execute(request, body);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            recorder.record(client, request.getMethod().name(), request.getURI(), uriTemplate, requestId,
+                    statusOf(response), startTime, error);
+        }
+    }
+
+    private static String uriTemplateOf(HttpRequest request) {
+        Object attribute = request.getAttributes().get(REST_CLIENT_URI_TEMPLATE_ATTRIBUTE);
+        if (attribute instanceof String) {
+            return (String) attribute;
+        }
+        return TemplateCapturingHandler.take(request.getURI());
+    }
+
+    private static Integer statusOf(ClientHttpResponse response) {
+        if (response == null) {
+            return null;
+        }
+        try {
+            return response.getStatusCode().value();
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * {@link RestTemplate}이 URI 템플릿을 확장할 때 템플릿과 결과 URI를 현재 스레드에 기록하는 핸들러입니다.
+     * {@link RestTemplate}은 확장 직후 같은 스레드에서 요청을 실행하므로, 인터셉터는 URI가 같을 때만 템플릿을 사용합니다.
+     */
+    private static final class TemplateCapturingHandler implements UriTemplateHandler {
+
+        private static final ThreadLocal<Object[]> LAST_EXPANDED = new ThreadLocal<>();
+
+        private final UriTemplateHandler delegate;
+
+        TemplateCapturingHandler(UriTemplateHandler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public URI expand(String uriTemplate, Map<String, ?> uriVariables) {
+            URI uri = delegate.expand(uriTemplate, uriVariables);
+            LAST_EXPANDED.set(new Object[]{uriTemplate, uri});
+            return uri;
+        }
+
+        @Override
+        public URI expand(String uriTemplate, Object... uriVariables) {
+            URI uri = delegate.expand(uriTemplate, uriVariables);
+            LAST_EXPANDED.set(new Object[]{uriTemplate, uri});
+            return uri;
+        }
+
+        static String take(URI uri) {
+            Object[] last = LAST_EXPANDED.get();
+            if (last == null) {
+                return null;
+            }
+            LAST_EXPANDED.remove();
+            return last[1].equals(uri) ? (String) last[0] : null;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.cholog.logger.client;
+
+import com.cholog.logger.filter.ReactiveRequestTimingFilter;
+import com.cholog.logger.filter.RequestLogContext;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@code WebClient}의 외부 HTTP 호출을 계측하는 필터입니다 ({@link OutboundClientHttpRequestInterceptor}의 WebClient 버전).
+ *
+ * 요청 ID는 구독 시점의 Reactor {@code Context}({@link ReactiveRequestTimingFilter})에서 먼저 찾고,
+ * 없으면 구독한 스레드의 요청 컨텍스트나 MDC에서 찾습니다(서블릿 요청 처리 중 {@code block()}으로 호출하는 경우).
+ * 응답 헤더를 받을 때까지의 시간과 상태 코드를 기록하며, 경로 템플릿은 {@code WebClient}가 저장하는 요청 attribute에서 얻습니다.
+ *
+ * @see OutboundCallRecorder
+ */
+public class OutboundExchangeFilterFunction implements ExchangeFilterFunction {
+
+    /** {@code WebClient}가 URI 템플릿을 저장하는 요청 attribute 이름 */
+    static final String WEB_CLIENT_URI_TEMPLATE_ATTRIBUTE = WebClient.class.getName() + ".uriTemplate";
+
+    private final OutboundCallRecorder recorder;
+
+    /**
+     * 필터를 생성합니다.
+     *
+     * @param recorder 외부 호출 기록기
+     */
+    public OutboundExchangeFilterFunction(OutboundCallRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(context -> {
+            RequestLogContext requestContext = ReactiveRequestTimingFilter.fromContext(context);
+            String requestId = requestContext != null
+                    ? requestContext.getRequestId() : OutboundCallRecorder.currentRequestId();
+            ClientRequest outgoing = request;
+            if (requestId != null && !request.headers().containsKey(OutboundCallRecorder.REQUEST_ID_HEADER)) {
+                outgoing = ClientRequest.from(request).header(OutboundCallRecorder.REQUEST_ID_HEADER, requestId).build();
+            }
+            String uriTemplate = (String) request.attribute(WEB_CLIENT_URI_TEMPLATE_ATTRIBUTE).orElse(null);
+
+            long startTime = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean(); // 완료 후 취소 신호가 와도 한 번만 기록
+            return next.exchange(outgoing)
+                    .doOnSuccess(response -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            recorder.record("WebClient", request.method().name(), request.url(), uriTemplate, requestId,
+                                    response != null ? response.statusCode().value() : null, startTime, null);
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            recorder.record("WebClient", request.method().name(), request.url(), uriTemplate, requestId,
+                                    null, startTime, error);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            recorder.record("WebClient", request.method().name(), request.url(), uriTemplate, requestId,
+                                    null, startTime, null);
+                        }
+                    });
+        });
+    }
+}
@@ -0,0 +1,120 @@
+package com.cholog.logger.client;
+
+import com.cholog.logger.metrics.LatencyHistogram;
+
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+import javax.management.openmbean.TabularType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OutboundMetricsMBean 인터페이스를 구현하는 클래스입니다.
+ * 외부 HTTP 호출의 응답 시간을 대상 호스트별 {@link LatencyHistogram}에 누적합니다.
+ *
+ * 호스트 수는 {@code maxHosts}로 제한되며, 한도를 넘는 새 호스트는 {@value #OTHER_HOST} 항목에 함께 집계됩니다.
+ */
+public class OutboundMetrics implements OutboundMetricsMBean {
+
+    /** JMX 등록 이름 */
+    public static final String OBJECT_NAME = "com.cholog.logger:type=OutboundMetrics";
+
+    /** 호스트 수 한도를 넘은 호출을 모으는 항목 이름 */
+    static final String OTHER_HOST = "_other";
+
+    // 호스트별 통계 표 형식
+    private static final String[] HOST_STAT_NAMES = {
+            "host", "calls", "errors", "meanMs", "p50Ms", "p90Ms", "p99Ms", "maxMs"};
+    private static final TabularType HOST_STATS_TYPE = createHostStatsType();
+
+    private final int maxHosts;
+    private final Map<String, HostStats> hosts = new ConcurrentHashMap<>();
+
+    /**
+     * OutboundMetrics의 새 인스턴스를 생성합니다.
+     *
+     * @param maxHosts 개별로 집계할 최대 호스트 수
+     */
+    public OutboundMetrics(int maxHosts) {
+        this.maxHosts = Math.max(1, maxHosts);
+    }
+
+    /**
+     * 외부 호출 하나를 기록합니다.
+     *
+     * @param call 완료된 외부 호출
+     */
+    void record(OutboundCall call) {
+        HostStats stats = hosts.get(call.getHost());
+        if (stats == null) {
+            String key = hosts.size() < maxHosts ? call.getHost() : OTHER_HOST;
+            stats = hosts.computeIfAbsent(key, k -> new HostStats());
+        }
+        stats.histogram.record(call.getDurationMicros());
+        if (call.isFailed()) {
+            stats.errors.increment();
+        }
+    }
+
+    @Override
+    public TabularData getHostStats() {
+        TabularDataSupport table = new TabularDataSupport(HOST_STATS_TYPE);
+        hosts.forEach((host, stats) -> {
+            LatencyHistogram.Snapshot snapshot = stats.histogram.snapshot();
+            try {
+                table.put(new CompositeDataSupport(HOST_STATS_TYPE.getRowType(), HOST_STAT_NAMES, new Object[]{
+                        host,
+                        snapshot.getCount(),
+                        stats.errors.sum(),
+                        snapshot.getMeanMillis(),
+                        snapshot.percentileMillis(50),
+                        snapshot.percentileMillis(90),
+                        snapshot.percentileMillis(99),
+                        snapshot.getMaxMillis()
+                }));
+            } catch (OpenDataException e) {
+                // 행 형식이 고정되어 있으므로 발생하지 않음
+            }
+        });
+        return table;
+    }
+
+    @Override
+    public long getTotalCalls() {
+        long total = 0;
+        for (HostStats stats : hosts.values()) {
+            total += stats.histogram.count();
+        }
+        return total;
+    }
+
+    @Override
+    public void reset() {
+        hosts.clear();
+    }
+
+    private static TabularType createHostStatsType() {
+        try {
+            CompositeType rowType = new CompositeType("OutboundHostStats", "외부 호출 대상 호스트별 통계",
+                    HOST_STAT_NAMES,
+                    new String[]{"대상 호스트", "호출 수", "실패 수(예외 또는 5xx)", "평균 응답 시간(ms)",
+                            "p50 응답 시간(ms)", "p90 응답 시간(ms)", "p99 응답 시간(ms)", "최대 응답 시간(ms)"},
+                    new OpenType<?>[]{SimpleType.STRING, SimpleType.LONG, SimpleType.LONG, SimpleType.DOUBLE,
+                            SimpleType.DOUBLE, SimpleType.DOUBLE, SimpleType.DOUBLE, SimpleType.DOUBLE});
+            return new TabularType("OutboundHostStatsTable", "외부 호출 대상 호스트별 통계", rowType, new String[]{"host"});
+        } catch (OpenDataException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class HostStats {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+    }
+}
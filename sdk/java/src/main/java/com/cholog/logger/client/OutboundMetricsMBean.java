@@ -0,0 +1,30 @@
+package com.cholog.logger.client;
+
+import javax.management.openmbean.TabularData;
+
+/**
+ * 외부 HTTP 호출의 호스트별 응답 시간 분포를 JMX로 노출하기 위한 MBean 인터페이스입니다.
+ * 이름: {@code com.cholog.logger:type=OutboundMetrics}
+ */
+public interface OutboundMetricsMBean {
+
+    /**
+     * 대상 호스트별 호출 통계를 반환합니다.
+     * 행마다 호스트, 호출 수, 실패 수(예외 또는 5xx), 평균/p50/p90/p99/최대 응답 시간(ms)을 포함합니다.
+     *
+     * @return 호스트별 호출 통계 표
+     */
+    TabularData getHostStats();
+
+    /**
+     * 서비스 시작(또는 마지막 초기화) 이후 기록된 외부 호출의 총 수를 반환합니다.
+     *
+     * @return 외부 호출 수
+     */
+    long getTotalCalls();
+
+    /**
+     * 누적된 통계를 모두 초기화합니다.
+     */
+    void reset();
+}
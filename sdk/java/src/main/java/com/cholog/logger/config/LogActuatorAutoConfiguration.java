@@ -0,0 +1,36 @@
+package com.cholog.logger.config;
+
+import com.cholog.logger.service.LogSenderService;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 애플리케이션에 Spring Boot Actuator가 있을 때 로그 전송 설정 엔드포인트({@code /actuator/cholog})를 등록하는 자동 설정 클래스입니다.
+ * Actuator는 선택 의존성이므로, 없으면 이 설정은 적용되지 않습니다.
+ *
+ * @see LogSenderEndpoint
+ */
+@AutoConfiguration(after = LogAutoConfiguration.class)
+@ConditionalOnClass(Endpoint.class)
+@ConditionalOnBean(LogSenderService.class)
+@ConditionalOnProperty(prefix = "cholog.logger", name = "runtime-control-enabled", havingValue = "true", matchIfMissing = true)
+public class LogActuatorAutoConfiguration {
+
+    /**
+     * 로그 전송 설정 엔드포인트 빈을 생성합니다.
+     *
+     * @param logSenderService 로그 전송 서비스
+     * @return 생성된 {@link LogSenderEndpoint} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public LogSenderEndpoint logSenderEndpoint(LogSenderService logSenderService) {
+        // runtime-control-enabled=true이면 LogSenderService가 항상 설정 변경 객체를 생성함
+        return new LogSenderEndpoint(logSenderService.getControl());
+    }
+}
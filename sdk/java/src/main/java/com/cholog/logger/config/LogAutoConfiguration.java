@@ -3,11 +3,17 @@ package com.cholog.logger.config;
 import ch.qos.logback.classic.LoggerContext;
 import com.cholog.logger.appender.CentralLogAppender;
 import com.cholog.logger.filter.RequestBodyLoggingFilter;
+import com.cholog.logger.filter.RequestContextTaskDecorator;
 import com.cholog.logger.filter.RequestResponseLoggingFilter;
 import com.cholog.logger.filter.RequestTimingFilter;
+import com.cholog.logger.filter.SlowRequestWatchdog;
+import com.cholog.logger.metrics.RouteMetrics;
+import com.cholog.logger.metrics.RouteSummaryReporter;
 import com.cholog.logger.service.LogSenderService;
+import com.cholog.logger.service.RedactionEngine;
 import org.slf4j.ILoggerFactory;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -16,6 +22,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplicat
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
@@ -26,9 +33,10 @@ import org.springframework.web.filter.CorsFilter;
  *
  * 주요 기능:
  * - LogServerProperties 및 관련 설정 활성화
- * - LogSenderService 빈 생성
+ * - LogSenderService 및 공용 RedactionEngine 빈 생성
  * - CentralLogAppender 생성 및 Logback ROOT 로거에 등록
  * - HTTP 요청/응답을 로깅하기 위한 필터 등록
+ * - 경로별 응답 시간 분포 집계 및 주기별 요약 로그 기록
  * - 기본 CORS 설정 제공 (v1.8.6 추가)
  *
  * @author eddy1219
@@ -45,19 +53,34 @@ public class LogAutoConfiguration {
 
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(LogAutoConfiguration.class);
 
+    /**
+     * 민감 정보 탐지/마스킹 엔진 빈을 생성합니다.
+     * 세 개의 서블릿 필터와 {@link LogSenderService}가 이 인스턴스 하나를 공유하며,
+     * 키워드 오토마톤과 값 패턴은 생성 시점에 한 번만 컴파일됩니다.
+     *
+     * @param properties 로그 서버 접속 설정
+     * @return 생성된 {@link RedactionEngine} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public RedactionEngine redactionEngine(LogServerProperties properties) {
+        return new RedactionEngine(properties);
+    }
+
     /**
      * 로그 전송 서비스 빈을 생성합니다.
      * 이 서비스는 로그 메시지를 배치로 모아 중앙 로그 서버로 전송하는 역할을 합니다.
      *
-     * @param properties 로그 서버 접속 설정
+     * @param properties      로그 서버 접속 설정
+     * @param redactionEngine 민감 정보 마스킹 엔진 (자동 주입)
      * @return 생성된 {@link LogSenderService} 인스턴스
      */
     @Bean
     @ConditionalOnMissingBean
-    public LogSenderService logSenderService(LogServerProperties properties) {
+    public LogSenderService logSenderService(LogServerProperties properties, RedactionEngine redactionEngine) {
         log.info("CHO:LOG - Initializing LogSenderService bean...");
         // LogSenderService는 DisposableBean을 구현하므로, Spring이 종료 시 자동으로 destroy() 메소드를 호출하여 리소스를 정리합니다.
-        return new LogSenderService(properties);
+        return new LogSenderService(properties, redactionEngine);
     }
 
     /**
@@ -115,50 +138,125 @@ public class LogAutoConfiguration {
      * MDC에 저장된 정보는 후속 로그 이벤트에 자동으로 포함됩니다.
      * 서블릿 기반 웹 애플리케이션 환경 ({@link ConditionalOnWebApplication})에서만 생성됩니다.
      *
-     * @param properties 로그 서버 접속 설정 (자동 주입)
+     * @param properties          로그 서버 접속 설정 (자동 주입)
+     * @param redactionEngine     민감 정보 마스킹 엔진 (자동 주입)
+     * @param routeMetrics        경로별 응답 시간 분포 (경로 요약을 끈 경우 없음)
+     * @param slowRequestWatchdog 느린 요청 스택 샘플링 감시자 (느린 요청 샘플링을 끈 경우 없음)
      * @return 생성된 {@link RequestTimingFilter} 인스턴스
      */
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
-    public RequestTimingFilter requestTimingFilter(LogServerProperties properties) {
+    public RequestTimingFilter requestTimingFilter(LogServerProperties properties, RedactionEngine redactionEngine,
+                                                   ObjectProvider<RouteMetrics> routeMetrics,
+                                                   ObjectProvider<SlowRequestWatchdog> slowRequestWatchdog) {
         log.info("CHO:LOG - Initializing RequestTimingFilter bean for Servlet environment.");
-        return new RequestTimingFilter(properties);
+        return new RequestTimingFilter(properties, redactionEngine, routeMetrics.getIfAvailable(),
+                slowRequestWatchdog.getIfAvailable());
+    }
+
+    /**
+     * 처리 시간이 기준을 넘긴 요청의 처리 스레드 스택을 주기적으로 샘플링하는 {@link SlowRequestWatchdog} 빈을 생성합니다.
+     * 서블릿 기반 웹 애플리케이션에서 {@code cholog.logger.slow-request-sampling-enabled}가 true일 때만 생성됩니다.
+     *
+     * @param properties 로그 서버 접속 설정 (자동 주입)
+     * @return 생성된 {@link SlowRequestWatchdog} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(prefix = "cholog.logger", name = "slow-request-sampling-enabled", havingValue = "true")
+    public SlowRequestWatchdog slowRequestWatchdog(LogServerProperties properties) {
+        log.info("CHO:LOG - Initializing SlowRequestWatchdog bean. Sampling requests slower than {}ms every {}ms.",
+                properties.getSlowRequestThresholdMs(), properties.getSlowRequestSampleIntervalMs());
+        return new SlowRequestWatchdog(properties.getSlowRequestThresholdMs(), properties.getSlowRequestSampleIntervalMs(),
+                properties.getSlowRequestMaxStackDepth());
+    }
+
+    /**
+     * 요청 처리 스레드의 요청 컨텍스트와 MDC를 비동기 작업에 전파하는 {@link RequestContextTaskDecorator} 빈을 생성합니다.
+     * 서블릿 기반 웹 애플리케이션에서 {@code cholog.logger.async-context-propagation-enabled}가 false가 아니고,
+     * 애플리케이션에 {@link TaskDecorator} 빈이 없을 때만 생성됩니다. Spring Boot가 자동 구성하는 {@code applicationTaskExecutor}에 적용됩니다.
+     *
+     * @return 생성된 {@link RequestContextTaskDecorator} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean(TaskDecorator.class)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(prefix = "cholog.logger", name = "async-context-propagation-enabled", havingValue = "true", matchIfMissing = true)
+    public RequestContextTaskDecorator requestContextTaskDecorator() {
+        log.info("CHO:LOG - Initializing RequestContextTaskDecorator bean. Propagating request context to async tasks.");
+        return new RequestContextTaskDecorator();
+    }
+
+    /**
+     * 요청 타이밍 필터가 기록하는 경로별(메소드, 경로 템플릿, 상태 코드 대역) 응답 시간 분포 빈을 생성합니다.
+     * 웹 애플리케이션(서블릿, WebFlux)에서 {@code cholog.logger.route-summary-enabled}가 false가 아닐 때 생성됩니다.
+     *
+     * @param properties 로그 서버 접속 설정 (자동 주입)
+     * @return 생성된 {@link RouteMetrics} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnWebApplication
+    @ConditionalOnProperty(prefix = "cholog.logger", name = "route-summary-enabled", havingValue = "true", matchIfMissing = true)
+    public RouteMetrics routeMetrics(LogServerProperties properties) {
+        return new RouteMetrics(properties.getRouteSummaryMaxRoutes());
+    }
+
+    /**
+     * {@link RouteMetrics}를 주기마다 경로별 요약 로그로 기록하는 빈을 생성합니다.
+     *
+     * @param routeMetrics 경로별 응답 시간 분포 (자동 주입)
+     * @param properties   로그 서버 접속 설정 (자동 주입)
+     * @return 생성된 {@link RouteSummaryReporter} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnWebApplication
+    @ConditionalOnProperty(prefix = "cholog.logger", name = "route-summary-enabled", havingValue = "true", matchIfMissing = true)
+    public RouteSummaryReporter routeSummaryReporter(RouteMetrics routeMetrics, LogServerProperties properties) {
+        log.info("CHO:LOG - Initializing RouteSummaryReporter bean. Route summaries every {}s.",
+                properties.getRouteSummaryIntervalSeconds());
+        return new RouteSummaryReporter(routeMetrics, properties.getRouteSummaryIntervalSeconds());
     }
     
     /**
      * HTTP 요청 본문(body)을 로깅하기 위한 {@link RequestBodyLoggingFilter}의 빈을 생성합니다.
-     * 이 필터는 {@link org.springframework.web.util.ContentCachingRequestWrapper}를 사용하여 요청 본문을 캐시하며,
+     * 이 필터는 요청 본문 중 앞부분(컨텐츠 타입별 최대 크기)만 풀링된 버퍼에 복사하며,
      * {@code cholog.logger.request-body-logging=true} (기본값)일 때 활성화됩니다.
      * 서블릿 기반 웹 애플리케이션 환경에서만 생성됩니다.
      *
+     * @param properties      로그 서버 접속 설정 (자동 주입)
+     * @param redactionEngine 민감 정보 마스킹 엔진 (자동 주입)
      * @return 생성된 {@link RequestBodyLoggingFilter} 인스턴스
      */
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
     @ConditionalOnProperty(prefix = "cholog.logger", name = "request-body-logging", havingValue = "true", matchIfMissing = true)
-    public RequestBodyLoggingFilter requestBodyLoggingFilter() {
+    public RequestBodyLoggingFilter requestBodyLoggingFilter(LogServerProperties properties, RedactionEngine redactionEngine) {
         log.info("CHO:LOG - Initializing RequestBodyLoggingFilter bean for request body logging.");
-        return new RequestBodyLoggingFilter();
+        return new RequestBodyLoggingFilter(properties, redactionEngine);
     }
     
     /**
-     * HTTP 요청 및 응답의 상세 정보(헤더, 파라미터, 응답 본문 등)를 로깅하는
+     * HTTP 응답 본문을 스트리밍 방식으로 캡처하여 로깅하는
      * {@link RequestResponseLoggingFilter}의 빈을 생성합니다.
      * 이 필터는 {@code cholog.logger.request-response-logging=true} (기본값)일 때 활성화됩니다.
      * 서블릿 기반 웹 애플리케이션 환경에서만 생성됩니다.
      *
-     * @param properties 로그 서버 접속 설정 (자동 주입)
+     * @param properties      로그 서버 접속 설정 (자동 주입)
+     * @param redactionEngine 민감 정보 마스킹 엔진 (자동 주입)
      * @return 생성된 {@link RequestResponseLoggingFilter} 인스턴스
      */
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
     @ConditionalOnProperty(prefix = "cholog.logger", name = "request-response-logging", havingValue = "true", matchIfMissing = true)
-    public RequestResponseLoggingFilter requestResponseLoggingFilter(LogServerProperties properties) {
+    public RequestResponseLoggingFilter requestResponseLoggingFilter(LogServerProperties properties, RedactionEngine redactionEngine) {
         log.info("CHO:LOG - Initializing RequestResponseLoggingFilter bean for detailed request/response logging.");
-        return new RequestResponseLoggingFilter(properties);
+        return new RequestResponseLoggingFilter(properties, redactionEngine);
     }
     
     /**
@@ -0,0 +1,58 @@
+package com.cholog.logger.config;
+
+import com.cholog.logger.jdbc.QueryRecorder;
+import com.cholog.logger.jdbc.TracingDataSourceBeanPostProcessor;
+import com.cholog.logger.service.LogSenderService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * JDBC 쿼리 계측을 등록하는 자동 설정 클래스입니다.
+ * 애플리케이션의 {@link DataSource} 빈을 {@link com.cholog.logger.jdbc.TracingDataSource}로 감싸
+ * SQL 실행 시간을 요청별로 누적하고, 느린 쿼리를 자식 로그로 기록합니다.
+ * 선택 기능이므로 {@code cholog.logger.jdbc-tracing-enabled=true}이고 {@code spring-jdbc}가 있을 때만 적용됩니다.
+ *
+ * @see QueryRecorder
+ */
+@AutoConfiguration(after = LogAutoConfiguration.class)
+@ConditionalOnClass({DataSource.class, DelegatingDataSource.class})
+@ConditionalOnBean(LogSenderService.class)
+@ConditionalOnProperty(prefix = "cholog.logger", name = "jdbc-tracing-enabled", havingValue = "true")
+public class LogJdbcAutoConfiguration {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(LogJdbcAutoConfiguration.class);
+
+    /**
+     * SQL 실행 기록기 빈을 생성합니다. 쿼리 지문별 실행 시간 분포를 JMX에 등록합니다.
+     *
+     * @param properties 로그 서버 접속 설정 (자동 주입)
+     * @return 생성된 {@link QueryRecorder} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public QueryRecorder queryRecorder(LogServerProperties properties) {
+        log.info("CHO:LOG - Initializing QueryRecorder bean for JDBC query tracing.");
+        return new QueryRecorder(properties);
+    }
+
+    /**
+     * DataSource 빈을 계측 래퍼로 감싸는 BeanPostProcessor를 생성합니다.
+     * 다른 빈보다 먼저 등록되어야 하므로 static 메소드로 선언합니다.
+     *
+     * @param recorderProvider SQL 실행 기록기 제공자 (자동 주입)
+     * @return {@link TracingDataSourceBeanPostProcessor} 인스턴스
+     */
+    @Bean
+    public static TracingDataSourceBeanPostProcessor chologTracingDataSourceBeanPostProcessor(
+            ObjectProvider<QueryRecorder> recorderProvider) {
+        return new TracingDataSourceBeanPostProcessor(recorderProvider);
+    }
+}
@@ -0,0 +1,90 @@
+package com.cholog.logger.config;
+
+import com.cholog.logger.jvm.CpuProfilingReporter;
+import com.cholog.logger.jvm.JvmTelemetry;
+import com.cholog.logger.jvm.JvmTelemetryReporter;
+import com.cholog.logger.jvm.StackProfiler;
+import com.cholog.logger.service.LogSenderService;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * JFR 기반 JVM 관찰 기능을 등록하는 자동 설정 클래스입니다. JVM에 JFR 모듈({@code jdk.jfr})이 있을 때만 적용되며, 기능별로 선택해서 켭니다.
+ * <ul>
+ *   <li>{@code cholog.logger.jvm-telemetry-enabled=true}: GC 정지, 세이프포인트, 락 경합, 할당 속도를 주기마다 {@code jvm} 요약 로그로 기록</li>
+ *   <li>{@code cholog.logger.profiling-enabled=true}: 실행 스택을 샘플링하여 주기마다 접힌 스택을 {@code profile} 로그로 기록</li>
+ * </ul>
+ *
+ * @see JvmTelemetryReporter
+ * @see CpuProfilingReporter
+ */
+@AutoConfiguration(after = LogAutoConfiguration.class)
+@ConditionalOnClass(name = "jdk.jfr.consumer.RecordingStream")
+@ConditionalOnBean(LogSenderService.class)
+public class LogJvmAutoConfiguration {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(LogJvmAutoConfiguration.class);
+
+    /**
+     * JFR 이벤트를 주기 단위로 누적하는 빈을 생성합니다.
+     *
+     * @return 생성된 {@link JvmTelemetry} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "cholog.logger", name = "jvm-telemetry-enabled", havingValue = "true")
+    public JvmTelemetry jvmTelemetry() {
+        return new JvmTelemetry();
+    }
+
+    /**
+     * JFR 이벤트 스트림을 열고 주기마다 JVM 상태 요약 로그를 기록하는 빈을 생성합니다.
+     *
+     * @param jvmTelemetry JVM 이벤트 누적 객체 (자동 주입)
+     * @param properties   로그 서버 접속 설정 (자동 주입)
+     * @return 생성된 {@link JvmTelemetryReporter} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "cholog.logger", name = "jvm-telemetry-enabled", havingValue = "true")
+    public JvmTelemetryReporter jvmTelemetryReporter(JvmTelemetry jvmTelemetry, LogServerProperties properties) {
+        log.info("CHO:LOG - Initializing JvmTelemetryReporter bean. JVM summaries every {}s.",
+                properties.getJvmTelemetryIntervalSeconds());
+        return new JvmTelemetryReporter(jvmTelemetry, properties.getJvmTelemetryIntervalSeconds(),
+                properties.getJvmTelemetryContentionThresholdMs());
+    }
+
+    /**
+     * CPU 샘플을 접힌 스택으로 집계하는 빈을 생성합니다.
+     *
+     * @param properties 로그 서버 접속 설정 (자동 주입)
+     * @return 생성된 {@link StackProfiler} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "cholog.logger", name = "profiling-enabled", havingValue = "true")
+    public StackProfiler stackProfiler(LogServerProperties properties) {
+        return new StackProfiler(properties.getProfilingMaxStacks());
+    }
+
+    /**
+     * JFR 실행 샘플 스트림을 열고 주기마다 CPU 프로파일 로그를 기록하는 빈을 생성합니다.
+     *
+     * @param stackProfiler 접힌 스택 집계기 (자동 주입)
+     * @param properties    로그 서버 접속 설정 (자동 주입)
+     * @return 생성된 {@link CpuProfilingReporter} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "cholog.logger", name = "profiling-enabled", havingValue = "true")
+    public CpuProfilingReporter cpuProfilingReporter(StackProfiler stackProfiler, LogServerProperties properties) {
+        log.info("CHO:LOG - Initializing CpuProfilingReporter bean. Sampling every {}ms, profiles every {}s.",
+                properties.getProfilingSampleIntervalMs(), properties.getProfilingIntervalSeconds());
+        return new CpuProfilingReporter(stackProfiler, properties.getProfilingIntervalSeconds(),
+                properties.getProfilingSampleIntervalMs());
+    }
+}
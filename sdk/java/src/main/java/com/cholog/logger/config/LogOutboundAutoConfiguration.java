@@ -0,0 +1,108 @@
+package com.cholog.logger.config;
+
+import com.cholog.logger.client.OutboundCallRecorder;
+import com.cholog.logger.client.OutboundClientHttpRequestInterceptor;
+import com.cholog.logger.client.OutboundExchangeFilterFunction;
+import com.cholog.logger.service.LogSenderService;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * 외부 HTTP 호출(outbound call) 계측을 등록하는 자동 설정 클래스입니다.
+ * Spring Boot가 제공하는 {@code RestTemplateBuilder}, {@code RestClient.Builder}, {@code WebClient.Builder}에
+ * 커스터마이저로 인터셉터를 추가하므로, 이 빌더로 만든 클라이언트만 계측됩니다.
+ * {@code cholog.logger.outbound-tracing-enabled=false}이면 적용되지 않습니다.
+ *
+ * @see OutboundCallRecorder
+ */
+@AutoConfiguration(after = LogAutoConfiguration.class)
+@ConditionalOnBean(LogSenderService.class)
+@ConditionalOnProperty(prefix = "cholog.logger", name = "outbound-tracing-enabled", havingValue = "true", matchIfMissing = true)
+public class LogOutboundAutoConfiguration {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(LogOutboundAutoConfiguration.class);
+
+    /**
+     * 외부 호출 기록기 빈을 생성합니다. 호스트별 응답 시간 분포를 JMX에 등록합니다.
+     *
+     * @param properties 로그 서버 접속 설정 (자동 주입)
+     * @return 생성된 {@link OutboundCallRecorder} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboundCallRecorder outboundCallRecorder(LogServerProperties properties) {
+        log.info("CHO:LOG - Initializing OutboundCallRecorder bean for outbound HTTP call tracing.");
+        return new OutboundCallRecorder(properties);
+    }
+
+    /**
+     * {@code RestTemplate}과 {@code RestClient} 계측 설정입니다.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(RestTemplate.class)
+    static class BlockingClientConfiguration {
+
+        /**
+         * {@code RestTemplateBuilder}로 만드는 {@link RestTemplate}에 인터셉터를 등록하는 커스터마이저입니다.
+         *
+         * @param recorder 외부 호출 기록기 (자동 주입)
+         * @return {@link RestTemplateCustomizer} 인스턴스
+         */
+        @Bean
+        RestTemplateCustomizer chologRestTemplateCustomizer(OutboundCallRecorder recorder) {
+            return restTemplate -> OutboundClientHttpRequestInterceptor.instrument(restTemplate, recorder);
+        }
+
+        /**
+         * {@code RestClient.Builder}로 만드는 {@link RestClient}에 인터셉터를 등록하는 커스터마이저입니다.
+         *
+         * @param recorder 외부 호출 기록기 (자동 주입)
+         * @return {@link RestClientCustomizer} 인스턴스
+         */
+        @Bean
+        @ConditionalOnClass(RestClient.class)
+        RestClientCustomizer chologRestClientCustomizer(OutboundCallRecorder recorder) {
+            OutboundClientHttpRequestInterceptor interceptor = new OutboundClientHttpRequestInterceptor(recorder, "RestClient");
+            return builder -> builder.requestInterceptors(interceptors -> {
+                if (interceptors.stream().noneMatch(OutboundClientHttpRequestInterceptor.class::isInstance)) {
+                    interceptors.add(interceptor);
+                }
+            });
+        }
+    }
+
+    /**
+     * {@code WebClient} 계측 설정입니다. WebFlux는 선택 의존성이므로 없으면 적용되지 않습니다.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(WebClient.class)
+    static class WebClientConfiguration {
+
+        /**
+         * {@code WebClient.Builder}로 만드는 {@link WebClient}에 필터를 등록하는 커스터마이저입니다.
+         *
+         * @param recorder 외부 호출 기록기 (자동 주입)
+         * @return {@link WebClientCustomizer} 인스턴스
+         */
+        @Bean
+        WebClientCustomizer chologWebClientCustomizer(OutboundCallRecorder recorder) {
+            OutboundExchangeFilterFunction filter = new OutboundExchangeFilterFunction(recorder);
+            return builder -> builder.filters(filters -> {
+                if (filters.stream().noneMatch(OutboundExchangeFilterFunction.class::isInstance)) {
+                    filters.add(filter);
+                }
+            });
+        }
+    }
+}
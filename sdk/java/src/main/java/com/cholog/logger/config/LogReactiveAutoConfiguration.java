@@ -0,0 +1,69 @@
+package com.cholog.logger.config;
+
+import com.cholog.logger.filter.ReactiveBodyLoggingFilter;
+import com.cholog.logger.filter.ReactiveRequestTimingFilter;
+import com.cholog.logger.metrics.RouteMetrics;
+import com.cholog.logger.service.RedactionEngine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.web.server.WebFilter;
+
+/**
+ * 리액티브(WebFlux) 웹 애플리케이션에서 HTTP 요청 로깅용 {@link WebFilter}를 등록하는 자동 설정 클래스입니다.
+ * 서블릿 환경의 필터는 {@link LogAutoConfiguration}이 등록하며, WebFlux는 선택 의존성이므로 없으면 이 설정은 적용되지 않습니다.
+ *
+ * @see ReactiveRequestTimingFilter
+ * @see ReactiveBodyLoggingFilter
+ */
+@AutoConfiguration(after = LogAutoConfiguration.class)
+@ConditionalOnClass(WebFilter.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnBean(RedactionEngine.class)
+public class LogReactiveAutoConfiguration {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(LogReactiveAutoConfiguration.class);
+
+    /**
+     * 요청 ID 생성, 요청 컨텍스트 수집(Reactor Context), 처리 시간/상태 코드 측정과 요청 완료 로그를 담당하는
+     * {@link ReactiveRequestTimingFilter}의 빈을 생성합니다.
+     *
+     * @param properties      로그 서버 접속 설정 (자동 주입)
+     * @param redactionEngine 민감 정보 마스킹 엔진 (자동 주입)
+     * @param routeMetrics    경로별 응답 시간 분포 (경로 요약을 끈 경우 없음)
+     * @return 생성된 {@link ReactiveRequestTimingFilter} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ReactiveRequestTimingFilter reactiveRequestTimingFilter(LogServerProperties properties, RedactionEngine redactionEngine,
+                                                                   ObjectProvider<RouteMetrics> routeMetrics) {
+        log.info("CHO:LOG - Initializing ReactiveRequestTimingFilter bean for WebFlux environment.");
+        return new ReactiveRequestTimingFilter(properties, redactionEngine, routeMetrics.getIfAvailable());
+    }
+
+    /**
+     * 요청/응답 본문 중 앞부분만 캡처하는 {@link ReactiveBodyLoggingFilter}의 빈을 생성합니다.
+     * 서블릿 필터와 같은 설정({@code request-body-logging}, {@code request-response-logging}, 기본값 true)으로
+     * 요청/응답 본문 캡처 여부를 각각 결정합니다.
+     *
+     * @param properties      로그 서버 접속 설정 (자동 주입)
+     * @param redactionEngine 민감 정보 마스킹 엔진 (자동 주입)
+     * @param environment     Spring 환경 정보 (자동 주입)
+     * @return 생성된 {@link ReactiveBodyLoggingFilter} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ReactiveBodyLoggingFilter reactiveBodyLoggingFilter(LogServerProperties properties, RedactionEngine redactionEngine,
+                                                               Environment environment) {
+        boolean requestBody = environment.getProperty("cholog.logger.request-body-logging", Boolean.class, true);
+        boolean responseBody = environment.getProperty("cholog.logger.request-response-logging", Boolean.class, true);
+        log.info("CHO:LOG - Initializing ReactiveBodyLoggingFilter bean (request body: {}, response body: {}).",
+                requestBody, responseBody);
+        return new ReactiveBodyLoggingFilter(properties, redactionEngine, requestBody, responseBody);
+    }
+}
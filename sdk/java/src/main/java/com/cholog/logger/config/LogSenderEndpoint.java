@@ -0,0 +1,83 @@
+package com.cholog.logger.config;
+
+import com.cholog.logger.service.LogSenderControl;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+
+/**
+ * 로그 전송 설정을 조회하고 실행 중에 변경하는 Actuator 엔드포인트입니다 ({@code /actuator/cholog}).
+ *
+ * GET으로 현재 설정을 조회하고, POST(JSON 본문)로 지정한 항목만 변경합니다. 지정하지 않은 항목은 그대로 유지됩니다.
+ * 값이 잘못되면 400 응답을 반환하며, 그 앞에 지정한 항목은 이미 적용된 상태로 남습니다.
+ * 웹으로 노출하려면 {@code management.endpoints.web.exposure.include}에 {@code cholog}를 추가해야 합니다.
+ *
+ * @see LogSenderControl
+ */
+@Endpoint(id = "cholog")
+public class LogSenderEndpoint {
+
+    private final LogSenderControl control;
+
+    public LogSenderEndpoint(LogSenderControl control) {
+        this.control = control;
+    }
+
+    /**
+     * @return 변경 가능한 설정과 현재 값
+     */
+    @ReadOperation
+    public Map<String, Object> settings() {
+        return control.getSettings();
+    }
+
+    /**
+     * 지정한 설정만 변경합니다.
+     *
+     * @return 변경 후 설정과 현재 값
+     */
+    @WriteOperation
+    public Map<String, Object> update(@Nullable Integer batchSize, @Nullable Integer batchFlushInterval,
+                                      @Nullable Integer queueCapacity, @Nullable String logLevel,
+                                      @Nullable Double sampleRate, @Nullable Double accessLogSampleRate,
+                                      @Nullable Boolean compressLogs,
+                                      @Nullable Integer httpClientPoolMaxTotal,
+                                      @Nullable Integer httpClientPoolDefaultMaxPerRoute) {
+        try {
+            if (batchSize != null) {
+                control.setBatchSize(batchSize);
+            }
+            if (batchFlushInterval != null) {
+                control.setBatchFlushInterval(batchFlushInterval);
+            }
+            if (queueCapacity != null) {
+                control.setQueueCapacity(queueCapacity);
+            }
+            if (logLevel != null) {
+                control.setLogLevel(logLevel);
+            }
+            if (sampleRate != null) {
+                control.setSampleRate(sampleRate);
+            }
+            if (accessLogSampleRate != null) {
+                control.setAccessLogSampleRate(accessLogSampleRate);
+            }
+            if (compressLogs != null) {
+                control.setCompressLogs(compressLogs);
+            }
+            if (httpClientPoolMaxTotal != null) {
+                control.setHttpClientPoolMaxTotal(httpClientPoolMaxTotal);
+            }
+            if (httpClientPoolDefaultMaxPerRoute != null) {
+                control.setHttpClientPoolDefaultMaxPerRoute(httpClientPoolDefaultMaxPerRoute);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        return control.getSettings();
+    }
+}
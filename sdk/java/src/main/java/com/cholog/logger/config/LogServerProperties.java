@@ -7,7 +7,10 @@ import org.springframework.validation.annotation.Validated;
 
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * CHO:LOG Logging Library의 설정을 담당하는 Properties 클래스입니다.
@@ -94,11 +97,12 @@ public class LogServerProperties {
     /**
      * 전송할 최소 로그 레벨입니다.
      * 이 레벨 이상의 로그만 전송됩니다.
+     * 실행 중에 {@code LogSenderControl}(JMX, Actuator)로 바꿀 수 있습니다.
      * 
      * 기본값: INFO
      * 가능한 값: TRACE, DEBUG, INFO, WARN, ERROR
      */
-    private Level logLevel = Level.INFO;
+    private volatile Level logLevel = Level.INFO;
 
     // --- 로그 전송 관련 설정 ---
 
@@ -136,26 +140,29 @@ public class LogServerProperties {
 
     /**
      * 한 번에 전송할 로그의 최대 개수입니다.
+     * 실행 중에 {@code LogSenderControl}(JMX, Actuator)로 바꿀 수 있습니다.
      * 
      * 기본값: 100
      */
-    private int batchSize = 100;
+    private volatile int batchSize = 100;
 
     /**
      * 로그를 모으는 최대 시간 간격(밀리초)입니다.
      * 이 시간이 지나면 배치 크기 미만이라도 전송을 시도합니다.
+     * 실행 중에 {@code LogSenderControl}(JMX, Actuator)로 바꿀 수 있습니다.
      * 
      * 기본값: 1000 (1초)
      */
-    private int batchFlushInterval = 1000;
+    private volatile int batchFlushInterval = 1000;
 
     /**
-     * 메모리 큐의 최대 용량입니다.
-     * 이 용량을 초과하면 로그가 유실될 수 있습니다.
+     * 메모리 큐의 최대 용량(이벤트 수)입니다.
+     * 이 용량을 초과하면 로그가 유실될 수 있습니다. 바이트 기준 제한은 {@link #maxQueueBytes}를 참고하세요.
+     * 실행 중에 {@code LogSenderControl}(JMX, Actuator)로 바꿀 수 있습니다.
      * 
      * 기본값: 10000
      */
-    private int queueCapacity = 10000;
+    private volatile int queueCapacity = 10000;
 
     // --- 디스크 큐(폴백) 관련 설정 ---
 
@@ -207,15 +214,17 @@ public class LogServerProperties {
     // --- HttpClient Connection Pool Settings ---
     /**
      * Apache HttpClient 커넥션 풀의 전체 최대 커넥션 수입니다.
+     * 실행 중에 {@code LogSenderControl}(JMX, Actuator)로 바꿀 수 있습니다.
      * 기본값: 100
      */
-    private int httpClientPoolMaxTotal = 100;
+    private volatile int httpClientPoolMaxTotal = 100;
 
     /**
      * Apache HttpClient 커넥션 풀의 라우트(호스트)당 기본 최대 커넥션 수입니다.
+     * 실행 중에 {@code LogSenderControl}(JMX, Actuator)로 바꿀 수 있습니다.
      * 기본값: 20
      */
-    private int httpClientPoolDefaultMaxPerRoute = 20;
+    private volatile int httpClientPoolDefaultMaxPerRoute = 20;
 
     /**
      * Apache HttpClient 커넥션 풀에서 유휴 커넥션을 정리하는 주기(초)입니다.
@@ -253,10 +262,11 @@ public class LogServerProperties {
     /**
      * 로그 압축 활성화 여부입니다.
      * 활성화하면 로그를 gzip으로 압축하여 전송하여 대역폭을 절약합니다.
+     * 실행 중에 {@code LogSenderControl}(JMX, Actuator)로 바꿀 수 있습니다.
      * 
      * 기본값: false
      */
-    private boolean compressLogs = false;
+    private volatile boolean compressLogs = false;
 
     /**
      * 연결 오류 로그 출력을 억제할지 여부를 설정합니다.
@@ -341,609 +351,2280 @@ public class LogServerProperties {
      */
     private boolean enabled = true;
 
+
+    /**
+     * 요청/응답 본문 로깅 시 캡처할 최대 바이트 수입니다.
+     * 본문은 이 크기까지만 풀링된 버퍼에 복사되고, 나머지는 버퍼링 없이 그대로 스트리밍됩니다.
+     * 0으로 설정하면 본문 캡처가 비활성화됩니다.
+     *
+     * 기본값: 10000
+     *
+     * @since 1.0.10
+     */
+    private int bodyCaptureMaxBytes = 10000;
+
+    /**
+     * 컨텐츠 타입별 본문 캡처 최대 바이트 수입니다. 키는 컨텐츠 타입에 포함된 문자열(대소문자 무시)이며,
+     * 가장 먼저 일치하는 항목이 {@link #bodyCaptureMaxBytes}보다 우선 적용됩니다. 0이면 해당 타입은 캡처하지 않습니다.
+     * JSON/XML/텍스트/폼 이외의 타입(바이너리)은 이 맵에 명시된 경우에만 캡처되며, multipart는 항상 제외됩니다.
+     *
+     * 예시: {@code cholog.logger.body-capture-limits.json=20000}, {@code cholog.logger.body-capture-limits[text/html]=0}
+     *
+     * @since 1.0.10
+     */
+    private Map<String, Integer> bodyCaptureLimits = new LinkedHashMap<>();
+
+    /**
+     * 본문 캡처용 버퍼 풀에 보관할 최대 버퍼 수입니다.
+     * 동시 요청 수가 이보다 많으면 초과분은 풀에 반환되지 않고 GC 대상이 됩니다.
+     *
+     * 기본값: 32
+     *
+     * @since 1.0.10
+     */
+    private int bodyCapturePoolSize = 32;
+
+
+    /**
+     * 기본 민감 키워드(password, token, card 등)에 추가로 적용할 키워드 목록입니다.
+     * 헤더 이름, 요청 파라미터 이름 검사에 사용되며 대소문자 구분 없이 부분 일치로 비교합니다.
+     *
+     * 예시: ["phone", "address"]
+     *
+     * @since 1.0.10
+     */
+    private List<String> redactionKeywords = new ArrayList<>();
+
+    /**
+     * 값 자체로 민감 정보를 판별할 내장 탐지기 목록입니다.
+     * 사용 가능한 값: card (신용카드 번호), email (이메일 주소), rrn (주민등록번호)
+     *
+     * 기본값: [card, email, rrn]
+     *
+     * @since 1.0.10
+     */
+    private List<String> redactionValueDetectors = new ArrayList<>(List.of("card", "email", "rrn"));
+
+    /**
+     * 내장 탐지기 외에 추가로 적용할 값 정규식 목록입니다.
+     * 모든 값 패턴은 하나의 정규식으로 결합되어 사전 컴파일됩니다.
+     *
+     * @since 1.0.10
+     */
+    private List<String> redactionValuePatterns = new ArrayList<>();
+
+    /**
+     * 캡처된 요청/응답 본문에 포함된 민감 값(카드 번호, 이메일 등)을 대체 문자열로 치환할지 여부입니다.
+     *
+     * 기본값: true
+     *
+     * @since 1.0.10
+     */
+    private boolean redactBodies = true;
+
+
+    /**
+     * 애플리케이션 종료 시 메모리 큐에 남은 로그를 전송하는 데 사용할 최대 시간(ms)입니다.
+     * 이 시간 안에 전송하지 못한 로그는 디스크 큐에 한 번에 저장되며, 디스크 큐가 비활성화된 경우 유실됩니다.
+     * 컨테이너 종료 유예 시간(예: Kubernetes terminationGracePeriodSeconds)보다 충분히 짧게 설정해야 합니다.
+     *
+     * 기본값: 5000
+     *
+     * @since 1.0.10
+     */
+    private long shutdownFlushTimeout = 5000;
+
+    /**
+     * 종료 시 잔여 로그 배치를 동시에 전송할 최대 요청 수입니다.
+     * {@link #httpClientPoolDefaultMaxPerRoute}보다 크면 커넥션 풀 크기로 제한됩니다.
+     *
+     * 기본값: 4
+     *
+     * @since 1.0.10
+     */
+    private int shutdownFlushParallelism = 4;
+
+    /**
+     * Spring 컨텍스트가 정상적으로 닫히지 않은 경우(예: SIGTERM 시 컨텍스트 종료 훅 미등록)에도
+     * 종료 처리를 수행하도록 JVM 셧다운 훅을 등록할지 여부입니다.
+     *
+     * 기본값: true
+     *
+     * @since 1.0.10
+     */
+    private boolean shutdownHookEnabled = true;
+
+
+    /**
+     * 로그 전송 방식입니다.
+     * {@code http}는 로그 서버로 직접 전송하고, {@code spool}은 애플리케이션 프로세스에서 네트워크 I/O를 하지 않고
+     * {@link #spoolPath} 아래의 메모리 매핑된 NDJSON 스풀 파일에 배치를 순차 기록합니다.
+     * 스풀 파일은 별도 프로세스(사이드카)로 실행되는 CHO:LOG Shipper가 읽어 로그 서버로 전달합니다.
+     *
+     * 기본값: http
+     *
+     * @since 1.0.10
+     */
+    private String transport = "http";
+
+    /**
+     * {@code spool} 전송 방식에서 스풀 세그먼트 파일을 기록할 디렉토리 경로입니다.
+     * Shipper와 공유하는 볼륨(예: Kubernetes emptyDir)이어야 합니다.
+     *
+     * 기본값: ./log-spool
+     *
+     * @since 1.0.10
+     */
+    private String spoolPath = "./log-spool";
+
+    /**
+     * 스풀 세그먼트 파일 하나의 크기(MB)입니다. 파일은 이 크기로 미리 할당되어 메모리 매핑되며,
+     * 다음 배치가 남은 공간에 들어가지 않으면 새 세그먼트로 교체(rotate)됩니다.
+     *
+     * 기본값: 64
+     *
+     * @since 1.0.10
+     */
+    private int spoolSegmentSizeMb = 64;
+
+    /**
+     * 스풀 디렉토리 전체의 최대 크기(MB)입니다. Shipper가 따라오지 못해 이 크기를 넘으면 가장 오래된 세그먼트부터 삭제됩니다.
+     * 0 이하이면 제한하지 않습니다.
+     *
+     * 기본값: 1024
+     *
+     * @since 1.0.10
+     */
+    private long spoolMaxSizeMb = 1024;
+
+    /**
+     * 스풀 파일 동기화(fsync) 정책입니다.
+     * {@code none}은 운영체제의 페이지 캐시 플러시에 맡기고(프로세스 종료에는 안전, 호스트 장애 시 유실 가능),
+     * {@code batch}는 배치를 기록할 때마다, {@code interval}은 {@link #spoolFsyncInterval} 주기로 동기화합니다.
+     *
+     * 기본값: interval
+     *
+     * @since 1.0.10
+     */
+    private String spoolFsyncPolicy = "interval";
+
+    /**
+     * {@code interval} 동기화 정책에서 스풀 파일을 동기화하는 간격(ms)입니다.
+     *
+     * 기본값: 1000
+     *
+     * @since 1.0.10
+     */
+    private long spoolFsyncInterval = 1000;
+
+
+    /**
+     * 로그를 나누어 보낼 로그 서버 URL 목록입니다. 설정하면 {@link #url} 대신 사용되며,
+     * 배치마다 {@link #loadBalancingStrategy}에 따라 엔드포인트를 고르고 실패하면 같은 배치를 다른 엔드포인트로 보냅니다.
+     *
+     * 기본값: 빈 목록 ({@link #url} 하나만 사용)
+     *
+     * @since 1.0.10
+     */
+    private List<String> urls = new ArrayList<>();
+
+    /**
+     * 여러 엔드포인트 중 배치를 보낼 엔드포인트를 고르는 방식입니다.
+     * {@code least-outstanding}은 진행 중인 요청이 가장 적은 엔드포인트를,
+     * {@code ewma}는 최근 응답 시간의 지수 가중 이동 평균(EWMA)과 진행 중인 요청 수를 곱한 값이 가장 작은 엔드포인트를 고릅니다.
+     * 두 방식 모두 무작위로 고른 두 후보를 비교합니다(power of two choices).
+     *
+     * 기본값: least-outstanding
+     *
+     * @since 1.0.10
+     */
+    private String loadBalancingStrategy = "least-outstanding";
+
+    /**
+     * 엔드포인트를 일시적으로 선택 대상에서 제외(outlier ejection)하기까지의 연속 실패 횟수입니다.
+     * 연결 오류, 타임아웃, 5xx/408 응답을 실패로 봅니다.
+     *
+     * 기본값: 3
+     *
+     * @since 1.0.10
+     */
+    private int outlierConsecutiveFailures = 3;
+
+    /**
+     * 엔드포인트 제외 시간(ms)입니다. 같은 엔드포인트가 다시 제외될 때마다 최대 8배까지 늘어나며,
+     * 제외 시간이 끝나기 전이라도 서버 연결 확인에 성공하면 다시 선택 대상이 됩니다.
+     * 모든 엔드포인트가 제외된 경우에도 전송을 멈추지 않고 제외가 가장 먼저 끝나는 엔드포인트를 사용합니다.
+     *
+     * 기본값: 30000
+     *
+     * @since 1.0.10
+     */
+    private long outlierEjectionTime = 30000;
+
+
+    /**
+     * 동시에 전송할 수 있는 로그 배치 수(동시 전송 한도)의 최솟값이자 초기값입니다.
+     * 한도는 AIMD 방식으로 조정됩니다: 전송에 성공하면 한도만큼 성공할 때마다 1씩 늘리고,
+     * 429/503 응답이나 타임아웃이 발생하면 {@link #sendConcurrencyDecreaseRatio}를 곱해 줄입니다.
+     *
+     * 기본값: 1
+     *
+     * @since 1.0.10
+     */
+    private int sendConcurrencyMin = 1;
+
+    /**
+     * 동시 전송 한도의 최댓값입니다. {@link #sendConcurrencyMin}과 같게 설정하면 한도를 고정합니다.
+     *
+     * 기본값: 4
+     *
+     * @since 1.0.10
+     */
+    private int sendConcurrencyMax = 4;
+
+    /**
+     * 과부하 신호(429/503 응답, 타임아웃)를 받았을 때 동시 전송 한도에 곱하는 비율입니다 (0 초과 1 미만).
+     * 동시에 보낸 요청들이 한꺼번에 실패해도 한도는 한 번만 줄어듭니다.
+     *
+     * 기본값: 0.5
+     *
+     * @since 1.0.10
+     */
+    private double sendConcurrencyDecreaseRatio = 0.5;
+
+
+    /**
+     * 긴급 레인 사용 여부입니다. 사용하면 {@link #urgentLevel} 이상의 로그를 일반 로그와 분리된 큐(긴급 레인)에 넣어,
+     * 짧은 플러시 간격과 우선 순위로 전송합니다. 긴급 레인이 가득 차면 일반 레인에서 가장 오래된 로그를 밀어내고 그 자리에 넣습니다.
+     *
+     * 기본값: true
+     *
+     * @since 1.0.10
+     */
+    private boolean urgentLaneEnabled = true;
+
+    /**
+     * 긴급 레인으로 보낼 최소 로그 레벨입니다.
+     *
+     * 기본값: WARN
+     * 가능한 값: TRACE, DEBUG, INFO, WARN, ERROR
+     *
+     * @since 1.0.10
+     */
+    private Level urgentLevel = Level.WARN;
+
+    /**
+     * 긴급 레인 큐의 최대 용량입니다.
+     *
+     * 기본값: 2000
+     *
+     * @since 1.0.10
+     */
+    private int urgentQueueCapacity = 2000;
+
+    /**
+     * 긴급 레인에서 한 번에 전송할 최대 로그 수입니다.
+     *
+     * 기본값: 50
+     *
+     * @since 1.0.10
+     */
+    private int urgentBatchSize = 50;
+
+    /**
+     * 긴급 레인의 플러시 간격(ms)입니다. 긴급 로그는 큐에 들어간 뒤 최대 이 시간 안에 전송을 시작합니다.
+     *
+     * 기본값: 20
+     *
+     * @since 1.0.10
+     */
+    private int urgentBatchFlushInterval = 20;
+
+    /**
+     * 두 레인 모두 보낼 로그가 있을 때, 일반 레인 배치 하나마다 보낼 긴급 레인 배치 수(가중치)입니다.
+     * 긴급 레인은 동시 전송 한도와 별도로 한 자리를 더 사용할 수 있어, 일반 배치가 한도를 모두 차지해도 대기하지 않습니다.
+     *
+     * 기본값: 4
+     *
+     * @since 1.0.10
+     */
+    private int urgentLaneWeight = 4;
+
+    /**
+     * WARN 미만(INFO, DEBUG, TRACE) 로그 중 전송할 비율입니다 (0.0 ~ 1.0). WARN, ERROR 로그는 항상 전송합니다.
+     * 실행 중에 {@code LogSenderControl}(JMX, Actuator)로 바꿀 수 있습니다.
+     *
+     * 기본값: 1.0 (모두 전송)
+     *
+     * @since 1.0.10
+     */
+    private volatile double sampleRate = 1.0;
+
+    /**
+     * 실행 중 전송 설정 변경 기능(JMX {@code com.cholog.logger:type=LogSenderControl}, Actuator {@code cholog} 엔드포인트) 사용 여부입니다.
+     * Actuator 엔드포인트는 {@code management.endpoints.web.exposure.include}에 {@code cholog}를 추가해야 웹으로 노출됩니다.
+     *
+     * 기본값: true
+     *
+     * @since 1.0.10
+     */
+    private boolean runtimeControlEnabled = true;
+
+    /**
+     * 메모리 큐(일반 레인과 긴급 레인 합계)가 사용할 수 있는 최대 바이트 수입니다.
+     * {@link #queueCapacity}는 이벤트 수만 제한하므로, 큰 스택 트레이스나 요청 본문이 몰릴 때의 메모리 사용량은 이 값으로 제한합니다.
+     * 예산을 넘는 로그는 큐가 가득 찬 경우와 같이 처리됩니다(디스크 큐 저장 또는 유실).
+     * 힙 큐에서는 문자열 크기를 추정해 계산하고, 오프힙 큐에서는 아레나 크기가 됩니다. 0 이하이면 힙 큐의 바이트 제한을 사용하지 않습니다.
+     *
+     * 기본값: 67108864 (64MB)
+     *
+     * @since 1.0.10
+     */
+    private long maxQueueBytes = 64L * 1024 * 1024;
+
+    /**
+     * 메모리 큐의 로그를 힙 밖(direct ByteBuffer 아레나)에 보관할지 여부입니다.
+     * 활성화하면 시작 시 {@link #maxQueueBytes} 크기의 direct 버퍼를 할당하므로 {@code -XX:MaxDirectMemorySize}가 이보다 커야 합니다.
+     *
+     * 기본값: false
+     *
+     * @since 1.0.10
+     */
+    private boolean offHeapQueueEnabled = false;
+
+    /**
+     * 오프힙 큐 아레나를 나누는 슬랩 크기(KB)입니다. 인코딩된 로그 하나가 이보다 크면 큐에 넣지 않고 큐가 가득 찬 경우와 같이 처리합니다.
+     *
+     * 기본값: 1024 (1MB)
+     *
+     * @since 1.0.10
+     */
+    private int offHeapSlabSizeKb = 1024;
+
+    /**
+     * 외부 HTTP 호출 계측 사용 여부입니다. 사용하면 Spring Boot가 만드는 {@code RestTemplateBuilder}, {@code RestClient.Builder},
+     * {@code WebClient.Builder}에 인터셉터를 등록하여 요청 ID를 {@code X-Request-Id} 헤더로 전파하고,
+     * 호출마다 메소드, 호스트, 경로 템플릿, 상태 코드, 응답 시간을 기록합니다.
+     *
+     * 기본값: true
+     *
+     * @since 1.0.10
+     */
+    private boolean outboundTracingEnabled = true;
+
+    /**
+     * 외부 호출마다 호출 완료 로그({@code outbound} 필드, 부모 요청의 {@code requestId} 포함)를 남길지 여부입니다.
+     * 사용하지 않아도 호스트별 응답 시간 분포는 집계됩니다.
+     *
+     * 기본값: true
+     *
+     * @since 1.0.10
+     */
+    private boolean outboundEventLogging = true;
+
+    /**
+     * 호출 완료 로그를 남길 최소 응답 시간(ms)입니다. 이보다 빨리 끝난 성공 호출은 분포에만 집계하고 로그를 남기지 않으며,
+     * 실패한 호출(예외 또는 5xx)은 항상 로그를 남깁니다.
+     *
+     * 기본값: 0 (모든 호출 기록)
+     *
+     * @since 1.0.10
+     */
+    private long outboundEventMinDurationMs = 0;
+
+    /**
+     * 응답 시간 분포를 따로 집계할 최대 대상 호스트 수입니다. 한도를 넘는 호스트는 {@code _other} 항목에 함께 집계됩니다.
+     *
+     * 기본값: 200
+     *
+     * @since 1.0.10
+     */
+    private int outboundMaxHosts = 200;
+
+    /**
+     * JDBC 쿼리 계측 사용 여부입니다. 사용하면 애플리케이션의 {@code DataSource} 빈을 감싸 모든 SQL 실행 시간을 측정하고,
+     * 파라미터를 제거한 쿼리 지문별 응답 시간 분포 집계, 요청 완료 로그의 {@code dbTimeMs}/{@code dbQueryCount} 기록,
+     * 느린 쿼리 로그를 수행합니다.
+     *
+     * 기본값: false
+     *
+     * @since 1.0.10
+     */
+    private boolean jdbcTracingEnabled = false;
+
+    /**
+     * 개별 로그({@code db} 필드)로 기록할 느린 쿼리의 기준 시간(ms)입니다. 이보다 빠른 쿼리는 쿼리 지문별 분포에만 집계합니다.
+     *
+     * 기본값: 500
+     *
+     * @since 1.0.10
+     */
+    private long jdbcSlowQueryThresholdMs = 500;
+
+    /**
+     * 한 요청에서 같은 쿼리 지문이 이 횟수 이상 실행되면 요청 완료 로그에
+     * {@code dbRepeatedQuery}/{@code dbRepeatedQueryCount}를 기록합니다 (N+1 패턴 탐지).
+     *
+     * 기본값: 10
+     *
+     * @since 1.0.10
+     */
+    private int jdbcRepeatedQueryThreshold = 10;
+
+    /**
+     * 응답 시간 분포를 따로 집계할 최대 쿼리 지문 수입니다. 한도를 넘는 지문은 {@code _other} 항목에 함께 집계됩니다.
+     *
+     * 기본값: 500
+     *
+     * @since 1.0.10
+     */
+    private int jdbcMaxFingerprints = 500;
+
+    /**
+     * 경로별 응답 시간 요약 사용 여부입니다. 사용하면 요청마다 (메소드, 경로 템플릿, 상태 코드 대역)별 히스토그램에 응답 시간을 누적하고,
+     * {@link #routeSummaryIntervalSeconds}마다 경로별 요약 로그({@code routeSummary} 필드)를 하나씩 기록합니다.
+     *
+     * 기본값: true
+     *
+     * @since 1.0.10
+     */
+    private boolean routeSummaryEnabled = true;
+
+    /**
+     * 경로별 응답 시간 요약 로그를 기록하는 주기(초)입니다. 요약에는 직전 주기 동안의 요청만 포함됩니다.
+     *
+     * 기본값: 60
+     *
+     * @since 1.0.10
+     */
+    private int routeSummaryIntervalSeconds = 60;
+
+    /**
+     * 요약을 따로 집계할 최대 (메소드, 경로 템플릿, 상태 코드 대역) 조합 수입니다. 한도를 넘는 조합은 {@code _other} 경로에 함께 집계됩니다.
+     *
+     * 기본값: 500
+     *
+     * @since 1.0.10
+     */
+    private int routeSummaryMaxRoutes = 500;
+
+    /**
+     * 요청 완료 로그({@code Request Finished})를 기록할 비율입니다 (0.0 ~ 1.0). 0이면 요청 완료 로그를 기록하지 않습니다.
+     * 5xx 응답이나 처리되지 않은 예외로 끝난 요청은 항상 기록합니다. 응답 시간 분포는 경로별 요약으로 확인할 수 있습니다.
+     * 실행 중에 바꿀 수 있습니다.
+     *
+     * 기본값: 1.0 (모두 기록)
+     *
+     * @since 1.0.10
+     */
+    private volatile double accessLogSampleRate = 1.0;
+
+    /**
+     * JFR 기반 JVM 상태 요약 사용 여부입니다. 사용하면 JFR 이벤트 스트림으로 GC 정지, 세이프포인트, 락 경합, 할당 속도를 관찰하여
+     * {@link #jvmTelemetryIntervalSeconds}마다 요약 로그({@code jvm} 필드)를 하나 기록합니다.
+     *
+     * 기본값: false
+     *
+     * @since 1.0.10
+     */
+    private boolean jvmTelemetryEnabled = false;
+
+    /**
+     * JVM 상태 요약 로그를 기록하는 주기(초)입니다.
+     *
+     * 기본값: 60
+     *
+     * @since 1.0.10
+     */
+    private int jvmTelemetryIntervalSeconds = 60;
+
+    /**
+     * 락 대기({@code synchronized} 진입, {@code java.util.concurrent} 락)를 기록할 최소 시간(ms)입니다.
+     * 이보다 짧은 대기는 JFR 이벤트로 만들지 않으므로 낮출수록 오버헤드가 커집니다.
+     *
+     * 기본값: 10
+     *
+     * @since 1.0.10
+     */
+    private long jvmTelemetryContentionThresholdMs = 10;
+
+    /**
+     * 상시 CPU 프로파일링 사용 여부입니다. 사용하면 JFR {@code jdk.ExecutionSample} 이벤트로 실행 중인 스레드의 스택을 샘플링하여
+     * {@link #profilingIntervalSeconds}마다 접힌 스택을 압축한 프로파일 로그({@code profile} 필드)를 하나 기록합니다.
+     *
+     * 기본값: false
+     *
+     * @since 1.0.10
+     */
+    private boolean profilingEnabled = false;
+
+    /**
+     * 프로파일 로그를 기록하는 주기(초)입니다. 서버의 flame graph는 이 주기 단위로 합치거나 비교합니다.
+     *
+     * 기본값: 60
+     *
+     * @since 1.0.10
+     */
+    private int profilingIntervalSeconds = 60;
+
+    /**
+     * 실행 중인 스레드를 샘플링하는 간격(ms)입니다. 짧을수록 정밀하지만 오버헤드가 커집니다 (최소 10).
+     *
+     * 기본값: 100
+     *
+     * @since 1.0.10
+     */
+    private long profilingSampleIntervalMs = 100;
+
+    /**
+     * 한 주기에 따로 집계할 최대 스택 수입니다. 넘는 샘플은 {@code [other]} 스택으로 집계됩니다.
+     *
+     * 기본값: 2000
+     *
+     * @since 1.0.10
+     */
+    private int profilingMaxStacks = 2000;
+
+    /**
+     * 느린 요청 스택 샘플링 사용 여부입니다 (서블릿 환경). 사용하면 처리 시간이 {@link #slowRequestThresholdMs}를 넘긴 요청의
+     * 처리 스레드 스택을 {@link #slowRequestSampleIntervalMs}마다 샘플링하여, 요청 완료 로그의 {@code stackSamples} 필드로 기록합니다.
+     * 스택 샘플이 있는 요청의 완료 로그는 {@code access-log-sample-rate}와 관계없이 항상 기록됩니다.
+     *
+     * 기본값: false
+     *
+     * @since 1.0.10
+     */
+    private boolean slowRequestSamplingEnabled = false;
+
+    /**
+     * 스택 샘플링을 시작할 요청 처리 시간(ms)입니다.
+     *
+     * 기본값: 1000
+     *
+     * @since 1.0.10
+     */
+    private long slowRequestThresholdMs = 1000;
+
+    /**
+     * 기준 시간을 넘긴 요청의 스택을 샘플링하는 간격(ms)입니다. 샘플마다 JVM 세이프포인트에서 스레드 덤프를 수행하므로 너무 짧게 잡지 않습니다 (최소 10).
+     *
+     * 기본값: 200
+     *
+     * @since 1.0.10
+     */
+    private long slowRequestSampleIntervalMs = 200;
+
+    /**
+     * 샘플마다 수집할 최대 스택 깊이입니다. 넘는 스택은 호출 위치에 가까운 프레임만 남고 {@code [truncated]}로 시작합니다.
+     *
+     * 기본값: 64
+     *
+     * @since 1.0.10
+     */
+    private int slowRequestMaxStackDepth = 64;
+
+    /**
+     * 요청별 CPU 시간과 힙 할당량 측정 여부입니다. 켜져 있으면 요청 완료 로그의 {@code http.cpuTimeMs}, {@code http.allocatedBytes}로 기록합니다.
+     * 요청 컨텍스트가 스레드에 바인딩된 구간마다 {@code ThreadMXBean}을 두 번 호출하며, 요청당 비용은 1µs 안팎입니다.
+     * JVM이 지원하지 않는 항목은 기록하지 않습니다.
+     *
+     * 기본값: true
+     *
+     * @since 1.0.10
+     */
+    private boolean requestResourceTrackingEnabled = true;
+
+    /**
+     * 비동기 작업으로의 요청 컨텍스트 전파 여부입니다. 켜져 있으면 서블릿 애플리케이션에
+     * {@link com.cholog.logger.filter.RequestContextTaskDecorator} 빈을 등록하여, {@code @Async}/{@code applicationTaskExecutor}로 실행한 작업의 로그에도
+     * 요청 ID가 붙고 작업이 사용한 CPU 시간/할당량이 요청에 더해집니다. 애플리케이션에 {@code TaskDecorator} 빈이 이미 있으면 등록하지 않습니다.
+     *
+     * 기본값: true
+     *
+     * @since 1.0.10
+     */
+    private boolean asyncContextPropagationEnabled = true;
+
+    /**
+     * 배치 봉투 사용 여부입니다. 켜져 있으면 배치를 {@code {"header":{...},"events":[...]}} 형식으로 전송하고,
+     * 프로세스마다 같은 필드({@code serviceName}, {@code environment}, {@code version}, {@code hostName}, {@code ipAddress}, {@code serverPort})는
+     * 헤더에 한 번만 담으며 {@code apiKey}는 {@code X-API-Key} 요청 헤더로만 보냅니다. 로그 서버가 각 이벤트에 다시 채워 저장하므로
+     * 저장되는 문서는 같습니다. 봉투를 지원하는 로그 서버에서만 켜야 하며, {@code spool} 전송 방식에서는 사용하지 않습니다.
+     * 애플리케이션 시작 시에만 적용됩니다.
+     *
+     * 기본값: false
+     *
+     * @since 1.0.10
+     */
+    private boolean batchEnvelopeEnabled = false;
+
+    /**
+     * 메시지 템플릿 사용 여부입니다. 켜져 있으면 SLF4J 인자가 있는 로그는 포맷팅된 {@code message} 대신 템플릿 ID({@code templateId})와
+     * 인자 문자열 배열({@code args})을 보내고, 템플릿 문자열은 배치마다 한 번만 배치 봉투의 {@code templates}에 담습니다.
+     * 로그 서버가 메시지를 다시 만들고 템플릿을 {@code messageTemplate}으로 함께 저장하므로 같은 종류의 로그를 묶어 볼 수 있습니다.
+     * {@link #batchEnvelopeEnabled}가 켜져 있어야 하며, 애플리케이션 시작 시에만 적용됩니다.
+     *
+     * 기본값: false
+     *
+     * @since 1.0.10
+     */
+    private boolean messageTemplatesEnabled = false;
+
+    /**
+     * 프로세스에서 ID를 붙일 최대 메시지 템플릿 수입니다. 넘으면 새 템플릿의 로그는 포맷팅된 메시지를 그대로 보냅니다.
+     *
+     * 기본값: 5000
+     *
+     * @since 1.0.10
+     */
+    private int messageTemplateMaxCount = 5000;
+
+    /**
+     * 배치별 문자열 표 사용 여부입니다. 켜져 있으면 배치 안에서 반복되는 logger, thread, level, requestId, userAgent,
+     * {@code http.requestUri}, 요청/응답 헤더 값 등을 배치 봉투의 {@code strings}에 한 번만 담고, 이벤트에는 표의 인덱스를 보냅니다.
+     * {@link #batchEnvelopeEnabled}가 켜져 있어야 하며, 메모리 큐 배치를 연결에 바로 스트리밍하지 않고 한 번 모아 인코딩합니다.
+     *
+     * 기본값: false
+     *
+     * @since 1.0.10
+     */
+    private boolean stringDictionaryEnabled = false;
+
     // --- Getters and Setters ---
 
     /**
-     * 설정된 로그 서버 URL을 반환합니다.
-     * @return 로그 서버 URL 문자열
+     * 설정된 로그 서버 URL을 반환합니다.
+     * @return 로그 서버 URL 문자열
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * 로그 서버 URL을 설정합니다.
+     * @param url 로그 서버 URL
+     */
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    /**
+     * 설정된 API 키를 반환합니다.
+     * @return API 키 문자열
+     */
+    public String getApiKey() {
+        return apiKey;
+    }
+
+    /**
+     * API 키를 설정합니다.
+     * @param apiKey API 키
+     */
+    public void setApiKey(String apiKey) {
+        this.apiKey = apiKey;
+    }
+
+    /**
+     * 민감 정보 필터링 패턴 목록을 반환합니다.
+     * @return 민감 정보 필터링 패턴 리스트
+     */
+    public List<String> getSensitivePatterns() {
+        return sensitivePatterns;
+    }
+
+    /**
+     * 민감 정보 필터링 패턴 목록을 설정합니다.
+     * @param sensitivePatterns 민감 정보 필터링 패턴 리스트
+     */
+    public void setSensitivePatterns(List<String> sensitivePatterns) {
+        this.sensitivePatterns = sensitivePatterns;
+    }
+
+    /**
+     * 민감 정보 대체 문자열을 반환합니다.
+     * @return 민감 정보 대체 문자열
+     */
+    public String getSensitiveValueReplacement() {
+        return sensitiveValueReplacement;
+    }
+
+    /**
+     * 민감 정보 대체 문자열을 설정합니다.
+     * @param sensitiveValueReplacement 민감 정보 대체 문자열
+     */
+    public void setSensitiveValueReplacement(String sensitiveValueReplacement) {
+        this.sensitiveValueReplacement = sensitiveValueReplacement;
+    }
+
+    /**
+     * 전송할 최소 로그 레벨을 반환합니다.
+     * @return Logback의 {@link Level} 객체
+     */
+    public Level getLogLevel() {
+        return logLevel;
+    }
+
+    /**
+     * 전송할 최소 로그 레벨을 설정합니다.
+     * @param logLevel Logback의 {@link Level} 객체
+     */
+    public void setLogLevel(Level logLevel) {
+        this.logLevel = logLevel;
+    }
+
+    /**
+     * 로그 전송 실패 시 최대 재시도 횟수를 반환합니다.
+     * @return 최대 재시도 횟수
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * 로그 전송 실패 시 최대 재시도 횟수를 설정합니다.
+     * @param maxRetries 최대 재시도 횟수
+     */
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * 재시도 간격(밀리초)을 반환합니다.
+     * @return 재시도 간격(밀리초)
+     */
+    public int getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * 재시도 간격(밀리초)을 설정합니다.
+     * @param retryDelay 재시도 간격(밀리초)
+     */
+    public void setRetryDelay(int retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
+    /**
+     * HTTPS 사용 여부를 반환합니다.
+     * @return HTTPS 사용 시 {@code true}, 아니면 {@code false}
+     */
+    public boolean isUseHttps() {
+        return useHttps;
+    }
+
+    /**
+     * HTTPS 사용 여부를 설정합니다.
+     * @param useHttps HTTPS 사용 시 {@code true}, 아니면 {@code false}
+     */
+    public void setUseHttps(boolean useHttps) {
+        this.useHttps = useHttps;
+    }
+
+    /**
+     * 안전하지 않은 TLS 연결 허용 여부를 반환합니다.
+     * (프로덕션 환경에서는 사용하지 마십시오.)
+     * @return 허용 시 {@code true}, 아니면 {@code false}
+     */
+    public boolean isAllowInsecureTls() {
+        return allowInsecureTls;
+    }
+
+    /**
+     * 안전하지 않은 TLS 연결 허용 여부를 설정합니다.
+     * @param allowInsecureTls 허용 시 {@code true}, 아니면 {@code false}
+     */
+    public void setAllowInsecureTls(boolean allowInsecureTls) {
+        this.allowInsecureTls = allowInsecureTls;
+    }
+
+    /**
+     * 한 번에 전송할 로그의 최대 개수(배치 크기)를 반환합니다.
+     * @return 배치 크기
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * 한 번에 전송할 로그의 최대 개수(배치 크기)를 설정합니다.
+     * @param batchSize 배치 크기
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 로그를 모으는 최대 시간 간격(배치 플러시 간격, 밀리초)을 반환합니다.
+     * @return 배치 플러시 간격(밀리초)
+     */
+    public int getBatchFlushInterval() {
+        return batchFlushInterval;
+    }
+
+    /**
+     * 로그를 모으는 최대 시간 간격(배치 플러시 간격, 밀리초)을 설정합니다.
+     * @param batchFlushInterval 배치 플러시 간격(밀리초)
+     */
+    public void setBatchFlushInterval(int batchFlushInterval) {
+        this.batchFlushInterval = batchFlushInterval;
+    }
+
+    /**
+     * 메모리 큐의 최대 용량을 반환합니다.
+     * @return 메모리 큐 용량
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * 메모리 큐의 최대 용량을 설정합니다.
+     * @param queueCapacity 메모리 큐 용량
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * 디스크 큐(폴백) 활성화 여부를 반환합니다.
+     * @return 활성화 시 {@code true}, 아니면 {@code false}
+     */
+    public boolean isDiskQueueEnabled() {
+        return diskQueueEnabled;
+    }
+
+    /**
+     * 디스크 큐(폴백) 활성화 여부를 설정합니다.
+     * @param diskQueueEnabled 활성화 시 {@code true}, 아니면 {@code false}
+     */
+    public void setDiskQueueEnabled(boolean diskQueueEnabled) {
+        this.diskQueueEnabled = diskQueueEnabled;
+    }
+
+    /**
+     * 실패한 로그를 저장할 디스크 경로를 반환합니다.
+     * @return 디스크 큐 경로 문자열
+     */
+    public String getDiskQueuePath() {
+        return diskQueuePath;
+    }
+
+    /**
+     * 실패한 로그를 저장할 디스크 경로를 설정합니다.
+     * @param diskQueuePath 디스크 큐 경로 문자열
+     */
+    public void setDiskQueuePath(String diskQueuePath) {
+        this.diskQueuePath = diskQueuePath;
+    }
+
+    /**
+     * 디스크에 저장된 로그를 재전송 시도하는 간격(밀리초)을 반환합니다.
+     * @return 디스크 큐 재전송 간격(밀리초)
+     */
+    public int getDiskResendInterval() {
+        return diskResendInterval;
+    }
+
+    /**
+     * 디스크에 저장된 로그를 재전송 시도하는 간격(밀리초)을 설정합니다.
+     * @param diskResendInterval 디스크 큐 재전송 간격(밀리초)
+     */
+    public void setDiskResendInterval(int diskResendInterval) {
+        this.diskResendInterval = diskResendInterval;
+    }
+
+    /**
+     * 디스크 큐의 최대 크기 제한(MB)을 반환합니다.
+     * @return 디스크 큐 최대 크기(MB)
+     */
+    public long getMaxDiskQueueSizeMb() {
+        return maxDiskQueueSizeMb;
+    }
+
+    /**
+     * 디스크 큐의 최대 크기 제한(MB)을 설정합니다.
+     * @param maxDiskQueueSizeMb 디스크 큐 최대 크기(MB)
+     */
+    public void setMaxDiskQueueSizeMb(long maxDiskQueueSizeMb) {
+        this.maxDiskQueueSizeMb = maxDiskQueueSizeMb;
+    }
+
+    /**
+     * 서버 연결 상태를 확인하는 간격(밀리초)을 반환합니다.
+     * @return 연결 확인 간격(밀리초)
+     */
+    public long getConnectionCheckInterval() {
+        return connectionCheckInterval;
+    }
+
+    /**
+     * 서버 연결 상태를 확인하는 간격(밀리초)을 설정합니다.
+     * @param connectionCheckInterval 연결 확인 간격(밀리초)
+     */
+    public void setConnectionCheckInterval(long connectionCheckInterval) {
+        this.connectionCheckInterval = connectionCheckInterval;
+    }
+
+    /**
+     * 서버 연결 상태 확인 시 타임아웃(밀리초)을 반환합니다.
+     * @return 연결 확인 타임아웃(밀리초)
+     */
+    public long getConnectionCheckTimeout() {
+        return connectionCheckTimeout;
+    }
+
+    /**
+     * 서버 연결 상태 확인 시 타임아웃(밀리초)을 설정합니다.
+     * @param connectionCheckTimeout 연결 확인 타임아웃(밀리초)
+     */
+    public void setConnectionCheckTimeout(long connectionCheckTimeout) {
+        this.connectionCheckTimeout = connectionCheckTimeout;
+    }
+
+    /**
+     * 설정된 디스크 큐 경로를 {@link java.nio.file.Path} 객체로 반환합니다.
+     * @return 디스크 큐 경로의 Path 객체
+     */
+    public java.nio.file.Path getDiskQueuePathObject() {
+        return Paths.get(this.diskQueuePath);
+    }
+
+    /**
+     * 설정된 디스크 큐 최대 크기 제한(MB)을 바이트 단위로 변환하여 반환합니다.
+     * 0 또는 음수이면 제한 없음을 나타내는 {@code Long.MAX_VALUE}를 반환합니다.
+     * @return 디스크 큐 최대 크기(바이트)
+     */
+    public long getMaxDiskQueueSizeBytes() {
+        if (this.maxDiskQueueSizeMb <= 0) {
+            return Long.MAX_VALUE; // 제한 없음
+        }
+        return this.maxDiskQueueSizeMb * 1024 * 1024;
+    }
+
+    /**
+     * HttpClient 커넥션 풀의 전체 최대 커넥션 수를 반환합니다.
+     * @return 전체 최대 커넥션 수
+     */
+    public int getHttpClientPoolMaxTotal() {
+        return httpClientPoolMaxTotal;
+    }
+
+    /**
+     * HttpClient 커넥션 풀의 전체 최대 커넥션 수를 설정합니다.
+     * @param httpClientPoolMaxTotal 전체 최대 커넥션 수
+     */
+    public void setHttpClientPoolMaxTotal(int httpClientPoolMaxTotal) {
+        this.httpClientPoolMaxTotal = httpClientPoolMaxTotal;
+    }
+
+    /**
+     * HttpClient 커넥션 풀의 라우트당 기본 최대 커넥션 수를 반환합니다.
+     * @return 라우트당 기본 최대 커넥션 수
+     */
+    public int getHttpClientPoolDefaultMaxPerRoute() {
+        return httpClientPoolDefaultMaxPerRoute;
+    }
+
+    /**
+     * HttpClient 커넥션 풀의 라우트당 기본 최대 커넥션 수를 설정합니다.
+     * @param httpClientPoolDefaultMaxPerRoute 라우트당 기본 최대 커넥션 수
+     */
+    public void setHttpClientPoolDefaultMaxPerRoute(int httpClientPoolDefaultMaxPerRoute) {
+        this.httpClientPoolDefaultMaxPerRoute = httpClientPoolDefaultMaxPerRoute;
+    }
+
+    /**
+     * HttpClient 커넥션 풀의 유휴 커넥션 정리 주기(초)를 반환합니다.
+     * @return 유휴 커넥션 정리 주기(초)
+     */
+    public long getHttpClientPoolEvictIdleConnectionsAfter() {
+        return httpClientPoolEvictIdleConnectionsAfter;
+    }
+
+    /**
+     * HttpClient 커넥션 풀의 유휴 커넥션 정리 주기(초)를 설정합니다.
+     * @param httpClientPoolEvictIdleConnectionsAfter 유휴 커넥션 정리 주기(초)
+     */
+    public void setHttpClientPoolEvictIdleConnectionsAfter(long httpClientPoolEvictIdleConnectionsAfter) {
+        this.httpClientPoolEvictIdleConnectionsAfter = httpClientPoolEvictIdleConnectionsAfter;
+    }
+
+    /**
+     * 로깅 상태 지표 수집 활성화 여부를 반환합니다.
+     * @return 지표 수집 활성화 시 {@code true}, 아니면 {@code false}
+     */
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    /**
+     * 로깅 상태 지표 수집 활성화 여부를 설정합니다.
+     * @param metricsEnabled 지표 수집 활성화 시 {@code true}, 아니면 {@code false}
+     */
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    /**
+     * 상태 지표 수집 주기(밀리초)를 반환합니다.
+     * @return 지표 수집 주기(밀리초)
+     */
+    public long getMetricsCollectionInterval() {
+        return metricsCollectionInterval;
+    }
+
+    /**
+     * 상태 지표 수집 주기(밀리초)를 설정합니다.
+     * @param metricsCollectionInterval 지표 수집 주기(밀리초)
+     */
+    public void setMetricsCollectionInterval(long metricsCollectionInterval) {
+        this.metricsCollectionInterval = metricsCollectionInterval;
+    }
+
+    /**
+     * 상태 지표를 JMX를 통해 노출할지 여부를 반환합니다.
+     * @return JMX 노출 활성화 시 {@code true}, 아니면 {@code false}
+     */
+    public boolean isExposeMetricsViaJmx() {
+        return exposeMetricsViaJmx;
+    }
+
+    /**
+     * 상태 지표를 JMX를 통해 노출할지 여부를 설정합니다.
+     * @param exposeMetricsViaJmx JMX 노출 활성화 시 {@code true}, 아니면 {@code false}
+     */
+    public void setExposeMetricsViaJmx(boolean exposeMetricsViaJmx) {
+        this.exposeMetricsViaJmx = exposeMetricsViaJmx;
+    }
+
+    /**
+     * 서비스 이름을 반환합니다.
+     * 이 값은 로그 JSON의 'serviceName' 필드로 출력됩니다.
+     * 
+     * @return 서비스 이름
+     */
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    /**
+     * 서비스 이름을 설정합니다.
+     * 
+     * @param serviceName 서비스 이름
+     */
+    public void setServiceName(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    /**
+     * API 키 검증 활성화 여부를 반환합니다.
+     * @return API 키 검증이 활성화된 경우 {@code true}, 그렇지 않으면 {@code false}
+     */
+    public boolean isValidateApiKey() {
+        return validateApiKey;
+    }
+
+    /**
+     * API 키 검증 활성화 여부를 설정합니다.
+     * @param validateApiKey 검증 활성화 여부
+     */
+    public void setValidateApiKey(boolean validateApiKey) {
+        this.validateApiKey = validateApiKey;
+    }
+
+    /**
+     * 로그 압축 활성화 여부를 반환합니다.
+     * @return 압축 활성화 시 {@code true}, 아니면 {@code false}
+     */
+    public boolean isCompressLogs() {
+        return compressLogs;
+    }
+
+    /**
+     * 로그 압축 활성화 여부를 설정합니다.
+     * @param compressLogs 압축 활성화 시 {@code true}, 아니면 {@code false}
+     */
+    public void setCompressLogs(boolean compressLogs) {
+        this.compressLogs = compressLogs;
+    }
+
+    /**
+     * 연결 오류 로그 출력을 억제할지 여부를 반환합니다.
+     * @return 연결 오류 로그 출력 억제 여부
+     */
+    public boolean isSuppressConnectionErrors() {
+        return suppressConnectionErrors;
+    }
+
+    /**
+     * 연결 오류 로그 출력을 억제할지 여부를 설정합니다.
+     * @param suppressConnectionErrors 연결 오류 로그 출력 억제 여부
+     */
+    public void setSuppressConnectionErrors(boolean suppressConnectionErrors) {
+        this.suppressConnectionErrors = suppressConnectionErrors;
+    }
+
+    /**
+     * 지정된 기간 내에 출력할 최대 연결 오류 로그 수를 반환합니다.
+     * @return 최대 연결 오류 로그 수
+     */
+    public int getMaxConnectionErrorLogsPerPeriod() {
+        return maxConnectionErrorLogsPerPeriod;
+    }
+
+    /**
+     * 지정된 기간 내에 출력할 최대 연결 오류 로그 수를 설정합니다.
+     * @param maxConnectionErrorLogsPerPeriod 최대 연결 오류 로그 수
+     */
+    public void setMaxConnectionErrorLogsPerPeriod(int maxConnectionErrorLogsPerPeriod) {
+        this.maxConnectionErrorLogsPerPeriod = maxConnectionErrorLogsPerPeriod;
+    }
+
+    /**
+     * 연결 오류 로그 제한을 적용할 주기(밀리초)를 반환합니다.
+     * @return 연결 오류 로그 제한 주기(밀리초)
+     */
+    public long getConnectionErrorLogPeriod() {
+        return connectionErrorLogPeriod;
+    }
+
+    /**
+     * 연결 오류 로그 제한을 적용할 주기(밀리초)를 설정합니다.
+     * @param connectionErrorLogPeriod 연결 오류 로그 제한 주기(밀리초)
+     */
+    public void setConnectionErrorLogPeriod(long connectionErrorLogPeriod) {
+        this.connectionErrorLogPeriod = connectionErrorLogPeriod;
+    }
+
+    /**
+     * 재시도 시 지수 백오프(Exponential Backoff) 전략을 사용할지 여부를 반환합니다.
+     * @return 지수 백오프 전략 사용 여부
+     */
+    public boolean isUseExponentialBackoff() {
+        return useExponentialBackoff;
+    }
+
+    /**
+     * 재시도 시 지수 백오프(Exponential Backoff) 전략을 사용할지 여부를 설정합니다.
+     * @param useExponentialBackoff 지수 백오프 전략 사용 여부
+     */
+    public void setUseExponentialBackoff(boolean useExponentialBackoff) {
+        this.useExponentialBackoff = useExponentialBackoff;
+    }
+
+    /**
+     * 지수 백오프 전략 사용 시 초기 지연 시간(밀리초)을 반환합니다.
+     * @return 초기 지연 시간(밀리초)
+     */
+    public long getInitialBackoffDelay() {
+        return initialBackoffDelay;
+    }
+
+    /**
+     * 지수 백오프 전략 사용 시 초기 지연 시간(밀리초)을 설정합니다.
+     * @param initialBackoffDelay 초기 지연 시간(밀리초)
+     */
+    public void setInitialBackoffDelay(long initialBackoffDelay) {
+        this.initialBackoffDelay = initialBackoffDelay;
+    }
+
+    /**
+     * 지수 백오프 전략 사용 시 최대 지연 시간(밀리초)을 반환합니다.
+     * @return 최대 지연 시간(밀리초)
+     */
+    public long getMaxBackoffDelay() {
+        return maxBackoffDelay;
+    }
+
+    /**
+     * 지수 백오프 전략 사용 시 최대 지연 시간(밀리초)을 설정합니다.
+     * @param maxBackoffDelay 최대 지연 시간(밀리초)
+     */
+    public void setMaxBackoffDelay(long maxBackoffDelay) {
+        this.maxBackoffDelay = maxBackoffDelay;
+    }
+
+    /**
+     * 디스크에 저장된 로그 배치 관련 상세 로그를 출력할지 여부를 반환합니다.
+     * @return 디스크 로그 배치 상세 로그 출력 여부
+     */
+    public boolean isVerboseDiskQueueLogs() {
+        return verboseDiskQueueLogs;
+    }
+
+    /**
+     * 디스크에 저장된 로그 배치 관련 상세 로그를 출력할지 여부를 설정합니다.
+     * @param verboseDiskQueueLogs 디스크 로그 배치 상세 로그 출력 여부
+     */
+    public void setVerboseDiskQueueLogs(boolean verboseDiskQueueLogs) {
+        this.verboseDiskQueueLogs = verboseDiskQueueLogs;
+    }
+
+    /**
+     * CORS 설정을 활성화할지 여부를 반환합니다.
+     *
+     * @return CORS 설정 활성화 여부
+     */
+    public boolean isCorsEnabled() {
+        return corsEnabled;
+    }
+
+    /**
+     * CORS 설정을 활성화할지 여부를 설정합니다.
+     *
+     * @param corsEnabled CORS 설정 활성화 여부
+     */
+    public void setCorsEnabled(boolean corsEnabled) {
+        this.corsEnabled = corsEnabled;
+    }
+
+    /**
+     * 로깅 라이브러리의 활성화 여부를 반환합니다.
+     *
+     * @return 활성화 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 로깅 라이브러리의 활성화 여부를 설정합니다.
+     *
+     * @param enabled 활성화 여부
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 본문 캡처 최대 바이트 수를 반환합니다.
+     * @return 본문 캡처 최대 바이트 수
+     */
+    public int getBodyCaptureMaxBytes() {
+        return bodyCaptureMaxBytes;
+    }
+
+    /**
+     * 본문 캡처 최대 바이트 수를 설정합니다.
+     * @param bodyCaptureMaxBytes 본문 캡처 최대 바이트 수 (0이면 비활성화)
+     */
+    public void setBodyCaptureMaxBytes(int bodyCaptureMaxBytes) {
+        this.bodyCaptureMaxBytes = bodyCaptureMaxBytes;
+    }
+
+    /**
+     * 컨텐츠 타입별 본문 캡처 최대 바이트 수를 반환합니다.
+     * @return 컨텐츠 타입 키워드와 최대 바이트 수의 맵
+     */
+    public Map<String, Integer> getBodyCaptureLimits() {
+        return bodyCaptureLimits;
+    }
+
+    /**
+     * 컨텐츠 타입별 본문 캡처 최대 바이트 수를 설정합니다.
+     * @param bodyCaptureLimits 컨텐츠 타입 키워드와 최대 바이트 수의 맵
+     */
+    public void setBodyCaptureLimits(Map<String, Integer> bodyCaptureLimits) {
+        this.bodyCaptureLimits = bodyCaptureLimits;
+    }
+
+    /**
+     * 본문 캡처용 버퍼 풀 크기를 반환합니다.
+     * @return 버퍼 풀 크기
      */
-    public String getUrl() {
-        return url;
+    public int getBodyCapturePoolSize() {
+        return bodyCapturePoolSize;
     }
 
     /**
-     * 로그 서버 URL을 설정합니다.
-     * @param url 로그 서버 URL
+     * 본문 캡처용 버퍼 풀 크기를 설정합니다.
+     * @param bodyCapturePoolSize 버퍼 풀 크기
      */
-    public void setUrl(String url) {
-        this.url = url;
+    public void setBodyCapturePoolSize(int bodyCapturePoolSize) {
+        this.bodyCapturePoolSize = bodyCapturePoolSize;
     }
 
     /**
-     * 설정된 API 키를 반환합니다.
-     * @return API 키 문자열
+     * 추가 민감 키워드 목록을 반환합니다.
+     * @return 추가 민감 키워드 목록
      */
-    public String getApiKey() {
-        return apiKey;
+    public List<String> getRedactionKeywords() {
+        return redactionKeywords;
     }
 
     /**
-     * API 키를 설정합니다.
-     * @param apiKey API 키
+     * 추가 민감 키워드 목록을 설정합니다.
+     * @param redactionKeywords 추가 민감 키워드 목록
      */
-    public void setApiKey(String apiKey) {
-        this.apiKey = apiKey;
+    public void setRedactionKeywords(List<String> redactionKeywords) {
+        this.redactionKeywords = redactionKeywords;
     }
 
     /**
-     * 민감 정보 필터링 패턴 목록을 반환합니다.
-     * @return 민감 정보 필터링 패턴 리스트
+     * 활성화된 값 탐지기 목록을 반환합니다.
+     * @return 값 탐지기 이름 목록
      */
-    public List<String> getSensitivePatterns() {
-        return sensitivePatterns;
+    public List<String> getRedactionValueDetectors() {
+        return redactionValueDetectors;
     }
 
     /**
-     * 민감 정보 필터링 패턴 목록을 설정합니다.
-     * @param sensitivePatterns 민감 정보 필터링 패턴 리스트
+     * 활성화할 값 탐지기 목록을 설정합니다.
+     * @param redactionValueDetectors 값 탐지기 이름 목록 (card, email, rrn)
      */
-    public void setSensitivePatterns(List<String> sensitivePatterns) {
-        this.sensitivePatterns = sensitivePatterns;
+    public void setRedactionValueDetectors(List<String> redactionValueDetectors) {
+        this.redactionValueDetectors = redactionValueDetectors;
     }
 
     /**
-     * 민감 정보 대체 문자열을 반환합니다.
-     * @return 민감 정보 대체 문자열
+     * 추가 값 정규식 목록을 반환합니다.
+     * @return 추가 값 정규식 목록
      */
-    public String getSensitiveValueReplacement() {
-        return sensitiveValueReplacement;
+    public List<String> getRedactionValuePatterns() {
+        return redactionValuePatterns;
     }
 
     /**
-     * 민감 정보 대체 문자열을 설정합니다.
-     * @param sensitiveValueReplacement 민감 정보 대체 문자열
+     * 추가 값 정규식 목록을 설정합니다.
+     * @param redactionValuePatterns 추가 값 정규식 목록
      */
-    public void setSensitiveValueReplacement(String sensitiveValueReplacement) {
-        this.sensitiveValueReplacement = sensitiveValueReplacement;
+    public void setRedactionValuePatterns(List<String> redactionValuePatterns) {
+        this.redactionValuePatterns = redactionValuePatterns;
     }
 
     /**
-     * 전송할 최소 로그 레벨을 반환합니다.
-     * @return Logback의 {@link Level} 객체
+     * 캡처된 본문의 민감 값 치환 여부를 반환합니다.
+     * @return 본문 민감 값 치환 여부
      */
-    public Level getLogLevel() {
-        return logLevel;
+    public boolean isRedactBodies() {
+        return redactBodies;
     }
 
     /**
-     * 전송할 최소 로그 레벨을 설정합니다.
-     * @param logLevel Logback의 {@link Level} 객체
+     * 캡처된 본문의 민감 값 치환 여부를 설정합니다.
+     * @param redactBodies 본문 민감 값 치환 여부
      */
-    public void setLogLevel(Level logLevel) {
-        this.logLevel = logLevel;
+    public void setRedactBodies(boolean redactBodies) {
+        this.redactBodies = redactBodies;
     }
 
     /**
-     * 로그 전송 실패 시 최대 재시도 횟수를 반환합니다.
-     * @return 최대 재시도 횟수
+     * 종료 시 잔여 로그 전송 제한 시간을 반환합니다.
+     * @return 종료 시 전송 제한 시간 (ms)
      */
-    public int getMaxRetries() {
-        return maxRetries;
+    public long getShutdownFlushTimeout() {
+        return shutdownFlushTimeout;
     }
 
     /**
-     * 로그 전송 실패 시 최대 재시도 횟수를 설정합니다.
-     * @param maxRetries 최대 재시도 횟수
+     * 종료 시 잔여 로그 전송 제한 시간을 설정합니다.
+     * @param shutdownFlushTimeout 종료 시 전송 제한 시간 (ms)
      */
-    public void setMaxRetries(int maxRetries) {
-        this.maxRetries = maxRetries;
+    public void setShutdownFlushTimeout(long shutdownFlushTimeout) {
+        this.shutdownFlushTimeout = shutdownFlushTimeout;
     }
 
     /**
-     * 재시도 간격(밀리초)을 반환합니다.
-     * @return 재시도 간격(밀리초)
+     * 종료 시 동시 전송 요청 수를 반환합니다.
+     * @return 종료 시 동시 전송 요청 수
      */
-    public int getRetryDelay() {
-        return retryDelay;
+    public int getShutdownFlushParallelism() {
+        return shutdownFlushParallelism;
+    }
+
+    /**
+     * 종료 시 동시 전송 요청 수를 설정합니다.
+     * @param shutdownFlushParallelism 종료 시 동시 전송 요청 수
+     */
+    public void setShutdownFlushParallelism(int shutdownFlushParallelism) {
+        this.shutdownFlushParallelism = shutdownFlushParallelism;
+    }
+
+    /**
+     * JVM 셧다운 훅 등록 여부를 반환합니다.
+     * @return JVM 셧다운 훅 등록 여부
+     */
+    public boolean isShutdownHookEnabled() {
+        return shutdownHookEnabled;
+    }
+
+    /**
+     * JVM 셧다운 훅 등록 여부를 설정합니다.
+     * @param shutdownHookEnabled JVM 셧다운 훅 등록 여부
+     */
+    public void setShutdownHookEnabled(boolean shutdownHookEnabled) {
+        this.shutdownHookEnabled = shutdownHookEnabled;
+    }
+
+    /**
+     * 로그 전송 방식을 반환합니다.
+     * @return 로그 전송 방식 ({@code http} 또는 {@code spool})
+     */
+    public String getTransport() {
+        return transport;
+    }
+
+    /**
+     * 로그 전송 방식을 설정합니다.
+     * @param transport 로그 전송 방식 ({@code http} 또는 {@code spool})
+     */
+    public void setTransport(String transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * {@code spool} 전송 방식을 사용하는지 확인합니다.
+     * @return 스풀 전송 방식이면 {@code true}
+     */
+    public boolean isSpoolTransport() {
+        return "spool".equalsIgnoreCase(transport == null ? null : transport.trim());
+    }
+
+    /**
+     * 스풀 디렉토리 경로를 반환합니다.
+     * @return 스풀 디렉토리 경로 문자열
+     */
+    public String getSpoolPath() {
+        return spoolPath;
+    }
+
+    /**
+     * 스풀 디렉토리 경로를 설정합니다.
+     * @param spoolPath 스풀 디렉토리 경로 문자열
+     */
+    public void setSpoolPath(String spoolPath) {
+        this.spoolPath = spoolPath;
+    }
+
+    /**
+     * 스풀 세그먼트 파일 크기(MB)를 반환합니다.
+     * @return 스풀 세그먼트 파일 크기(MB)
+     */
+    public int getSpoolSegmentSizeMb() {
+        return spoolSegmentSizeMb;
+    }
+
+    /**
+     * 스풀 세그먼트 파일 크기(MB)를 설정합니다.
+     * @param spoolSegmentSizeMb 스풀 세그먼트 파일 크기(MB)
+     */
+    public void setSpoolSegmentSizeMb(int spoolSegmentSizeMb) {
+        this.spoolSegmentSizeMb = spoolSegmentSizeMb;
+    }
+
+    /**
+     * 스풀 디렉토리 최대 크기(MB)를 반환합니다.
+     * @return 스풀 디렉토리 최대 크기(MB)
+     */
+    public long getSpoolMaxSizeMb() {
+        return spoolMaxSizeMb;
+    }
+
+    /**
+     * 스풀 디렉토리 최대 크기(MB)를 설정합니다.
+     * @param spoolMaxSizeMb 스풀 디렉토리 최대 크기(MB)
+     */
+    public void setSpoolMaxSizeMb(long spoolMaxSizeMb) {
+        this.spoolMaxSizeMb = spoolMaxSizeMb;
+    }
+
+    /**
+     * 스풀 파일 동기화 정책을 반환합니다.
+     * @return 동기화 정책 ({@code none}, {@code batch}, {@code interval})
+     */
+    public String getSpoolFsyncPolicy() {
+        return spoolFsyncPolicy;
+    }
+
+    /**
+     * 스풀 파일 동기화 정책을 설정합니다.
+     * @param spoolFsyncPolicy 동기화 정책 ({@code none}, {@code batch}, {@code interval})
+     */
+    public void setSpoolFsyncPolicy(String spoolFsyncPolicy) {
+        this.spoolFsyncPolicy = spoolFsyncPolicy;
+    }
+
+    /**
+     * 스풀 파일 동기화 간격을 반환합니다.
+     * @return 스풀 파일 동기화 간격 (ms)
+     */
+    public long getSpoolFsyncInterval() {
+        return spoolFsyncInterval;
+    }
+
+    /**
+     * 스풀 파일 동기화 간격을 설정합니다.
+     * @param spoolFsyncInterval 스풀 파일 동기화 간격 (ms)
+     */
+    public void setSpoolFsyncInterval(long spoolFsyncInterval) {
+        this.spoolFsyncInterval = spoolFsyncInterval;
+    }
+
+    /**
+     * 로그 서버 URL 목록을 반환합니다.
+     * @return 로그 서버 URL 목록
+     */
+    public List<String> getUrls() {
+        return urls;
+    }
+
+    /**
+     * 로그 서버 URL 목록을 설정합니다.
+     * @param urls 로그 서버 URL 목록
+     */
+    public void setUrls(List<String> urls) {
+        this.urls = urls;
+    }
+
+    /**
+     * 실제로 로그를 보낼 엔드포인트 목록을 반환합니다.
+     * {@link #urls}가 설정되어 있으면 그 목록(빈 값과 중복 제외)을, 아니면 {@link #url} 하나를 반환합니다.
+     * @return 엔드포인트 URL 목록, 전송이 비활성화된 경우 빈 목록
+     */
+    public List<String> getEffectiveUrls() {
+        List<String> effective = new ArrayList<>();
+        List<String> source = (urls != null && !urls.isEmpty()) ? urls : Collections.singletonList(url);
+        for (String candidate : source) {
+            if (candidate != null && !candidate.trim().isEmpty() && !effective.contains(candidate.trim())) {
+                effective.add(candidate.trim());
+            }
+        }
+        return effective;
+    }
+
+    /**
+     * 엔드포인트 선택 방식을 반환합니다.
+     * @return 엔드포인트 선택 방식 ({@code least-outstanding} 또는 {@code ewma})
+     */
+    public String getLoadBalancingStrategy() {
+        return loadBalancingStrategy;
+    }
+
+    /**
+     * 엔드포인트 선택 방식을 설정합니다.
+     * @param loadBalancingStrategy 엔드포인트 선택 방식 ({@code least-outstanding} 또는 {@code ewma})
+     */
+    public void setLoadBalancingStrategy(String loadBalancingStrategy) {
+        this.loadBalancingStrategy = loadBalancingStrategy;
+    }
+
+    /**
+     * 엔드포인트 제외 기준 연속 실패 횟수를 반환합니다.
+     * @return 엔드포인트 제외 기준 연속 실패 횟수
+     */
+    public int getOutlierConsecutiveFailures() {
+        return outlierConsecutiveFailures;
+    }
+
+    /**
+     * 엔드포인트 제외 기준 연속 실패 횟수를 설정합니다.
+     * @param outlierConsecutiveFailures 엔드포인트 제외 기준 연속 실패 횟수
+     */
+    public void setOutlierConsecutiveFailures(int outlierConsecutiveFailures) {
+        this.outlierConsecutiveFailures = outlierConsecutiveFailures;
+    }
+
+    /**
+     * 엔드포인트 제외 시간을 반환합니다.
+     * @return 엔드포인트 제외 시간 (ms)
+     */
+    public long getOutlierEjectionTime() {
+        return outlierEjectionTime;
+    }
+
+    /**
+     * 엔드포인트 제외 시간을 설정합니다.
+     * @param outlierEjectionTime 엔드포인트 제외 시간 (ms)
+     */
+    public void setOutlierEjectionTime(long outlierEjectionTime) {
+        this.outlierEjectionTime = outlierEjectionTime;
+    }
+
+    /**
+     * 동시 전송 한도의 최솟값을 반환합니다.
+     * @return 동시 전송 한도 최솟값
+     */
+    public int getSendConcurrencyMin() {
+        return sendConcurrencyMin;
+    }
+
+    /**
+     * 동시 전송 한도의 최솟값을 설정합니다.
+     * @param sendConcurrencyMin 동시 전송 한도 최솟값
+     */
+    public void setSendConcurrencyMin(int sendConcurrencyMin) {
+        this.sendConcurrencyMin = sendConcurrencyMin;
+    }
+
+    /**
+     * 동시 전송 한도의 최댓값을 반환합니다.
+     * @return 동시 전송 한도 최댓값
+     */
+    public int getSendConcurrencyMax() {
+        return sendConcurrencyMax;
+    }
+
+    /**
+     * 동시 전송 한도의 최댓값을 설정합니다.
+     * @param sendConcurrencyMax 동시 전송 한도 최댓값
+     */
+    public void setSendConcurrencyMax(int sendConcurrencyMax) {
+        this.sendConcurrencyMax = sendConcurrencyMax;
+    }
+
+    /**
+     * 과부하 시 동시 전송 한도 감소 비율을 반환합니다.
+     * @return 동시 전송 한도 감소 비율
+     */
+    public double getSendConcurrencyDecreaseRatio() {
+        return sendConcurrencyDecreaseRatio;
+    }
+
+    /**
+     * 과부하 시 동시 전송 한도 감소 비율을 설정합니다.
+     * @param sendConcurrencyDecreaseRatio 동시 전송 한도 감소 비율 (0 초과 1 미만)
+     */
+    public void setSendConcurrencyDecreaseRatio(double sendConcurrencyDecreaseRatio) {
+        this.sendConcurrencyDecreaseRatio = sendConcurrencyDecreaseRatio;
+    }
+
+    /**
+     * 긴급 레인 사용 여부를 반환합니다.
+     * @return 긴급 레인 사용 여부
+     */
+    public boolean isUrgentLaneEnabled() {
+        return urgentLaneEnabled;
+    }
+
+    /**
+     * 긴급 레인 사용 여부를 설정합니다.
+     * @param urgentLaneEnabled 긴급 레인 사용 여부
+     */
+    public void setUrgentLaneEnabled(boolean urgentLaneEnabled) {
+        this.urgentLaneEnabled = urgentLaneEnabled;
+    }
+
+    /**
+     * 긴급 레인으로 보낼 최소 로그 레벨을 반환합니다.
+     * @return 긴급 레인으로 보낼 최소 로그 레벨
+     */
+    public Level getUrgentLevel() {
+        return urgentLevel;
+    }
+
+    /**
+     * 긴급 레인으로 보낼 최소 로그 레벨을 설정합니다.
+     * @param urgentLevel 긴급 레인으로 보낼 최소 로그 레벨
+     */
+    public void setUrgentLevel(Level urgentLevel) {
+        this.urgentLevel = urgentLevel;
+    }
+
+    /**
+     * 긴급 레인 큐의 최대 용량을 반환합니다.
+     * @return 긴급 레인 큐의 최대 용량
+     */
+    public int getUrgentQueueCapacity() {
+        return urgentQueueCapacity;
+    }
+
+    /**
+     * 긴급 레인 큐의 최대 용량을 설정합니다.
+     * @param urgentQueueCapacity 긴급 레인 큐의 최대 용량
+     */
+    public void setUrgentQueueCapacity(int urgentQueueCapacity) {
+        this.urgentQueueCapacity = urgentQueueCapacity;
+    }
+
+    /**
+     * 긴급 레인 배치 크기를 반환합니다.
+     * @return 긴급 레인 배치 크기
+     */
+    public int getUrgentBatchSize() {
+        return urgentBatchSize;
+    }
+
+    /**
+     * 긴급 레인 배치 크기를 설정합니다.
+     * @param urgentBatchSize 긴급 레인 배치 크기
+     */
+    public void setUrgentBatchSize(int urgentBatchSize) {
+        this.urgentBatchSize = urgentBatchSize;
+    }
+
+    /**
+     * 긴급 레인 플러시 간격을 반환합니다.
+     * @return 긴급 레인 플러시 간격 (ms)
+     */
+    public int getUrgentBatchFlushInterval() {
+        return urgentBatchFlushInterval;
+    }
+
+    /**
+     * 긴급 레인 플러시 간격을 설정합니다.
+     * @param urgentBatchFlushInterval 긴급 레인 플러시 간격 (ms)
+     */
+    public void setUrgentBatchFlushInterval(int urgentBatchFlushInterval) {
+        this.urgentBatchFlushInterval = urgentBatchFlushInterval;
+    }
+
+    /**
+     * 긴급 레인 가중치를 반환합니다.
+     * @return 긴급 레인 가중치
+     */
+    public int getUrgentLaneWeight() {
+        return urgentLaneWeight;
+    }
+
+    /**
+     * 긴급 레인 가중치를 설정합니다.
+     * @param urgentLaneWeight 긴급 레인 가중치
+     */
+    public void setUrgentLaneWeight(int urgentLaneWeight) {
+        this.urgentLaneWeight = urgentLaneWeight;
+    }
+
+    /**
+     * WARN 미만 로그의 전송 비율을 반환합니다.
+     * @return WARN 미만 로그의 전송 비율 (0.0 ~ 1.0)
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * WARN 미만 로그의 전송 비율을 설정합니다.
+     * @param sampleRate WARN 미만 로그의 전송 비율 (0.0 ~ 1.0)
+     */
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * 실행 중 전송 설정 변경 기능 사용 여부를 반환합니다.
+     * @return 실행 중 전송 설정 변경 기능 사용 여부
+     */
+    public boolean isRuntimeControlEnabled() {
+        return runtimeControlEnabled;
+    }
+
+    /**
+     * 실행 중 전송 설정 변경 기능 사용 여부를 설정합니다.
+     * @param runtimeControlEnabled 실행 중 전송 설정 변경 기능 사용 여부
+     */
+    public void setRuntimeControlEnabled(boolean runtimeControlEnabled) {
+        this.runtimeControlEnabled = runtimeControlEnabled;
+    }
+
+    /**
+     * 메모리 큐의 최대 바이트 수를 반환합니다.
+     * @return 메모리 큐의 최대 바이트 수
+     */
+    public long getMaxQueueBytes() {
+        return maxQueueBytes;
+    }
+
+    /**
+     * 메모리 큐의 최대 바이트 수를 설정합니다.
+     * @param maxQueueBytes 메모리 큐의 최대 바이트 수
+     */
+    public void setMaxQueueBytes(long maxQueueBytes) {
+        this.maxQueueBytes = maxQueueBytes;
+    }
+
+    /**
+     * 오프힙 큐 사용 여부를 반환합니다.
+     * @return 오프힙 큐 사용 여부
+     */
+    public boolean isOffHeapQueueEnabled() {
+        return offHeapQueueEnabled;
     }
 
     /**
-     * 재시도 간격(밀리초)을 설정합니다.
-     * @param retryDelay 재시도 간격(밀리초)
+     * 오프힙 큐 사용 여부를 설정합니다.
+     * @param offHeapQueueEnabled 오프힙 큐 사용 여부
      */
-    public void setRetryDelay(int retryDelay) {
-        this.retryDelay = retryDelay;
+    public void setOffHeapQueueEnabled(boolean offHeapQueueEnabled) {
+        this.offHeapQueueEnabled = offHeapQueueEnabled;
     }
 
     /**
-     * HTTPS 사용 여부를 반환합니다.
-     * @return HTTPS 사용 시 {@code true}, 아니면 {@code false}
+     * 오프힙 큐 슬랩 크기(KB)를 반환합니다.
+     * @return 오프힙 큐 슬랩 크기(KB)
      */
-    public boolean isUseHttps() {
-        return useHttps;
+    public int getOffHeapSlabSizeKb() {
+        return offHeapSlabSizeKb;
     }
 
     /**
-     * HTTPS 사용 여부를 설정합니다.
-     * @param useHttps HTTPS 사용 시 {@code true}, 아니면 {@code false}
+     * 오프힙 큐 슬랩 크기(KB)를 설정합니다.
+     * @param offHeapSlabSizeKb 오프힙 큐 슬랩 크기(KB)
      */
-    public void setUseHttps(boolean useHttps) {
-        this.useHttps = useHttps;
+    public void setOffHeapSlabSizeKb(int offHeapSlabSizeKb) {
+        this.offHeapSlabSizeKb = offHeapSlabSizeKb;
     }
 
     /**
-     * 안전하지 않은 TLS 연결 허용 여부를 반환합니다.
-     * (프로덕션 환경에서는 사용하지 마십시오.)
-     * @return 허용 시 {@code true}, 아니면 {@code false}
+     * 외부 HTTP 호출 계측 사용 여부를 반환합니다.
+     * @return 외부 HTTP 호출 계측 사용 여부
      */
-    public boolean isAllowInsecureTls() {
-        return allowInsecureTls;
+    public boolean isOutboundTracingEnabled() {
+        return outboundTracingEnabled;
     }
 
     /**
-     * 안전하지 않은 TLS 연결 허용 여부를 설정합니다.
-     * @param allowInsecureTls 허용 시 {@code true}, 아니면 {@code false}
+     * 외부 HTTP 호출 계측 사용 여부를 설정합니다.
+     * @param outboundTracingEnabled 외부 HTTP 호출 계측 사용 여부
      */
-    public void setAllowInsecureTls(boolean allowInsecureTls) {
-        this.allowInsecureTls = allowInsecureTls;
+    public void setOutboundTracingEnabled(boolean outboundTracingEnabled) {
+        this.outboundTracingEnabled = outboundTracingEnabled;
     }
 
     /**
-     * 한 번에 전송할 로그의 최대 개수(배치 크기)를 반환합니다.
-     * @return 배치 크기
+     * 외부 호출 완료 로그 기록 여부를 반환합니다.
+     * @return 외부 호출 완료 로그 기록 여부
      */
-    public int getBatchSize() {
-        return batchSize;
+    public boolean isOutboundEventLogging() {
+        return outboundEventLogging;
     }
 
     /**
-     * 한 번에 전송할 로그의 최대 개수(배치 크기)를 설정합니다.
-     * @param batchSize 배치 크기
+     * 외부 호출 완료 로그 기록 여부를 설정합니다.
+     * @param outboundEventLogging 외부 호출 완료 로그 기록 여부
      */
-    public void setBatchSize(int batchSize) {
-        this.batchSize = batchSize;
+    public void setOutboundEventLogging(boolean outboundEventLogging) {
+        this.outboundEventLogging = outboundEventLogging;
     }
 
     /**
-     * 로그를 모으는 최대 시간 간격(배치 플러시 간격, 밀리초)을 반환합니다.
-     * @return 배치 플러시 간격(밀리초)
+     * 외부 호출 완료 로그를 남길 최소 응답 시간(ms)을 반환합니다.
+     * @return 외부 호출 완료 로그를 남길 최소 응답 시간(ms)
      */
-    public int getBatchFlushInterval() {
-        return batchFlushInterval;
+    public long getOutboundEventMinDurationMs() {
+        return outboundEventMinDurationMs;
     }
 
     /**
-     * 로그를 모으는 최대 시간 간격(배치 플러시 간격, 밀리초)을 설정합니다.
-     * @param batchFlushInterval 배치 플러시 간격(밀리초)
+     * 외부 호출 완료 로그를 남길 최소 응답 시간(ms)을 설정합니다.
+     * @param outboundEventMinDurationMs 외부 호출 완료 로그를 남길 최소 응답 시간(ms)
      */
-    public void setBatchFlushInterval(int batchFlushInterval) {
-        this.batchFlushInterval = batchFlushInterval;
+    public void setOutboundEventMinDurationMs(long outboundEventMinDurationMs) {
+        this.outboundEventMinDurationMs = outboundEventMinDurationMs;
     }
 
     /**
-     * 메모리 큐의 최대 용량을 반환합니다.
-     * @return 메모리 큐 용량
+     * 응답 시간 분포를 따로 집계할 최대 호스트 수를 반환합니다.
+     * @return 응답 시간 분포를 따로 집계할 최대 호스트 수
      */
-    public int getQueueCapacity() {
-        return queueCapacity;
+    public int getOutboundMaxHosts() {
+        return outboundMaxHosts;
     }
 
     /**
-     * 메모리 큐의 최대 용량을 설정합니다.
-     * @param queueCapacity 메모리 큐 용량
+     * 응답 시간 분포를 따로 집계할 최대 호스트 수를 설정합니다.
+     * @param outboundMaxHosts 응답 시간 분포를 따로 집계할 최대 호스트 수
      */
-    public void setQueueCapacity(int queueCapacity) {
-        this.queueCapacity = queueCapacity;
+    public void setOutboundMaxHosts(int outboundMaxHosts) {
+        this.outboundMaxHosts = outboundMaxHosts;
     }
 
     /**
-     * 디스크 큐(폴백) 활성화 여부를 반환합니다.
-     * @return 활성화 시 {@code true}, 아니면 {@code false}
+     * JDBC 쿼리 계측 사용 여부를 반환합니다.
+     * @return JDBC 쿼리 계측 사용 여부
      */
-    public boolean isDiskQueueEnabled() {
-        return diskQueueEnabled;
+    public boolean isJdbcTracingEnabled() {
+        return jdbcTracingEnabled;
     }
 
     /**
-     * 디스크 큐(폴백) 활성화 여부를 설정합니다.
-     * @param diskQueueEnabled 활성화 시 {@code true}, 아니면 {@code false}
+     * JDBC 쿼리 계측 사용 여부를 설정합니다.
+     * @param jdbcTracingEnabled JDBC 쿼리 계측 사용 여부
      */
-    public void setDiskQueueEnabled(boolean diskQueueEnabled) {
-        this.diskQueueEnabled = diskQueueEnabled;
+    public void setJdbcTracingEnabled(boolean jdbcTracingEnabled) {
+        this.jdbcTracingEnabled = jdbcTracingEnabled;
     }
 
     /**
-     * 실패한 로그를 저장할 디스크 경로를 반환합니다.
-     * @return 디스크 큐 경로 문자열
+     * 느린 쿼리 기준 시간(ms)을 반환합니다.
+     * @return 느린 쿼리 기준 시간(ms)
      */
-    public String getDiskQueuePath() {
-        return diskQueuePath;
+    public long getJdbcSlowQueryThresholdMs() {
+        return jdbcSlowQueryThresholdMs;
     }
 
     /**
-     * 실패한 로그를 저장할 디스크 경로를 설정합니다.
-     * @param diskQueuePath 디스크 큐 경로 문자열
+     * 느린 쿼리 기준 시간(ms)을 설정합니다.
+     * @param jdbcSlowQueryThresholdMs 느린 쿼리 기준 시간(ms)
      */
-    public void setDiskQueuePath(String diskQueuePath) {
-        this.diskQueuePath = diskQueuePath;
+    public void setJdbcSlowQueryThresholdMs(long jdbcSlowQueryThresholdMs) {
+        this.jdbcSlowQueryThresholdMs = jdbcSlowQueryThresholdMs;
     }
 
     /**
-     * 디스크에 저장된 로그를 재전송 시도하는 간격(밀리초)을 반환합니다.
-     * @return 디스크 큐 재전송 간격(밀리초)
+     * 반복 쿼리 기록 기준 횟수를 반환합니다.
+     * @return 반복 쿼리 기록 기준 횟수
      */
-    public int getDiskResendInterval() {
-        return diskResendInterval;
+    public int getJdbcRepeatedQueryThreshold() {
+        return jdbcRepeatedQueryThreshold;
     }
 
     /**
-     * 디스크에 저장된 로그를 재전송 시도하는 간격(밀리초)을 설정합니다.
-     * @param diskResendInterval 디스크 큐 재전송 간격(밀리초)
+     * 반복 쿼리 기록 기준 횟수를 설정합니다.
+     * @param jdbcRepeatedQueryThreshold 반복 쿼리 기록 기준 횟수
      */
-    public void setDiskResendInterval(int diskResendInterval) {
-        this.diskResendInterval = diskResendInterval;
+    public void setJdbcRepeatedQueryThreshold(int jdbcRepeatedQueryThreshold) {
+        this.jdbcRepeatedQueryThreshold = jdbcRepeatedQueryThreshold;
     }
 
     /**
-     * 디스크 큐의 최대 크기 제한(MB)을 반환합니다.
-     * @return 디스크 큐 최대 크기(MB)
+     * 응답 시간 분포를 따로 집계할 최대 쿼리 지문 수를 반환합니다.
+     * @return 응답 시간 분포를 따로 집계할 최대 쿼리 지문 수
      */
-    public long getMaxDiskQueueSizeMb() {
-        return maxDiskQueueSizeMb;
+    public int getJdbcMaxFingerprints() {
+        return jdbcMaxFingerprints;
     }
 
     /**
-     * 디스크 큐의 최대 크기 제한(MB)을 설정합니다.
-     * @param maxDiskQueueSizeMb 디스크 큐 최대 크기(MB)
+     * 응답 시간 분포를 따로 집계할 최대 쿼리 지문 수를 설정합니다.
+     * @param jdbcMaxFingerprints 응답 시간 분포를 따로 집계할 최대 쿼리 지문 수
      */
-    public void setMaxDiskQueueSizeMb(long maxDiskQueueSizeMb) {
-        this.maxDiskQueueSizeMb = maxDiskQueueSizeMb;
+    public void setJdbcMaxFingerprints(int jdbcMaxFingerprints) {
+        this.jdbcMaxFingerprints = jdbcMaxFingerprints;
     }
 
     /**
-     * 서버 연결 상태를 확인하는 간격(밀리초)을 반환합니다.
-     * @return 연결 확인 간격(밀리초)
+     * 경로별 응답 시간 요약 사용 여부를 반환합니다.
+     * @return 경로별 응답 시간 요약 사용 여부
      */
-    public long getConnectionCheckInterval() {
-        return connectionCheckInterval;
+    public boolean isRouteSummaryEnabled() {
+        return routeSummaryEnabled;
     }
 
     /**
-     * 서버 연결 상태를 확인하는 간격(밀리초)을 설정합니다.
-     * @param connectionCheckInterval 연결 확인 간격(밀리초)
+     * 경로별 응답 시간 요약 사용 여부를 설정합니다.
+     * @param routeSummaryEnabled 경로별 응답 시간 요약 사용 여부
      */
-    public void setConnectionCheckInterval(long connectionCheckInterval) {
-        this.connectionCheckInterval = connectionCheckInterval;
+    public void setRouteSummaryEnabled(boolean routeSummaryEnabled) {
+        this.routeSummaryEnabled = routeSummaryEnabled;
     }
 
     /**
-     * 서버 연결 상태 확인 시 타임아웃(밀리초)을 반환합니다.
-     * @return 연결 확인 타임아웃(밀리초)
+     * 경로별 응답 시간 요약 주기(초)를 반환합니다.
+     * @return 경로별 응답 시간 요약 주기(초)
      */
-    public long getConnectionCheckTimeout() {
-        return connectionCheckTimeout;
+    public int getRouteSummaryIntervalSeconds() {
+        return routeSummaryIntervalSeconds;
     }
 
     /**
-     * 서버 연결 상태 확인 시 타임아웃(밀리초)을 설정합니다.
-     * @param connectionCheckTimeout 연결 확인 타임아웃(밀리초)
+     * 경로별 응답 시간 요약 주기(초)를 설정합니다.
+     * @param routeSummaryIntervalSeconds 경로별 응답 시간 요약 주기(초)
      */
-    public void setConnectionCheckTimeout(long connectionCheckTimeout) {
-        this.connectionCheckTimeout = connectionCheckTimeout;
+    public void setRouteSummaryIntervalSeconds(int routeSummaryIntervalSeconds) {
+        this.routeSummaryIntervalSeconds = routeSummaryIntervalSeconds;
     }
 
     /**
-     * 설정된 디스크 큐 경로를 {@link java.nio.file.Path} 객체로 반환합니다.
-     * @return 디스크 큐 경로의 Path 객체
+     * 요약을 따로 집계할 최대 경로 조합 수를 반환합니다.
+     * @return 요약을 따로 집계할 최대 경로 조합 수
      */
-    public java.nio.file.Path getDiskQueuePathObject() {
-        return Paths.get(this.diskQueuePath);
+    public int getRouteSummaryMaxRoutes() {
+        return routeSummaryMaxRoutes;
     }
 
     /**
-     * 설정된 디스크 큐 최대 크기 제한(MB)을 바이트 단위로 변환하여 반환합니다.
-     * 0 또는 음수이면 제한 없음을 나타내는 {@code Long.MAX_VALUE}를 반환합니다.
-     * @return 디스크 큐 최대 크기(바이트)
+     * 요약을 따로 집계할 최대 경로 조합 수를 설정합니다.
+     * @param routeSummaryMaxRoutes 요약을 따로 집계할 최대 경로 조합 수
      */
-    public long getMaxDiskQueueSizeBytes() {
-        if (this.maxDiskQueueSizeMb <= 0) {
-            return Long.MAX_VALUE; // 제한 없음
-        }
-        return this.maxDiskQueueSizeMb * 1024 * 1024;
+    public void setRouteSummaryMaxRoutes(int routeSummaryMaxRoutes) {
+        this.routeSummaryMaxRoutes = routeSummaryMaxRoutes;
     }
 
     /**
-     * HttpClient 커넥션 풀의 전체 최대 커넥션 수를 반환합니다.
-     * @return 전체 최대 커넥션 수
+     * 요청 완료 로그 기록 비율을 반환합니다.
+     * @return 요청 완료 로그 기록 비율 (0.0 ~ 1.0)
      */
-    public int getHttpClientPoolMaxTotal() {
-        return httpClientPoolMaxTotal;
+    public double getAccessLogSampleRate() {
+        return accessLogSampleRate;
     }
 
     /**
-     * HttpClient 커넥션 풀의 전체 최대 커넥션 수를 설정합니다.
-     * @param httpClientPoolMaxTotal 전체 최대 커넥션 수
+     * 요청 완료 로그 기록 비율을 설정합니다.
+     * @param accessLogSampleRate 요청 완료 로그 기록 비율 (0.0 ~ 1.0)
      */
-    public void setHttpClientPoolMaxTotal(int httpClientPoolMaxTotal) {
-        this.httpClientPoolMaxTotal = httpClientPoolMaxTotal;
+    public void setAccessLogSampleRate(double accessLogSampleRate) {
+        this.accessLogSampleRate = accessLogSampleRate;
     }
 
     /**
-     * HttpClient 커넥션 풀의 라우트당 기본 최대 커넥션 수를 반환합니다.
-     * @return 라우트당 기본 최대 커넥션 수
+     * JFR 기반 JVM 상태 요약 사용 여부를 반환합니다.
+     * @return JVM 상태 요약 사용 여부
      */
-    public int getHttpClientPoolDefaultMaxPerRoute() {
-        return httpClientPoolDefaultMaxPerRoute;
+    public boolean isJvmTelemetryEnabled() {
+        return jvmTelemetryEnabled;
     }
 
     /**
-     * HttpClient 커넥션 풀의 라우트당 기본 최대 커넥션 수를 설정합니다.
-     * @param httpClientPoolDefaultMaxPerRoute 라우트당 기본 최대 커넥션 수
+     * JFR 기반 JVM 상태 요약 사용 여부를 설정합니다.
+     * @param jvmTelemetryEnabled JVM 상태 요약 사용 여부
      */
-    public void setHttpClientPoolDefaultMaxPerRoute(int httpClientPoolDefaultMaxPerRoute) {
-        this.httpClientPoolDefaultMaxPerRoute = httpClientPoolDefaultMaxPerRoute;
+    public void setJvmTelemetryEnabled(boolean jvmTelemetryEnabled) {
+        this.jvmTelemetryEnabled = jvmTelemetryEnabled;
     }
 
     /**
-     * HttpClient 커넥션 풀의 유휴 커넥션 정리 주기(초)를 반환합니다.
-     * @return 유휴 커넥션 정리 주기(초)
+     * JVM 상태 요약 주기를 반환합니다.
+     * @return JVM 상태 요약 주기(초)
      */
-    public long getHttpClientPoolEvictIdleConnectionsAfter() {
-        return httpClientPoolEvictIdleConnectionsAfter;
+    public int getJvmTelemetryIntervalSeconds() {
+        return jvmTelemetryIntervalSeconds;
     }
 
     /**
-     * HttpClient 커넥션 풀의 유휴 커넥션 정리 주기(초)를 설정합니다.
-     * @param httpClientPoolEvictIdleConnectionsAfter 유휴 커넥션 정리 주기(초)
+     * JVM 상태 요약 주기를 설정합니다.
+     * @param jvmTelemetryIntervalSeconds JVM 상태 요약 주기(초)
      */
-    public void setHttpClientPoolEvictIdleConnectionsAfter(long httpClientPoolEvictIdleConnectionsAfter) {
-        this.httpClientPoolEvictIdleConnectionsAfter = httpClientPoolEvictIdleConnectionsAfter;
+    public void setJvmTelemetryIntervalSeconds(int jvmTelemetryIntervalSeconds) {
+        this.jvmTelemetryIntervalSeconds = jvmTelemetryIntervalSeconds;
     }
 
     /**
-     * 로깅 상태 지표 수집 활성화 여부를 반환합니다.
-     * @return 지표 수집 활성화 시 {@code true}, 아니면 {@code false}
+     * 락 대기를 기록할 최소 시간을 반환합니다.
+     * @return 락 대기를 기록할 최소 시간(ms)
      */
-    public boolean isMetricsEnabled() {
-        return metricsEnabled;
+    public long getJvmTelemetryContentionThresholdMs() {
+        return jvmTelemetryContentionThresholdMs;
     }
 
     /**
-     * 로깅 상태 지표 수집 활성화 여부를 설정합니다.
-     * @param metricsEnabled 지표 수집 활성화 시 {@code true}, 아니면 {@code false}
+     * 락 대기를 기록할 최소 시간을 설정합니다.
+     * @param jvmTelemetryContentionThresholdMs 락 대기를 기록할 최소 시간(ms)
      */
-    public void setMetricsEnabled(boolean metricsEnabled) {
-        this.metricsEnabled = metricsEnabled;
+    public void setJvmTelemetryContentionThresholdMs(long jvmTelemetryContentionThresholdMs) {
+        this.jvmTelemetryContentionThresholdMs = jvmTelemetryContentionThresholdMs;
     }
 
     /**
-     * 상태 지표 수집 주기(밀리초)를 반환합니다.
-     * @return 지표 수집 주기(밀리초)
+     * 상시 CPU 프로파일링 사용 여부를 반환합니다.
+     * @return CPU 프로파일링 사용 여부
      */
-    public long getMetricsCollectionInterval() {
-        return metricsCollectionInterval;
+    public boolean isProfilingEnabled() {
+        return profilingEnabled;
     }
 
     /**
-     * 상태 지표 수집 주기(밀리초)를 설정합니다.
-     * @param metricsCollectionInterval 지표 수집 주기(밀리초)
+     * 상시 CPU 프로파일링 사용 여부를 설정합니다.
+     * @param profilingEnabled CPU 프로파일링 사용 여부
      */
-    public void setMetricsCollectionInterval(long metricsCollectionInterval) {
-        this.metricsCollectionInterval = metricsCollectionInterval;
+    public void setProfilingEnabled(boolean profilingEnabled) {
+        this.profilingEnabled = profilingEnabled;
     }
 
     /**
-     * 상태 지표를 JMX를 통해 노출할지 여부를 반환합니다.
-     * @return JMX 노출 활성화 시 {@code true}, 아니면 {@code false}
+     * 프로파일 로그 주기를 반환합니다.
+     * @return 프로파일 로그 주기(초)
      */
-    public boolean isExposeMetricsViaJmx() {
-        return exposeMetricsViaJmx;
+    public int getProfilingIntervalSeconds() {
+        return profilingIntervalSeconds;
     }
 
     /**
-     * 상태 지표를 JMX를 통해 노출할지 여부를 설정합니다.
-     * @param exposeMetricsViaJmx JMX 노출 활성화 시 {@code true}, 아니면 {@code false}
+     * 프로파일 로그 주기를 설정합니다.
+     * @param profilingIntervalSeconds 프로파일 로그 주기(초)
      */
-    public void setExposeMetricsViaJmx(boolean exposeMetricsViaJmx) {
-        this.exposeMetricsViaJmx = exposeMetricsViaJmx;
+    public void setProfilingIntervalSeconds(int profilingIntervalSeconds) {
+        this.profilingIntervalSeconds = profilingIntervalSeconds;
     }
 
     /**
-     * 서비스 이름을 반환합니다.
-     * 이 값은 로그 JSON의 'serviceName' 필드로 출력됩니다.
-     * 
-     * @return 서비스 이름
+     * 스레드 샘플링 간격을 반환합니다.
+     * @return 스레드 샘플링 간격(ms)
      */
-    public String getServiceName() {
-        return serviceName;
+    public long getProfilingSampleIntervalMs() {
+        return profilingSampleIntervalMs;
     }
 
     /**
-     * 서비스 이름을 설정합니다.
-     * 
-     * @param serviceName 서비스 이름
+     * 스레드 샘플링 간격을 설정합니다.
+     * @param profilingSampleIntervalMs 스레드 샘플링 간격(ms)
      */
-    public void setServiceName(String serviceName) {
-        this.serviceName = serviceName;
+    public void setProfilingSampleIntervalMs(long profilingSampleIntervalMs) {
+        this.profilingSampleIntervalMs = profilingSampleIntervalMs;
     }
 
     /**
-     * API 키 검증 활성화 여부를 반환합니다.
-     * @return API 키 검증이 활성화된 경우 {@code true}, 그렇지 않으면 {@code false}
+     * 한 주기에 따로 집계할 최대 스택 수를 반환합니다.
+     * @return 한 주기에 따로 집계할 최대 스택 수
      */
-    public boolean isValidateApiKey() {
-        return validateApiKey;
+    public int getProfilingMaxStacks() {
+        return profilingMaxStacks;
     }
 
     /**
-     * API 키 검증 활성화 여부를 설정합니다.
-     * @param validateApiKey 검증 활성화 여부
+     * 한 주기에 따로 집계할 최대 스택 수를 설정합니다.
+     * @param profilingMaxStacks 한 주기에 따로 집계할 최대 스택 수
      */
-    public void setValidateApiKey(boolean validateApiKey) {
-        this.validateApiKey = validateApiKey;
+    public void setProfilingMaxStacks(int profilingMaxStacks) {
+        this.profilingMaxStacks = profilingMaxStacks;
     }
 
     /**
-     * 로그 압축 활성화 여부를 반환합니다.
-     * @return 압축 활성화 시 {@code true}, 아니면 {@code false}
+     * 느린 요청 스택 샘플링 사용 여부를 반환합니다.
+     * @return 느린 요청 스택 샘플링 사용 여부
      */
-    public boolean isCompressLogs() {
-        return compressLogs;
+    public boolean isSlowRequestSamplingEnabled() {
+        return slowRequestSamplingEnabled;
     }
 
     /**
-     * 로그 압축 활성화 여부를 설정합니다.
-     * @param compressLogs 압축 활성화 시 {@code true}, 아니면 {@code false}
+     * 느린 요청 스택 샘플링 사용 여부를 설정합니다.
+     * @param slowRequestSamplingEnabled 느린 요청 스택 샘플링 사용 여부
      */
-    public void setCompressLogs(boolean compressLogs) {
-        this.compressLogs = compressLogs;
+    public void setSlowRequestSamplingEnabled(boolean slowRequestSamplingEnabled) {
+        this.slowRequestSamplingEnabled = slowRequestSamplingEnabled;
     }
 
     /**
-     * 연결 오류 로그 출력을 억제할지 여부를 반환합니다.
-     * @return 연결 오류 로그 출력 억제 여부
+     * 스택 샘플링을 시작할 요청 처리 시간을 반환합니다.
+     * @return 스택 샘플링을 시작할 요청 처리 시간(ms)
      */
-    public boolean isSuppressConnectionErrors() {
-        return suppressConnectionErrors;
+    public long getSlowRequestThresholdMs() {
+        return slowRequestThresholdMs;
     }
 
     /**
-     * 연결 오류 로그 출력을 억제할지 여부를 설정합니다.
-     * @param suppressConnectionErrors 연결 오류 로그 출력 억제 여부
+     * 스택 샘플링을 시작할 요청 처리 시간을 설정합니다.
+     * @param slowRequestThresholdMs 스택 샘플링을 시작할 요청 처리 시간(ms)
      */
-    public void setSuppressConnectionErrors(boolean suppressConnectionErrors) {
-        this.suppressConnectionErrors = suppressConnectionErrors;
+    public void setSlowRequestThresholdMs(long slowRequestThresholdMs) {
+        this.slowRequestThresholdMs = slowRequestThresholdMs;
     }
 
     /**
-     * 지정된 기간 내에 출력할 최대 연결 오류 로그 수를 반환합니다.
-     * @return 최대 연결 오류 로그 수
+     * 느린 요청 스택 샘플링 간격을 반환합니다.
+     * @return 느린 요청 스택 샘플링 간격(ms)
      */
-    public int getMaxConnectionErrorLogsPerPeriod() {
-        return maxConnectionErrorLogsPerPeriod;
+    public long getSlowRequestSampleIntervalMs() {
+        return slowRequestSampleIntervalMs;
     }
 
     /**
-     * 지정된 기간 내에 출력할 최대 연결 오류 로그 수를 설정합니다.
-     * @param maxConnectionErrorLogsPerPeriod 최대 연결 오류 로그 수
+     * 느린 요청 스택 샘플링 간격을 설정합니다.
+     * @param slowRequestSampleIntervalMs 느린 요청 스택 샘플링 간격(ms)
      */
-    public void setMaxConnectionErrorLogsPerPeriod(int maxConnectionErrorLogsPerPeriod) {
-        this.maxConnectionErrorLogsPerPeriod = maxConnectionErrorLogsPerPeriod;
+    public void setSlowRequestSampleIntervalMs(long slowRequestSampleIntervalMs) {
+        this.slowRequestSampleIntervalMs = slowRequestSampleIntervalMs;
     }
 
     /**
-     * 연결 오류 로그 제한을 적용할 주기(밀리초)를 반환합니다.
-     * @return 연결 오류 로그 제한 주기(밀리초)
+     * 샘플마다 수집할 최대 스택 깊이를 반환합니다.
+     * @return 샘플마다 수집할 최대 스택 깊이
      */
-    public long getConnectionErrorLogPeriod() {
-        return connectionErrorLogPeriod;
+    public int getSlowRequestMaxStackDepth() {
+        return slowRequestMaxStackDepth;
     }
 
     /**
-     * 연결 오류 로그 제한을 적용할 주기(밀리초)를 설정합니다.
-     * @param connectionErrorLogPeriod 연결 오류 로그 제한 주기(밀리초)
+     * 샘플마다 수집할 최대 스택 깊이를 설정합니다.
+     * @param slowRequestMaxStackDepth 샘플마다 수집할 최대 스택 깊이
      */
-    public void setConnectionErrorLogPeriod(long connectionErrorLogPeriod) {
-        this.connectionErrorLogPeriod = connectionErrorLogPeriod;
+    public void setSlowRequestMaxStackDepth(int slowRequestMaxStackDepth) {
+        this.slowRequestMaxStackDepth = slowRequestMaxStackDepth;
     }
 
     /**
-     * 재시도 시 지수 백오프(Exponential Backoff) 전략을 사용할지 여부를 반환합니다.
-     * @return 지수 백오프 전략 사용 여부
+     * 요청별 CPU 시간/할당량 측정 여부를 반환합니다.
+     * @return 요청별 CPU 시간/할당량 측정 여부
      */
-    public boolean isUseExponentialBackoff() {
-        return useExponentialBackoff;
+    public boolean isRequestResourceTrackingEnabled() {
+        return requestResourceTrackingEnabled;
     }
 
     /**
-     * 재시도 시 지수 백오프(Exponential Backoff) 전략을 사용할지 여부를 설정합니다.
-     * @param useExponentialBackoff 지수 백오프 전략 사용 여부
+     * 요청별 CPU 시간/할당량 측정 여부를 설정합니다.
+     * @param requestResourceTrackingEnabled 요청별 CPU 시간/할당량 측정 여부
      */
-    public void setUseExponentialBackoff(boolean useExponentialBackoff) {
-        this.useExponentialBackoff = useExponentialBackoff;
+    public void setRequestResourceTrackingEnabled(boolean requestResourceTrackingEnabled) {
+        this.requestResourceTrackingEnabled = requestResourceTrackingEnabled;
     }
 
     /**
-     * 지수 백오프 전략 사용 시 초기 지연 시간(밀리초)을 반환합니다.
-     * @return 초기 지연 시간(밀리초)
+     * 비동기 작업으로의 요청 컨텍스트 전파 여부를 반환합니다.
+     * @return 비동기 작업으로의 요청 컨텍스트 전파 여부
      */
-    public long getInitialBackoffDelay() {
-        return initialBackoffDelay;
+    public boolean isAsyncContextPropagationEnabled() {
+        return asyncContextPropagationEnabled;
     }
 
     /**
-     * 지수 백오프 전략 사용 시 초기 지연 시간(밀리초)을 설정합니다.
-     * @param initialBackoffDelay 초기 지연 시간(밀리초)
+     * 비동기 작업으로의 요청 컨텍스트 전파 여부를 설정합니다.
+     * @param asyncContextPropagationEnabled 비동기 작업으로의 요청 컨텍스트 전파 여부
      */
-    public void setInitialBackoffDelay(long initialBackoffDelay) {
-        this.initialBackoffDelay = initialBackoffDelay;
+    public void setAsyncContextPropagationEnabled(boolean asyncContextPropagationEnabled) {
+        this.asyncContextPropagationEnabled = asyncContextPropagationEnabled;
     }
 
     /**
-     * 지수 백오프 전략 사용 시 최대 지연 시간(밀리초)을 반환합니다.
-     * @return 최대 지연 시간(밀리초)
+     * 배치 봉투 사용 여부를 반환합니다.
+     * @return 배치 봉투 사용 여부
      */
-    public long getMaxBackoffDelay() {
-        return maxBackoffDelay;
+    public boolean isBatchEnvelopeEnabled() {
+        return batchEnvelopeEnabled;
     }
 
     /**
-     * 지수 백오프 전략 사용 시 최대 지연 시간(밀리초)을 설정합니다.
-     * @param maxBackoffDelay 최대 지연 시간(밀리초)
+     * 배치 봉투 사용 여부를 설정합니다.
+     * @param batchEnvelopeEnabled 배치 봉투 사용 여부
      */
-    public void setMaxBackoffDelay(long maxBackoffDelay) {
-        this.maxBackoffDelay = maxBackoffDelay;
+    public void setBatchEnvelopeEnabled(boolean batchEnvelopeEnabled) {
+        this.batchEnvelopeEnabled = batchEnvelopeEnabled;
     }
 
     /**
-     * 디스크에 저장된 로그 배치 관련 상세 로그를 출력할지 여부를 반환합니다.
-     * @return 디스크 로그 배치 상세 로그 출력 여부
+     * 메시지 템플릿 사용 여부를 반환합니다.
+     * @return 메시지 템플릿 사용 여부
      */
-    public boolean isVerboseDiskQueueLogs() {
-        return verboseDiskQueueLogs;
+    public boolean isMessageTemplatesEnabled() {
+        return messageTemplatesEnabled;
     }
 
     /**
-     * 디스크에 저장된 로그 배치 관련 상세 로그를 출력할지 여부를 설정합니다.
-     * @param verboseDiskQueueLogs 디스크 로그 배치 상세 로그 출력 여부
+     * 메시지 템플릿 사용 여부를 설정합니다.
+     * @param messageTemplatesEnabled 메시지 템플릿 사용 여부
      */
-    public void setVerboseDiskQueueLogs(boolean verboseDiskQueueLogs) {
-        this.verboseDiskQueueLogs = verboseDiskQueueLogs;
+    public void setMessageTemplatesEnabled(boolean messageTemplatesEnabled) {
+        this.messageTemplatesEnabled = messageTemplatesEnabled;
     }
 
     /**
-     * CORS 설정을 활성화할지 여부를 반환합니다.
-     *
-     * @return CORS 설정 활성화 여부
+     * 최대 메시지 템플릿 수를 반환합니다.
+     * @return 최대 메시지 템플릿 수
      */
-    public boolean isCorsEnabled() {
-        return corsEnabled;
+    public int getMessageTemplateMaxCount() {
+        return messageTemplateMaxCount;
     }
 
     /**
-     * CORS 설정을 활성화할지 여부를 설정합니다.
-     *
-     * @param corsEnabled CORS 설정 활성화 여부
+     * 최대 메시지 템플릿 수를 설정합니다.
+     * @param messageTemplateMaxCount 최대 메시지 템플릿 수
      */
-    public void setCorsEnabled(boolean corsEnabled) {
-        this.corsEnabled = corsEnabled;
+    public void setMessageTemplateMaxCount(int messageTemplateMaxCount) {
+        this.messageTemplateMaxCount = messageTemplateMaxCount;
     }
 
     /**
-     * 로깅 라이브러리의 활성화 여부를 반환합니다.
-     *
-     * @return 활성화 여부
+     * 배치별 문자열 표 사용 여부를 반환합니다.
+     * @return 문자열 표 사용 여부
      */
-    public boolean isEnabled() {
-        return enabled;
+    public boolean isStringDictionaryEnabled() {
+        return stringDictionaryEnabled;
     }
 
     /**
-     * 로깅 라이브러리의 활성화 여부를 설정합니다.
-     *
-     * @param enabled 활성화 여부
+     * 배치별 문자열 표 사용 여부를 설정합니다.
+     * @param stringDictionaryEnabled 문자열 표 사용 여부
      */
-    public void setEnabled(boolean enabled) {
-        this.enabled = enabled;
+    public void setStringDictionaryEnabled(boolean stringDictionaryEnabled) {
+        this.stringDictionaryEnabled = stringDictionaryEnabled;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package com.cholog.logger.filter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 스트림을 통과하는 본문 중 앞부분 최대 {@code limit} 바이트만 복사해 두는 캡처 버퍼입니다.
+ * 버퍼는 {@link BodyCapturePolicy}의 풀에서 빌려오며, {@link #release()} 호출 시 반환됩니다.
+ *
+ * 비동기 요청 처리 등으로 필터가 반환된 이후에도 다른 스레드에서 기록이 발생할 수 있으므로,
+ * 기록과 반환은 동기화되며 반환 이후의 기록은 무시됩니다.
+ * 서블릿 스트림 래퍼와 WebFlux 본문 데코레이터({@link ReactiveBodyLoggingFilter})가 함께 사용합니다.
+ */
+final class BodyCapture {
+
+    private final BodyCapturePolicy policy;
+    private final int limit;
+    private byte[] buffer;
+    private int count;
+    /** 스트림을 통과한 전체 바이트 수 (잘림 여부 판단용) */
+    private long total;
+    private boolean released;
+
+    BodyCapture(BodyCapturePolicy policy, int limit) {
+        this.policy = policy;
+        this.limit = limit;
+    }
+
+    synchronized void write(int b) {
+        total++;
+        if (count < limit && ensureBuffer()) {
+            buffer[count++] = (byte) b;
+        }
+    }
+
+    synchronized void write(byte[] b, int off, int len) {
+        total += len;
+        int copy = Math.min(len, limit - count);
+        if (copy > 0 && ensureBuffer()) {
+            System.arraycopy(b, off, buffer, count, copy);
+            count += copy;
+        }
+    }
+
+    /**
+     * 버퍼의 읽을 수 있는 구간을 복사합니다. 원본 버퍼의 위치(position)는 바꾸지 않습니다.
+     *
+     * @param src WebFlux {@code DataBuffer}에서 얻은 바이트 버퍼
+     */
+    synchronized void write(ByteBuffer src) {
+        int len = src.remaining();
+        total += len;
+        int copy = Math.min(len, limit - count);
+        if (copy > 0 && ensureBuffer()) {
+            src.get(src.position(), buffer, count, copy);
+            count += copy;
+        }
+    }
+
+    private boolean ensureBuffer() {
+        if (released) {
+            return false;
+        }
+        if (buffer == null) {
+            buffer = policy.acquire();
+        }
+        return true;
+    }
+
+    /**
+     * @return 스트림을 통과한 전체 바이트 수
+     */
+    synchronized long getTotalBytes() {
+        return total;
+    }
+
+    /**
+     * 캡처된 바이트를 문자열로 변환합니다. 한도를 초과한 본문은 "... (truncated)"가 덧붙습니다.
+     *
+     * @param encoding 문자 인코딩 (null이거나 잘못된 경우 UTF-8)
+     * @return 캡처된 본문 문자열, 캡처된 내용이 없으면 {@code null}
+     */
+    synchronized String asString(String encoding) {
+        if (buffer == null || count == 0) {
+            return null;
+        }
+        Charset charset;
+        try {
+            charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        } catch (Exception e) {
+            charset = StandardCharsets.UTF_8;
+        }
+        String body = new String(buffer, 0, count, charset);
+        return total > count ? body + "... (truncated)" : body;
+    }
+
+    /**
+     * 버퍼를 풀에 반환합니다. 이후의 기록은 무시됩니다.
+     */
+    synchronized void release() {
+        released = true;
+        policy.release(buffer);
+        buffer = null;
+        count = 0;
+    }
+}
@@ -0,0 +1,115 @@
+package com.cholog.logger.filter;
+
+import com.cholog.logger.config.LogServerProperties;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 요청/응답 본문 캡처 정책과 캡처 버퍼 풀을 관리합니다.
+ * 컨텐츠 타입별로 캡처할 최대 바이트 수를 결정하며, 캡처 버퍼는 요청마다 새로 할당하지 않고 풀에서 재사용합니다.
+ *
+ * 캡처 대상 판단 규칙:
+ * - multipart 요청/응답은 항상 제외
+ * - {@link LogServerProperties#getBodyCaptureLimits()}에 일치하는 키워드가 있으면 해당 값 사용 (0이면 제외)
+ * - JSON, XML, 텍스트, 폼 타입은 {@link LogServerProperties#getBodyCaptureMaxBytes()} 사용
+ * - 그 외(바이너리) 타입은 제외
+ *
+ * @see TeeRequestWrapper
+ * @see TeeResponseWrapper
+ */
+final class BodyCapturePolicy {
+
+    /** 설정이 없을 때 기본으로 캡처하는 텍스트 계열 컨텐츠 타입 키워드 */
+    private static final String[] TEXTUAL_TYPE_KEYWORDS = {"json", "xml", "text", "form"};
+
+    private final int defaultLimit;
+    private final String[] limitKeys;
+    private final int[] limitValues;
+    /** 풀 버퍼 크기 (모든 컨텐츠 타입 한도 중 최대값) */
+    private final int bufferSize;
+    private final ArrayBlockingQueue<byte[]> pool;
+
+    BodyCapturePolicy(LogServerProperties properties) {
+        this.defaultLimit = Math.max(0, properties.getBodyCaptureMaxBytes());
+        Map<String, Integer> limits = properties.getBodyCaptureLimits();
+        int size = limits != null ? limits.size() : 0;
+        this.limitKeys = new String[size];
+        this.limitValues = new int[size];
+        int max = defaultLimit;
+        int i = 0;
+        if (limits != null) {
+            for (Map.Entry<String, Integer> entry : limits.entrySet()) {
+                limitKeys[i] = entry.getKey().toLowerCase(Locale.ROOT);
+                limitValues[i] = entry.getValue() != null ? Math.max(0, entry.getValue()) : 0;
+                max = Math.max(max, limitValues[i]);
+                i++;
+            }
+        }
+        this.bufferSize = max;
+        this.pool = new ArrayBlockingQueue<>(Math.max(1, properties.getBodyCapturePoolSize()));
+    }
+
+    /**
+     * 주어진 컨텐츠 타입에 대해 캡처할 최대 바이트 수를 반환합니다.
+     *
+     * @param contentType Content-Type 헤더 값
+     * @return 최대 캡처 바이트 수. 캡처하지 않아야 하면 0
+     */
+    int limitFor(String contentType) {
+        if (contentType == null || bufferSize == 0) {
+            return 0;
+        }
+        String lower = contentType.toLowerCase(Locale.ROOT);
+        if (lower.startsWith("multipart/")) {
+            return 0;
+        }
+        for (int i = 0; i < limitKeys.length; i++) {
+            if (lower.contains(limitKeys[i])) {
+                return limitValues[i];
+            }
+        }
+        for (String keyword : TEXTUAL_TYPE_KEYWORDS) {
+            if (lower.contains(keyword)) {
+                return defaultLimit;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 주어진 HTTP 메소드가 요청 본문을 가질 수 있는지 여부를 반환합니다.
+     * 일반적으로 GET, HEAD, DELETE 등의 메소드는 본문을 포함하지 않으므로 로깅 대상에서 제외합니다.
+     *
+     * @param method HTTP 메소드 (예: "GET", "POST")
+     * @return 본문을 가질 수 있으면 {@code true}
+     */
+    static boolean hasBody(String method) {
+        if (method == null) return false;
+        return !("GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method) ||
+                 "DELETE".equalsIgnoreCase(method) || "OPTIONS".equalsIgnoreCase(method) ||
+                 "TRACE".equalsIgnoreCase(method));
+    }
+
+    /**
+     * 지정된 한도의 새 캡처 객체를 생성합니다. 버퍼는 첫 기록 시점에 풀에서 빌려옵니다.
+     *
+     * @param limit 최대 캡처 바이트 수
+     * @return 캡처 객체
+     */
+    BodyCapture newCapture(int limit) {
+        return new BodyCapture(this, limit);
+    }
+
+    byte[] acquire() {
+        byte[] buffer = pool.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    void release(byte[] buffer) {
+        if (buffer != null && buffer.length == bufferSize) {
+            pool.offer(buffer); // 풀이 가득 차면 버림
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.cholog.logger.filter;
+
+import com.cholog.logger.config.LogServerProperties;
+import com.cholog.logger.service.RedactionEngine;
+import org.reactivestreams.Publisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux 요청/응답 본문을 캡처하는 필터입니다 ({@link RequestBodyLoggingFilter}, {@link RequestResponseLoggingFilter}의 WebFlux 버전).
+ *
+ * 요청 본문 {@code Flux<DataBuffer>}와 응답 본문 쓰기를 데코레이터로 감싸, 지나가는 {@link DataBuffer}의 앞부분 최대 N 바이트만
+ * 풀링된 버퍼({@link BodyCapture})에 복사합니다. 원본 버퍼는 그대로 다음 단계로 전달되며(읽기 위치 변경 없음),
+ * 본문 전체를 모으거나 버퍼를 보관(retain)하지 않으므로 스트리밍과 배압에 영향을 주지 않습니다.
+ * 캡처 대상 판단과 한도는 서블릿 필터와 같은 {@link BodyCapturePolicy}를 사용합니다.
+ *
+ * 처리가 끝나면 민감 값을 치환한 본문을 exchange attribute에 저장하고,
+ * {@link ReactiveRequestTimingFilter}가 요청 완료 로그의 {@code request_body}/{@code response_body}로 기록합니다.
+ * 필터 순서는 {@link Order} 어노테이션으로 제어됩니다 ({@code Ordered.HIGHEST_PRECEDENCE + 10}).
+ *
+ * @see ReactiveRequestTimingFilter
+ * @see BodyCapturePolicy
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 10) // ReactiveRequestTimingFilter 바로 다음에 실행되도록 설정
+public class ReactiveBodyLoggingFilter implements WebFilter {
+
+    /** 캡처된 요청 본문(민감 값 치환 후)을 담는 exchange attribute 이름 */
+    static final String REQUEST_BODY_ATTRIBUTE = ReactiveBodyLoggingFilter.class.getName() + ".requestBody";
+
+    /** 캡처된 응답 본문(민감 값 치환 후)을 담는 exchange attribute 이름 */
+    static final String RESPONSE_BODY_ATTRIBUTE = ReactiveBodyLoggingFilter.class.getName() + ".responseBody";
+
+    /** 로그 서버 설정 */
+    private final LogServerProperties properties;
+
+    /** 본문 캡처 정책 및 버퍼 풀 */
+    private final BodyCapturePolicy capturePolicy;
+
+    /** 캡처된 본문의 민감 값 치환 엔진 */
+    private final RedactionEngine redactionEngine;
+
+    private final boolean captureRequestBody;
+    private final boolean captureResponseBody;
+
+    /**
+     * 생성자를 통한 LogServerProperties 주입 (요청/응답 본문 모두 캡처)
+     *
+     * @param properties 로그 서버 설정 (본문 캡처 한도 및 버퍼 풀 크기)
+     */
+    public ReactiveBodyLoggingFilter(LogServerProperties properties) {
+        this(properties, new RedactionEngine(properties), true, true);
+    }
+
+    /**
+     * 생성자를 통한 LogServerProperties 및 공용 RedactionEngine 주입
+     *
+     * @param properties          로그 서버 설정 (본문 캡처 한도 및 버퍼 풀 크기)
+     * @param redactionEngine     민감 정보 치환 엔진
+     * @param captureRequestBody  요청 본문 캡처 여부 ({@code request-body-logging})
+     * @param captureResponseBody 응답 본문 캡처 여부 ({@code request-response-logging})
+     */
+    public ReactiveBodyLoggingFilter(LogServerProperties properties, RedactionEngine redactionEngine,
+                                     boolean captureRequestBody, boolean captureResponseBody) {
+        this.properties = properties;
+        this.capturePolicy = new BodyCapturePolicy(properties);
+        this.redactionEngine = redactionEngine;
+        this.captureRequestBody = captureRequestBody;
+        this.captureResponseBody = captureResponseBody;
+    }
+
+    /**
+     * 캡처 대상이면 요청/응답을 데코레이터로 감싸 필터 체인을 진행합니다.
+     * 체인이 끝나면(완료/오류) 캡처된 본문을 exchange attribute에 저장하고, 취소를 포함한 모든 경우에 캡처 버퍼를 풀에 반환합니다.
+     *
+     * @param exchange 현재 요청/응답 exchange
+     * @param chain    필터 체인
+     * @return 요청 처리 완료 신호
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (properties.getBodyCaptureMaxBytes() <= 0 && properties.getBodyCaptureLimits().isEmpty()) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpRequest request = exchange.getRequest();
+        int requestLimit = captureRequestBody && BodyCapturePolicy.hasBody(request.getMethod().name())
+                ? capturePolicy.limitFor(request.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE)) : 0;
+        BodyCapture requestCapture = requestLimit > 0 ? capturePolicy.newCapture(requestLimit) : null;
+        TeeResponse response = captureResponseBody ? new TeeResponse(exchange.getResponse()) : null;
+        if (requestCapture == null && response == null) {
+            return chain.filter(exchange);
+        }
+
+        ServerWebExchange.Builder builder = exchange.mutate();
+        if (requestCapture != null) {
+            builder.request(new TeeRequest(request, requestCapture));
+        }
+        if (response != null) {
+            builder.response(response);
+        }
+
+        // doOnTerminate는 종료 신호를 바깥 필터로 전달하기 전에 실행되므로, 요청 완료 로그보다 먼저 본문이 저장됨
+        return chain.filter(builder.build())
+                .doOnTerminate(() -> publishBodies(exchange, requestCapture, response))
+                .doFinally(signal -> {
+                    if (requestCapture != null) {
+                        requestCapture.release();
+                    }
+                    if (response != null) {
+                        response.release();
+                    }
+                });
+    }
+
+    /**
+     * 캡처된 본문의 민감 값을 치환하여 exchange attribute에 저장합니다.
+     */
+    private void publishBodies(ServerWebExchange exchange, BodyCapture requestCapture, TeeResponse response) {
+        if (requestCapture != null) {
+            String requestBody = redactionEngine.redactValues(
+                    requestCapture.asString(charsetOf(exchange.getRequest().getHeaders())));
+            if (requestBody != null) {
+                exchange.getAttributes().put(REQUEST_BODY_ATTRIBUTE, requestBody);
+            }
+        }
+        if (response != null) {
+            String responseBody = redactionEngine.redactValues(response.getCapturedBody());
+            if (responseBody != null) {
+                exchange.getAttributes().put(RESPONSE_BODY_ATTRIBUTE, responseBody);
+            }
+        }
+    }
+
+    /**
+     * {@link DataBuffer}의 읽을 수 있는 구간을 캡처 버퍼에 복사합니다. 원본 버퍼의 읽기 위치는 바뀌지 않습니다.
+     */
+    private static void copy(DataBuffer buffer, BodyCapture capture) {
+        try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+            while (iterator.hasNext()) {
+                capture.write(iterator.next());
+            }
+        }
+    }
+
+    private static String charsetOf(HttpHeaders headers) {
+        MediaType contentType;
+        try {
+            contentType = headers.getContentType();
+        } catch (Exception e) {
+            return null; // 잘못된 Content-Type은 UTF-8로 처리
+        }
+        return contentType != null && contentType.getCharset() != null ? contentType.getCharset().name() : null;
+    }
+
+    /**
+     * 컨트롤러가 구독하는 요청 본문을 캡처 버퍼로 복사하는 요청 데코레이터입니다.
+     */
+    private static final class TeeRequest extends ServerHttpRequestDecorator {
+
+        private final BodyCapture capture;
+
+        TeeRequest(ServerHttpRequest delegate, BodyCapture capture) {
+            super(delegate);
+            this.capture = capture;
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return super.getBody().doOnNext(buffer -> copy(buffer, capture));
+        }
+    }
+
+    /**
+     * 응답으로 쓰이는 본문을 캡처 버퍼로 복사하는 응답 데코레이터입니다.
+     * 캡처 한도는 첫 본문 쓰기 시점의 {@code Content-Type}으로 결정합니다.
+     */
+    private final class TeeResponse extends ServerHttpResponseDecorator {
+
+        private BodyCapture capture;
+        private boolean captureResolved;
+
+        TeeResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            BodyCapture c = resolveCapture();
+            if (c == null) {
+                return super.writeWith(body);
+            }
+            // 단일 버퍼(Mono) 응답은 Content-Length 처리를 위해 Mono 형태를 유지
+            return super.writeWith(body instanceof Mono
+                    ? Mono.from(body).doOnNext(buffer -> copy(buffer, c))
+                    : Flux.from(body).doOnNext(buffer -> copy(buffer, c)));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            BodyCapture c = resolveCapture();
+            if (c == null) {
+                return super.writeAndFlushWith(body);
+            }
+            return super.writeAndFlushWith(Flux.from(body)
+                    .map(chunk -> Flux.from(chunk).doOnNext(buffer -> copy(buffer, c))));
+        }
+
+        private synchronized BodyCapture resolveCapture() {
+            if (!captureResolved) {
+                captureResolved = true;
+                int limit = capturePolicy.limitFor(getHeaders().getFirst(HttpHeaders.CONTENT_TYPE));
+                if (limit > 0) {
+                    capture = capturePolicy.newCapture(limit);
+                }
+            }
+            return capture;
+        }
+
+        /**
+         * @return 캡처된 본문, 캡처 대상이 아니었거나 본문이 없으면 {@code null}
+         */
+        synchronized String getCapturedBody() {
+            return capture != null ? capture.asString(charsetOf(getHeaders())) : null;
+        }
+
+        /**
+         * 캡처 버퍼를 풀에 반환합니다.
+         */
+        synchronized void release() {
+            captureResolved = true; // 이후 기록은 캡처하지 않음
+            if (capture != null) {
+                capture.release();
+            }
+        }
+    }
+}
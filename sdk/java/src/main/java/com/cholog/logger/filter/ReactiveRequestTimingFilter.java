@@ -0,0 +1,244 @@
+package com.cholog.logger.filter;
+
+import com.cholog.logger.appender.CentralLogAppender;
+import com.cholog.logger.config.LogServerProperties;
+import com.cholog.logger.metrics.RouteMetrics;
+import com.cholog.logger.service.RedactionEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.UUID;
+
+/**
+ * {@link RequestTimingFilter}의 WebFlux 버전입니다. 요청 ID 생성, 요청 컨텍스트 수집, 처리 시간/상태 코드 측정과
+ * 요청 완료 로그 기록을 담당합니다.
+ *
+ * WebFlux에서는 하나의 요청이 여러 스레드(이벤트 루프, 스케줄러)를 오가므로 스레드에 묶인 MDC를 요청 내내 유지할 수 없습니다.
+ * 이 필터는 {@link RequestLogContext}를 Reactor {@code Context}({@link #CONTEXT_KEY})에 담아 전달하고,
+ * 요청 완료 시 로그를 기록하는 순간에만 현재 스레드에 컨텍스트와 MDC를 바인딩했다가 되돌립니다.
+ * 따라서 요청 완료 로그는 서블릿 환경과 같은 필드로 {@link CentralLogAppender}에서 인코딩되며, 처리 중 블로킹하지 않습니다.
+ *
+ * 애플리케이션에 {@code io.micrometer:context-propagation}이 있으면 같은 키로 ThreadLocal 접근자를 등록합니다.
+ * 이 경우 자동 컨텍스트 전파({@code spring.reactor.context-propagation=auto})를 켜면 Reactor 연산자 안에서 기록한 로그에도
+ * 요청 ID와 요청 정보가 포함됩니다.
+ *
+ * 요청 완료 로그의 샘플링({@code access-log-sample-rate})과 경로별 응답 시간 집계({@link RouteMetrics})는 서블릿 필터와 같습니다.
+ *
+ * 필터 순서는 {@link Order} 어노테이션으로 제어됩니다 ({@code Ordered.HIGHEST_PRECEDENCE}).
+ *
+ * @see RequestTimingFilter
+ * @see ReactiveBodyLoggingFilter
+ * @see com.cholog.logger.config.LogReactiveAutoConfiguration
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE) // 다른 필터보다 먼저 실행되어 전체 요청 시간을 감싸도록 순서 지정
+public class ReactiveRequestTimingFilter implements WebFilter {
+
+    /** 요청 컨텍스트를 담는 Reactor {@code Context} 키 (context-propagation ThreadLocal 접근자 키와 같음) */
+    public static final String CONTEXT_KEY = "cholog.requestLogContext";
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveRequestTimingFilter.class);
+
+    private static final boolean CONTEXT_PROPAGATION_PRESENT = ClassUtils.isPresent(
+            "io.micrometer.context.ContextRegistry", ReactiveRequestTimingFilter.class.getClassLoader());
+
+    /** 로그 서버 설정 */
+    private final LogServerProperties properties;
+
+    /** 민감 헤더/파라미터 판별 엔진 */
+    private final RedactionEngine redactionEngine;
+
+    /** 경로별 응답 시간 분포 (경로 요약을 끈 경우 null) */
+    private final RouteMetrics routeMetrics;
+
+    /**
+     * 생성자를 통한 LogServerProperties 주입
+     *
+     * @param properties 로그 서버 설정
+     */
+    public ReactiveRequestTimingFilter(LogServerProperties properties) {
+        this(properties, new RedactionEngine(properties));
+    }
+
+    /**
+     * 생성자를 통한 LogServerProperties 및 공용 RedactionEngine 주입
+     *
+     * @param properties      로그 서버 설정
+     * @param redactionEngine 민감 정보 판별 엔진
+     */
+    public ReactiveRequestTimingFilter(LogServerProperties properties, RedactionEngine redactionEngine) {
+        this(properties, redactionEngine, null);
+    }
+
+    /**
+     * 생성자를 통한 LogServerProperties, 공용 RedactionEngine 및 경로별 응답 시간 분포 주입
+     *
+     * @param properties      로그 서버 설정
+     * @param redactionEngine 민감 정보 판별 엔진
+     * @param routeMetrics    경로별 응답 시간 분포 ({@code null}이면 집계하지 않음)
+     */
+    public ReactiveRequestTimingFilter(LogServerProperties properties, RedactionEngine redactionEngine,
+                                       RouteMetrics routeMetrics) {
+        this.properties = properties;
+        this.redactionEngine = redactionEngine;
+        this.routeMetrics = routeMetrics;
+        if (CONTEXT_PROPAGATION_PRESENT) {
+            RequestLogContextAccessor.register();
+        }
+    }
+
+    /**
+     * 요청 컨텍스트를 한 번 수집하여 Reactor {@code Context}에 담고 필터 체인을 진행합니다.
+     * 요청에 X-Request-Id 헤더가 있으면 해당 값을, 없으면 UUID를 요청 ID로 사용하며 exchange attribute에도 저장합니다.
+     * 체인이 완료, 오류 또는 취소로 끝나면 요청 완료 로그를 기록합니다.
+     *
+     * @param exchange 현재 요청/응답 exchange
+     * @param chain    필터 체인
+     * @return 요청 처리 완료 신호
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long startTime = System.nanoTime();
+        ServerHttpRequest request = exchange.getRequest();
+
+        // X-Request-Id 헤더가 있는 경우 이를 사용하고, 없는 경우에만 UUID 생성
+        String requestId = request.getHeaders().getFirst("X-Request-Id");
+        if (requestId == null || requestId.trim().isEmpty()) {
+            requestId = UUID.randomUUID().toString();
+        } else {
+            requestId = requestId.trim();
+        }
+        exchange.getAttributes().put(CentralLogAppender.REQUEST_ID_MDC_KEY, requestId);
+        RequestLogContext requestContext = RequestLogContext.capture(requestId, request, redactionEngine);
+        if (properties.isRequestResourceTrackingEnabled()) {
+            // 자동 컨텍스트 전파로 컨텍스트가 바인딩된 구간의 CPU 시간/할당량만 측정됨
+            requestContext.trackResourceUsage();
+        }
+
+        return chain.filter(exchange)
+                .doOnSuccess(ignored -> logRequestFinished(exchange, requestContext, startTime, null))
+                .doOnError(error -> logRequestFinished(exchange, requestContext, startTime, error))
+                .doOnCancel(() -> logRequestFinished(exchange, requestContext, startTime, null))
+                .contextWrite(context -> context.put(CONTEXT_KEY, requestContext));
+    }
+
+    /**
+     * Reactor {@code Context}에서 이 필터가 저장한 요청 컨텍스트를 꺼냅니다.
+     * 자동 컨텍스트 전파를 사용하지 않을 때 {@code Mono.deferContextual} 등에서 요청 정보를 읽는 데 사용할 수 있습니다.
+     *
+     * @param context Reactor 컨텍스트
+     * @return 요청 컨텍스트, 이 필터를 거치지 않았으면 {@code null}
+     */
+    public static RequestLogContext fromContext(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, null);
+    }
+
+    /**
+     * 처리 시간과 상태 코드를 계산하고 핸들러의 경로 템플릿을 컨텍스트에 설정한 뒤,
+     * 경로별 응답 시간 분포에 누적하고 요청 완료 로그를 기록합니다.
+     * 로그를 기록하는 스레드에 요청 컨텍스트와 MDC를 잠시 바인딩하고, 기록 후 이전 상태로 되돌립니다.
+     */
+    private void logRequestFinished(ServerWebExchange exchange, RequestLogContext requestContext,
+                                    long startTime, Throwable error) {
+        long durationNanos = System.nanoTime() - startTime;
+        long durationMs = durationNanos / 1_000_000;
+        Integer statusCode = resolveStatus(exchange, error);
+        boolean failed = error != null || (statusCode != null && statusCode >= 500);
+
+        String route = routeOf(exchange);
+        requestContext.resolveRoute(route);
+        if (routeMetrics != null) {
+            RequestTimingFilter.recordRoute(routeMetrics, requestContext, route, statusCode, durationNanos, failed);
+        }
+        if (!RequestTimingFilter.shouldLogRequestFinished(properties, failed)) {
+            return;
+        }
+        String requestBody = exchange.getAttribute(ReactiveBodyLoggingFilter.REQUEST_BODY_ATTRIBUTE);
+        String responseBody = exchange.getAttribute(ReactiveBodyLoggingFilter.RESPONSE_BODY_ATTRIBUTE);
+
+        RequestLogContext previousContext = RequestLogContext.current();
+        String previousRequestId = MDC.get(CentralLogAppender.REQUEST_ID_MDC_KEY);
+        RequestLogContext.bind(requestContext);
+        try {
+            MDC.put(CentralLogAppender.REQUEST_ID_MDC_KEY, requestContext.getRequestId());
+            MDC.put(CentralLogAppender.RESPONSE_TIME_MDC_KEY, String.valueOf(durationMs));
+            if (statusCode != null) {
+                MDC.put(CentralLogAppender.HTTP_STATUS_MDC_KEY, String.valueOf(statusCode));
+            }
+            if (error != null) {
+                MDC.put("exception_class", error.getClass().getName());
+                if (error.getMessage() != null) {
+                    MDC.put("exception_message", error.getMessage());
+                }
+            }
+            if (requestBody != null) {
+                MDC.put("request_body", requestBody);
+            }
+            if (responseBody != null) {
+                MDC.put("response_body", responseBody);
+            }
+
+            log.info("Request Finished: {} {} status={} duration={}ms requestId={}",
+                    requestContext.getMethod(), requestContext.getUri(), statusCode, durationMs,
+                    requestContext.getRequestId());
+        } catch (Exception e) {
+            log.error("Error occurred during automatic request finished logging.", e);
+        } finally {
+            MDC.remove(CentralLogAppender.RESPONSE_TIME_MDC_KEY);
+            MDC.remove(CentralLogAppender.HTTP_STATUS_MDC_KEY);
+            MDC.remove("exception_class");
+            MDC.remove("exception_message");
+            MDC.remove("request_body");
+            MDC.remove("response_body");
+            if (previousRequestId != null) {
+                MDC.put(CentralLogAppender.REQUEST_ID_MDC_KEY, previousRequestId);
+            } else {
+                MDC.remove(CentralLogAppender.REQUEST_ID_MDC_KEY);
+            }
+            if (previousContext != null) {
+                RequestLogContext.bind(previousContext);
+            } else {
+                RequestLogContext.clear();
+            }
+        }
+    }
+
+    /**
+     * 요청을 처리한 핸들러의 경로 템플릿을 반환합니다. 핸들러를 찾지 못했으면 {@code null}입니다.
+     */
+    private static String routeOf(ServerWebExchange exchange) {
+        Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern instanceof PathPattern) {
+            return ((PathPattern) pattern).getPatternString();
+        }
+        return pattern != null ? pattern.toString() : null;
+    }
+
+    /**
+     * 응답 상태 코드를 결정합니다. 처리되지 않은 오류는 이후 WebFlux 예외 처리기가 응답을 만들기 때문에
+     * {@link ResponseStatusException}이면 그 상태 코드를, 그 외에는 500을 사용합니다.
+     */
+    private static Integer resolveStatus(ServerWebExchange exchange, Throwable error) {
+        if (error instanceof ResponseStatusException) {
+            return ((ResponseStatusException) error).getStatusCode().value();
+        }
+        if (error != null) {
+            return 500;
+        }
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return status != null ? status.value() : null;
+    }
+}
@@ -1,5 +1,7 @@
 package com.cholog.logger.filter;
 
+import com.cholog.logger.config.LogServerProperties;
+import com.cholog.logger.service.RedactionEngine;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
@@ -7,39 +9,62 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
-import org.springframework.web.util.ContentCachingRequestWrapper;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 /**
  * HTTP 요청 본문(body)을 로깅하기 위한 서블릿 필터입니다.
- * 이 필터는 {@link HttpServletRequest}의 입력 스트림을 여러 번 읽을 수 있도록
- * {@link ContentCachingRequestWrapper}로 요청을 래핑하는 역할을 주로 수행합니다.
- * 래핑된 요청은 필터 체인을 따라 다음 필터로 전달되며, 여기서 실제 요청 본문을 읽고 MDC에 저장합니다.
+ * 이 필터는 요청을 {@link TeeRequestWrapper}로 래핑하여, 컨트롤러가 본문을 읽는 동안
+ * 앞부분 최대 N 바이트만 풀링된 버퍼에 복사합니다. 나머지 본문은 힙에 쌓이지 않고 그대로 스트리밍됩니다.
+ * 요청 처리가 끝나면 캡처된 본문을 MDC({@code request_body})에 저장합니다.
  *
  * 이 필터는 {@link RequestTimingFilter} 직후, 그리고 {@link RequestResponseLoggingFilter} 보다는 먼저 실행되어야
- * 요청 본문이 올바르게 캐시되고 로깅될 수 있습니다.
+ * 요청 본문이 올바르게 캡처되고 로깅될 수 있습니다.
  * 필터 순서는 {@link Order} 어노테이션으로 제어됩니다 ({@code Ordered.HIGHEST_PRECEDENCE + 10}).
- * 로깅은 지정된 HTTP 메소드 및 컨텐츠 타입에 대해서만 수행됩니다.
+ * 로깅은 본문을 가질 수 있는 HTTP 메소드와 {@link BodyCapturePolicy}가 허용하는 컨텐츠 타입에 대해서만 수행됩니다
+ * (multipart 및 바이너리 타입 제외, 컨텐츠 타입별 최대 크기 설정 가능).
  *
  * @version 1.8.6
  * @see RequestTimingFilter
  * @see RequestResponseLoggingFilter
- * @see ContentCachingRequestWrapper
+ * @see TeeRequestWrapper
  */
 @Order(Ordered.HIGHEST_PRECEDENCE + 10) // RequestTimingFilter 바로 다음에 실행되도록 설정
 public class RequestBodyLoggingFilter implements Filter {
 
     private static final Logger log = LoggerFactory.getLogger(RequestBodyLoggingFilter.class);
-    /** 로깅할 요청 본문의 최대 길이 (bytes). 이 길이를 초과하면 잘리고 "... (truncated)"가 추가됨. */
-    private static final int MAX_PAYLOAD_LENGTH = 10000;
+
+    /** 본문 캡처 정책 및 버퍼 풀 */
+    private final BodyCapturePolicy capturePolicy;
+
+    /** 캡처된 본문의 민감 값 치환 엔진 */
+    private final RedactionEngine redactionEngine;
+
+    /**
+     * 생성자를 통한 LogServerProperties 주입
+     *
+     * @param properties 로그 서버 설정 (본문 캡처 한도 및 버퍼 풀 크기)
+     */
+    public RequestBodyLoggingFilter(LogServerProperties properties) {
+        this(properties, new RedactionEngine(properties));
+    }
+
+    /**
+     * 생성자를 통한 LogServerProperties 및 공용 RedactionEngine 주입
+     *
+     * @param properties      로그 서버 설정 (본문 캡처 한도 및 버퍼 풀 크기)
+     * @param redactionEngine 민감 정보 치환 엔진
+     */
+    public RequestBodyLoggingFilter(LogServerProperties properties, RedactionEngine redactionEngine) {
+        this.capturePolicy = new BodyCapturePolicy(properties);
+        this.redactionEngine = redactionEngine;
+    }
 
     /**
      * 필터의 주 로직을 실행합니다.
      * HTTP 요청인 경우, 요청 메소드와 컨텐츠 타입을 확인하여 본문 로깅 대상인지 판단합니다.
-     * 대상인 경우, 요청을 {@link ContentCachingRequestWrapper}로 래핑하고 필터 체인을 계속 진행합니다.
-     * 체인 실행 후 (즉, 요청 처리가 완료된 후), 래핑된 요청에서 본문을 읽어 MDC에 저장하고 디버그 로그를 남깁니다.
+     * 대상인 경우, 요청을 {@link TeeRequestWrapper}로 래핑하고 필터 체인을 계속 진행합니다.
+     * 체인 실행 후 (즉, 요청 처리가 완료된 후), 캡처된 본문을 MDC에 저장하고 캡처 버퍼를 풀에 반환합니다.
      *
      * @param request  서블릿 요청
      * @param response 서블릿 응답
@@ -53,26 +78,22 @@ public class RequestBodyLoggingFilter implements Filter {
         
         if (request instanceof HttpServletRequest) {
             HttpServletRequest httpRequest = (HttpServletRequest) request;
-            
-            String method = httpRequest.getMethod();
-            String contentType = httpRequest.getContentType();
-            
-            if (shouldLogRequestBody(method, contentType)) {
-                // ContentCachingRequestWrapper는 한번만 래핑되어야 합니다.
-                // 이미 다른 필터에 의해 래핑된 경우, 해당 인스턴스를 재사용합니다.
-                ContentCachingRequestWrapper wrappedRequest = 
-                        request instanceof ContentCachingRequestWrapper ?
-                                (ContentCachingRequestWrapper) request :
-                                new ContentCachingRequestWrapper(httpRequest);
+            int limit = BodyCapturePolicy.hasBody(httpRequest.getMethod()) ? capturePolicy.limitFor(httpRequest.getContentType()) : 0;
+
+            if (limit > 0) {
+                BodyCapture capture = capturePolicy.newCapture(limit);
+                TeeRequestWrapper wrappedRequest = new TeeRequestWrapper(httpRequest, capture);
                 try {
                     // 래핑된 요청으로 필터 체인 계속 진행
-                    // 이 과정에서 컨트롤러 또는 다른 필터가 요청 본문을 읽을 수 있습니다.
+                    // 컨트롤러가 본문을 읽는 동안 앞부분만 캡처 버퍼에 복사됩니다.
                     chain.doFilter(wrappedRequest, response);
                 } finally {
-                    // 요청 처리가 완료된 후 (성공 또는 예외 발생 무관)
-                    // 캐시된 요청 본문을 읽어 로깅합니다.
-                    // 여기서 본문을 읽어야 ContentCachingRequestWrapper에 내용이 캐시됩니다.
-                    logRequestBody(wrappedRequest);
+                    // 요청 처리가 완료된 후 (성공 또는 예외 발생 무관) 캡처된 본문을 로깅하고 버퍼 반환
+                    try {
+                        logRequestBody(wrappedRequest, limit);
+                    } finally {
+                        capture.release();
+                    }
                 }
                 return; // 래핑 및 로깅 처리 완료
             }
@@ -83,65 +104,19 @@ public class RequestBodyLoggingFilter implements Filter {
     }
     
     /**
-     * 주어진 HTTP 메소드와 컨텐츠 타입을 기반으로 요청 본문을 로깅해야 하는지 여부를 결정합니다.
-     * 일반적으로 GET, HEAD, DELETE 등의 메소드는 본문을 포함하지 않으므로 로깅 대상에서 제외합니다.
-     * 또한, 컨텐츠 타입이 텍스트 기반(JSON, XML, TEXT, FORM)이 아닌 경우 (예: 바이너리 파일 업로드)도 제외합니다.
+     * 캡처된 요청 본문의 민감 값을 치환하여 MDC에 추가하고 디버그 로그를 남깁니다.
+     * 요청 본문의 크기가 캡처 한도를 초과하면 잘린 본문에 "... (truncated)"가 덧붙습니다.
      *
-     * @param method HTTP 메소드 (예: "GET", "POST")
-     * @param contentType 요청의 Content-Type 헤더 값
-     * @return 요청 본문을 로깅해야 하면 {@code true}, 그렇지 않으면 {@code false}
+     * @param request 래핑된 HTTP 요청 객체
+     * @param limit   캡처 한도 (bytes)
      */
-    private boolean shouldLogRequestBody(String method, String contentType) {
-        if (method == null) return false;
-        
-        // 본문을 가질 가능성이 낮은 HTTP 메소드들은 제외
-        if ("GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method) || 
-            "DELETE".equalsIgnoreCase(method) || "OPTIONS".equalsIgnoreCase(method) || 
-            "TRACE".equalsIgnoreCase(method)) {
-            return false;
-        }
-        
-        // 컨텐츠 타입이 명시되지 않았거나, 로깅하기 적합하지 않은 타입은 제외
-        if (contentType == null) {
-            return false; // 컨텐츠 타입 없는 경우는 일반적으로 본문도 없음
-        }
-        
-        String lowerCaseContentType = contentType.toLowerCase();
-        return lowerCaseContentType.contains("json") || 
-               lowerCaseContentType.contains("xml") || 
-               lowerCaseContentType.contains("text") || // text/plain 등
-               lowerCaseContentType.contains("form"); // application/x-www-form-urlencoded
-    }
-    
-    /**
-     * {@link ContentCachingRequestWrapper}에 캐시된 요청 본문을 읽어 MDC에 추가하고 디버그 로그를 남깁니다.
-     * 요청 본문의 크기가 {@link #MAX_PAYLOAD_LENGTH}를 초과하면 잘라서 저장합니다.
-     *
-     * @param request 래핑된 HTTP 요청 객체, 이미 {@code getContentAsByteArray()} 등을 통해 본문이 캐시된 상태여야 함
-     */
-    private void logRequestBody(ContentCachingRequestWrapper request) {
-        byte[] content = request.getContentAsByteArray(); // 이 시점에 요청 본문이 캐시됨
-        if (content.length > 0) {
-            String requestBody;
-            try {
-                // ContentCachingRequestWrapper 내부 버퍼에서 직접 읽어옴
-                requestBody = new String(content, request.getCharacterEncoding() != null ? 
-                                                  request.getCharacterEncoding() : 
-                                                  StandardCharsets.UTF_8.name());
-            } catch (IOException e) {
-                // 발생하기 어려운 예외 (이미 메모리에 있는 바이트 배열을 문자열로 변환)
-                log.warn("Failed to read cached request body content: {}", e.getMessage());
-                requestBody = "[Failed to decode cached request body]";
-            }
-            
-            if (requestBody.length() > MAX_PAYLOAD_LENGTH) {
-                requestBody = requestBody.substring(0, MAX_PAYLOAD_LENGTH) + "... (truncated)";
-            }
-            
+    private void logRequestBody(TeeRequestWrapper request, int limit) {
+        String requestBody = redactionEngine.redactValues(request.getCapturedBody(limit));
+        if (requestBody != null) {
             MDC.put("request_body", requestBody);
             // 실제 로그 전송은 CentralLogAppender가 MDC 정보를 종합하여 처리하므로,
             // 여기서는 디버그 레벨로 간단히 기록하여 필터 동작 확인용으로 사용합니다.
-            log.debug("Request body captured ({} bytes): {}", content.length, requestBody);
+            log.debug("Request body captured: {}", requestBody);
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+package com.cholog.logger.filter;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+/**
+ * 요청 처리 스레드에서 제출한 비동기 작업에 요청 컨텍스트({@link RequestLogContext})와 MDC를 전파하는 {@link TaskDecorator}입니다.
+ * 작업 스레드의 로그에도 같은 {@code requestId}와 요청 정보가 붙고, 작업이 사용한 CPU 시간/할당량은 요청의 {@link RequestResourceUsage}에 더해집니다.
+ *
+ * Spring Boot는 {@code TaskDecorator} 빈이 하나뿐이면 자동 구성되는 {@code @Async}/{@code applicationTaskExecutor}에 적용하며,
+ * 직접 만든 {@code ThreadPoolTaskExecutor}에는 {@code setTaskDecorator}로 지정할 수 있습니다.
+ * 작업이 요청 완료 후에 끝나면 그 이후의 사용량은 이미 기록된 요청 완료 로그에 포함되지 않습니다.
+ */
+public class RequestContextTaskDecorator implements TaskDecorator {
+
+    /**
+     * 작업을 제출하는 스레드의 요청 컨텍스트와 MDC를 작업 실행 중에만 바인딩하도록 감쌉니다.
+     * 요청 컨텍스트가 없으면 작업을 그대로 반환합니다.
+     *
+     * @param runnable 제출된 작업
+     * @return 컨텍스트를 전파하는 작업
+     */
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        RequestLogContext context = RequestLogContext.current();
+        if (context == null) {
+            return runnable;
+        }
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return () -> {
+            RequestLogContext previousContext = RequestLogContext.current();
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            RequestLogContext.bind(context);
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                runnable.run();
+            } finally {
+                if (previousMdc != null) {
+                    MDC.setContextMap(previousMdc);
+                } else {
+                    MDC.clear();
+                }
+                if (previousContext != null) {
+                    RequestLogContext.bind(previousContext);
+                } else {
+                    RequestLogContext.clear();
+                }
+            }
+        };
+    }
+}
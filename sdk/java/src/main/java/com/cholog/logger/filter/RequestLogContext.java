@@ -0,0 +1,376 @@
+package com.cholog.logger.filter;
+
+import com.cholog.logger.service.RedactionEngine;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 하나의 HTTP 요청에 대한 로깅 컨텍스트를 담는 불변(immutable) 객체입니다.
+ * {@link RequestTimingFilter}가 요청 시작 시 단 한 번 생성하여 현재 스레드에 바인딩하고,
+ * {@link com.cholog.logger.appender.CentralLogAppender}는 로그 이벤트마다 이 객체를 그대로 읽어 JSON에 포함합니다.
+ *
+ * 이전 버전에서는 요청 헤더와 파라미터를 {@code request_header_*}, {@code request_param_*} 형태로
+ * MDC에 하나씩 풀어 넣고, 헤더 전체를 다시 JSON 문자열로 직렬화하여 Appender가 로그마다 재파싱했습니다.
+ * 이 클래스는 그 과정을 요청당 1회의 수집으로 대체합니다.
+ *
+ * MDC는 문자열만 저장할 수 있으므로 컨텍스트 객체는 {@link ThreadLocal}에 보관합니다.
+ * 자원 사용량 측정이 켜져 있으면 바인딩할 때와 해제할 때 스레드의 CPU 시간/할당량을 읽어, 그 구간의 사용량을 {@link RequestResourceUsage}에 더합니다.
+ * {@code requestId}는 사용자 로그 패턴(%X{requestId})과의 호환을 위해 MDC에도 계속 유지됩니다.
+ * WebFlux 환경에서는 {@link ReactiveRequestTimingFilter}가 컨텍스트를 Reactor {@code Context}에 담아 전달하며,
+ * 로그를 기록하는 시점에만 스레드에 바인딩합니다.
+ *
+ * 요청 정보는 불변이며, 요청 처리 중 누적되는 SQL 통계({@link RequestQueryStats}), 느린 요청의 스택 샘플({@link RequestStackSamples}),
+ * CPU 시간/할당량({@link RequestResourceUsage}),
+ * 핸들러가 결정된 뒤 필터가 설정하는 경로 템플릿({@link #getRoute()})만 스레드 안전하게 갱신됩니다.
+ *
+ * @version 1.0.7
+ * @see RequestTimingFilter
+ * @see ReactiveRequestTimingFilter
+ * @see com.cholog.logger.appender.CentralLogAppender
+ */
+public final class RequestLogContext {
+
+    /** 현재 요청 처리 스레드에 바인딩된 컨텍스트 */
+    private static final ThreadLocal<Binding> CURRENT = new ThreadLocal<>();
+
+    private final String requestId;
+    private final String method;
+    private final String uri;
+    private final String clientIp;
+    private final String userAgent;
+    private final Boolean uaMobile;
+    private final String uaPlatform;
+    private final Map<String, String> headers;
+    private final Map<String, String> params;
+    private final RequestQueryStats queryStats = new RequestQueryStats();
+
+    /** 핸들러의 경로 템플릿 (요청 처리 후 필터가 설정) 또는 요청 경로에서 추정한 템플릿 */
+    private volatile String route;
+
+    /** 느린 요청의 스택 샘플 (감시 스레드가 처음 샘플링할 때 생성) */
+    private volatile RequestStackSamples stackSamples;
+
+    /** 요청 처리에 사용한 CPU 시간/할당량 (측정을 끈 경우 null) */
+    private volatile RequestResourceUsage resourceUsage;
+
+    private RequestLogContext(String requestId, String method, String uri, String clientIp, String userAgent,
+                              Map<String, String> headers, Map<String, String> params) {
+        this.requestId = requestId;
+        this.method = method;
+        this.uri = uri;
+        this.clientIp = clientIp;
+        this.userAgent = userAgent;
+        this.headers = headers;
+        this.params = params;
+
+        // 클라이언트 힌트 헤더는 로그마다 계산하지 않도록 생성 시점에 한 번만 해석
+        String mobile = headers.get("sec-ch-ua-mobile");
+        this.uaMobile = mobile != null ? !mobile.replace("?", "").equals("0") : null;
+        String platform = headers.get("sec-ch-ua-platform");
+        this.uaPlatform = platform != null ? platform.replace("\"", "") : null;
+    }
+
+    /**
+     * 서블릿 요청으로부터 컨텍스트를 생성합니다.
+     * 헤더 이름은 소문자로 정규화되며, 민감 헤더와 민감 파라미터(이름 또는 값 기준)는 대체 문자열로 마스킹됩니다.
+     *
+     * @param requestId       요청 ID
+     * @param request         HTTP 요청
+     * @param redactionEngine 민감 정보 판별 엔진
+     * @return 생성된 컨텍스트
+     */
+    static RequestLogContext capture(String requestId, HttpServletRequest request, RedactionEngine redactionEngine) {
+        String maskedValue = redactionEngine.getReplacement();
+        Map<String, String> headers = new LinkedHashMap<>();
+        Enumeration<String> headerNames = request.getHeaderNames();
+        if (headerNames != null) {
+            while (headerNames.hasMoreElements()) {
+                String name = headerNames.nextElement();
+                String lowerName = name.toLowerCase();
+                if (redactionEngine.isSensitiveHeader(name)) {
+                    headers.put(lowerName, maskedValue);
+                } else {
+                    String value = request.getHeader(name);
+                    if (value != null) {
+                        headers.put(lowerName, value);
+                    }
+                }
+            }
+        }
+
+        Map<String, String[]> parameterMap = request.getParameterMap();
+        Map<String, String> params;
+        if (parameterMap == null || parameterMap.isEmpty()) {
+            params = Collections.emptyMap();
+        } else {
+            params = new LinkedHashMap<>();
+            for (Map.Entry<String, String[]> entry : parameterMap.entrySet()) {
+                String key = entry.getKey();
+                params.put(key, isSensitiveParameter(redactionEngine, key, Arrays.asList(entry.getValue()))
+                        ? maskedValue : String.join(",", entry.getValue()));
+            }
+            params = Collections.unmodifiableMap(params);
+        }
+
+        String userAgent = request.getHeader("User-Agent");
+        return new RequestLogContext(requestId, request.getMethod(), request.getRequestURI(), request.getRemoteAddr(),
+                userAgent, Collections.unmodifiableMap(headers), params);
+    }
+
+    /**
+     * WebFlux 요청으로부터 컨텍스트를 생성합니다. 서블릿 요청과 같은 규칙으로 헤더와 쿼리 파라미터를 마스킹합니다.
+     *
+     * @param requestId       요청 ID
+     * @param request         WebFlux HTTP 요청
+     * @param redactionEngine 민감 정보 판별 엔진
+     * @return 생성된 컨텍스트
+     */
+    static RequestLogContext capture(String requestId, ServerHttpRequest request, RedactionEngine redactionEngine) {
+        String maskedValue = redactionEngine.getReplacement();
+        Map<String, String> headers = new LinkedHashMap<>();
+        request.getHeaders().forEach((name, values) -> {
+            String lowerName = name.toLowerCase();
+            if (redactionEngine.isSensitiveHeader(name)) {
+                headers.put(lowerName, maskedValue);
+            } else if (!values.isEmpty()) {
+                headers.put(lowerName, values.get(0));
+            }
+        });
+
+        Map<String, List<String>> queryParams = request.getQueryParams();
+        Map<String, String> params;
+        if (queryParams.isEmpty()) {
+            params = Collections.emptyMap();
+        } else {
+            params = new LinkedHashMap<>();
+            for (Map.Entry<String, List<String>> entry : queryParams.entrySet()) {
+                String key = entry.getKey();
+                params.put(key, isSensitiveParameter(redactionEngine, key, entry.getValue())
+                        ? maskedValue : String.join(",", entry.getValue()));
+            }
+            params = Collections.unmodifiableMap(params);
+        }
+
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        String clientIp = null;
+        if (remoteAddress != null) {
+            clientIp = remoteAddress.getAddress() != null
+                    ? remoteAddress.getAddress().getHostAddress() : remoteAddress.getHostString();
+        }
+        return new RequestLogContext(requestId, request.getMethod().name(), request.getPath().value(), clientIp,
+                request.getHeaders().getFirst("User-Agent"), Collections.unmodifiableMap(headers), params);
+    }
+
+    private static boolean isSensitiveParameter(RedactionEngine redactionEngine, String key, List<String> values) {
+        if (redactionEngine.isSensitiveKey(key)) {
+            return true;
+        }
+        for (String value : values) {
+            if (redactionEngine.isSensitiveValue(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 현재 스레드에 컨텍스트를 바인딩합니다.
+     *
+     * @param context 바인딩할 컨텍스트
+     */
+    static void bind(RequestLogContext context) {
+        Binding binding = CURRENT.get();
+        if (binding == null) {
+            binding = new Binding();
+            CURRENT.set(binding);
+        } else {
+            binding.settle();
+        }
+        binding.start(context);
+    }
+
+    /**
+     * 현재 스레드의 컨텍스트 바인딩을 해제합니다.
+     */
+    static void clear() {
+        Binding binding = CURRENT.get();
+        if (binding != null) {
+            binding.settle();
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * 현재 스레드에서 지금까지 사용한 CPU 시간/할당량을 바인딩된 컨텍스트에 더하고 측정을 다시 시작합니다.
+     * 바인딩을 해제하기 전에 요청 완료 로그를 기록할 때 호출합니다.
+     */
+    static void settleResourceUsage() {
+        Binding binding = CURRENT.get();
+        if (binding != null) {
+            binding.settle();
+            binding.start(binding.context);
+        }
+    }
+
+    /**
+     * 현재 스레드에 바인딩된 요청 컨텍스트를 반환합니다.
+     *
+     * @return 요청 처리 중이면 컨텍스트, 아니면 {@code null}
+     */
+    public static RequestLogContext current() {
+        Binding binding = CURRENT.get();
+        return binding != null ? binding.context : null;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    /**
+     * 요청의 경로 템플릿(예: {@code /api/users/{id}})을 반환합니다. 로그 JSON의 {@code http.route}로 기록되며,
+     * 실제 ID 값이 들어가는 {@code requestUri}와 달리 API마다 하나의 값을 가지므로 서버에서 API별로 집계할 때 사용합니다.
+     *
+     * 요청 처리가 끝나면 Spring이 찾은 핸들러 패턴을 사용하고, 그 전이거나 핸들러를 찾지 못했으면
+     * 요청 경로의 숫자 ID, UUID, 해시 세그먼트를 자리표시자로 바꾼 값을 사용합니다.
+     *
+     * @return 경로 템플릿
+     */
+    public String getRoute() {
+        String resolved = route;
+        if (resolved == null) {
+            resolved = RouteNormalizer.normalize(uri);
+            route = resolved;
+        }
+        return resolved;
+    }
+
+    /**
+     * 요청을 처리한 핸들러의 경로 템플릿을 설정합니다. {@code null}이면 요청 경로에서 추정한 템플릿을 유지합니다.
+     *
+     * @param pattern 핸들러의 경로 패턴 ({@code HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE})
+     */
+    void resolveRoute(String pattern) {
+        if (pattern != null) {
+            route = pattern;
+        }
+    }
+
+    public String getClientIp() {
+        return clientIp;
+    }
+
+    public String getUserAgent() {
+        return userAgent;
+    }
+
+    /**
+     * @return {@code sec-ch-ua-mobile} 헤더 해석 결과, 헤더가 없으면 {@code null}
+     */
+    public Boolean getUaMobile() {
+        return uaMobile;
+    }
+
+    /**
+     * @return 따옴표를 제거한 {@code sec-ch-ua-platform} 헤더 값, 헤더가 없으면 {@code null}
+     */
+    public String getUaPlatform() {
+        return uaPlatform;
+    }
+
+    /**
+     * @return 소문자 이름으로 정규화되고 민감 헤더가 마스킹된 읽기 전용 헤더 맵
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return 민감 파라미터가 마스킹된 읽기 전용 요청 파라미터 맵
+     */
+    public Map<String, String> getParams() {
+        return params;
+    }
+
+    /**
+     * @return 이 요청 처리 중 실행된 SQL 통계
+     */
+    public RequestQueryStats getQueryStats() {
+        return queryStats;
+    }
+
+    /**
+     * @return 기준 시간을 넘긴 요청의 스택 샘플, 샘플링되지 않았으면 {@code null}
+     */
+    public RequestStackSamples getStackSamples() {
+        return stackSamples;
+    }
+
+    /**
+     * 스택 샘플 누적 객체를 반환하며, 없으면 생성합니다. {@link SlowRequestWatchdog}의 감시 스레드에서만 호출됩니다.
+     */
+    RequestStackSamples stackSamples() {
+        RequestStackSamples samples = stackSamples;
+        if (samples == null) {
+            samples = new RequestStackSamples();
+            stackSamples = samples;
+        }
+        return samples;
+    }
+
+    /**
+     * @return 요청 처리에 사용한 CPU 시간/할당량, 측정하지 않으면 {@code null}
+     */
+    public RequestResourceUsage getResourceUsage() {
+        return resourceUsage;
+    }
+
+    /**
+     * 이 요청의 CPU 시간/할당량 측정을 켭니다. 스레드에 바인딩하기 전에 호출해야 합니다.
+     */
+    void trackResourceUsage() {
+        resourceUsage = new RequestResourceUsage();
+    }
+
+    /**
+     * 스레드 하나의 바인딩 상태. 바인딩을 시작한 시점의 CPU 시간/할당량을 기억합니다.
+     */
+    private static final class Binding {
+
+        private RequestLogContext context;
+        private RequestResourceUsage usage;
+        private long cpuStart;
+        private long allocationStart;
+
+        private void start(RequestLogContext context) {
+            this.context = context;
+            this.usage = context != null ? context.resourceUsage : null;
+            if (usage != null) {
+                cpuStart = RequestResourceUsage.currentThreadCpuTime();
+                allocationStart = RequestResourceUsage.currentThreadAllocatedBytes();
+            }
+        }
+
+        private void settle() {
+            if (usage != null) {
+                usage.add(cpuStart, RequestResourceUsage.currentThreadCpuTime(),
+                        allocationStart, RequestResourceUsage.currentThreadAllocatedBytes());
+            }
+        }
+    }
+}
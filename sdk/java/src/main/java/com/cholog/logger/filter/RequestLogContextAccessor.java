@@ -0,0 +1,24 @@
+package com.cholog.logger.filter;
+
+import io.micrometer.context.ContextRegistry;
+
+/**
+ * {@link RequestLogContext}의 ThreadLocal을 Micrometer context-propagation에 등록합니다.
+ * Reactor 자동 컨텍스트 전파가 켜져 있으면 연산자가 실행되는 스레드마다
+ * Reactor {@code Context}의 {@link ReactiveRequestTimingFilter#CONTEXT_KEY} 값이 ThreadLocal로 복원됩니다.
+ *
+ * context-propagation은 선택 의존성이므로 라이브러리가 있을 때만 이 클래스를 로드합니다.
+ */
+final class RequestLogContextAccessor {
+
+    private RequestLogContextAccessor() {
+    }
+
+    /**
+     * 접근자를 등록합니다. 같은 키로 이미 등록되어 있으면 교체됩니다.
+     */
+    static void register() {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(ReactiveRequestTimingFilter.CONTEXT_KEY,
+                RequestLogContext::current, RequestLogContext::bind, RequestLogContext::clear);
+    }
+}
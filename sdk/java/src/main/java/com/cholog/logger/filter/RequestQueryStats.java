@@ -0,0 +1,79 @@
+package com.cholog.logger.filter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 하나의 요청 처리 중 실행된 SQL의 수와 시간을 누적하는 객체입니다.
+ * {@link RequestLogContext}마다 하나씩 있으며, {@code com.cholog.logger.jdbc.TracingDataSource}가 요청 처리 스레드에서 기록하고
+ * {@link com.cholog.logger.appender.CentralLogAppender}가 요청 완료 로그의 {@code dbTimeMs}, {@code dbQueryCount}로 기록합니다.
+ *
+ * N+1 패턴을 찾기 위해 쿼리 지문별 실행 횟수도 세며, 가장 많이 반복된 지문과 횟수를 유지합니다.
+ * 지문별 횟수는 요청당 최대 {@value #MAX_TRACKED_FINGERPRINTS}개까지만 추적합니다.
+ */
+public final class RequestQueryStats {
+
+    /** 요청 하나에서 실행 횟수를 추적할 최대 쿼리 지문 수 */
+    static final int MAX_TRACKED_FINGERPRINTS = 64;
+
+    private long queryCount;
+    private long totalNanos;
+    private Map<String, int[]> fingerprintCounts;
+    private String mostRepeatedFingerprint;
+    private int mostRepeatedCount;
+
+    /**
+     * 실행된 SQL 하나를 기록합니다.
+     *
+     * @param fingerprint 파라미터를 제거한 쿼리 지문
+     * @param nanos       실행 시간(ns)
+     */
+    public synchronized void record(String fingerprint, long nanos) {
+        queryCount++;
+        totalNanos += nanos;
+
+        if (fingerprintCounts == null) {
+            fingerprintCounts = new HashMap<>();
+        }
+        int[] count = fingerprintCounts.get(fingerprint);
+        if (count == null) {
+            if (fingerprintCounts.size() >= MAX_TRACKED_FINGERPRINTS) {
+                return;
+            }
+            count = new int[1];
+            fingerprintCounts.put(fingerprint, count);
+        }
+        if (++count[0] > mostRepeatedCount) {
+            mostRepeatedCount = count[0];
+            mostRepeatedFingerprint = fingerprint;
+        }
+    }
+
+    /**
+     * @return 실행된 SQL 수
+     */
+    public synchronized long getQueryCount() {
+        return queryCount;
+    }
+
+    /**
+     * @return SQL 실행 시간 합계(ms)
+     */
+    public synchronized double getTotalTimeMillis() {
+        return totalNanos / 1_000_000.0;
+    }
+
+    /**
+     * @return 가장 많이 반복된 쿼리 지문, 실행된 SQL이 없으면 {@code null}
+     */
+    public synchronized String getMostRepeatedFingerprint() {
+        return mostRepeatedFingerprint;
+    }
+
+    /**
+     * @return 가장 많이 반복된 쿼리 지문의 실행 횟수
+     */
+    public synchronized int getMostRepeatedCount() {
+        return mostRepeatedCount;
+    }
+}
@@ -0,0 +1,98 @@
+package com.cholog.logger.filter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * 하나의 요청을 처리하는 동안 사용한 스레드 CPU 시간과 힙 할당량을 누적하는 객체입니다.
+ * {@code request-resource-tracking-enabled}가 켜져 있으면 {@link RequestLogContext}마다 하나씩 만들어지며,
+ * {@link com.cholog.logger.appender.CentralLogAppender}가 요청 완료 로그의 {@code cpuTimeMs}, {@code allocatedBytes}로 기록합니다.
+ *
+ * 측정은 컨텍스트가 스레드에 바인딩된 구간 단위로 합니다. 요청 처리 스레드뿐 아니라, 컨텍스트가 전파되는 곳
+ * ({@link RequestContextTaskDecorator}로 감싼 비동기 작업, WebFlux의 자동 컨텍스트 전파)에서 사용한 양도 같은 요청에 더해집니다.
+ * 값은 {@link ThreadMXBean#getCurrentThreadCpuTime()}과 {@code com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}의
+ * 차이이며, JVM이 지원하지 않거나 측정을 꺼 둔 항목은 기록하지 않습니다.
+ */
+public final class RequestResourceUsage {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME_SUPPORTED = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+    private static final com.sun.management.ThreadMXBean ALLOCATION_MX_BEAN = allocationMXBean();
+
+    private long cpuTimeNanos;
+    private long allocatedBytes;
+    private boolean cpuTimeMeasured;
+    private boolean allocationMeasured;
+
+    /**
+     * 현재 스레드의 누적 CPU 시간을 반환합니다.
+     *
+     * @return CPU 시간(ns), 측정할 수 없으면 -1
+     */
+    static long currentThreadCpuTime() {
+        return CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
+    }
+
+    /**
+     * 현재 스레드의 누적 힙 할당량을 반환합니다.
+     *
+     * @return 할당량(byte), 측정할 수 없으면 -1
+     */
+    static long currentThreadAllocatedBytes() {
+        return ALLOCATION_MX_BEAN != null ? ALLOCATION_MX_BEAN.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * 한 스레드에서 컨텍스트가 바인딩된 구간 동안의 사용량을 더합니다. 시작 또는 끝 값이 음수(측정 불가)인 항목은 건너뜁니다.
+     */
+    synchronized void add(long cpuStart, long cpuEnd, long allocationStart, long allocationEnd) {
+        if (cpuStart >= 0 && cpuEnd >= cpuStart) {
+            cpuTimeNanos += cpuEnd - cpuStart;
+            cpuTimeMeasured = true;
+        }
+        if (allocationStart >= 0 && allocationEnd >= allocationStart) {
+            allocatedBytes += allocationEnd - allocationStart;
+            allocationMeasured = true;
+        }
+    }
+
+    /**
+     * @return CPU 시간을 측정했으면 true
+     */
+    public synchronized boolean isCpuTimeMeasured() {
+        return cpuTimeMeasured;
+    }
+
+    /**
+     * @return 요청 처리에 사용한 CPU 시간(ms)
+     */
+    public synchronized double getCpuTimeMillis() {
+        return cpuTimeNanos / 1_000_000.0;
+    }
+
+    /**
+     * @return 할당량을 측정했으면 true
+     */
+    public synchronized boolean isAllocationMeasured() {
+        return allocationMeasured;
+    }
+
+    /**
+     * @return 요청 처리 중 할당한 힙 메모리(byte)
+     */
+    public synchronized long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationMXBean() {
+        try {
+            if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) THREAD_MX_BEAN;
+                return bean.isThreadAllocatedMemorySupported() ? bean : null;
+            }
+        } catch (LinkageError e) {
+            // com.sun.management가 없는 JVM
+        }
+        return null;
+    }
+}
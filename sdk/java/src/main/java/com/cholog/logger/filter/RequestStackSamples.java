@@ -0,0 +1,83 @@
+package com.cholog.logger.filter;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 처리 시간이 기준을 넘은 요청의 스레드 스택 샘플을 누적하는 객체입니다.
+ * {@link SlowRequestWatchdog}가 요청이 기준 시간을 넘은 뒤 처음 샘플링할 때 만들어 {@link RequestLogContext}에 보관하며,
+ * {@link com.cholog.logger.appender.CentralLogAppender}가 요청 완료 로그의 {@code stackSamples} 필드로 기록합니다.
+ *
+ * 스택은 루트 프레임부터 {@code 클래스.메소드}를 {@code ;}로 이은 접힌 스택으로 세며,
+ * 요청당 최대 {@value #MAX_TRACKED_STACKS}개까지만 따로 세고 넘는 샘플은 {@value #OTHER_STACK}으로 셉니다.
+ */
+public final class RequestStackSamples {
+
+    /** 요청 하나에서 따로 셀 최대 스택 수 */
+    static final int MAX_TRACKED_STACKS = 16;
+
+    /** 따로 세지 못한 샘플을 모으는 스택 이름 */
+    static final String OTHER_STACK = "[other]";
+
+    private final Map<String, int[]> stacks = new HashMap<>();
+    private final Map<Thread.State, int[]> states = new EnumMap<>(Thread.State.class);
+    private int sampleCount;
+
+    /**
+     * 샘플 하나를 기록합니다.
+     *
+     * @param state       샘플링 시점의 스레드 상태
+     * @param foldedStack 루트 프레임부터 {@code ;}로 이은 스택
+     */
+    synchronized void record(Thread.State state, String foldedStack) {
+        sampleCount++;
+        states.computeIfAbsent(state, key -> new int[1])[0]++;
+        int[] count = stacks.get(foldedStack);
+        if (count == null) {
+            if (stacks.size() >= MAX_TRACKED_STACKS) {
+                count = stacks.computeIfAbsent(OTHER_STACK, key -> new int[1]);
+            } else {
+                count = new int[1];
+                stacks.put(foldedStack, count);
+            }
+        }
+        count[0]++;
+    }
+
+    /**
+     * @return 기록된 샘플 수
+     */
+    public synchronized int getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * 로그 JSON의 {@code stackSamples} 필드로 쓸 맵을 만듭니다. 스택은 샘플이 많은 순서로 정렬됩니다.
+     *
+     * @return 샘플 수, 스레드 상태별 샘플 수, 스택별 샘플 수를 담은 맵
+     */
+    public synchronized Map<String, Object> toMap() {
+        Map<String, Object> stateCounts = new LinkedHashMap<>();
+        states.forEach((state, count) -> stateCounts.put(state.name(), count[0]));
+
+        List<Map.Entry<String, int[]>> entries = new ArrayList<>(stacks.entrySet());
+        entries.sort((a, b) -> Integer.compare(b.getValue()[0], a.getValue()[0]));
+        List<Map<String, Object>> stackCounts = new ArrayList<>(entries.size());
+        for (Map.Entry<String, int[]> entry : entries) {
+            Map<String, Object> stack = new LinkedHashMap<>();
+            stack.put("stack", entry.getKey());
+            stack.put("count", entry.getValue()[0]);
+            stackCounts.add(stack);
+        }
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("samples", sampleCount);
+        map.put("states", stateCounts);
+        map.put("stacks", stackCounts);
+        return map;
+    }
+}
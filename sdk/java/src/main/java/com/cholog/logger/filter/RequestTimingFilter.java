@@ -2,7 +2,8 @@ package com.cholog.logger.filter;
 
 import com.cholog.logger.appender.CentralLogAppender;
 import com.cholog.logger.config.LogServerProperties;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.cholog.logger.metrics.RouteMetrics;
+import com.cholog.logger.service.RedactionEngine;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -11,11 +12,11 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Servlet Filter 구현체로, 라이브러리의 핵심 기능 중 하나인 HTTP 요청 자동 추적 및 로깅을 담당합니다.
@@ -27,6 +28,9 @@ import java.util.UUID;
  * 요청 처리가 완료된 후 최종 HTTP 응답 상태 코드(Status Code)를 가져옵니다.
  * 위에서 수집된 주요 컨텍스트 정보(요청 ID 포함)를 SLF4j MDC(Mapped Diagnostic Context)와 {@link HttpServletRequest} attribute에 저장하여, 후속 로깅 처리(예: `CentralLogAppender`에서의 `requestId` 참조)나 다른 사용자 정의 필터/핸들러에서 활용될 수 있도록 합니다.
  * 요청 처리가 완료되는 시점에 INFO 레벨의 로그를 자동으로 기록하여, {@link CentralLogAppender}가 해당 요청의 모든 컨텍스트 정보를 포함한 로그를 중앙 서버로 전송하도록 트리거합니다.
+ * 요청 완료 로그는 {@code access-log-sample-rate} 비율로 샘플링할 수 있으며(5xx/예외는 항상 기록), 처리 시간은 {@link RouteMetrics}에 경로 템플릿별로 누적됩니다.
+ * {@code request-resource-tracking-enabled}가 켜져 있으면 요청 처리 스레드(와 컨텍스트가 전파된 비동기 작업)의 CPU 시간과 힙 할당량을 요청 완료 로그에 기록합니다.
+ * {@link SlowRequestWatchdog}가 있으면 처리 중인 요청을 등록하여, 기준 시간을 넘긴 요청의 스택 샘플을 요청 완료 로그에 함께 기록합니다 (샘플이 있는 요청은 항상 기록).
  * 요청 처리가 완전히 끝나면 해당 스레드의 MDC에서 추가했던 모든 정보를 정리합니다.
  * 이 필터는 {@link com.cholog.logger.config.LogAutoConfiguration}에 의해 서블릿 기반 웹 애플리케이션 환경에서
  * 자동으로 등록되며, {@link Ordered#HIGHEST_PRECEDENCE} 우선순위를 가져 필터 체인의 가장 앞단에서 실행됩니다.
@@ -55,15 +59,17 @@ public class RequestTimingFilter implements Filter {
     /** 필터 자체의 로그 기록(특히 요청 완료 자동 로그)을 위한 Logger */
     private static final Logger log = LoggerFactory.getLogger(RequestTimingFilter.class);
     
-    /** 로깅에서 제외해야 할 민감 파라미터 키워드 목록 */
-    private static final String[] SENSITIVE_PARAMETER_KEYWORDS = {
-        "password", "pwd", "secret", "token", "auth", "key", "apikey", "api-key", "credential", 
-        "card", "credit", "cvv", "cvc", "pin", "ssn", "social", "sin", "tax", "fiscal", 
-        "passport", "license", "national", "identity", "private"
-    };
-    
     /** 로그 서버 설정 */
     private final LogServerProperties properties;
+
+    /** 민감 헤더/파라미터 판별 엔진 */
+    private final RedactionEngine redactionEngine;
+
+    /** 경로별 응답 시간 분포 (경로 요약을 끈 경우 null) */
+    private final RouteMetrics routeMetrics;
+
+    /** 느린 요청 스택 샘플링 감시자 (끈 경우 null) */
+    private final SlowRequestWatchdog slowRequestWatchdog;
     
     /**
      * 생성자를 통한 LogServerProperties 주입
@@ -71,7 +77,79 @@ public class RequestTimingFilter implements Filter {
      * @param properties 로그 서버 설정
      */
     public RequestTimingFilter(LogServerProperties properties) {
+        this(properties, new RedactionEngine(properties));
+    }
+
+    /**
+     * 생성자를 통한 LogServerProperties 및 공용 RedactionEngine 주입
+     *
+     * @param properties      로그 서버 설정
+     * @param redactionEngine 민감 정보 판별 엔진
+     */
+    public RequestTimingFilter(LogServerProperties properties, RedactionEngine redactionEngine) {
+        this(properties, redactionEngine, null);
+    }
+
+    /**
+     * 생성자를 통한 LogServerProperties, 공용 RedactionEngine 및 경로별 응답 시간 분포 주입
+     *
+     * @param properties      로그 서버 설정
+     * @param redactionEngine 민감 정보 판별 엔진
+     * @param routeMetrics    경로별 응답 시간 분포 ({@code null}이면 집계하지 않음)
+     */
+    public RequestTimingFilter(LogServerProperties properties, RedactionEngine redactionEngine, RouteMetrics routeMetrics) {
+        this(properties, redactionEngine, routeMetrics, null);
+    }
+
+    /**
+     * 생성자를 통한 LogServerProperties, 공용 RedactionEngine, 경로별 응답 시간 분포 및 느린 요청 감시자 주입
+     *
+     * @param properties          로그 서버 설정
+     * @param redactionEngine     민감 정보 판별 엔진
+     * @param routeMetrics        경로별 응답 시간 분포 ({@code null}이면 집계하지 않음)
+     * @param slowRequestWatchdog 느린 요청 스택 샘플링 감시자 ({@code null}이면 샘플링하지 않음)
+     */
+    public RequestTimingFilter(LogServerProperties properties, RedactionEngine redactionEngine, RouteMetrics routeMetrics,
+                               SlowRequestWatchdog slowRequestWatchdog) {
         this.properties = properties;
+        this.redactionEngine = redactionEngine;
+        this.routeMetrics = routeMetrics;
+        this.slowRequestWatchdog = slowRequestWatchdog;
+    }
+
+    /**
+     * 요청 완료 로그를 기록할지 결정합니다. 실패한 요청과 스택 샘플이 있는 느린 요청은 항상 기록하고, 나머지는 {@code access-log-sample-rate} 비율로 기록합니다.
+     *
+     * @param properties 로그 서버 설정
+     * @param mustLog    5xx 응답 또는 처리되지 않은 예외로 끝났거나, 스택 샘플이 있으면 true
+     * @return 기록하면 true
+     */
+    static boolean shouldLogRequestFinished(LogServerProperties properties, boolean mustLog) {
+        if (mustLog) {
+            return true;
+        }
+        double sampleRate = properties.getAccessLogSampleRate();
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * 처리가 끝난 요청을 경로별 응답 시간 분포에 누적합니다. 자원 사용량을 측정했으면 CPU 시간/할당량도 경로별 합계에 더합니다.
+     * 요청 완료 로그는 샘플링되므로, 경로별 총사용량은 이 합계로만 정확히 알 수 있습니다.
+     *
+     * @param routeMetrics   경로별 집계
+     * @param requestContext 요청 컨텍스트
+     * @param route          경로 템플릿, 알 수 없으면 {@code null}
+     * @param statusCode     응답 상태 코드, 알 수 없으면 {@code null}
+     * @param durationNanos  처리 시간(ns)
+     * @param failed         5xx 응답 또는 처리되지 않은 예외로 끝났으면 true
+     */
+    static void recordRoute(RouteMetrics routeMetrics, RequestLogContext requestContext, String route,
+                            Integer statusCode, long durationNanos, boolean failed) {
+        RequestResourceUsage usage = requestContext.getResourceUsage();
+        long cpuTimeMicros = usage != null && usage.isCpuTimeMeasured() ? Math.round(usage.getCpuTimeMillis() * 1000) : -1;
+        long allocatedBytes = usage != null && usage.isAllocationMeasured() ? usage.getAllocatedBytes() : -1;
+        routeMetrics.record(requestContext.getMethod(), route, statusCode, durationNanos / 1_000, failed,
+                cpuTimeMicros, allocatedBytes);
     }
 
     /**
@@ -100,6 +178,8 @@ public class RequestTimingFilter implements Filter {
         boolean isHttpServletResponse = response instanceof HttpServletResponse;
         boolean mdcPopulated = false; // MDC에 이 필터가 값을 넣었는지 추적
         Integer statusCode = null;    // 최종 HTTP 상태 코드 저장 변수
+        RequestLogContext requestContext = null; // 요청 단위 로깅 컨텍스트
+        SlowRequestWatchdog.InFlightRequest inFlightRequest = null; // 느린 요청 감시 항목
 
         try {
             // --- 1. 요청 시작 시 MDC 설정 ---
@@ -109,8 +189,6 @@ public class RequestTimingFilter implements Filter {
             }
             mdcPopulated = true; // 최소한 requestId는 설정됨
 
-            String method = null;
-            String uri = null;
             // HTTP 요청일 경우 상세 정보 추출 및 MDC 저장
             if (isHttpServletRequest) {
                 HttpServletRequest httpServletRequest = (HttpServletRequest) request;
@@ -124,45 +202,19 @@ public class RequestTimingFilter implements Filter {
                     MDC.put(CentralLogAppender.REQUEST_ID_MDC_KEY, requestId);
                 }
                 
-                method = httpServletRequest.getMethod();
-                uri = httpServletRequest.getRequestURI();
-                MDC.put(CentralLogAppender.REQUEST_METHOD_MDC_KEY, method);
-                MDC.put(CentralLogAppender.REQUEST_URI_MDC_KEY, uri);
-                MDC.put(CentralLogAppender.REQUEST_CLIENT_IP_MDC_KEY, request.getRemoteAddr());
-                String userAgent = httpServletRequest.getHeader("User-Agent");
-                MDC.put(CentralLogAppender.REQUEST_USER_AGENT_MDC_KEY, userAgent);
-
-                // request header를 평평하게 MDC에 추가 (이중 JSON 방지)
-                httpServletRequest.getHeaderNames().asIterator().forEachRemaining(headerName -> {
-                    String value = httpServletRequest.getHeader(headerName);
-                    if (value != null) {
-                        MDC.put("request_header_" + headerName, value);
-                    }
-                });
-
-                // 중요 헤더 정보 정확하게 MDC에 추가
-                Map<String, String> requestHeaders = new HashMap<>();
-                httpServletRequest.getHeaderNames().asIterator().forEachRemaining(headerName -> {
-                    requestHeaders.put(headerName, httpServletRequest.getHeader(headerName));
-                });
-                
-                // JSON 형태로 전체 헤더 정보를 request_headers에 저장
-                try {
-                    MDC.put("request_headers", new ObjectMapper().writeValueAsString(requestHeaders));
-                } catch (Exception e) {
-                    log.warn("Failed to convert request headers to JSON", e);
-                    MDC.put("request_headers", "{\"error\":\"Failed to serialize headers\"}");
+                // 요청 컨텍스트(메소드, URI, IP, UA, 헤더, 파라미터)를 단 한 번 수집하여 스레드에 바인딩
+                // (헤더/파라미터를 MDC에 하나씩 풀어 넣거나 JSON으로 재직렬화하지 않음)
+                requestContext = RequestLogContext.capture(requestId, httpServletRequest, redactionEngine);
+                if (properties.isRequestResourceTrackingEnabled()) {
+                    // 바인딩 시점부터 스레드 CPU 시간/할당량 측정 시작
+                    requestContext.trackResourceUsage();
                 }
+                RequestLogContext.bind(requestContext);
 
-                // request parameter를 평평하게 MDC에 추가
-                httpServletRequest.getParameterMap().forEach((key, values) -> {
-                    if (isSensitiveParameter(key)) {
-                        // 민감 정보로 판단된 파라미터는 마스킹 처리
-                        MDC.put("request_param_" + key, properties.getSensitiveValueReplacement());
-                    } else {
-                        MDC.put("request_param_" + key, String.join(",", values));
-                    }
-                });
+                // 처리 시간이 기준을 넘기면 감시 스레드가 이 스레드의 스택을 샘플링
+                if (slowRequestWatchdog != null) {
+                    inFlightRequest = slowRequestWatchdog.register(requestContext, startTime);
+                }
             }
             // --------------------------
 
@@ -195,7 +247,16 @@ public class RequestTimingFilter implements Filter {
         } finally {
             // --- 4. 요청 처리 완료 후 항상 실행 (성공/예외 무관) ---
             long endTime = System.nanoTime();
-            long durationMs = (endTime - startTime) / 1_000_000; // 처리 시간 계산 (ms)
+            long durationNanos = endTime - startTime;
+            long durationMs = durationNanos / 1_000_000; // 처리 시간 계산 (ms)
+            if (inFlightRequest != null) {
+                // 완료 로그를 기록하기 전에 감시를 끝내 이후 샘플이 섞이지 않도록 함
+                slowRequestWatchdog.unregister(inFlightRequest);
+            }
+            if (requestContext != null) {
+                // 완료 로그에 담기도록 지금까지의 CPU 시간/할당량을 컨텍스트에 반영
+                RequestLogContext.settleResourceUsage();
+            }
 
             // finally 블록 시작 시점의 상태 코드 재확인 (예외 발생 등으로 try 블록에서 못 얻었을 수 있음)
             if (isHttpServletResponse && statusCode == null) {
@@ -230,42 +291,53 @@ public class RequestTimingFilter implements Filter {
                     // 응답 시간 MDC에 추가
                     MDC.put(CentralLogAppender.RESPONSE_TIME_MDC_KEY, String.valueOf(durationMs));
 
+                    boolean failed = (statusCode != null && statusCode >= 500)
+                            || MDC.get("exception_class") != null || MDC.get("error_id") != null;
+
+                    // 핸들러의 경로 템플릿(예: /users/{id})을 요청 완료 로그의 http.route로 기록하고,
+                    // 경로 템플릿별 응답 시간 분포에 누적 (주기마다 요약 로그로 전송)
+                    if (requestContext != null) {
+                        Object attribute = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                        String route = attribute instanceof String ? (String) attribute : null;
+                        requestContext.resolveRoute(route);
+                        if (routeMetrics != null) {
+                            recordRoute(routeMetrics, requestContext, route, statusCode, durationNanos, failed);
+                        }
+                    }
+
                     // --- 6. 자동 로그 기록 (Appender 트리거) ---
                     // 이 로그 이벤트는 위에서 MDC에 넣은 모든 정보를 포함한 상태로 발생함
                     // CentralLogAppender는 이 이벤트를 받아 최종 로그 데이터를 구성함
-                    try {
-                        // INFO 레벨로 요청 처리 완료 로그 기록
-                        log.info("Request Finished: {} {} status={} duration={}ms requestId={}",
-                                MDC.get(CentralLogAppender.REQUEST_METHOD_MDC_KEY), // MDC에서 정보 가져오기
-                                MDC.get(CentralLogAppender.REQUEST_URI_MDC_KEY),
-                                statusCode, // 상태 코드 (null일 경우 자동으로 "null"로 표시됨)
-                                durationMs,
-                                requestId // try 블록에서 생성한 ID 사용
-                        );
-                    } catch (Exception e) {
-                        // 자동 로그 기록 자체에서 오류 발생 시 (거의 없어야 함)
-                        log.error("Error occurred during automatic request finished logging.", e);
+                    // (성공한 요청은 access-log-sample-rate 비율만 기록, 스택 샘플이 있는 느린 요청은 항상 기록)
+                    boolean stackSampled = requestContext != null && requestContext.getStackSamples() != null;
+                    if (shouldLogRequestFinished(properties, failed || stackSampled)) {
+                        try {
+                            // INFO 레벨로 요청 처리 완료 로그 기록
+                            log.info("Request Finished: {} {} status={} duration={}ms requestId={}",
+                                    requestContext != null ? requestContext.getMethod() : null, // 요청 컨텍스트에서 정보 가져오기
+                                    requestContext != null ? requestContext.getUri() : null,
+                                    statusCode, // 상태 코드 (null일 경우 자동으로 "null"로 표시됨)
+                                    durationMs,
+                                    requestId // try 블록에서 생성한 ID 사용
+                            );
+                        } catch (Exception e) {
+                            // 자동 로그 기록 자체에서 오류 발생 시 (거의 없어야 함)
+                            log.error("Error occurred during automatic request finished logging.", e);
+                        }
                     }
                     // ---------------------------------------
 
                 } // if(mdcPopulated) 끝
             } finally {
-                // --- 7. 현재 요청에서 사용된 모든 MDC 키 제거 ---
+                // --- 7. 현재 요청에서 사용된 모든 MDC 키 및 요청 컨텍스트 제거 ---
                 // (스레드 재사용 시 이전 요청 정보가 남지 않도록 반드시 정리)
+                if (requestContext != null) {
+                    RequestLogContext.clear();
+                }
                 if (mdcPopulated) {
                     MDC.remove(CentralLogAppender.RESPONSE_TIME_MDC_KEY);
                     MDC.remove(CentralLogAppender.HTTP_STATUS_MDC_KEY);
                     MDC.remove(CentralLogAppender.REQUEST_ID_MDC_KEY);
-                    if (isHttpServletRequest) { // 추가했던 HTTP 관련 키들도 제거
-                        MDC.remove(CentralLogAppender.REQUEST_METHOD_MDC_KEY);
-                        MDC.remove(CentralLogAppender.REQUEST_URI_MDC_KEY);
-                        MDC.remove(CentralLogAppender.REQUEST_CLIENT_IP_MDC_KEY);
-                        MDC.remove(CentralLogAppender.REQUEST_USER_AGENT_MDC_KEY);
-                        
-                        // request header 및 parameter 관련 필드 제거
-                        MDC.remove("request_headers");
-                    }
-                    
                     // 예외 정보 관련 필드 제거
                     MDC.remove("exception_class");
                     MDC.remove("exception_message");
@@ -276,22 +348,13 @@ public class RequestTimingFilter implements Filter {
                     MDC.remove("error_path");
                     MDC.remove("error_message");
 
-                    // 모든 request_param_ 및 request_header_ 접두사를 가진 MDC 항목 제거
-                    MDC.getCopyOfContextMap().keySet().stream()
-                            .filter(key -> key.startsWith("request_param_") || key.startsWith("request_header_"))
-                            .forEach(MDC::remove);
+                    // 본문 로깅 필터에서 추가한 본문 필드 제거
+                    MDC.remove("request_body");
+                    MDC.remove("response_body");
+
                 }
                 // ---------------------------------------
             }
         }
     }
-
-    private boolean isSensitiveParameter(String key) {
-        for (String keyword : SENSITIVE_PARAMETER_KEYWORDS) {
-            if (key.toLowerCase().contains(keyword)) {
-                return true;
-            }
-        }
-        return false;
-    }
-}
\ No newline at end of file
+}
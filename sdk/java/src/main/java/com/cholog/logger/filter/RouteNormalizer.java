@@ -0,0 +1,73 @@
+package com.cholog.logger.filter;
+
+import java.util.regex.Pattern;
+
+/**
+ * 핸들러의 경로 템플릿을 알 수 없을 때 실제 요청 경로에서 경로 템플릿을 추정합니다.
+ *
+ * 경로를 {@code /} 단위로 나누어 숫자 ID는 {@code {id}}, UUID는 {@code {uuid}},
+ * 16자 이상의 16진수 문자열(해시, ObjectId 등)은 {@code {hash}}로 바꿉니다.
+ * 예를 들어 {@code /api/users/123/orders/9f1c...}는 {@code /api/users/{id}/orders/{hash}}가 됩니다.
+ * 문자열 슬러그처럼 규칙으로 구분할 수 없는 값은 그대로 남으므로, Spring이 찾은 핸들러 패턴이 있으면 항상 그쪽을 우선합니다.
+ */
+final class RouteNormalizer {
+
+    private static final Pattern NUMERIC = Pattern.compile("\\d+");
+    private static final Pattern UUID = Pattern.compile(
+            "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final Pattern HASH = Pattern.compile("[0-9a-fA-F]{16,}");
+
+    private RouteNormalizer() {
+    }
+
+    /**
+     * 요청 경로의 ID, UUID, 해시 세그먼트를 자리표시자로 바꿉니다.
+     *
+     * @param uri 쿼리 문자열을 제외한 요청 경로
+     * @return 정규화된 경로, {@code uri}가 {@code null}이면 {@code null}
+     */
+    static String normalize(String uri) {
+        if (uri == null || !containsDigit(uri)) {
+            return uri; // 숫자가 없는 경로는 바꿀 세그먼트가 없음
+        }
+        StringBuilder out = new StringBuilder(uri.length());
+        int start = 0;
+        int length = uri.length();
+        while (start <= length) {
+            int end = uri.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            String segment = uri.substring(start, end);
+            out.append(containsDigit(segment) ? replace(segment) : segment);
+            if (end < length) {
+                out.append('/');
+            }
+            start = end + 1;
+        }
+        return out.toString();
+    }
+
+    private static String replace(String segment) {
+        if (NUMERIC.matcher(segment).matches()) {
+            return "{id}";
+        }
+        if (UUID.matcher(segment).matches()) {
+            return "{uuid}";
+        }
+        if (HASH.matcher(segment).matches()) {
+            return "{hash}";
+        }
+        return segment;
+    }
+
+    private static boolean containsDigit(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
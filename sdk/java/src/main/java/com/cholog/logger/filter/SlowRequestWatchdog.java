@@ -0,0 +1,205 @@
+package com.cholog.logger.filter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 처리 중인 요청을 감시하다가 기준 시간을 넘긴 요청의 처리 스레드 스택을 주기적으로 샘플링합니다.
+ * 느린 요청이 "느렸다"는 사실뿐 아니라 그동안 무엇을 하고 있었는지(어느 코드에서 실행/대기 중이었는지)를 요청 완료 로그에 남기기 위한 기능입니다.
+ *
+ * {@link RequestTimingFilter}가 요청 시작 시 {@link #register}, 완료 시 {@link #unregister}를 호출합니다.
+ * 감시 스레드는 하나이며, 주기마다 처리 중인 요청만 한 번 순회하고 기준 시간을 넘긴 요청의 스레드들을
+ * {@link ThreadMXBean#getThreadInfo(long[], int)} 한 번으로 제한된 깊이까지 샘플링합니다 (주기당 O(처리 중인 요청 수)).
+ * 샘플은 요청별 {@link RequestStackSamples}에 접힌 스택으로 누적됩니다.
+ *
+ * 스레드 덤프는 JVM 세이프포인트에서 수행되므로, 기준 시간을 넘긴 요청이 없으면 아무것도 샘플링하지 않습니다.
+ * 서블릿(요청당 스레드) 환경 전용이며, 요청이 여러 스레드를 오가는 WebFlux에서는 사용하지 않습니다.
+ */
+public class SlowRequestWatchdog implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowRequestWatchdog.class);
+
+    /** 스택 깊이 제한으로 잘렸을 수 있는 스택의 루트 프레임 */
+    static final String TRUNCATED_FRAME = "[truncated]";
+
+    private static final String FILTER_CLASS_NAME = RequestTimingFilter.class.getName();
+
+    private final Set<InFlightRequest> inFlight = ConcurrentHashMap.newKeySet();
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final long thresholdNanos;
+    private final long sampleIntervalMillis;
+    private final int maxStackDepth;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * SlowRequestWatchdog의 새 인스턴스를 생성합니다.
+     *
+     * @param thresholdMillis      샘플링을 시작할 요청 처리 시간(ms)
+     * @param sampleIntervalMillis 샘플링 간격(ms)
+     * @param maxStackDepth        샘플마다 수집할 최대 스택 깊이
+     */
+    public SlowRequestWatchdog(long thresholdMillis, long sampleIntervalMillis, int maxStackDepth) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, thresholdMillis));
+        this.sampleIntervalMillis = Math.max(10, sampleIntervalMillis);
+        this.maxStackDepth = Math.max(1, maxStackDepth);
+    }
+
+    /**
+     * 현재 스레드에서 처리를 시작한 요청을 감시 대상에 추가합니다.
+     *
+     * @param context    요청 컨텍스트
+     * @param startNanos 요청 시작 시각 ({@link System#nanoTime()})
+     * @return {@link #unregister}에 전달할 감시 항목
+     */
+    InFlightRequest register(RequestLogContext context, long startNanos) {
+        InFlightRequest request = new InFlightRequest(context, Thread.currentThread().getId(), startNanos);
+        inFlight.add(request);
+        return request;
+    }
+
+    /**
+     * 처리가 끝난 요청을 감시 대상에서 제거합니다. 이후에는 해당 요청에 샘플이 추가되지 않습니다.
+     *
+     * @param request {@link #register}가 반환한 감시 항목
+     */
+    void unregister(InFlightRequest request) {
+        inFlight.remove(request);
+        request.finish();
+    }
+
+    /**
+     * 감시 스레드를 시작합니다.
+     */
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("cholog-slow-request-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::sample, sampleIntervalMillis, sampleIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 감시 스레드를 멈춥니다.
+     */
+    @Override
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * 기준 시간을 넘긴 요청의 처리 스레드 스택을 한 번 샘플링합니다.
+     */
+    void sample() {
+        try {
+            long now = System.nanoTime();
+            List<InFlightRequest> slowRequests = null;
+            for (InFlightRequest request : inFlight) {
+                if (now - request.startNanos >= thresholdNanos) {
+                    if (slowRequests == null) {
+                        slowRequests = new ArrayList<>();
+                    }
+                    slowRequests.add(request);
+                }
+            }
+            if (slowRequests == null) {
+                return;
+            }
+
+            long[] threadIds = new long[slowRequests.size()];
+            for (int i = 0; i < threadIds.length; i++) {
+                threadIds[i] = slowRequests.get(i).threadId;
+            }
+            ThreadInfo[] threadInfos = threadMXBean.getThreadInfo(threadIds, maxStackDepth);
+            for (int i = 0; i < threadInfos.length; i++) {
+                ThreadInfo threadInfo = threadInfos[i];
+                if (threadInfo != null) { // 그 사이 종료된 스레드
+                    slowRequests.get(i).record(threadInfo.getThreadState(), fold(threadInfo.getStackTrace()));
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Failed to sample slow request threads: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 스택을 루트 프레임부터 {@code 클래스.메소드}를 {@code ;}로 이은 접힌 스택으로 변환합니다.
+     * 서블릿 컨테이너와 {@link RequestTimingFilter}까지의 프레임은 모든 요청에 공통이므로 제외하고, 그 다음 프레임부터 기록합니다.
+     *
+     * @param stackTrace 스택 트레이스 (맨 위 프레임이 먼저)
+     * @return 접힌 스택
+     */
+    String fold(StackTraceElement[] stackTrace) {
+        int root = stackTrace.length - 1;
+        for (int i = root; i >= 0; i--) {
+            if (FILTER_CLASS_NAME.equals(stackTrace[i].getClassName())) {
+                root = i - 1;
+                break;
+            }
+        }
+        StringBuilder folded = new StringBuilder((root + 1) * 48);
+        if (root == stackTrace.length - 1 && stackTrace.length >= maxStackDepth) {
+            folded.append(TRUNCATED_FRAME);
+        }
+        for (int i = root; i >= 0; i--) {
+            if (folded.length() > 0) {
+                folded.append(';');
+            }
+            folded.append(stackTrace[i].getClassName()).append('.').append(stackTrace[i].getMethodName());
+        }
+        return folded.toString();
+    }
+
+    /**
+     * 감시 중인 요청 하나. 완료된 뒤에는 스레드가 다른 요청을 처리할 수 있으므로 샘플을 받지 않습니다.
+     */
+    static final class InFlightRequest {
+
+        private final RequestLogContext context;
+        private final long threadId;
+        private final long startNanos;
+        private boolean finished;
+
+        private InFlightRequest(RequestLogContext context, long threadId, long startNanos) {
+            this.context = context;
+            this.threadId = threadId;
+            this.startNanos = startNanos;
+        }
+
+        private synchronized void record(Thread.State state, String foldedStack) {
+            if (!finished) {
+                context.stackSamples().record(state, foldedStack);
+            }
+        }
+
+        private synchronized void finish() {
+            finished = true;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.cholog.logger.filter;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 요청 본문을 읽는 쪽(컨트롤러, 메시지 컨버터)으로 그대로 흘려보내면서 앞부분 최대 N 바이트만 복사하는 요청 래퍼입니다.
+ * {@code ContentCachingRequestWrapper}와 달리 본문 전체를 힙에 쌓아두지 않습니다.
+ *
+ * @see BodyCapture
+ * @see RequestBodyLoggingFilter
+ */
+final class TeeRequestWrapper extends HttpServletRequestWrapper {
+
+    private final BodyCapture capture;
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+
+    TeeRequestWrapper(HttpServletRequest request, BodyCapture capture) {
+        super(request);
+        this.capture = capture;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new TeeInputStream(super.getInputStream(), capture);
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+        return reader;
+    }
+
+    /**
+     * 캡처된 요청 본문을 반환합니다.
+     * 폼 요청처럼 컨테이너가 파라미터 파싱을 위해 본문을 직접 소비한 경우에는 파라미터 맵으로부터 본문을 재구성합니다.
+     *
+     * @param limit 재구성 시 적용할 최대 길이
+     * @return 캡처된 본문, 없으면 {@code null}
+     */
+    String getCapturedBody(int limit) {
+        String body = capture.asString(getCharacterEncoding());
+        if (body != null) {
+            return body;
+        }
+        String contentType = getContentType();
+        if (contentType == null || !contentType.toLowerCase().contains("x-www-form-urlencoded")) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, String[]> entry : getParameterMap().entrySet()) {
+            for (String value : entry.getValue()) {
+                if (sb.length() > 0) {
+                    sb.append('&');
+                }
+                sb.append(entry.getKey()).append('=').append(value);
+                if (sb.length() > limit) {
+                    return sb.substring(0, limit) + "... (truncated)";
+                }
+            }
+        }
+        return sb.length() > 0 ? sb.toString() : null;
+    }
+
+    /**
+     * 원본 입력 스트림을 그대로 읽으면서 읽힌 바이트를 {@link BodyCapture}에 복사하는 스트림입니다.
+     */
+    private static final class TeeInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private final BodyCapture capture;
+
+        TeeInputStream(ServletInputStream delegate, BodyCapture capture) {
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b != -1) {
+                capture.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = delegate.read(b, off, len);
+            if (n > 0) {
+                capture.write(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public int readLine(byte[] b, int off, int len) throws IOException {
+            int n = delegate.readLine(b, off, len);
+            if (n > 0) {
+                capture.write(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return delegate.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.cholog.logger.filter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 응답 본문을 클라이언트로 즉시 흘려보내면서 앞부분 최대 N 바이트만 복사하는 응답 래퍼입니다.
+ * {@code ContentCachingResponseWrapper}와 달리 응답 전체를 메모리에 모았다가 다시 복사하지 않으므로
+ * 이중 버퍼링이 없고 {@code copyBodyToResponse()} 호출도 필요하지 않습니다.
+ *
+ * 응답의 Content-Type은 본문을 쓰기 시작하는 시점에야 확정되므로, 캡처 여부와 한도는 첫 기록 시점에 결정됩니다.
+ *
+ * @see BodyCapture
+ * @see RequestResponseLoggingFilter
+ */
+final class TeeResponseWrapper extends HttpServletResponseWrapper {
+
+    private final BodyCapturePolicy policy;
+    private BodyCapture capture;
+    private boolean captureResolved;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    TeeResponseWrapper(HttpServletResponse response, BodyCapturePolicy policy) {
+        super(response);
+        this.policy = policy;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called on this response.");
+        }
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (outputStream != null && writer == null) {
+            throw new IllegalStateException("getOutputStream() has already been called on this response.");
+        }
+        if (writer == null) {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+            ServletOutputStream tee = new TeeOutputStream(super.getOutputStream());
+            writer = new PrintWriter(new OutputStreamWriter(tee, charset));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    /**
+     * 첫 기록 시점의 Content-Type으로 캡처 여부를 결정합니다.
+     *
+     * @return 캡처 객체, 캡처 대상이 아니면 {@code null}
+     */
+    private synchronized BodyCapture resolveCapture() {
+        if (!captureResolved) {
+            captureResolved = true;
+            int limit = policy.limitFor(getContentType());
+            if (limit > 0) {
+                capture = policy.newCapture(limit);
+            }
+        }
+        return capture;
+    }
+
+    /**
+     * 캡처된 응답 본문을 반환합니다. PrintWriter로 작성된 경우 남은 내용을 먼저 flush합니다.
+     *
+     * @return 캡처된 본문, 캡처 대상이 아니었거나 본문이 없으면 {@code null}
+     */
+    String getCapturedBody() {
+        if (writer != null) {
+            writer.flush();
+        }
+        BodyCapture current;
+        synchronized (this) {
+            current = capture;
+        }
+        return current != null ? current.asString(getCharacterEncoding()) : null;
+    }
+
+    /**
+     * 캡처 버퍼를 풀에 반환합니다.
+     */
+    synchronized void release() {
+        captureResolved = true; // 이후 기록은 캡처하지 않음
+        if (capture != null) {
+            capture.release();
+        }
+    }
+
+    /**
+     * 원본 출력 스트림에 바로 기록하면서 기록된 바이트를 {@link BodyCapture}에 복사하는 스트림입니다.
+     */
+    private final class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        TeeOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            BodyCapture c = resolveCapture();
+            if (c != null) {
+                c.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            BodyCapture c = resolveCapture();
+            if (c != null) {
+                c.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.cholog.logger.jdbc;
+
+import com.cholog.logger.metrics.LatencyHistogram;
+
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+import javax.management.openmbean.TabularType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * QueryMetricsMBean 인터페이스를 구현하는 클래스입니다.
+ * SQL 실행 시간을 쿼리 지문별 {@link LatencyHistogram}에 누적합니다.
+ *
+ * 지문 수는 {@code maxFingerprints}로 제한되며, 한도를 넘는 새 지문은 {@value #OTHER_FINGERPRINT} 항목에 함께 집계됩니다.
+ */
+public class QueryMetrics implements QueryMetricsMBean {
+
+    /** JMX 등록 이름 */
+    public static final String OBJECT_NAME = "com.cholog.logger:type=QueryMetrics";
+
+    /** 지문 수 한도를 넘은 쿼리를 모으는 항목 이름 */
+    static final String OTHER_FINGERPRINT = "_other";
+
+    // 지문별 통계 표 형식
+    private static final String[] QUERY_STAT_NAMES = {
+            "fingerprint", "calls", "errors", "meanMs", "p50Ms", "p90Ms", "p99Ms", "maxMs"};
+    private static final TabularType QUERY_STATS_TYPE = createQueryStatsType();
+
+    private final int maxFingerprints;
+    private final Map<String, FingerprintStats> fingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * QueryMetrics의 새 인스턴스를 생성합니다.
+     *
+     * @param maxFingerprints 개별로 집계할 최대 쿼리 지문 수
+     */
+    public QueryMetrics(int maxFingerprints) {
+        this.maxFingerprints = Math.max(1, maxFingerprints);
+    }
+
+    /**
+     * SQL 실행 하나를 기록합니다.
+     *
+     * @param fingerprint    쿼리 지문
+     * @param durationMicros 실행 시간(µs)
+     * @param failed         예외로 끝났으면 true
+     */
+    void record(String fingerprint, long durationMicros, boolean failed) {
+        FingerprintStats stats = fingerprints.get(fingerprint);
+        if (stats == null) {
+            String key = fingerprints.size() < maxFingerprints ? fingerprint : OTHER_FINGERPRINT;
+            stats = fingerprints.computeIfAbsent(key, k -> new FingerprintStats());
+        }
+        stats.histogram.record(durationMicros);
+        if (failed) {
+            stats.errors.increment();
+        }
+    }
+
+    @Override
+    public TabularData getQueryStats() {
+        TabularDataSupport table = new TabularDataSupport(QUERY_STATS_TYPE);
+        fingerprints.forEach((fingerprint, stats) -> {
+            LatencyHistogram.Snapshot snapshot = stats.histogram.snapshot();
+            try {
+                table.put(new CompositeDataSupport(QUERY_STATS_TYPE.getRowType(), QUERY_STAT_NAMES, new Object[]{
+                        fingerprint,
+                        snapshot.getCount(),
+                        stats.errors.sum(),
+                        snapshot.getMeanMillis(),
+                        snapshot.percentileMillis(50),
+                        snapshot.percentileMillis(90),
+                        snapshot.percentileMillis(99),
+                        snapshot.getMaxMillis()
+                }));
+            } catch (OpenDataException e) {
+                // 행 형식이 고정되어 있으므로 발생하지 않음
+            }
+        });
+        return table;
+    }
+
+    @Override
+    public long getTotalQueries() {
+        long total = 0;
+        for (FingerprintStats stats : fingerprints.values()) {
+            total += stats.histogram.count();
+        }
+        return total;
+    }
+
+    @Override
+    public void reset() {
+        fingerprints.clear();
+    }
+
+    private static TabularType createQueryStatsType() {
+        try {
+            CompositeType rowType = new CompositeType("QueryFingerprintStats", "SQL 쿼리 지문별 통계",
+                    QUERY_STAT_NAMES,
+                    new String[]{"쿼리 지문", "실행 수", "실패 수", "평균 실행 시간(ms)",
+                            "p50 실행 시간(ms)", "p90 실행 시간(ms)", "p99 실행 시간(ms)", "최대 실행 시간(ms)"},
+                    new OpenType<?>[]{SimpleType.STRING, SimpleType.LONG, SimpleType.LONG, SimpleType.DOUBLE,
+                            SimpleType.DOUBLE, SimpleType.DOUBLE, SimpleType.DOUBLE, SimpleType.DOUBLE});
+            return new TabularType("QueryFingerprintStatsTable", "SQL 쿼리 지문별 통계", rowType,
+                    new String[]{"fingerprint"});
+        } catch (OpenDataException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class FingerprintStats {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,30 @@
+package com.cholog.logger.jdbc;
+
+import javax.management.openmbean.TabularData;
+
+/**
+ * SQL 쿼리 지문별 실행 시간 분포를 JMX로 노출하기 위한 MBean 인터페이스입니다.
+ * 이름: {@code com.cholog.logger:type=QueryMetrics}
+ */
+public interface QueryMetricsMBean {
+
+    /**
+     * 쿼리 지문별 실행 통계를 반환합니다.
+     * 행마다 쿼리 지문, 실행 수, 실패 수, 평균/p50/p90/p99/최대 실행 시간(ms)을 포함합니다.
+     *
+     * @return 쿼리 지문별 실행 통계 표
+     */
+    TabularData getQueryStats();
+
+    /**
+     * 서비스 시작(또는 마지막 초기화) 이후 기록된 SQL 실행의 총 수를 반환합니다.
+     *
+     * @return SQL 실행 수
+     */
+    long getTotalQueries();
+
+    /**
+     * 누적된 통계를 모두 초기화합니다.
+     */
+    void reset();
+}
@@ -0,0 +1,120 @@
+package com.cholog.logger.jdbc;
+
+import com.cholog.logger.appender.CentralLogAppender;
+import com.cholog.logger.config.LogServerProperties;
+import com.cholog.logger.filter.RequestLogContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * {@link TracingDataSource}가 계측한 SQL 실행을 기록하는 기록기입니다.
+ *
+ * SQL을 파라미터 값이 없는 쿼리 지문으로 정규화한 뒤 다음 세 곳에 기록합니다.
+ * <ul>
+ *     <li>쿼리 지문별 실행 시간 분포 ({@link QueryMetrics}, JMX {@value QueryMetrics#OBJECT_NAME})</li>
+ *     <li>현재 요청의 SQL 통계 ({@link com.cholog.logger.filter.RequestQueryStats}) - 요청 완료 로그의
+ *         {@code dbTimeMs}, {@code dbQueryCount}와 반복 쿼리(N+1) 탐지에 사용</li>
+ *     <li>실행 시간이 임계값 이상이면 느린 쿼리 로그 - {@link SlowQuery}를 인자로 전달하여
+ *         {@link CentralLogAppender}가 {@code db} 필드와 부모 요청의 {@code requestId}로 기록하는 자식 이벤트</li>
+ * </ul>
+ */
+public class QueryRecorder implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryRecorder.class);
+
+    private final QueryMetrics metrics;
+    private final long slowQueryThresholdMicros;
+    private boolean jmxRegistered;
+
+    /**
+     * 생성자를 통한 LogServerProperties 주입. 실행 시간 분포를 JMX에 등록합니다.
+     *
+     * @param properties 로그 서버 설정
+     */
+    public QueryRecorder(LogServerProperties properties) {
+        this.metrics = new QueryMetrics(properties.getJdbcMaxFingerprints());
+        long thresholdMs = properties.getJdbcSlowQueryThresholdMs();
+        this.slowQueryThresholdMicros = thresholdMs > 0 ? thresholdMs * 1000 : Long.MAX_VALUE;
+        registerJmxMetrics();
+    }
+
+    /**
+     * 완료된 SQL 실행을 기록합니다.
+     *
+     * @param sql        실행한 SQL
+     * @param startNanos 실행 시작 시각 ({@link System#nanoTime()})
+     * @param error      실행 중 발생한 예외 (없으면 {@code null})
+     * @param batch      배치 실행이면 true
+     */
+    void record(String sql, long startNanos, Throwable error, boolean batch) {
+        long durationNanos = System.nanoTime() - startNanos;
+        try {
+            String fingerprint = sql != null ? SqlFingerprint.of(sql) : "unknown";
+            long durationMicros = durationNanos / 1_000;
+            metrics.record(fingerprint, durationMicros, error != null);
+
+            RequestLogContext context = RequestLogContext.current();
+            if (context != null) {
+                context.getQueryStats().record(fingerprint, durationNanos);
+            }
+
+            if (durationMicros < slowQueryThresholdMicros) {
+                return;
+            }
+            String requestId = context != null ? context.getRequestId() : MDC.get(CentralLogAppender.REQUEST_ID_MDC_KEY);
+            SlowQuery query = new SlowQuery(requestId, fingerprint, durationMicros, batch,
+                    error != null ? error.getClass().getName() : null);
+            // 마지막 인자(SlowQuery)는 메시지에 쓰이지 않고 CentralLogAppender가 db 필드로 기록
+            log.warn("Slow Query: {}ms {}", durationMicros / 1000, fingerprint, query);
+        } catch (Exception e) {
+            log.debug("Failed to record query: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return 쿼리 지문별 실행 시간 분포
+     */
+    public QueryMetrics getMetrics() {
+        return metrics;
+    }
+
+    private void registerJmxMetrics() {
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(QueryMetrics.OBJECT_NAME);
+            if (mbs.isRegistered(name)) {
+                mbs.unregisterMBean(name);
+            }
+            mbs.registerMBean(metrics, name);
+            jmxRegistered = true;
+            log.info("QueryMetrics가 JMX에 등록되었습니다. 이름: {}", name);
+        } catch (Exception e) {
+            log.warn("QueryMetrics JMX 등록 실패. 쿼리 통계는 JMX로 조회할 수 없습니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * JMX에 등록한 실행 시간 분포를 해제합니다.
+     */
+    @Override
+    public void destroy() {
+        if (!jmxRegistered) {
+            return;
+        }
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(QueryMetrics.OBJECT_NAME);
+            if (mbs.isRegistered(name)) {
+                mbs.unregisterMBean(name);
+            }
+        } catch (Exception e) {
+            log.warn("JMX에서 QueryMetrics 등록 해제 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.cholog.logger.jdbc;
+
+import com.cholog.logger.appender.ChildLogEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 느린 SQL 실행 하나를 담는 불변 객체입니다.
+ * {@link QueryRecorder}가 느린 쿼리 로그의 인자로 전달하며,
+ * {@link com.cholog.logger.appender.CentralLogAppender}는 이 객체를 {@code db} 필드로 기록합니다.
+ * 부모 요청과는 {@code requestId}로 연결됩니다.
+ *
+ * @see QueryRecorder
+ */
+public final class SlowQuery implements ChildLogEvent {
+
+    private final String requestId;
+    private final String fingerprint;
+    private final long durationMicros;
+    private final boolean batch;
+    private final String errorClass;
+
+    SlowQuery(String requestId, String fingerprint, long durationMicros, boolean batch, String errorClass) {
+        this.requestId = requestId;
+        this.fingerprint = fingerprint;
+        this.durationMicros = durationMicros;
+        this.batch = batch;
+        this.errorClass = errorClass;
+    }
+
+    /**
+     * @return 쿼리를 실행한 요청의 ID, 요청 처리 중이 아니었으면 {@code null}
+     */
+    @Override
+    public String getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * @return 파라미터를 제거한 쿼리 지문
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * @return 실행 시간(µs)
+     */
+    public long getDurationMicros() {
+        return durationMicros;
+    }
+
+    /**
+     * @return 배치 실행({@code executeBatch})이면 true
+     */
+    public boolean isBatch() {
+        return batch;
+    }
+
+    /**
+     * @return 실행 중 발생한 예외 클래스 이름, 없으면 {@code null}
+     */
+    public String getErrorClass() {
+        return errorClass;
+    }
+
+    /**
+     * @return {@code db}
+     */
+    @Override
+    public String getFieldName() {
+        return "db";
+    }
+
+    /**
+     * 로그 JSON의 {@code db} 필드로 쓸 맵을 만듭니다.
+     *
+     * @return 쿼리 정보 맵
+     */
+    @Override
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("statement", fingerprint);
+        map.put("durationMs", durationMicros / 1000.0);
+        if (batch) {
+            map.put("batch", true);
+        }
+        if (errorClass != null) {
+            map.put("error", errorClass);
+        }
+        return map;
+    }
+}
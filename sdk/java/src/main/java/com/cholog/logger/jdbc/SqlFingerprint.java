@@ -0,0 +1,147 @@
+package com.cholog.logger.jdbc;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문을 파라미터 값이 없는 쿼리 지문(fingerprint)으로 정규화합니다.
+ *
+ * 문자열/숫자 리터럴은 {@code ?}로 바꾸고, 주석을 제거하며, 연속된 공백을 하나로 줄이고,
+ * {@code IN (?, ?, ?)}처럼 길이만 다른 목록은 {@code IN (?+)}로 합칩니다. 따라서 값만 다른 같은 쿼리는 같은 지문을 가지며,
+ * 지문에는 리터럴 값(개인정보 등)이 남지 않습니다. 식별자 안의 숫자(예: {@code u1_0})는 유지됩니다.
+ *
+ * PreparedStatement는 같은 SQL 문자열을 반복해서 실행하므로 정규화 결과를 캐시합니다 (최대 {@value #CACHE_SIZE}개).
+ */
+final class SqlFingerprint {
+
+    /** 정규화 결과 캐시 크기 */
+    static final int CACHE_SIZE = 2048;
+
+    /** 지문의 최대 길이 (이보다 긴 SQL은 잘라서 사용) */
+    static final int MAX_LENGTH = 2000;
+
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern VALUES_ROWS = Pattern.compile("(\\(\\?[^()]*\\))(?:\\s*,\\s*\\(\\?[^()]*\\))+");
+
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlFingerprint() {
+    }
+
+    /**
+     * SQL 문의 지문을 반환합니다.
+     *
+     * @param sql SQL 문
+     * @return 쿼리 지문
+     */
+    static String of(String sql) {
+        String cached = CACHE.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String fingerprint = normalize(sql);
+        if (CACHE.size() >= CACHE_SIZE) {
+            CACHE.clear(); // 리터럴이 포함된 Statement SQL이 캐시를 채우는 경우 전체를 비우고 다시 채움
+        }
+        CACHE.put(sql, fingerprint);
+        return fingerprint;
+    }
+
+    /**
+     * 리터럴, 주석, 공백을 정규화합니다.
+     *
+     * @param sql SQL 문
+     * @return 정규화된 SQL
+     */
+    static String normalize(String sql) {
+        int length = sql.length();
+        StringBuilder out = new StringBuilder(Math.min(length, MAX_LENGTH) + 16);
+        boolean pendingSpace = false;
+        int i = 0;
+        while (i < length && out.length() < MAX_LENGTH) {
+            char c = sql.charAt(i);
+
+            // 공백: 연속된 공백을 하나로 줄임 (앞뒤 공백은 제거)
+            if (Character.isWhitespace(c)) {
+                pendingSpace = out.length() > 0;
+                i++;
+                continue;
+            }
+            // 주석 제거
+            if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? length : end;
+                continue;
+            }
+            if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                pendingSpace = out.length() > 0;
+                continue;
+            }
+
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+
+            if (c == '\'') {
+                // 문자열 리터럴 ('' 이스케이프 포함)
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                out.append('?');
+            } else if (isNumberStart(sql, i)) {
+                // 숫자 리터럴 (정수, 소수, 지수, 16진수)
+                i++;
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else if (c == '"' || c == '`') {
+                // 따옴표로 감싼 식별자는 그대로 유지
+                int end = sql.indexOf(c, i + 1);
+                end = end < 0 ? length : end + 1;
+                out.append(sql, i, end);
+                i = end;
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+
+        String fingerprint = out.toString();
+        if (fingerprint.indexOf('?') >= 0) {
+            fingerprint = PLACEHOLDER_LIST.matcher(fingerprint).replaceAll("(?+)");
+            fingerprint = VALUES_ROWS.matcher(fingerprint).replaceAll("$1+");
+        }
+        return fingerprint;
+    }
+
+    private static boolean isNumberStart(String sql, int i) {
+        char c = sql.charAt(i);
+        boolean digit = c >= '0' && c <= '9';
+        if (!digit) {
+            // .5 형태의 소수
+            if (c != '.' || i + 1 >= sql.length() || !Character.isDigit(sql.charAt(i + 1))) {
+                return false;
+            }
+        }
+        if (i == 0) {
+            return true;
+        }
+        char previous = sql.charAt(i - 1);
+        // 식별자의 일부인 숫자(u1_0, table2)는 리터럴이 아님
+        return !(Character.isLetterOrDigit(previous) || previous == '_' || previous == '$' || previous == '.');
+    }
+}
@@ -0,0 +1,189 @@
+package com.cholog.logger.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * SQL 실행 시간을 계측하는 {@link DataSource} 래퍼입니다.
+ *
+ * 반환하는 {@link Connection}과 {@link Statement}({@link PreparedStatement}, {@link CallableStatement} 포함)를
+ * JDK 동적 프록시로 감싸 {@code execute*} 호출의 시간을 재고 {@link QueryRecorder}에 기록합니다.
+ * 측정 시간은 드라이버가 결과를 반환할 때까지이며, {@code ResultSet}을 읽는 시간은 포함하지 않습니다.
+ * 배치 실행({@code executeBatch})은 하나의 실행으로 기록하며, SQL은 PreparedStatement의 SQL 또는 처음 추가된 SQL을 사용합니다.
+ *
+ * 원래 DataSource 구현체가 필요하면 {@link #getTargetDataSource()} 또는 {@link #unwrap(Class)}를 사용합니다.
+ */
+public class TracingDataSource extends DelegatingDataSource {
+
+    private final QueryRecorder recorder;
+
+    /**
+     * DataSource를 감쌉니다.
+     *
+     * @param targetDataSource 실제 DataSource
+     * @param recorder         SQL 실행 기록기
+     */
+    public TracingDataSource(DataSource targetDataSource, QueryRecorder recorder) {
+        super(targetDataSource);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(TracingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * Object 메소드(equals, hashCode, toString)를 프록시 기준으로 처리합니다.
+     *
+     * @return 처리했으면 결과, 아니면 {@code null}
+     */
+    private static Object handleObjectMethod(Object proxy, Object target, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "equals":
+                return args != null && args.length == 1 && proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "Tracing[" + target + "]";
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        return method.getDeclaringClass() == Object.class;
+    }
+
+    /**
+     * Connection 프록시의 호출 처리기. 생성한 Statement를 계측 프록시로 감쌉니다.
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isObjectMethod(method)) {
+                return handleObjectMethod(proxy, target, method, args);
+            }
+            Object result = invokeTarget(target, method, args);
+            switch (method.getName()) {
+                case "createStatement":
+                    return wrapStatement(Statement.class, (Statement) result, null, (Connection) proxy);
+                case "prepareStatement":
+                    return wrapStatement(PreparedStatement.class, (Statement) result, (String) args[0],
+                            (Connection) proxy);
+                case "prepareCall":
+                    return wrapStatement(CallableStatement.class, (Statement) result, (String) args[0],
+                            (Connection) proxy);
+                default:
+                    return result;
+            }
+        }
+
+        private Object wrapStatement(Class<? extends Statement> type, Statement statement, String sql,
+                                     Connection connection) {
+            return Proxy.newProxyInstance(TracingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler(statement, sql, connection));
+        }
+    }
+
+    /**
+     * Statement 프록시의 호출 처리기. {@code execute*} 호출의 시간을 재어 기록합니다.
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final Connection connection;
+        private String batchSql;
+
+        StatementHandler(Statement target, String preparedSql, Connection connection) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isObjectMethod(method)) {
+                return handleObjectMethod(proxy, target, method, args);
+            }
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                switch (name) {
+                    case "getConnection":
+                        return connection;
+                    case "addBatch":
+                        if (batchSql == null && args != null && args.length == 1) {
+                            batchSql = (String) args[0];
+                        }
+                        break;
+                    case "clearBatch":
+                        batchSql = null;
+                        break;
+                    default:
+                        break;
+                }
+                return invokeTarget(target, method, args);
+            }
+
+            boolean batch = name.equals("executeBatch") || name.equals("executeLargeBatch");
+            String sql;
+            if (args != null && args.length > 0 && args[0] instanceof String) {
+                sql = (String) args[0];
+            } else if (batch && batchSql != null) {
+                sql = batchSql;
+            } else {
+                sql = preparedSql;
+            }
+            if (batch) {
+                batchSql = null;
+            }
+
+            long startTime = System.nanoTime();
+            Throwable error = null;
+            try {
+                return invokeTarget(target, method, args);
+            } catch (Throwable e) {
+                error = e;
+                throw e;
+            } finally {
+                recorder.record(sql, startTime, error, batch);
+            }
+        }
+    }
+}
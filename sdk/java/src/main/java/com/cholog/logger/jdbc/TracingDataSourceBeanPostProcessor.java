@@ -0,0 +1,36 @@
+package com.cholog.logger.jdbc;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션의 {@link DataSource} 빈을 {@link TracingDataSource}로 감싸는 BeanPostProcessor입니다.
+ *
+ * BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 {@link QueryRecorder}는 첫 DataSource를 감쌀 때 지연 조회합니다.
+ * 감싼 빈은 {@link DataSource} 타입으로만 주입할 수 있으며, 구현 타입(예: {@code HikariDataSource})이 필요하면
+ * {@link DataSource#unwrap(Class)}를 사용합니다.
+ */
+public class TracingDataSourceBeanPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<QueryRecorder> recorderProvider;
+
+    /**
+     * BeanPostProcessor를 생성합니다.
+     *
+     * @param recorderProvider SQL 실행 기록기 제공자
+     */
+    public TracingDataSourceBeanPostProcessor(ObjectProvider<QueryRecorder> recorderProvider) {
+        this.recorderProvider = recorderProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof DataSource && !(bean instanceof TracingDataSource)) {
+            return new TracingDataSource((DataSource) bean, recorderProvider.getObject());
+        }
+        return bean;
+    }
+}
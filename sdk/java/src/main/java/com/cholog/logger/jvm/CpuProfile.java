@@ -0,0 +1,116 @@
+package com.cholog.logger.jvm;
+
+import com.cholog.logger.appender.ChildLogEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 한 주기 동안 수집한 CPU 샘플을 접힌 스택 형식으로 압축한 프로파일입니다.
+ * {@link CpuProfilingReporter}가 프로파일 로그의 인자로 전달하며,
+ * {@link com.cholog.logger.appender.CentralLogAppender}는 이 객체를 {@code profile} 필드로 기록합니다.
+ *
+ * {@code data}는 {@code 스택 샘플수} 줄들을 gzip으로 압축하고 Base64로 인코딩한 문자열입니다.
+ * 스택마다 필드를 만들지 않으므로 Elasticsearch 매핑이 늘어나지 않으며, 서버가 구간별로 합치거나 비교하여 flame graph를 만듭니다.
+ *
+ * @see StackProfiler
+ */
+public final class CpuProfile implements ChildLogEvent {
+
+    /** 스택 데이터 형식 */
+    public static final String FORMAT = "folded";
+
+    /** 스택 데이터 인코딩 */
+    public static final String ENCODING = "gzip+base64";
+
+    private final int intervalSeconds;
+    private final long sampleIntervalMs;
+    private final long samples;
+    private final int stacks;
+    private final String data;
+
+    CpuProfile(int intervalSeconds, long sampleIntervalMs, long samples, int stacks, String data) {
+        this.intervalSeconds = intervalSeconds;
+        this.sampleIntervalMs = sampleIntervalMs;
+        this.samples = samples;
+        this.stacks = stacks;
+        this.data = data;
+    }
+
+    /**
+     * @return 집계 주기(초)
+     */
+    public int getIntervalSeconds() {
+        return intervalSeconds;
+    }
+
+    /**
+     * @return 스레드별 샘플링 간격(ms)
+     */
+    public long getSampleIntervalMs() {
+        return sampleIntervalMs;
+    }
+
+    /**
+     * @return 주기 동안의 CPU 샘플 수
+     */
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * @return 서로 다른 스택 수 ({@code [other]} 포함)
+     */
+    public int getStacks() {
+        return stacks;
+    }
+
+    /**
+     * @return gzip + Base64로 인코딩한 접힌 스택 텍스트
+     */
+    public String getData() {
+        return data;
+    }
+
+    /**
+     * @return {@code profile}
+     */
+    @Override
+    public String getFieldName() {
+        return "profile";
+    }
+
+    /**
+     * @return 항상 {@code null} (요청에 속하지 않는 프로세스 전체 프로파일)
+     */
+    @Override
+    public String getRequestId() {
+        return null;
+    }
+
+    /**
+     * @return 항상 true (샘플링으로 버리면 해당 주기의 프로파일을 복구할 수 없음)
+     */
+    @Override
+    public boolean isExemptFromSampling() {
+        return true;
+    }
+
+    /**
+     * 로그 JSON의 {@code profile} 필드로 쓸 맵을 만듭니다.
+     *
+     * @return 프로파일 정보 맵
+     */
+    @Override
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("intervalSeconds", intervalSeconds);
+        map.put("sampleIntervalMs", sampleIntervalMs);
+        map.put("samples", samples);
+        map.put("stacks", stacks);
+        map.put("format", FORMAT);
+        map.put("encoding", ENCODING);
+        map.put("data", data);
+        return map;
+    }
+}
@@ -0,0 +1,179 @@
+package com.cholog.logger.jvm;
+
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JFR {@code jdk.ExecutionSample} 이벤트로 실행 중인 스레드의 스택을 낮은 빈도로 샘플링하는 상시 CPU 프로파일러입니다.
+ * 샘플은 {@link StackProfiler}가 접힌 스택으로 집계하고, 주기마다 압축된 {@link CpuProfile}을 담은 로그({@code profile} 필드)를
+ * 하나 기록하여 기존 로그 전송 경로로 서버에 보냅니다.
+ *
+ * 샘플링 간격은 스레드별이며(JFR 기본 프로파일은 20ms), 기본값 100ms에서는 실행 중인 스레드마다 초당 10개 정도의 샘플만 만듭니다.
+ * 람다/히든 클래스 이름의 실행마다 바뀌는 접미사는 제거하여 같은 코드가 같은 프레임으로 합쳐지도록 합니다.
+ * JFR을 사용할 수 없는 JVM에서는 경고를 남기고 프로파일을 기록하지 않습니다.
+ */
+public class CpuProfilingReporter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(CpuProfilingReporter.class);
+
+    /** JFR이 스택 깊이 제한으로 잘라낸 스택의 루트 프레임 */
+    static final String TRUNCATED_FRAME = "[truncated]";
+
+    /** 디스크 저장소에 보관할 JFR 데이터 기간 (집계는 메모리에서 하므로 짧게 유지) */
+    private static final Duration MAX_AGE = Duration.ofMinutes(1);
+
+    private static final String LAMBDA_MARKER = "$$Lambda";
+
+    private final StackProfiler profiler;
+    private final int intervalSeconds;
+    private final long sampleIntervalMs;
+    private RecordingStream stream;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * CpuProfilingReporter의 새 인스턴스를 생성합니다.
+     *
+     * @param profiler         접힌 스택 집계기
+     * @param intervalSeconds  프로파일 로그 주기(초)
+     * @param sampleIntervalMs 스레드별 샘플링 간격(ms)
+     */
+    public CpuProfilingReporter(StackProfiler profiler, int intervalSeconds, long sampleIntervalMs) {
+        this.profiler = profiler;
+        this.intervalSeconds = Math.max(1, intervalSeconds);
+        this.sampleIntervalMs = Math.max(10, sampleIntervalMs);
+    }
+
+    /**
+     * JFR 이벤트 스트림과 프로파일 주기 작업을 시작합니다.
+     */
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        try {
+            stream = new RecordingStream();
+            stream.setMaxAge(MAX_AGE);
+            stream.setReuse(true);
+            stream.enable("jdk.ExecutionSample").withPeriod(Duration.ofMillis(sampleIntervalMs));
+            stream.onEvent("jdk.ExecutionSample", event -> {
+                RecordedStackTrace stackTrace = event.getStackTrace();
+                if (stackTrace != null && !stackTrace.getFrames().isEmpty()) {
+                    profiler.record(fold(stackTrace));
+                }
+            });
+            stream.startAsync();
+        } catch (Exception | LinkageError e) {
+            log.warn("CHO:LOG - JFR event streaming is not available, CPU profiling disabled: {}", e.toString());
+            closeStream();
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("cholog-cpu-profile");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::report, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 이벤트 스트림과 주기 작업을 멈추고 마지막 주기의 프로파일을 기록합니다.
+     */
+    @Override
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        closeStream();
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler = null;
+        report();
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private void closeStream() {
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (Exception e) {
+                log.debug("Failed to close JFR recording stream: {}", e.getMessage());
+            }
+            stream = null;
+        }
+    }
+
+    /**
+     * 직전 주기의 프로파일을 로그로 기록합니다. 샘플이 없었던 주기는 기록하지 않습니다.
+     */
+    void report() {
+        try {
+            CpuProfile profile = profiler.drain(intervalSeconds, sampleIntervalMs);
+            if (profile.getSamples() == 0) {
+                return;
+            }
+            // 마지막 인자(CpuProfile)는 메시지에 쓰이지 않고 CentralLogAppender가 profile 필드로 기록
+            log.info("CPU Profile: samples={} stacks={}", profile.getSamples(), profile.getStacks(), profile);
+        } catch (Exception e) {
+            log.debug("Failed to report CPU profile: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 스택을 루트 프레임부터 {@code 클래스.메소드}를 {@code ;}로 이은 접힌 스택으로 변환합니다.
+     *
+     * @param stackTrace JFR 스택 트레이스 (맨 위 프레임이 먼저)
+     * @return 접힌 스택
+     */
+    static String fold(RecordedStackTrace stackTrace) {
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        StringBuilder folded = new StringBuilder(frames.size() * 48);
+        if (stackTrace.isTruncated()) {
+            folded.append(TRUNCATED_FRAME);
+        }
+        for (int i = frames.size() - 1; i >= 0; i--) {
+            RecordedMethod method = frames.get(i).getMethod();
+            if (method == null) {
+                continue;
+            }
+            if (folded.length() > 0) {
+                folded.append(';');
+            }
+            appendClassName(folded, method.getType().getName());
+            folded.append('.').append(method.getName());
+        }
+        return folded.toString();
+    }
+
+    /**
+     * 클래스 이름을 추가합니다. {@code Foo$$Lambda$123/0x0000000800c4b0}처럼 실행마다 바뀌는 람다 클래스 이름은 {@code Foo$$Lambda}로 줄입니다.
+     */
+    private static void appendClassName(StringBuilder folded, String className) {
+        int lambda = className.indexOf(LAMBDA_MARKER);
+        if (lambda >= 0) {
+            folded.append(className, 0, lambda + LAMBDA_MARKER.length());
+        } else {
+            folded.append(className);
+        }
+    }
+}
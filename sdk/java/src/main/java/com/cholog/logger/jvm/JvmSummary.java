@@ -0,0 +1,188 @@
+package com.cholog.logger.jvm;
+
+import com.cholog.logger.appender.ChildLogEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 한 주기 동안 JFR로 관찰한 JVM 정지/대기 시간과 할당 속도의 요약입니다.
+ * {@link JvmTelemetryReporter}가 요약 로그의 인자로 전달하며,
+ * {@link com.cholog.logger.appender.CentralLogAppender}는 이 객체를 {@code jvm} 필드로 기록합니다.
+ * 특정 요청에 속하지 않으므로 {@code requestId}가 없고, 로그 샘플링과 관계없이 항상 전송됩니다.
+ *
+ * @see JvmTelemetry
+ */
+public final class JvmSummary implements ChildLogEvent {
+
+    private final int intervalSeconds;
+    private final Pauses gcPauses;
+    private final Long heapUsedAfterGcBytes;
+    private final Pauses safepoints;
+    private final Pauses monitorWaits;
+    private final String topMonitorClass;
+    private final Pauses parkWaits;
+    private final long allocatedBytes;
+
+    JvmSummary(int intervalSeconds, Pauses gcPauses, Long heapUsedAfterGcBytes, Pauses safepoints,
+               Pauses monitorWaits, String topMonitorClass, Pauses parkWaits, long allocatedBytes) {
+        this.intervalSeconds = intervalSeconds;
+        this.gcPauses = gcPauses;
+        this.heapUsedAfterGcBytes = heapUsedAfterGcBytes;
+        this.safepoints = safepoints;
+        this.monitorWaits = monitorWaits;
+        this.topMonitorClass = topMonitorClass;
+        this.parkWaits = parkWaits;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * @return 요약 주기(초)
+     */
+    public int getIntervalSeconds() {
+        return intervalSeconds;
+    }
+
+    /**
+     * @return GC 정지 시간 (GC 한 번이 1건, 합계는 GC마다의 정지 시간 합)
+     */
+    public Pauses getGcPauses() {
+        return gcPauses;
+    }
+
+    /**
+     * @return 주기 중 마지막 GC 직후의 힙 사용량(byte), 주기 중 GC가 없었으면 {@code null}
+     */
+    public Long getHeapUsedAfterGcBytes() {
+        return heapUsedAfterGcBytes;
+    }
+
+    /**
+     * @return 세이프포인트 정지 시간 (세이프포인트 도달 대기 포함, GC 정지도 포함됨)
+     */
+    public Pauses getSafepoints() {
+        return safepoints;
+    }
+
+    /**
+     * @return 기준 시간 이상 걸린 {@code synchronized} 모니터 진입 대기
+     */
+    public Pauses getMonitorWaits() {
+        return monitorWaits;
+    }
+
+    /**
+     * @return 모니터 진입 대기 시간 합이 가장 큰 모니터 클래스, 대기가 없었으면 {@code null}
+     */
+    public String getTopMonitorClass() {
+        return topMonitorClass;
+    }
+
+    /**
+     * @return 기준 시간 이상 걸린 {@code java.util.concurrent} 락 대기 (조건 대기 제외)
+     */
+    public Pauses getParkWaits() {
+        return parkWaits;
+    }
+
+    /**
+     * @return 초당 힙 할당량(MB/s), JFR 할당 샘플의 가중치로 추정한 값
+     */
+    public double getAllocationMbPerSecond() {
+        return round(allocatedBytes / (1024.0 * 1024.0) / intervalSeconds);
+    }
+
+    /**
+     * @return {@code jvm}
+     */
+    @Override
+    public String getFieldName() {
+        return "jvm";
+    }
+
+    /**
+     * @return 항상 {@code null} (요청에 속하지 않는 JVM 전체 요약)
+     */
+    @Override
+    public String getRequestId() {
+        return null;
+    }
+
+    /**
+     * @return 항상 true (샘플링으로 버리면 해당 주기의 JVM 상태를 복구할 수 없음)
+     */
+    @Override
+    public boolean isExemptFromSampling() {
+        return true;
+    }
+
+    /**
+     * 로그 JSON의 {@code jvm} 필드로 쓸 맵을 만듭니다. 서버에서 시간대별로 바로 집계할 수 있도록 평평한 구조로 기록합니다.
+     *
+     * @return 요약 정보 맵
+     */
+    @Override
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("intervalSeconds", intervalSeconds);
+        gcPauses.putTo(map, "gcPause", "gcCount");
+        if (heapUsedAfterGcBytes != null) {
+            map.put("heapUsedAfterGcMb", round(heapUsedAfterGcBytes / (1024.0 * 1024.0)));
+        }
+        safepoints.putTo(map, "safepoint", "safepointCount");
+        monitorWaits.putTo(map, "monitorWait", "monitorWaitCount");
+        if (topMonitorClass != null) {
+            map.put("topMonitorClass", topMonitorClass);
+        }
+        parkWaits.putTo(map, "parkWait", "parkWaitCount");
+        map.put("allocationMbPerSec", getAllocationMbPerSecond());
+        return map;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    /**
+     * 한 주기 동안 관찰한 정지/대기의 횟수, 합계, 최댓값입니다.
+     */
+    public static final class Pauses {
+
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        Pauses(long count, long totalNanos, long maxNanos) {
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * @return 횟수
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return 시간 합계(ms)
+         */
+        public double getTotalMillis() {
+            return round(totalNanos / 1_000_000.0);
+        }
+
+        /**
+         * @return 가장 긴 시간(ms)
+         */
+        public double getMaxMillis() {
+            return round(maxNanos / 1_000_000.0);
+        }
+
+        private void putTo(Map<String, Object> map, String prefix, String countKey) {
+            map.put(countKey, count);
+            map.put(prefix + "TotalMs", getTotalMillis());
+            map.put(prefix + "MaxMs", getMaxMillis());
+        }
+    }
+}
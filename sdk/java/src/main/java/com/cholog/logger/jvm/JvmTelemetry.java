@@ -0,0 +1,166 @@
+package com.cholog.logger.jvm;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JFR 이벤트에서 얻은 GC 정지, 세이프포인트, 락 대기, 할당량을 주기 단위로 누적합니다.
+ * {@link JvmTelemetryReporter}의 JFR 스트림 스레드가 기록하고, 요약 스케줄러가 {@link #drain(int)}으로 주기마다 꺼내 초기화합니다.
+ *
+ * 기록되는 이벤트는 기준 시간 이상인 대기와 GC/세이프포인트뿐이라 초당 수십 건 수준이므로 단순히 동기화합니다.
+ * 모니터 클래스별 대기 시간은 주기당 최대 {@value #MAX_TRACKED_MONITORS}개까지만 추적합니다.
+ */
+public class JvmTelemetry {
+
+    /** 한 주기에 대기 시간을 추적할 최대 모니터 클래스 수 */
+    static final int MAX_TRACKED_MONITORS = 64;
+
+    /** 시작 이벤트를 기다리는 세이프포인트의 최대 수 (보통 한 번에 하나) */
+    private static final int MAX_PENDING_SAFEPOINTS = 16;
+
+    private final PauseStats gcPauses = new PauseStats();
+    private final PauseStats safepoints = new PauseStats();
+    private final PauseStats monitorWaits = new PauseStats();
+    private final PauseStats parkWaits = new PauseStats();
+    private final Map<Long, Long> pendingSafepoints = new HashMap<>();
+    private Map<String, long[]> monitorWaitsByClass = new HashMap<>();
+    private Long heapUsedAfterGcBytes;
+    private long allocatedBytes;
+
+    /**
+     * GC 한 번을 기록합니다.
+     *
+     * @param sumOfPausesNanos GC 중 애플리케이션이 멈춘 시간 합(ns)
+     * @param longestPauseNanos 가장 긴 정지 시간(ns)
+     */
+    public synchronized void recordGc(long sumOfPausesNanos, long longestPauseNanos) {
+        gcPauses.add(sumOfPausesNanos, longestPauseNanos);
+    }
+
+    /**
+     * GC 직후의 힙 사용량을 기록합니다.
+     *
+     * @param heapUsedBytes 힙 사용량(byte)
+     */
+    public synchronized void recordHeapAfterGc(long heapUsedBytes) {
+        heapUsedAfterGcBytes = heapUsedBytes;
+    }
+
+    /**
+     * 세이프포인트 시작을 기록합니다. 같은 ID의 {@link #recordSafepointEnd(long, long)}까지를 정지 시간으로 봅니다.
+     *
+     * @param safepointId 세이프포인트 ID
+     * @param startNanos  시작 시각 (JFR 타임스탬프, ns)
+     */
+    public synchronized void recordSafepointBegin(long safepointId, long startNanos) {
+        if (pendingSafepoints.size() >= MAX_PENDING_SAFEPOINTS) {
+            pendingSafepoints.clear(); // 종료 이벤트를 놓친 세이프포인트가 쌓이지 않도록 정리
+        }
+        pendingSafepoints.put(safepointId, startNanos);
+    }
+
+    /**
+     * 세이프포인트 종료를 기록합니다. 시작 이벤트를 보지 못한 세이프포인트는 무시합니다.
+     *
+     * @param safepointId 세이프포인트 ID
+     * @param endNanos    종료 시각 (JFR 타임스탬프, ns)
+     */
+    public synchronized void recordSafepointEnd(long safepointId, long endNanos) {
+        Long startNanos = pendingSafepoints.remove(safepointId);
+        if (startNanos != null && endNanos >= startNanos) {
+            long nanos = endNanos - startNanos;
+            safepoints.add(nanos, nanos);
+        }
+    }
+
+    /**
+     * {@code synchronized} 모니터 진입 대기를 기록합니다.
+     *
+     * @param monitorClass 모니터 객체의 클래스 이름 (알 수 없으면 {@code null})
+     * @param nanos        대기 시간(ns)
+     */
+    public synchronized void recordMonitorWait(String monitorClass, long nanos) {
+        monitorWaits.add(nanos, nanos);
+        if (monitorClass == null) {
+            return;
+        }
+        long[] total = monitorWaitsByClass.get(monitorClass);
+        if (total == null) {
+            if (monitorWaitsByClass.size() >= MAX_TRACKED_MONITORS) {
+                return;
+            }
+            total = new long[1];
+            monitorWaitsByClass.put(monitorClass, total);
+        }
+        total[0] += nanos;
+    }
+
+    /**
+     * {@code java.util.concurrent} 락 대기(LockSupport.park)를 기록합니다.
+     *
+     * @param nanos 대기 시간(ns)
+     */
+    public synchronized void recordParkWait(long nanos) {
+        parkWaits.add(nanos, nanos);
+    }
+
+    /**
+     * 할당 샘플 하나를 기록합니다.
+     *
+     * @param weightBytes 이 샘플이 대표하는 할당량(byte)
+     */
+    public synchronized void recordAllocation(long weightBytes) {
+        allocatedBytes += weightBytes;
+    }
+
+    /**
+     * 직전 주기의 요약을 만들고 누적 값을 초기화합니다.
+     *
+     * @param intervalSeconds 요약 주기(초), 초당 할당량 계산에 사용
+     * @return 직전 주기의 요약
+     */
+    public synchronized JvmSummary drain(int intervalSeconds) {
+        String topMonitorClass = null;
+        long topMonitorNanos = -1;
+        for (Map.Entry<String, long[]> entry : monitorWaitsByClass.entrySet()) {
+            if (entry.getValue()[0] > topMonitorNanos) {
+                topMonitorNanos = entry.getValue()[0];
+                topMonitorClass = entry.getKey();
+            }
+        }
+        JvmSummary summary = new JvmSummary(Math.max(1, intervalSeconds), gcPauses.drain(), heapUsedAfterGcBytes,
+                safepoints.drain(), monitorWaits.drain(), topMonitorClass, parkWaits.drain(), allocatedBytes);
+        if (!monitorWaitsByClass.isEmpty()) {
+            monitorWaitsByClass = new HashMap<>();
+        }
+        heapUsedAfterGcBytes = null;
+        allocatedBytes = 0;
+        return summary;
+    }
+
+    /**
+     * 한 종류의 정지/대기 시간 누적 값입니다. {@link JvmTelemetry}의 락 안에서만 사용합니다.
+     */
+    private static final class PauseStats {
+
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        void add(long nanos, long longestNanos) {
+            count++;
+            totalNanos += nanos;
+            if (longestNanos > maxNanos) {
+                maxNanos = longestNanos;
+            }
+        }
+
+        JvmSummary.Pauses drain() {
+            JvmSummary.Pauses pauses = new JvmSummary.Pauses(count, totalNanos, maxNanos);
+            count = 0;
+            totalNanos = 0;
+            maxNanos = 0;
+            return pauses;
+        }
+    }
+}
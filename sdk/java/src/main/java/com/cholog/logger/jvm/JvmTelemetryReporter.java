@@ -0,0 +1,185 @@
+package com.cholog.logger.jvm;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JFR 이벤트 스트림({@link RecordingStream})으로 GC 정지, 세이프포인트, 락 경합, 할당 속도를 관찰하고,
+ * 주기마다 {@link JvmSummary}를 담은 요약 로그({@code jvm} 필드)를 하나 기록합니다.
+ *
+ * 오버헤드를 1% CPU 미만으로 유지하기 위해 다음 이벤트만 켭니다.
+ * <ul>
+ *   <li>{@code jdk.GarbageCollection}, {@code jdk.GCHeapSummary}: GC마다 한 번</li>
+ *   <li>{@code jdk.SafepointBegin}, {@code jdk.SafepointEnd}: 세이프포인트마다 한 번</li>
+ *   <li>{@code jdk.JavaMonitorEnter}, {@code jdk.ThreadPark}: 기준 시간 이상 대기한 경우만, 스택 트레이스 없이</li>
+ *   <li>{@code jdk.ObjectAllocationSample}: 초당 최대 {@value #ALLOCATION_SAMPLE_THROTTLE}, 스택 트레이스 없이</li>
+ * </ul>
+ * 조건 대기({@code Condition.await}, 유휴 스레드 풀의 작업 대기 등)로 인한 {@code ThreadPark}은 경합이 아니므로 제외합니다.
+ * JFR을 사용할 수 없는 JVM에서는 경고를 남기고 요약을 기록하지 않습니다.
+ */
+public class JvmTelemetryReporter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(JvmTelemetryReporter.class);
+
+    /** 할당 샘플 이벤트의 최대 발생 빈도 (JFR 기본 프로파일과 같음) */
+    static final String ALLOCATION_SAMPLE_THROTTLE = "150/s";
+
+    /** 디스크 저장소에 보관할 JFR 데이터 기간 (요약은 메모리에서 하므로 짧게 유지) */
+    private static final Duration MAX_AGE = Duration.ofMinutes(1);
+
+    private static final String CONDITION_OBJECT_CLASS =
+            "java.util.concurrent.locks.AbstractQueuedSynchronizer$ConditionObject";
+
+    private final JvmTelemetry telemetry;
+    private final int intervalSeconds;
+    private final Duration contentionThreshold;
+    private RecordingStream stream;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * JvmTelemetryReporter의 새 인스턴스를 생성합니다.
+     *
+     * @param telemetry                 JVM 이벤트 누적 객체
+     * @param intervalSeconds           요약 주기(초)
+     * @param contentionThresholdMillis 락 대기를 기록할 최소 시간(ms)
+     */
+    public JvmTelemetryReporter(JvmTelemetry telemetry, int intervalSeconds, long contentionThresholdMillis) {
+        this.telemetry = telemetry;
+        this.intervalSeconds = Math.max(1, intervalSeconds);
+        this.contentionThreshold = Duration.ofMillis(Math.max(0, contentionThresholdMillis));
+    }
+
+    /**
+     * JFR 이벤트 스트림과 요약 주기 작업을 시작합니다.
+     */
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        try {
+            stream = openStream();
+            stream.startAsync();
+        } catch (Exception | LinkageError e) {
+            log.warn("CHO:LOG - JFR event streaming is not available, JVM telemetry disabled: {}", e.toString());
+            closeStream();
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("cholog-jvm-telemetry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::report, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 이벤트 스트림과 주기 작업을 멈추고 마지막 주기의 요약을 기록합니다.
+     */
+    @Override
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        closeStream();
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler = null;
+        report();
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private RecordingStream openStream() {
+        RecordingStream recordingStream = new RecordingStream();
+        recordingStream.setMaxAge(MAX_AGE);
+        recordingStream.setReuse(true);
+
+        recordingStream.enable("jdk.GarbageCollection");
+        recordingStream.enable("jdk.GCHeapSummary");
+        recordingStream.enable("jdk.SafepointBegin");
+        recordingStream.enable("jdk.SafepointEnd");
+        recordingStream.enable("jdk.JavaMonitorEnter").withThreshold(contentionThreshold).withoutStackTrace();
+        recordingStream.enable("jdk.ThreadPark").withThreshold(contentionThreshold).withoutStackTrace();
+        recordingStream.enable("jdk.ObjectAllocationSample")
+                .with("throttle", ALLOCATION_SAMPLE_THROTTLE).withoutStackTrace();
+
+        recordingStream.onEvent("jdk.GarbageCollection", event -> telemetry.recordGc(
+                event.getDuration("sumOfPauses").toNanos(), event.getDuration("longestPause").toNanos()));
+        recordingStream.onEvent("jdk.GCHeapSummary", event -> {
+            if ("After GC".equals(event.getString("when"))) {
+                telemetry.recordHeapAfterGc(event.getLong("heapUsed"));
+            }
+        });
+        recordingStream.onEvent("jdk.SafepointBegin", event ->
+                telemetry.recordSafepointBegin(event.getLong("safepointId"), toNanos(event.getStartTime())));
+        recordingStream.onEvent("jdk.SafepointEnd", event ->
+                telemetry.recordSafepointEnd(event.getLong("safepointId"), toNanos(event.getEndTime())));
+        recordingStream.onEvent("jdk.JavaMonitorEnter", event ->
+                telemetry.recordMonitorWait(classNameOf(event, "monitorClass"), event.getDuration().toNanos()));
+        recordingStream.onEvent("jdk.ThreadPark", event -> {
+            // 대상 없는 park(sleep 형태)와 조건 대기는 락 경합이 아니므로 제외
+            String parkedClass = classNameOf(event, "parkedClass");
+            if (parkedClass != null && !CONDITION_OBJECT_CLASS.equals(parkedClass)) {
+                telemetry.recordParkWait(event.getDuration().toNanos());
+            }
+        });
+        recordingStream.onEvent("jdk.ObjectAllocationSample", event ->
+                telemetry.recordAllocation(event.getLong("weight")));
+        return recordingStream;
+    }
+
+    private void closeStream() {
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (Exception e) {
+                log.debug("Failed to close JFR recording stream: {}", e.getMessage());
+            }
+            stream = null;
+        }
+    }
+
+    /**
+     * 직전 주기의 JVM 요약을 로그로 기록합니다.
+     */
+    void report() {
+        try {
+            JvmSummary summary = telemetry.drain(intervalSeconds);
+            // 마지막 인자(JvmSummary)는 메시지에 쓰이지 않고 CentralLogAppender가 jvm 필드로 기록
+            log.info("JVM Summary: gc={} gcPauseMax={}ms safepointMax={}ms monitorWait={}ms parkWait={}ms alloc={}MB/s",
+                    summary.getGcPauses().getCount(), summary.getGcPauses().getMaxMillis(),
+                    summary.getSafepoints().getMaxMillis(), summary.getMonitorWaits().getTotalMillis(),
+                    summary.getParkWaits().getTotalMillis(), summary.getAllocationMbPerSecond(), summary);
+        } catch (Exception e) {
+            log.debug("Failed to report JVM telemetry: {}", e.getMessage());
+        }
+    }
+
+    private static String classNameOf(RecordedEvent event, String field) {
+        RecordedClass recordedClass = event.getClass(field);
+        return recordedClass != null ? recordedClass.getName() : null;
+    }
+
+    private static long toNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+}
@@ -0,0 +1,110 @@
+package com.cholog.logger.jvm;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CPU 샘플의 스택을 접힌 스택(collapsed/folded stack) 형식으로 주기 단위로 집계합니다.
+ * 접힌 스택은 루트 프레임부터 {@code ;}로 이은 문자열이며, 같은 스택의 샘플 수를 세어 flame graph를 그릴 수 있습니다.
+ *
+ * 한 주기에 서로 다른 스택은 최대 {@code maxStacks}개까지만 따로 세고, 넘는 샘플은 {@value #OTHER_STACK}으로 셉니다.
+ * {@link #drain(int, long)}은 샘플이 많은 스택부터 {@code 스택 샘플수} 줄을 이어 쓰고 gzip + Base64로 압축하며,
+ * 압축 전 크기가 {@value #MAX_FOLDED_CHARS}자를 넘으면 나머지 스택도 {@value #OTHER_STACK}에 합칩니다.
+ */
+public class StackProfiler {
+
+    /** 따로 집계하지 못한 샘플을 모으는 스택 이름 */
+    static final String OTHER_STACK = "[other]";
+
+    /** 압축 전 접힌 스택 텍스트의 최대 길이 (로그 이벤트 하나의 크기를 제한) */
+    static final int MAX_FOLDED_CHARS = 1_000_000;
+
+    private final int maxStacks;
+    private Map<String, long[]> counts = new HashMap<>();
+    private long samples;
+
+    /**
+     * StackProfiler의 새 인스턴스를 생성합니다.
+     *
+     * @param maxStacks 한 주기에 따로 집계할 최대 스택 수
+     */
+    public StackProfiler(int maxStacks) {
+        this.maxStacks = Math.max(1, maxStacks);
+    }
+
+    /**
+     * 샘플 하나를 기록합니다.
+     *
+     * @param foldedStack 루트 프레임부터 {@code ;}로 이은 스택
+     */
+    public synchronized void record(String foldedStack) {
+        samples++;
+        long[] count = counts.get(foldedStack);
+        if (count == null) {
+            if (counts.size() >= maxStacks) {
+                count = counts.computeIfAbsent(OTHER_STACK, key -> new long[1]);
+            } else {
+                count = new long[1];
+                counts.put(foldedStack, count);
+            }
+        }
+        count[0]++;
+    }
+
+    /**
+     * 직전 주기의 프로파일을 만들고 누적 값을 초기화합니다.
+     *
+     * @param intervalSeconds  집계 주기(초)
+     * @param sampleIntervalMs 스레드별 샘플링 간격(ms)
+     * @return 직전 주기의 프로파일
+     */
+    public CpuProfile drain(int intervalSeconds, long sampleIntervalMs) {
+        Map<String, long[]> drained;
+        long drainedSamples;
+        synchronized (this) {
+            drained = counts;
+            drainedSamples = samples;
+            counts = new HashMap<>();
+            samples = 0;
+        }
+
+        // 압축과 인코딩은 기록 스레드를 막지 않도록 락 밖에서 수행
+        List<Map.Entry<String, long[]>> entries = new ArrayList<>(drained.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+        StringBuilder folded = new StringBuilder();
+        long other = 0;
+        int stacks = 0;
+        for (Map.Entry<String, long[]> entry : entries) {
+            String stack = entry.getKey();
+            long count = entry.getValue()[0];
+            if (OTHER_STACK.equals(stack) || folded.length() + stack.length() > MAX_FOLDED_CHARS) {
+                other += count;
+                continue;
+            }
+            folded.append(stack).append(' ').append(count).append('\n');
+            stacks++;
+        }
+        if (other > 0) {
+            folded.append(OTHER_STACK).append(' ').append(other).append('\n');
+            stacks++;
+        }
+        return new CpuProfile(intervalSeconds, sampleIntervalMs, drainedSamples, stacks, encode(folded));
+    }
+
+    private static String encode(CharSequence folded) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, folded.length() / 8));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(folded.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to compress folded stacks", e); // 메모리 스트림이므로 발생하지 않음
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+}
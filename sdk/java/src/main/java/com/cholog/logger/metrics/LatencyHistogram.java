@@ -0,0 +1,170 @@
+package com.cholog.logger.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 응답 시간 분포를 고정 크기 버킷으로 누적하는 로그-선형(log-linear) 히스토그램입니다.
+ *
+ * 마이크로초 단위 값을 2의 거듭제곱 구간마다 16개의 하위 버킷으로 나누어 세므로, 백분위 값의 상대 오차는 약 3% 이내입니다.
+ * 버킷 배열은 생성 시 한 번만 할당되며(약 4.5KB), 기록은 락 없이 원자적 증가만 수행합니다.
+ * 스냅샷은 동시 기록과 정확히 일치하지 않을 수 있지만 모니터링 용도로는 충분합니다.
+ * 외부 호출(호스트별), SQL(쿼리 지문별), 경로별 요청 응답 시간 집계에 함께 사용됩니다.
+ */
+public final class LatencyHistogram {
+
+    /** 2의 거듭제곱 구간 하나를 나누는 하위 버킷 수의 비트 수 (16개) */
+    private static final int SUB_BITS = 4;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+
+    /** 이 값 미만은 값 그대로 버킷 번호로 사용 */
+    private static final int LINEAR_LIMIT = SUB_COUNT * 2;
+
+    /** 기록할 수 있는 최대 지수 (2^38µs, 약 76시간) */
+    private static final int MAX_EXPONENT = 37;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (MAX_EXPONENT - SUB_BITS) * SUB_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * 응답 시간을 기록합니다.
+     *
+     * @param micros 응답 시간(µs), 음수는 0으로 기록
+     */
+    public void record(long micros) {
+        long value = Math.min(Math.max(micros, 0), MAX_VALUE);
+        buckets.incrementAndGet(indexOf(value));
+        count.increment();
+        sumMicros.add(value);
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * @return 기록된 값의 수
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * 현재까지 기록된 분포의 스냅샷을 만듭니다.
+     *
+     * @return 스냅샷
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        return new Snapshot(counts, total, sumMicros.sum(), maxMicros.get());
+    }
+
+    /**
+     * 현재까지 기록된 분포의 스냅샷을 만들고 히스토그램을 비웁니다. 주기별 분포를 집계할 때 사용합니다.
+     * 버킷마다 원자적으로 값을 꺼내므로 동시에 기록된 값은 이번 스냅샷이나 다음 스냅샷 중 한 곳에만 집계되며 유실되지 않습니다
+     * (경계 시점의 평균과 최대값은 근사치일 수 있음).
+     *
+     * @return 마지막 초기화 이후의 스냅샷
+     */
+    public Snapshot snapshotAndReset() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (buckets.get(i) != 0) {
+                counts[i] = buckets.getAndSet(i, 0);
+                total += counts[i];
+            }
+        }
+        count.add(-total);
+        return new Snapshot(counts, total, sumMicros.sumThenReset(), maxMicros.getAndSet(0));
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+        return LINEAR_LIMIT + (exponent - SUB_BITS - 1) * SUB_COUNT + sub;
+    }
+
+    /**
+     * @return 버킷에 속하는 값의 중간값(µs)
+     */
+    static long midpointOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = (index - LINEAR_LIMIT) / SUB_COUNT + SUB_BITS + 1;
+        int sub = (index - LINEAR_LIMIT) % SUB_COUNT;
+        long lower = (long) (SUB_COUNT + sub) << (exponent - SUB_BITS);
+        long width = 1L << (exponent - SUB_BITS);
+        return lower + width / 2;
+    }
+
+    /**
+     * 히스토그램 스냅샷입니다.
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long total;
+        private final long sumMicros;
+        private final long maxMicros;
+
+        private Snapshot(long[] counts, long total, long sumMicros, long maxMicros) {
+            this.counts = counts;
+            this.total = total;
+            this.sumMicros = sumMicros;
+            this.maxMicros = maxMicros;
+        }
+
+        /**
+         * @return 기록된 값의 수
+         */
+        public long getCount() {
+            return total;
+        }
+
+        /**
+         * @return 평균 응답 시간(ms)
+         */
+        public double getMeanMillis() {
+            return total > 0 ? sumMicros / (double) total / 1000.0 : 0.0;
+        }
+
+        /**
+         * @return 최대 응답 시간(ms)
+         */
+        public double getMaxMillis() {
+            return maxMicros / 1000.0;
+        }
+
+        /**
+         * @param percentile 백분위 (0 초과 100 이하)
+         * @return 해당 백분위의 응답 시간(ms), 기록이 없으면 0
+         */
+        public double percentileMillis(double percentile) {
+            if (total == 0) {
+                return 0.0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(midpointOf(i), maxMicros) / 1000.0;
+                }
+            }
+            return getMaxMillis();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.cholog.logger.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 응답 시간을 (메소드, 경로 템플릿, 상태 코드 대역)별 {@link LatencyHistogram}에 누적하는 클래스입니다.
+ * 요청 타이밍 필터가 요청마다 {@link #record}로 기록하고, {@link RouteSummaryReporter}가 주기마다 {@link #drain}으로 꺼내 요약 로그를 남깁니다.
+ *
+ * 요청 자원 사용량 측정이 켜져 있으면 요청별 CPU 시간과 힙 할당량도 조합별 합계로 누적합니다.
+ * 기록은 락 없이 원자적 증가만 수행하며, 꺼낼 때 히스토그램을 비우므로 요약에는 직전 주기의 요청만 포함됩니다.
+ * 조합 수는 {@code maxRoutes}로 제한되며, 한도를 넘는 새 조합은 경로 {@value #OTHER_ROUTE}에 함께 집계됩니다.
+ * 경로 템플릿을 알 수 없는 요청(404, 핸들러 없음)은 실제 URI 대신 {@value #UNMATCHED_ROUTE}로 집계하여 조합 수가 늘어나지 않게 합니다.
+ */
+public class RouteMetrics {
+
+    /** 조합 수 한도를 넘은 요청을 모으는 경로 이름 */
+    public static final String OTHER_ROUTE = "_other";
+
+    /** 경로 템플릿을 알 수 없는 요청을 모으는 경로 이름 */
+    public static final String UNMATCHED_ROUTE = "_unmatched";
+
+    private final int maxRoutes;
+    private final Map<RouteKey, RouteStats> routes = new ConcurrentHashMap<>();
+
+    /**
+     * RouteMetrics의 새 인스턴스를 생성합니다.
+     *
+     * @param maxRoutes 개별로 집계할 최대 (메소드, 경로 템플릿, 상태 코드 대역) 조합 수
+     */
+    public RouteMetrics(int maxRoutes) {
+        this.maxRoutes = Math.max(1, maxRoutes);
+    }
+
+    /**
+     * 처리가 끝난 요청 하나를 기록합니다.
+     *
+     * @param method         HTTP 메소드
+     * @param route          경로 템플릿, 알 수 없으면 {@code null}
+     * @param status         응답 상태 코드, 알 수 없으면 {@code null}
+     * @param durationMicros 처리 시간(µs)
+     * @param failed         5xx 응답 또는 처리되지 않은 예외로 끝났으면 true
+     */
+    public void record(String method, String route, Integer status, long durationMicros, boolean failed) {
+        record(method, route, status, durationMicros, failed, -1, -1);
+    }
+
+    /**
+     * 처리가 끝난 요청 하나를 자원 사용량과 함께 기록합니다.
+     *
+     * @param method          HTTP 메소드
+     * @param route           경로 템플릿, 알 수 없으면 {@code null}
+     * @param status          응답 상태 코드, 알 수 없으면 {@code null}
+     * @param durationMicros  처리 시간(µs)
+     * @param failed          5xx 응답 또는 처리되지 않은 예외로 끝났으면 true
+     * @param cpuTimeMicros   요청 처리에 사용한 CPU 시간(µs), 측정하지 않았으면 -1
+     * @param allocatedBytes  요청 처리 중 할당한 힙 메모리(byte), 측정하지 않았으면 -1
+     */
+    public void record(String method, String route, Integer status, long durationMicros, boolean failed,
+                       long cpuTimeMicros, long allocatedBytes) {
+        RouteKey key = new RouteKey(method, route != null ? route : UNMATCHED_ROUTE, statusClassOf(status));
+        RouteStats stats = routes.get(key);
+        if (stats == null) {
+            RouteKey target = routes.size() < maxRoutes ? key : new RouteKey(key.method, OTHER_ROUTE, key.statusClass);
+            stats = routes.computeIfAbsent(target, k -> new RouteStats());
+        }
+        stats.histogram.record(durationMicros);
+        if (failed) {
+            stats.errors.increment();
+        }
+        if (cpuTimeMicros >= 0) {
+            stats.cpuTimeMicros.add(cpuTimeMicros);
+            stats.cpuTimeCount.increment();
+        }
+        if (allocatedBytes >= 0) {
+            stats.allocatedBytes.add(allocatedBytes);
+            stats.allocationCount.increment();
+        }
+    }
+
+    /**
+     * 마지막으로 꺼낸 이후 기록된 분포를 조합별 요약으로 꺼내고 비웁니다. 요청이 없었던 조합은 제외합니다.
+     *
+     * @param intervalSeconds 요약에 기록할 집계 주기(초)
+     * @return 조합별 요약 목록
+     */
+    public List<RouteSummary> drain(int intervalSeconds) {
+        List<RouteSummary> summaries = new ArrayList<>();
+        routes.forEach((key, stats) -> {
+            LatencyHistogram.Snapshot snapshot = stats.histogram.snapshotAndReset();
+            long errors = stats.errors.sumThenReset();
+            ResourceTotals resources = new ResourceTotals(
+                    stats.cpuTimeMicros.sumThenReset(), stats.cpuTimeCount.sumThenReset(),
+                    stats.allocatedBytes.sumThenReset(), stats.allocationCount.sumThenReset());
+            if (snapshot.getCount() > 0) {
+                summaries.add(new RouteSummary(key.method, key.route, key.statusClass, intervalSeconds, errors, snapshot,
+                        resources));
+            }
+        });
+        return summaries;
+    }
+
+    /**
+     * @return 현재 집계 중인 조합 수
+     */
+    public int getRouteCount() {
+        return routes.size();
+    }
+
+    /**
+     * 상태 코드를 대역 문자열로 바꿉니다 (예: 404 → {@code 4xx}).
+     */
+    static String statusClassOf(Integer status) {
+        if (status == null || status < 100 || status > 599) {
+            return "unknown";
+        }
+        return (status / 100) + "xx";
+    }
+
+    private static final class RouteKey {
+        private final String method;
+        private final String route;
+        private final String statusClass;
+        private final int hash;
+
+        RouteKey(String method, String route, String statusClass) {
+            this.method = method;
+            this.route = route;
+            this.statusClass = statusClass;
+            this.hash = Objects.hash(method, route, statusClass);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RouteKey)) {
+                return false;
+            }
+            RouteKey other = (RouteKey) o;
+            return Objects.equals(method, other.method) && route.equals(other.route)
+                    && statusClass.equals(other.statusClass);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class RouteStats {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder cpuTimeMicros = new LongAdder();
+        private final LongAdder cpuTimeCount = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final LongAdder allocationCount = new LongAdder();
+    }
+
+    /**
+     * 한 주기 동안 한 조합에서 측정한 CPU 시간/할당량 합계와, 각 항목을 측정한 요청 수입니다.
+     */
+    static final class ResourceTotals {
+        final long cpuTimeMicros;
+        final long cpuTimeCount;
+        final long allocatedBytes;
+        final long allocationCount;
+
+        ResourceTotals(long cpuTimeMicros, long cpuTimeCount, long allocatedBytes, long allocationCount) {
+            this.cpuTimeMicros = cpuTimeMicros;
+            this.cpuTimeCount = cpuTimeCount;
+            this.allocatedBytes = allocatedBytes;
+            this.allocationCount = allocationCount;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.cholog.logger.metrics;
+
+import com.cholog.logger.appender.ChildLogEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 한 주기 동안 하나의 (메소드, 경로 템플릿, 상태 코드 대역)으로 처리된 요청의 응답 시간 요약입니다.
+ * 요청 자원 사용량을 측정했으면 CPU 시간/할당량 합계도 함께 담아, 샘플링된 요청 완료 로그 없이도 경로별 총사용량을 알 수 있습니다.
+ * {@link RouteSummaryReporter}가 요약 로그의 인자로 전달하며,
+ * {@link com.cholog.logger.appender.CentralLogAppender}는 이 객체를 {@code routeSummary} 필드로 기록합니다.
+ * 여러 요청을 집계한 값이므로 {@code requestId}가 없고, 로그 샘플링과 관계없이 항상 전송됩니다.
+ *
+ * @see RouteMetrics
+ */
+public final class RouteSummary implements ChildLogEvent {
+
+    private final String method;
+    private final String route;
+    private final String statusClass;
+    private final int intervalSeconds;
+    private final long errors;
+    private final LatencyHistogram.Snapshot snapshot;
+    private final RouteMetrics.ResourceTotals resources;
+
+    RouteSummary(String method, String route, String statusClass, int intervalSeconds, long errors,
+                 LatencyHistogram.Snapshot snapshot, RouteMetrics.ResourceTotals resources) {
+        this.method = method;
+        this.route = route;
+        this.statusClass = statusClass;
+        this.intervalSeconds = intervalSeconds;
+        this.errors = errors;
+        this.snapshot = snapshot;
+        this.resources = resources;
+    }
+
+    /**
+     * @return HTTP 메소드
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return 경로 템플릿 (예: {@code /users/{id}})
+     */
+    public String getRoute() {
+        return route;
+    }
+
+    /**
+     * @return 상태 코드 대역 (예: {@code 2xx})
+     */
+    public String getStatusClass() {
+        return statusClass;
+    }
+
+    /**
+     * @return 요청 수
+     */
+    public long getCount() {
+        return snapshot.getCount();
+    }
+
+    /**
+     * @return 5xx 응답 또는 처리되지 않은 예외로 끝난 요청 수
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return CPU 시간을 측정한 요청들의 CPU 시간 합계(ms)
+     */
+    public double getCpuTimeMillis() {
+        return resources.cpuTimeMicros / 1000.0;
+    }
+
+    /**
+     * @return CPU 시간을 측정한 요청 수 (측정을 꺼 두었거나 JVM이 지원하지 않으면 0)
+     */
+    public long getCpuTimeCount() {
+        return resources.cpuTimeCount;
+    }
+
+    /**
+     * @return 할당량을 측정한 요청들의 힙 할당량 합계(byte)
+     */
+    public long getAllocatedBytes() {
+        return resources.allocatedBytes;
+    }
+
+    /**
+     * @return 할당량을 측정한 요청 수 (측정을 꺼 두었거나 JVM이 지원하지 않으면 0)
+     */
+    public long getAllocationCount() {
+        return resources.allocationCount;
+    }
+
+    /**
+     * @return 응답 시간 분포 스냅샷
+     */
+    public LatencyHistogram.Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * @return 항상 {@code null} (여러 요청의 요약)
+     */
+    @Override
+    public String getRequestId() {
+        return null;
+    }
+
+    /**
+     * @return {@code routeSummary}
+     */
+    @Override
+    public String getFieldName() {
+        return "routeSummary";
+    }
+
+    /**
+     * @return 항상 true (요약을 샘플링으로 버리면 해당 주기의 분포를 복구할 수 없음)
+     */
+    @Override
+    public boolean isExemptFromSampling() {
+        return true;
+    }
+
+    /**
+     * 로그 JSON의 {@code routeSummary} 필드로 쓸 맵을 만듭니다.
+     * CPU 시간/할당량 합계({@code cpuTimeMs}, {@code allocatedBytes})와 측정한 요청 수는 측정한 요청이 있을 때만 추가합니다.
+     *
+     * @return 요약 정보 맵
+     */
+    @Override
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("method", method);
+        map.put("route", route);
+        map.put("statusClass", statusClass);
+        map.put("intervalSeconds", intervalSeconds);
+        map.put("count", snapshot.getCount());
+        map.put("errors", errors);
+        map.put("meanMs", round(snapshot.getMeanMillis()));
+        map.put("p50Ms", snapshot.percentileMillis(50));
+        map.put("p90Ms", snapshot.percentileMillis(90));
+        map.put("p99Ms", snapshot.percentileMillis(99));
+        map.put("maxMs", snapshot.getMaxMillis());
+        if (resources.cpuTimeCount > 0) {
+            map.put("cpuTimeMs", round(getCpuTimeMillis()));
+            map.put("cpuTimeCount", resources.cpuTimeCount);
+        }
+        if (resources.allocationCount > 0) {
+            map.put("allocatedBytes", resources.allocatedBytes);
+            map.put("allocationCount", resources.allocationCount);
+        }
+        return map;
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 1000) / 1000.0;
+    }
+}
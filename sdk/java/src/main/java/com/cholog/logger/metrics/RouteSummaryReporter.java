@@ -0,0 +1,94 @@
+package com.cholog.logger.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RouteMetrics}에 누적된 경로별 응답 시간을 주기마다 요약 로그로 기록합니다.
+ *
+ * 주기마다 요청이 있었던 (메소드, 경로 템플릿, 상태 코드 대역)마다 INFO 로그를 하나씩 남기며,
+ * {@link RouteSummary}를 인자로 전달하여 {@link com.cholog.logger.appender.CentralLogAppender}가 {@code routeSummary} 필드로 기록합니다.
+ * 애플리케이션 종료 시(로그 전송 서비스가 종료되기 전) 마지막 주기의 요약을 기록합니다.
+ */
+public class RouteSummaryReporter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(RouteSummaryReporter.class);
+
+    private final RouteMetrics metrics;
+    private final int intervalSeconds;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * RouteSummaryReporter의 새 인스턴스를 생성합니다.
+     *
+     * @param metrics         경로별 응답 시간 분포
+     * @param intervalSeconds 요약 주기(초)
+     */
+    public RouteSummaryReporter(RouteMetrics metrics, int intervalSeconds) {
+        this.metrics = metrics;
+        this.intervalSeconds = Math.max(1, intervalSeconds);
+    }
+
+    /**
+     * 요약 주기 작업을 시작합니다.
+     */
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("cholog-route-summary");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::report, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 주기 작업을 멈추고 마지막 주기의 요약을 기록합니다.
+     */
+    @Override
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler = null;
+        report();
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * 직전 주기의 경로별 요약을 로그로 기록합니다.
+     */
+    void report() {
+        try {
+            for (RouteSummary summary : metrics.drain(intervalSeconds)) {
+                LatencyHistogram.Snapshot snapshot = summary.getSnapshot();
+                // 마지막 인자(RouteSummary)는 메시지에 쓰이지 않고 CentralLogAppender가 routeSummary 필드로 기록
+                log.info("Route Summary: {} {} {} count={} errors={} p50={}ms p99={}ms max={}ms",
+                        summary.getMethod(), summary.getRoute(), summary.getStatusClass(), summary.getCount(),
+                        summary.getErrors(), snapshot.percentileMillis(50), snapshot.percentileMillis(99),
+                        snapshot.getMaxMillis(), summary);
+            }
+        } catch (Exception e) {
+            log.debug("Failed to report route summaries: {}", e.getMessage());
+        }
+    }
+}
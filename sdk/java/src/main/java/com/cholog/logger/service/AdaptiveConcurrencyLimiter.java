@@ -0,0 +1,185 @@
+package com.cholog.logger.service;
+
+import com.cholog.logger.config.LogServerProperties;
+import org.apache.http.client.utils.DateUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그 서버로 동시에 보내는 배치 수를 AIMD(additive increase, multiplicative decrease) 방식으로 조정하는 동시성 제한기입니다.
+ *
+ * 전송에 성공하면 한도를 {@code 1/한도}씩 늘려 한도만큼 성공할 때마다 1이 늘어나고,
+ * 429/503 응답이나 타임아웃 같은 과부하 신호를 받으면 한도에 {@link LogServerProperties#getSendConcurrencyDecreaseRatio()}를 곱해 줄입니다.
+ * 마지막 감소 이전에 시작된 요청의 과부하 신호는 이미 반영된 것으로 보고 무시하므로, 동시에 보낸 요청들이 한꺼번에 실패해도 한도는 한 번만 줄어듭니다.
+ *
+ * 서버가 {@code Retry-After} 헤더를 보내면 그 시각까지 새 배치 전송과 재시도를 모두 멈춥니다({@link #throttle(long)}).
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double decreaseRatio;
+
+    // 아래 필드는 this로 동기화
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseNanos = System.nanoTime();
+    private long throttledUntilNanos = System.nanoTime();
+    private long totalThrottledNanos;
+
+    AdaptiveConcurrencyLimiter(LogServerProperties properties) {
+        this.minLimit = Math.max(1, properties.getSendConcurrencyMin());
+        this.maxLimit = Math.max(minLimit, properties.getSendConcurrencyMax());
+        double ratio = properties.getSendConcurrencyDecreaseRatio();
+        if (!(ratio > 0 && ratio < 1)) {
+            logger.warn("동시 전송 한도 감소 비율 {}은(는) 0 초과 1 미만이어야 합니다. 0.5를 사용합니다.", ratio);
+            ratio = 0.5;
+        }
+        this.decreaseRatio = ratio;
+        this.limit = minLimit;
+    }
+
+    /**
+     * 배치 하나를 전송할 자리를 확보합니다. 성공하면 전송을 마친 뒤 반드시 {@link #release()}를 호출해야 합니다.
+     *
+     * @param extraSlots 한도를 넘어 추가로 허용할 자리 수 (긴급 레인 전용 자리)
+     * @return 한도에 여유가 있고 {@code Retry-After} 대기 중이 아니면 {@code true}
+     */
+    synchronized boolean tryAcquire(int extraSlots) {
+        if (System.nanoTime() - throttledUntilNanos < 0 || inFlight >= (int) limit + extraSlots) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    synchronized void release() {
+        if (inFlight > 0) {
+            inFlight--;
+        }
+    }
+
+    /**
+     * 서버가 요청을 받았음을 기록하고 한도를 늘립니다.
+     */
+    synchronized void onSuccess() {
+        if (limit < maxLimit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    /**
+     * 과부하 신호(429/503 응답, 타임아웃)를 기록하고 한도를 줄입니다.
+     *
+     * @param startNanos 과부하 신호를 받은 요청의 시작 시각 ({@link System#nanoTime()})
+     */
+    synchronized void onOverload(long startNanos) {
+        if (startNanos - lastDecreaseNanos < 0) {
+            return; // 마지막 감소 이전에 시작된 요청: 이미 반영됨
+        }
+        double previous = limit;
+        limit = Math.max(minLimit, limit * decreaseRatio);
+        lastDecreaseNanos = System.nanoTime();
+        if ((int) previous != (int) limit) {
+            logger.info("로그 서버 과부하 신호로 동시 전송 한도를 줄입니다: {} -> {}", (int) previous, (int) limit);
+        }
+    }
+
+    /**
+     * 서버가 요청한 시간({@code Retry-After}) 동안 전송을 멈춥니다. 이미 더 늦게까지 멈춘 상태이면 변화가 없습니다.
+     *
+     * @param delayMillis 전송을 멈출 시간 (ms)
+     */
+    synchronized void throttle(long delayMillis) {
+        long now = System.nanoTime();
+        long until = now + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+        if (until - throttledUntilNanos <= 0) {
+            return;
+        }
+        // 겹치는 구간은 한 번만 집계
+        long from = throttledUntilNanos - now > 0 ? throttledUntilNanos : now;
+        totalThrottledNanos += until - from;
+        throttledUntilNanos = until;
+        logger.warn("로그 서버가 {}ms 후 재시도를 요청했습니다 (Retry-After). 그때까지 전송을 멈춥니다.", delayMillis);
+    }
+
+    /**
+     * @return {@code Retry-After}로 전송을 멈춘 남은 시간 (ms), 멈춘 상태가 아니면 0
+     */
+    synchronized long getRemainingThrottleMillis() {
+        long remaining = throttledUntilNanos - System.nanoTime();
+        return remaining > 0 ? TimeUnit.NANOSECONDS.toMillis(remaining) + 1 : 0;
+    }
+
+    /**
+     * {@code Retry-After}로 전송을 멈춘 상태이면 멈춘 시간이 끝날 때까지 기다립니다.
+     *
+     * @throws InterruptedException 기다리는 중 인터럽트된 경우
+     */
+    void awaitThrottle() throws InterruptedException {
+        long remaining;
+        while ((remaining = getRemainingThrottleMillis()) > 0) {
+            Thread.sleep(remaining);
+        }
+    }
+
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * @return 서비스 시작 이후 {@code Retry-After}로 전송을 멈춘 시간의 합 (ms)
+     */
+    synchronized long getTotalThrottledMillis() {
+        long total = totalThrottledNanos;
+        long remaining = throttledUntilNanos - System.nanoTime();
+        if (remaining > 0) {
+            total -= remaining; // 아직 지나지 않은 구간은 제외
+        }
+        return TimeUnit.NANOSECONDS.toMillis(total);
+    }
+
+    /**
+     * {@code Retry-After} 헤더 값을 해석합니다. 초 단위 정수와 HTTP 날짜 형식을 모두 지원합니다.
+     *
+     * @param value       헤더 값 (null 가능)
+     * @param nowMillis   현재 시각 ({@link System#currentTimeMillis()})
+     * @param maxMillis   허용할 최대 대기 시간 (ms)
+     * @return 대기 시간 (ms, 0 이상 {@code maxMillis} 이하), 헤더가 없거나 해석할 수 없으면 -1
+     */
+    static long parseRetryAfter(String value, long nowMillis, long maxMillis) {
+        if (value == null || value.trim().isEmpty()) {
+            return -1;
+        }
+        String trimmed = value.trim();
+        long delayMillis;
+        try {
+            delayMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(trimmed));
+        } catch (NumberFormatException e) {
+            Date date = DateUtils.parseDate(trimmed);
+            if (date == null) {
+                return -1;
+            }
+            delayMillis = date.getTime() - nowMillis;
+        }
+        return Math.min(Math.max(0, delayMillis), maxMillis);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "limit=" + (int) limit + " [" + minLimit + ".." + maxLimit + "], inFlight=" + inFlight;
+    }
+}
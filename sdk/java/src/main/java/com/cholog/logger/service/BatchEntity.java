@@ -0,0 +1,173 @@
+package com.cholog.logger.service;
+
+import org.apache.http.entity.AbstractHttpEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 메모리 큐에서 꺼낸 배치를 요청 본문으로 스트리밍하는 HTTP 엔티티입니다.
+ *
+ * HttpClient가 연결에 본문을 쓸 때({@link #writeTo(OutputStream)}) 인코딩된 이벤트와 구분자를 그대로 쓰고,
+ * 압축을 사용하면 같은 스트림에서 바로 gzip으로 압축합니다. 따라서 배치 전체를 담는 문자열이나 바이트 배열(원본, 압축본)을 만들지 않습니다.
+ * 배치가 반납되기 전까지 여러 번 쓸 수 있으므로(repeatable) 재시도와 failover에 같은 엔티티를 사용합니다.
+ * 압축하지 않으면 길이를 미리 알 수 있어 {@code Content-Length}로, 압축하면 chunked 방식으로 전송됩니다.
+ * 배치 봉투를 사용하면 이벤트 배열을 {@code {"header":{...},"events":[...]}}로 감싸서 씁니다.
+ * 이벤트 배열은 배치 외에 {@link EventArray}로도 받을 수 있습니다(문자열 표로 인코딩한 배열, 디스크에서 읽은 배열).
+ */
+final class BatchEntity extends AbstractHttpEntity {
+
+    private static final int GZIP_BUFFER_BYTES = 8 * 1024;
+
+    private static final byte[] ENVELOPE_SUFFIX = {'}'};
+
+    /**
+     * 요청 본문에 쓰는 이벤트 JSON 배열입니다.
+     */
+    interface EventArray {
+
+        /**
+         * @return 쓰는 바이트 수, 쓰기 전에 알 수 없으면 -1
+         */
+        long length();
+
+        /**
+         * 이벤트 JSON 배열을 씁니다. 재시도와 failover에서 여러 번 호출될 수 있습니다.
+         *
+         * @param out 쓸 스트림 (닫지 않음)
+         * @throws IOException 스트림 쓰기 오류
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private final EventArray events;
+    private final boolean compress;
+    private final byte[] envelopePrefix;
+
+    /**
+     * @param batch    전송할 배치 (엔티티를 사용하는 동안 반납하면 안 됨)
+     * @param compress gzip 압축 여부 ({@code Content-Encoding} 헤더와 같은 값이어야 함)
+     */
+    BatchEntity(LogEventQueue.Batch batch, boolean compress) {
+        this(batch, compress, null);
+    }
+
+    /**
+     * @param batch          전송할 배치 (엔티티를 사용하는 동안 반납하면 안 됨)
+     * @param compress       gzip 압축 여부 ({@code Content-Encoding} 헤더와 같은 값이어야 함)
+     * @param envelopePrefix 배치 봉투에서 이벤트 배열 앞에 쓰는 헤더 부분({@code "events":}까지), 봉투를 사용하지 않으면 {@code null}
+     */
+    BatchEntity(LogEventQueue.Batch batch, boolean compress, byte[] envelopePrefix) {
+        this(new EventArray() {
+            @Override
+            public long length() {
+                return batch.jsonArrayLength();
+            }
+
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                batch.writeJsonArray(out);
+            }
+        }, compress, envelopePrefix);
+    }
+
+    /**
+     * @param events         전송할 이벤트 배열 (엔티티를 사용하는 동안 바뀌면 안 됨)
+     * @param compress       gzip 압축 여부 ({@code Content-Encoding} 헤더와 같은 값이어야 함)
+     * @param envelopePrefix 배치 봉투에서 이벤트 배열 앞에 쓰는 헤더 부분({@code "events":}까지), 봉투를 사용하지 않으면 {@code null}
+     */
+    BatchEntity(EventArray events, boolean compress, byte[] envelopePrefix) {
+        this.events = events;
+        this.compress = compress;
+        this.envelopePrefix = envelopePrefix;
+        setContentType("application/json");
+    }
+
+    /**
+     * 이미 만들어진 UTF-8 이벤트 JSON 배열을 그대로 쓰는 {@link EventArray}를 만듭니다.
+     *
+     * @param jsonArray UTF-8 이벤트 JSON 배열
+     * @return 이벤트 배열
+     */
+    static EventArray eventArray(byte[] jsonArray) {
+        return new EventArray() {
+            @Override
+            public long length() {
+                return jsonArray.length;
+            }
+
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                out.write(jsonArray);
+            }
+        };
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        long length = events.length();
+        if (compress || length < 0) {
+            return -1;
+        }
+        return envelopePrefix != null
+                ? envelopePrefix.length + length + ENVELOPE_SUFFIX.length
+                : length;
+    }
+
+    /**
+     * 전송 경로에서는 사용하지 않습니다. 본문 전체를 메모리에 만들어 반환합니다.
+     */
+    @Override
+    public InputStream getContent() throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        writeTo(content);
+        return new ByteArrayInputStream(content.toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        if (!compress) {
+            writeBody(out);
+            return;
+        }
+        // close()로 Deflater를 해제하되 연결 스트림은 닫지 않음 (HttpClient가 닫음)
+        try (GZIPOutputStream gzip = new GZIPOutputStream(new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        }, GZIP_BUFFER_BYTES)) {
+            writeBody(gzip);
+        }
+    }
+
+    private void writeBody(OutputStream out) throws IOException {
+        if (envelopePrefix == null) {
+            events.writeTo(out);
+            return;
+        }
+        out.write(envelopePrefix);
+        events.writeTo(out);
+        out.write(ENVELOPE_SUFFIX);
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+}
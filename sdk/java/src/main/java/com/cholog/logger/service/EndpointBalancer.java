@@ -0,0 +1,282 @@
+package com.cholog.logger.service;
+
+import com.cholog.logger.config.LogServerProperties;
+import org.apache.http.HttpHost;
+import org.apache.http.client.utils.URIUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 로그 서버 엔드포인트({@link LogServerProperties#getUrls()}) 사이에서 배치를 보낼 엔드포인트를 고르는 클라이언트 측 로드 밸런서입니다.
+ *
+ * 엔드포인트마다 진행 중인 요청 수, 응답 시간 EWMA, 요청/오류 수를 추적하며,
+ * 무작위로 고른 두 후보 중 점수가 낮은 쪽을 선택합니다(power of two choices).
+ *     {@code least-outstanding}: 점수 = 진행 중인 요청 수
+ *     {@code ewma}: 점수 = 응답 시간 EWMA × (진행 중인 요청 수 + 1), 응답이 느려지면 EWMA를 즉시 올림(peak EWMA)
+ * 연속 실패가 {@link LogServerProperties#getOutlierConsecutiveFailures()}회에 이르면 엔드포인트를 일정 시간 제외하며(outlier ejection),
+ * 제외 시간이 끝난 뒤 첫 요청이 다시 실패하면 바로 다시 제외합니다.
+ * 선택 가능한 엔드포인트가 없으면 제외가 가장 먼저 끝나는 엔드포인트를 반환하므로 전송 자체를 멈추지는 않습니다.
+ */
+final class EndpointBalancer {
+
+    private static final Logger logger = LoggerFactory.getLogger(EndpointBalancer.class);
+
+    /** EWMA 감쇠 시간 상수 (이 시간이 지나면 이전 값의 가중치가 1/e로 줄어듦) */
+    private static final double EWMA_DECAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final int MAX_EJECTION_MULTIPLIER = 8;
+
+    enum Strategy {
+        LEAST_OUTSTANDING, EWMA;
+
+        static Strategy parse(String value) {
+            if (value != null && value.trim().equalsIgnoreCase("ewma")) {
+                return EWMA;
+            }
+            if (value != null && !value.trim().equalsIgnoreCase("least-outstanding")) {
+                logger.warn("알 수 없는 엔드포인트 선택 방식 '{}'입니다. least-outstanding 방식을 사용합니다.", value);
+            }
+            return LEAST_OUTSTANDING;
+        }
+    }
+
+    /**
+     * 로그 서버 엔드포인트 하나의 상태입니다.
+     */
+    static final class Endpoint {
+        private final String url;
+        private final HttpHost host;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+        // 아래 필드는 this로 동기화
+        private double ewmaNanos;
+        private long lastUpdateNanos = System.nanoTime();
+        private long ejectedUntilNanos;
+        private boolean ejected;
+        private int ejections;
+        private long totalEjections;
+
+        private Endpoint(String url) {
+            this.url = url;
+            this.host = URIUtils.extractHost(URI.create(url));
+        }
+
+        String getUrl() {
+            return url;
+        }
+
+        /**
+         * @return 커넥션 풀 라우트 구성을 위한 호스트, URL에서 추출할 수 없으면 null
+         */
+        HttpHost getHost() {
+            return host;
+        }
+
+        int getOutstanding() {
+            return outstanding.get();
+        }
+
+        long getRequests() {
+            return requests.sum();
+        }
+
+        long getErrors() {
+            return errors.sum();
+        }
+
+        double getErrorRate() {
+            long total = requests.sum();
+            return total > 0 ? (double) errors.sum() / total : 0;
+        }
+
+        synchronized double getEwmaLatencyMs() {
+            return ewmaNanos / 1_000_000.0;
+        }
+
+        synchronized boolean isEjected(long nowNanos) {
+            return ejected && nowNanos - ejectedUntilNanos < 0;
+        }
+
+        synchronized long getTotalEjections() {
+            return totalEjections;
+        }
+
+        private synchronized void recordLatency(long latencyNanos, long nowNanos) {
+            if (latencyNanos > ewmaNanos) {
+                ewmaNanos = latencyNanos; // 느려지면 즉시 반영
+            } else {
+                double weight = Math.exp(-(nowNanos - lastUpdateNanos) / EWMA_DECAY_NANOS);
+                ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+            }
+            lastUpdateNanos = nowNanos;
+        }
+
+        private synchronized double score(Strategy strategy) {
+            int inFlight = outstanding.get();
+            return strategy == Strategy.EWMA ? ewmaNanos * (inFlight + 1) : inFlight;
+        }
+
+        private synchronized long ejectedUntil() {
+            return ejected ? ejectedUntilNanos : Long.MIN_VALUE;
+        }
+
+        @Override
+        public String toString() {
+            return url;
+        }
+    }
+
+    private final List<Endpoint> endpoints;
+    private final Strategy strategy;
+    private final int failureThreshold;
+    private final long ejectionNanos;
+
+    EndpointBalancer(LogServerProperties properties) {
+        List<Endpoint> parsed = new ArrayList<>();
+        for (String url : properties.getEffectiveUrls()) {
+            try {
+                parsed.add(new Endpoint(url));
+            } catch (IllegalArgumentException e) {
+                logger.error("잘못된 로그 서버 URL '{}'을(를) 건너뜁니다: {}", url, e.getMessage());
+            }
+        }
+        this.endpoints = Collections.unmodifiableList(parsed);
+        this.strategy = Strategy.parse(properties.getLoadBalancingStrategy());
+        this.failureThreshold = Math.max(1, properties.getOutlierConsecutiveFailures());
+        this.ejectionNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, properties.getOutlierEjectionTime()));
+    }
+
+    List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    boolean hasEndpoints() {
+        return !endpoints.isEmpty();
+    }
+
+    Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * 배치를 보낼 엔드포인트를 고릅니다.
+     *
+     * @param exclude 이번 배치에서 이미 시도한 엔드포인트
+     * @return 선택한 엔드포인트, 시도하지 않은 엔드포인트가 없으면 null
+     */
+    Endpoint select(Set<Endpoint> exclude) {
+        long now = System.nanoTime();
+        List<Endpoint> candidates = new ArrayList<>(endpoints.size());
+        Endpoint leastEjected = null;
+        for (Endpoint endpoint : endpoints) {
+            if (exclude.contains(endpoint)) {
+                continue;
+            }
+            if (!endpoint.isEjected(now)) {
+                candidates.add(endpoint);
+            } else if (leastEjected == null || endpoint.ejectedUntil() - leastEjected.ejectedUntil() < 0) {
+                leastEjected = endpoint;
+            }
+        }
+        if (candidates.isEmpty()) {
+            return leastEjected; // 모두 제외된 경우에도 배치를 버리지 않음
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        Endpoint a = candidates.get(first);
+        Endpoint b = candidates.get(second);
+        return a.score(strategy) <= b.score(strategy) ? a : b;
+    }
+
+    /**
+     * 요청 시작을 기록합니다. 반드시 {@link #onSuccess}, {@link #onFailure} 중 하나가 뒤따라야 합니다.
+     *
+     * @return 요청 시작 시각 ({@link System#nanoTime()})
+     */
+    long onStart(Endpoint endpoint) {
+        endpoint.outstanding.incrementAndGet();
+        endpoint.requests.increment();
+        return System.nanoTime();
+    }
+
+    /**
+     * 엔드포인트가 응답한 요청(재시도가 필요 없는 응답)을 기록합니다. 연속 실패와 제외 상태를 초기화합니다.
+     */
+    void onSuccess(Endpoint endpoint, long startNanos) {
+        long now = System.nanoTime();
+        endpoint.outstanding.decrementAndGet();
+        endpoint.recordLatency(now - startNanos, now);
+        endpoint.consecutiveFailures.set(0);
+        restore(endpoint, "요청 성공");
+    }
+
+    /**
+     * 연결 오류, 타임아웃, 5xx/408 응답을 기록하고, 연속 실패가 기준에 이르면 엔드포인트를 제외합니다.
+     */
+    void onFailure(Endpoint endpoint, long startNanos) {
+        long now = System.nanoTime();
+        endpoint.outstanding.decrementAndGet();
+        endpoint.errors.increment();
+        endpoint.recordLatency(now - startNanos, now);
+        if (endpoint.consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            synchronized (endpoint) {
+                if (!endpoint.isEjected(now)) {
+                    endpoint.ejections = Math.min(MAX_EJECTION_MULTIPLIER, endpoint.ejections + 1);
+                    endpoint.ejectedUntilNanos = now + ejectionNanos * endpoint.ejections;
+                    endpoint.ejected = true;
+                    endpoint.totalEjections++;
+                    if (endpoints.size() > 1) {
+                        logger.warn("로그 서버 엔드포인트를 {}ms 동안 제외합니다: {} (연속 실패 {}회)",
+                                TimeUnit.NANOSECONDS.toMillis(ejectionNanos * endpoint.ejections),
+                                endpoint.url, endpoint.consecutiveFailures.get());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 서버 연결 확인에 성공한 엔드포인트를 제외 시간과 관계없이 다시 선택 대상으로 만듭니다.
+     */
+    void onHealthCheckSuccess(Endpoint endpoint) {
+        endpoint.consecutiveFailures.set(0);
+        restore(endpoint, "연결 확인 성공");
+    }
+
+    private void restore(Endpoint endpoint, String reason) {
+        synchronized (endpoint) {
+            if (endpoint.ejected) {
+                endpoint.ejected = false;
+                endpoint.ejections = 0;
+                if (endpoints.size() > 1) {
+                    logger.info("로그 서버 엔드포인트를 다시 사용합니다: {} ({})", endpoint.url, reason);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return endpoints.stream().map(Endpoint::getUrl).collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,216 @@
+package com.cholog.logger.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * 이벤트를 UTF-8 바이트 배열로 인코딩해 힙에 보관하는 {@link LogEventQueue}입니다 (기본 구현).
+ * 이벤트 크기는 배열 크기로 계산하며({@link #sizeOf(byte[])}), 여러 큐가 하나의 {@link ByteBudget}을 나눠 쓸 수 있습니다.
+ */
+final class HeapLogEventQueue implements LogEventQueue {
+
+    /** 배열 객체 헤더 크기 */
+    private static final int ARRAY_OVERHEAD_BYTES = 16;
+
+    private final BlockingQueue<byte[]> queue = new LinkedBlockingQueue<>();
+    private final IntSupplier capacity;
+    private final ByteBudget budget;
+    private final AtomicLong bytes = new AtomicLong();
+
+    /**
+     * @param capacity 최대 이벤트 수 (실행 중에 바뀔 수 있으므로 추가할 때마다 읽음)
+     * @param budget   바이트 예산 (null이면 바이트 수를 제한하지 않음)
+     */
+    HeapLogEventQueue(IntSupplier capacity, ByteBudget budget) {
+        this.capacity = capacity;
+        this.budget = budget;
+    }
+
+    /**
+     * 여러 스레드가 동시에 추가하면 이벤트 수 용량을 스레드 수만큼 넘을 수 있습니다. 바이트 예산은 넘지 않습니다.
+     */
+    @Override
+    public boolean offer(String event) {
+        if (queue.size() >= capacity.getAsInt()) {
+            return false;
+        }
+        byte[] encoded = event.getBytes(StandardCharsets.UTF_8);
+        long cost = sizeOf(encoded);
+        if (budget != null && !budget.tryReserve(cost)) {
+            return false;
+        }
+        if (!queue.offer(encoded)) {
+            if (budget != null) {
+                budget.release(cost);
+            }
+            return false;
+        }
+        bytes.addAndGet(cost);
+        return true;
+    }
+
+    @Override
+    public String poll() {
+        byte[] event = queue.poll();
+        if (event == null) {
+            return null;
+        }
+        release(sizeOf(event));
+        return new String(event, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int drainTo(List<String> target, int maxEvents) {
+        List<byte[]> events = new ArrayList<>(Math.min(maxEvents, Math.max(1, queue.size())));
+        int drained = queue.drainTo(events, maxEvents);
+        for (byte[] event : events) {
+            target.add(new String(event, StandardCharsets.UTF_8));
+        }
+        release(sumBytes(events));
+        return drained;
+    }
+
+    @Override
+    public Batch drainBatch(int maxEvents) {
+        List<byte[]> events = new ArrayList<>(Math.min(maxEvents, Math.max(1, queue.size())));
+        if (queue.drainTo(events, maxEvents) == 0) {
+            return null;
+        }
+        long cost = sumBytes(events);
+        bytes.addAndGet(-cost); // 예산은 배치를 반납할 때 돌려받음
+        return new HeapBatch(events, cost);
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public long byteSize() {
+        return bytes.get();
+    }
+
+    private void release(long cost) {
+        if (cost > 0) {
+            bytes.addAndGet(-cost);
+            if (budget != null) {
+                budget.release(cost);
+            }
+        }
+    }
+
+    private static long sumBytes(List<byte[]> events) {
+        long sum = 0;
+        for (byte[] event : events) {
+            sum += sizeOf(event);
+        }
+        return sum;
+    }
+
+    /**
+     * 인코딩된 이벤트가 힙에서 차지하는 크기를 계산합니다.
+     *
+     * @param encoded UTF-8로 인코딩된 이벤트
+     * @return 바이트 수 (배열 헤더 포함)
+     */
+    static long sizeOf(byte[] encoded) {
+        return ARRAY_OVERHEAD_BYTES + encoded.length;
+    }
+
+    private final class HeapBatch implements Batch {
+        private final List<byte[]> events;
+        private final long cost;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private HeapBatch(List<byte[]> events, long cost) {
+            this.events = events;
+            this.cost = cost;
+        }
+
+        @Override
+        public int size() {
+            return events.size();
+        }
+
+        @Override
+        public long jsonArrayLength() {
+            long length = 1 + events.size(); // '[' + 구분자 + ']'
+            for (byte[] event : events) {
+                length += event.length;
+            }
+            return length;
+        }
+
+        @Override
+        public void writeJsonArray(OutputStream out) throws IOException {
+            out.write('[');
+            for (int i = 0; i < events.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write(events.get(i));
+            }
+            out.write(']');
+        }
+
+        @Override
+        public List<String> toList() {
+            List<String> list = new ArrayList<>(events.size());
+            for (byte[] event : events) {
+                list.add(new String(event, StandardCharsets.UTF_8));
+            }
+            return list;
+        }
+
+        @Override
+        public void release() {
+            if (released.compareAndSet(false, true) && budget != null) {
+                budget.release(cost);
+            }
+        }
+    }
+
+    /**
+     * 여러 힙 큐(일반 레인, 긴급 레인)가 나눠 쓰는 바이트 예산입니다.
+     */
+    static final class ByteBudget {
+        private final long maxBytes;
+        private final AtomicLong used = new AtomicLong();
+
+        ByteBudget(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        boolean tryReserve(long bytes) {
+            long current;
+            do {
+                current = used.get();
+                if (current + bytes > maxBytes) {
+                    return false;
+                }
+            } while (!used.compareAndSet(current, current + bytes));
+            return true;
+        }
+
+        void release(long bytes) {
+            used.addAndGet(-bytes);
+        }
+
+        long getUsed() {
+            return used.get();
+        }
+
+        long getMaxBytes() {
+            return maxBytes;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.cholog.logger.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 전송 대기 중인 로그 이벤트(JSON 문자열)를 담는 메모리 큐입니다. 여러 스레드가 동시에 사용할 수 있습니다.
+ *
+ * 이벤트 수({@link com.cholog.logger.config.LogServerProperties#getQueueCapacity()})와 함께
+ * 바이트 예산({@link com.cholog.logger.config.LogServerProperties#getMaxQueueBytes()})으로 크기를 제한하므로,
+ * 스택 트레이스나 요청 본문이 큰 로그가 몰려도 큐가 차지하는 메모리는 예산을 넘지 않습니다.
+ * 이벤트는 추가할 때 한 번만 UTF-8로 인코딩되고, 전송 시에는 인코딩된 바이트를 그대로 요청 본문에 씁니다.
+ *
+ * @see HeapLogEventQueue
+ * @see OffHeapLogEventQueue
+ */
+interface LogEventQueue {
+
+    /**
+     * 이벤트를 큐 끝에 추가합니다. 기다리지 않습니다.
+     *
+     * @param event 로그 이벤트 (JSON 문자열)
+     * @return 추가했으면 {@code true}, 이벤트 수 용량이나 바이트 예산을 넘으면 {@code false}
+     */
+    boolean offer(String event);
+
+    /**
+     * 가장 오래된 이벤트를 꺼냅니다.
+     *
+     * @return 가장 오래된 이벤트, 큐가 비어 있으면 null
+     */
+    String poll();
+
+    /**
+     * 오래된 순서대로 이벤트를 꺼내 목록에 추가합니다. 스풀 기록, 종료 처리처럼 문자열이 필요한 경로에서 사용합니다.
+     *
+     * @param target    꺼낸 이벤트를 추가할 목록
+     * @param maxEvents 꺼낼 최대 이벤트 수
+     * @return 꺼낸 이벤트 수
+     */
+    int drainTo(List<String> target, int maxEvents);
+
+    /**
+     * 오래된 순서대로 이벤트를 꺼내 전송할 배치를 만듭니다. 배치가 가리키는 메모리는 {@link Batch#release()}를 호출할 때까지 예산에 포함됩니다.
+     *
+     * @param maxEvents 꺼낼 최대 이벤트 수
+     * @return 배치, 큐가 비어 있으면 null
+     */
+    Batch drainBatch(int maxEvents);
+
+    /**
+     * @return 큐에 있는 이벤트 수
+     */
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return 큐에 있는 이벤트가 차지하는 바이트 수 (힙 큐는 추정값, 오프힙 큐는 인코딩된 크기)
+     */
+    long byteSize();
+
+    /**
+     * 큐에서 꺼낸 전송 배치입니다. 전송이 끝나면(성공, 실패 모두) 반드시 {@link #release()}를 호출해야 합니다.
+     */
+    interface Batch {
+
+        /**
+         * @return 배치의 이벤트 수
+         */
+        int size();
+
+        /**
+         * @return {@link #writeJsonArray(OutputStream)}가 쓰는 바이트 수
+         */
+        long jsonArrayLength();
+
+        /**
+         * 인코딩된 이벤트와 구분자를 JSON 배열({@code [e1,e2,...]}) 형식의 UTF-8로 스트림에 씁니다.
+         * 배치 전체를 담는 중간 배열을 만들지 않으며, 반납 전까지 여러 번 호출할 수 있습니다(재시도, failover).
+         *
+         * @param out 요청 본문 스트림 (닫지 않음)
+         * @throws IOException 스트림 쓰기 오류
+         */
+        void writeJsonArray(OutputStream out) throws IOException;
+
+        /**
+         * @return 배치의 이벤트 목록 (큐에 돌려놓거나 디스크에 저장할 때 사용)
+         */
+        List<String> toList();
+
+        /**
+         * 배치가 사용하는 메모리를 예산에 반납합니다. 여러 번 호출해도 안전하며, 호출한 뒤에는 배치를 사용할 수 없습니다.
+         */
+        void release();
+    }
+}
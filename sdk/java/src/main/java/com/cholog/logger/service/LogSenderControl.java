@@ -0,0 +1,200 @@
+package com.cholog.logger.service;
+
+import ch.qos.logback.classic.Level;
+import com.cholog.logger.config.LogServerProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LogSenderService의 전송 설정을 실행 중에 조회하고 변경하는 클래스입니다.
+ * JMX({@code com.cholog.logger:type=LogSenderControl})와 Actuator 엔드포인트({@code /actuator/cholog})가 이 클래스를 사용합니다.
+ *
+ * 변경은 {@link LogServerProperties}에 반영되고, 스케줄이나 커넥션 풀처럼 생성 시 한 번 적용되는 설정은
+ * LogSenderService에 다시 적용됩니다. 설정을 바꾸는 메소드는 동기화되어 동시에 호출해도 안전합니다.
+ */
+public class LogSenderControl implements LogSenderControlMBean {
+
+    static final String OBJECT_NAME = "com.cholog.logger:type=LogSenderControl";
+
+    private static final Logger logger = LoggerFactory.getLogger(LogSenderControl.class);
+
+    private static final int MAX_BATCH_SIZE = 100_000;
+    private static final int MIN_BATCH_FLUSH_INTERVAL = 10;
+    private static final int MAX_BATCH_FLUSH_INTERVAL = 3_600_000;
+    private static final int MAX_POOL_CONNECTIONS = 10_000;
+
+    private final LogSenderService sender;
+    private final LogServerProperties properties;
+
+    LogSenderControl(LogSenderService sender, LogServerProperties properties) {
+        this.sender = sender;
+        this.properties = properties;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return properties.getBatchSize();
+    }
+
+    @Override
+    public synchronized void setBatchSize(int batchSize) {
+        requireRange("batchSize", batchSize, 1, MAX_BATCH_SIZE);
+        int previous = properties.getBatchSize();
+        properties.setBatchSize(batchSize);
+        sender.applyBatchSize(batchSize);
+        logChange("batchSize", previous, batchSize);
+    }
+
+    @Override
+    public int getBatchFlushInterval() {
+        return properties.getBatchFlushInterval();
+    }
+
+    @Override
+    public synchronized void setBatchFlushInterval(int batchFlushInterval) {
+        requireRange("batchFlushInterval", batchFlushInterval, MIN_BATCH_FLUSH_INTERVAL, MAX_BATCH_FLUSH_INTERVAL);
+        int previous = properties.getBatchFlushInterval();
+        properties.setBatchFlushInterval(batchFlushInterval);
+        if (previous != batchFlushInterval) {
+            sender.applyBatchFlushInterval(batchFlushInterval);
+        }
+        logChange("batchFlushInterval", previous, batchFlushInterval);
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        return properties.getQueueCapacity();
+    }
+
+    @Override
+    public synchronized void setQueueCapacity(int queueCapacity) {
+        requireRange("queueCapacity", queueCapacity, 1, Integer.MAX_VALUE);
+        int previous = properties.getQueueCapacity();
+        properties.setQueueCapacity(queueCapacity); // 추가 시점에 확인하므로 큐를 다시 만들 필요 없음
+        logChange("queueCapacity", previous, queueCapacity);
+    }
+
+    @Override
+    public String getLogLevel() {
+        return properties.getLogLevel().toString();
+    }
+
+    @Override
+    public synchronized void setLogLevel(String logLevel) {
+        Level level = logLevel == null ? null : Level.toLevel(logLevel.trim(), null);
+        if (level == null || level.toInt() < Level.TRACE_INT || level.toInt() > Level.ERROR_INT) { // ALL, OFF 제외
+            throw new IllegalArgumentException("logLevel은 TRACE, DEBUG, INFO, WARN, ERROR 중 하나여야 합니다: " + logLevel);
+        }
+        Level previous = properties.getLogLevel();
+        properties.setLogLevel(level);
+        logChange("logLevel", previous, level);
+    }
+
+    @Override
+    public double getSampleRate() {
+        return properties.getSampleRate();
+    }
+
+    @Override
+    public synchronized void setSampleRate(double sampleRate) {
+        if (!(sampleRate >= 0.0 && sampleRate <= 1.0)) {
+            throw new IllegalArgumentException("sampleRate는 0.0 이상 1.0 이하여야 합니다: " + sampleRate);
+        }
+        double previous = properties.getSampleRate();
+        properties.setSampleRate(sampleRate);
+        logChange("sampleRate", previous, sampleRate);
+    }
+
+    @Override
+    public double getAccessLogSampleRate() {
+        return properties.getAccessLogSampleRate();
+    }
+
+    @Override
+    public synchronized void setAccessLogSampleRate(double accessLogSampleRate) {
+        if (!(accessLogSampleRate >= 0.0 && accessLogSampleRate <= 1.0)) {
+            throw new IllegalArgumentException("accessLogSampleRate는 0.0 이상 1.0 이하여야 합니다: " + accessLogSampleRate);
+        }
+        double previous = properties.getAccessLogSampleRate();
+        properties.setAccessLogSampleRate(accessLogSampleRate);
+        logChange("accessLogSampleRate", previous, accessLogSampleRate);
+    }
+
+    @Override
+    public boolean isCompressLogs() {
+        return properties.isCompressLogs();
+    }
+
+    @Override
+    public synchronized void setCompressLogs(boolean compressLogs) {
+        boolean previous = properties.isCompressLogs();
+        properties.setCompressLogs(compressLogs);
+        logChange("compressLogs", previous, compressLogs);
+    }
+
+    @Override
+    public int getHttpClientPoolMaxTotal() {
+        return properties.getHttpClientPoolMaxTotal();
+    }
+
+    @Override
+    public synchronized void setHttpClientPoolMaxTotal(int httpClientPoolMaxTotal) {
+        requireRange("httpClientPoolMaxTotal", httpClientPoolMaxTotal, 1, MAX_POOL_CONNECTIONS);
+        int previous = properties.getHttpClientPoolMaxTotal();
+        properties.setHttpClientPoolMaxTotal(httpClientPoolMaxTotal);
+        applyPoolLimits();
+        logChange("httpClientPoolMaxTotal", previous, httpClientPoolMaxTotal);
+    }
+
+    @Override
+    public int getHttpClientPoolDefaultMaxPerRoute() {
+        return properties.getHttpClientPoolDefaultMaxPerRoute();
+    }
+
+    @Override
+    public synchronized void setHttpClientPoolDefaultMaxPerRoute(int httpClientPoolDefaultMaxPerRoute) {
+        requireRange("httpClientPoolDefaultMaxPerRoute", httpClientPoolDefaultMaxPerRoute, 1, MAX_POOL_CONNECTIONS);
+        int previous = properties.getHttpClientPoolDefaultMaxPerRoute();
+        properties.setHttpClientPoolDefaultMaxPerRoute(httpClientPoolDefaultMaxPerRoute);
+        applyPoolLimits();
+        logChange("httpClientPoolDefaultMaxPerRoute", previous, httpClientPoolDefaultMaxPerRoute);
+    }
+
+    /**
+     * 변경 가능한 설정값을 모두 반환합니다.
+     *
+     * @return 설정 이름과 현재 값 (Actuator 응답 순서를 위해 순서 유지)
+     */
+    public Map<String, Object> getSettings() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("batchSize", getBatchSize());
+        settings.put("batchFlushInterval", getBatchFlushInterval());
+        settings.put("queueCapacity", getQueueCapacity());
+        settings.put("logLevel", getLogLevel());
+        settings.put("sampleRate", getSampleRate());
+        settings.put("accessLogSampleRate", getAccessLogSampleRate());
+        settings.put("compressLogs", isCompressLogs());
+        settings.put("httpClientPoolMaxTotal", getHttpClientPoolMaxTotal());
+        settings.put("httpClientPoolDefaultMaxPerRoute", getHttpClientPoolDefaultMaxPerRoute());
+        return settings;
+    }
+
+    private void applyPoolLimits() {
+        if (!sender.applyHttpPoolLimits()) {
+            logger.warn("기본 HTTP 클라이언트를 사용 중이어서 커넥션 풀 변경은 설정에만 반영됩니다.");
+        }
+    }
+
+    private static void requireRange(String name, long value, long min, long max) {
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(name + "은(는) " + min + " 이상 " + max + " 이하여야 합니다: " + value);
+        }
+    }
+
+    private static void logChange(String name, Object previous, Object current) {
+        logger.info("로그 전송 설정 변경: {} {} -> {}", name, previous, current);
+    }
+}
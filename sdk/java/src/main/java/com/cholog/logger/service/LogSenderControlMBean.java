@@ -0,0 +1,135 @@
+package com.cholog.logger.service;
+
+/**
+ * LogSenderService의 전송 설정을 JMX를 통해 실행 중에 조회하고 변경하기 위한 MBean 인터페이스입니다.
+ * 잘못된 값을 지정하면 {@link IllegalArgumentException}이 발생하고 기존 설정이 유지됩니다.
+ */
+public interface LogSenderControlMBean {
+
+    /**
+     * 일반 레인에서 한 번에 전송하는 최대 로그 수를 반환합니다.
+     *
+     * @return 배치 크기
+     */
+    int getBatchSize();
+
+    /**
+     * 일반 레인의 배치 크기를 바꿉니다. 다음에 꺼내는 배치부터 적용됩니다.
+     *
+     * @param batchSize 배치 크기 (1 이상)
+     */
+    void setBatchSize(int batchSize);
+
+    /**
+     * 일반 레인의 배치 전송 간격(ms)을 반환합니다.
+     *
+     * @return 배치 전송 간격(ms)
+     */
+    int getBatchFlushInterval();
+
+    /**
+     * 일반 레인의 배치 전송 간격을 바꿉니다. 전송 작업을 새 간격으로 다시 예약합니다.
+     *
+     * @param batchFlushInterval 배치 전송 간격(ms, 10 이상)
+     */
+    void setBatchFlushInterval(int batchFlushInterval);
+
+    /**
+     * 일반 레인 메모리 큐의 최대 용량을 반환합니다.
+     *
+     * @return 큐 용량
+     */
+    int getQueueCapacity();
+
+    /**
+     * 일반 레인 메모리 큐의 최대 용량을 바꿉니다.
+     * 줄인 경우 이미 쌓인 로그는 버리지 않고, 큐가 새 용량 아래로 줄어들 때까지 새 로그를 오버플로 처리합니다.
+     *
+     * @param queueCapacity 큐 용량 (1 이상)
+     */
+    void setQueueCapacity(int queueCapacity);
+
+    /**
+     * 중앙 서버로 전송하는 최소 로그 레벨을 반환합니다.
+     *
+     * @return 로그 레벨 이름 (예: INFO)
+     */
+    String getLogLevel();
+
+    /**
+     * 중앙 서버로 전송하는 최소 로그 레벨을 바꿉니다.
+     *
+     * @param logLevel 로그 레벨 이름 (TRACE, DEBUG, INFO, WARN, ERROR, 대소문자 무관)
+     */
+    void setLogLevel(String logLevel);
+
+    /**
+     * WARN 미만 로그의 샘플링 비율을 반환합니다.
+     *
+     * @return 전송할 비율 (0.0 ~ 1.0)
+     */
+    double getSampleRate();
+
+    /**
+     * WARN 미만 로그의 샘플링 비율을 바꿉니다. WARN 이상 로그는 항상 전송됩니다.
+     *
+     * @param sampleRate 전송할 비율 (0.0 ~ 1.0)
+     */
+    void setSampleRate(double sampleRate);
+
+    /**
+     * 요청 완료 로그의 기록 비율을 반환합니다.
+     *
+     * @return 기록할 비율 (0.0 ~ 1.0)
+     */
+    double getAccessLogSampleRate();
+
+    /**
+     * 요청 완료 로그의 기록 비율을 바꿉니다. 5xx 응답이나 예외로 끝난 요청은 항상 기록됩니다.
+     *
+     * @param accessLogSampleRate 기록할 비율 (0.0 ~ 1.0, 0이면 기록하지 않음)
+     */
+    void setAccessLogSampleRate(double accessLogSampleRate);
+
+    /**
+     * 전송 시 GZIP 압축 사용 여부를 반환합니다.
+     *
+     * @return 압축을 사용하면 true
+     */
+    boolean isCompressLogs();
+
+    /**
+     * 전송 시 GZIP 압축 사용 여부를 바꿉니다. 다음 요청부터 적용됩니다.
+     *
+     * @param compressLogs 압축 사용 여부
+     */
+    void setCompressLogs(boolean compressLogs);
+
+    /**
+     * HTTP 커넥션 풀의 전체 최대 커넥션 수를 반환합니다.
+     *
+     * @return 전체 최대 커넥션 수
+     */
+    int getHttpClientPoolMaxTotal();
+
+    /**
+     * HTTP 커넥션 풀의 전체 최대 커넥션 수를 바꿉니다.
+     *
+     * @param httpClientPoolMaxTotal 전체 최대 커넥션 수 (1 이상)
+     */
+    void setHttpClientPoolMaxTotal(int httpClientPoolMaxTotal);
+
+    /**
+     * HTTP 커넥션 풀의 라우트(엔드포인트)당 최대 커넥션 수를 반환합니다.
+     *
+     * @return 라우트당 최대 커넥션 수
+     */
+    int getHttpClientPoolDefaultMaxPerRoute();
+
+    /**
+     * HTTP 커넥션 풀의 라우트(엔드포인트)당 최대 커넥션 수를 바꿉니다.
+     *
+     * @param httpClientPoolDefaultMaxPerRoute 라우트당 최대 커넥션 수 (1 이상)
+     */
+    void setHttpClientPoolDefaultMaxPerRoute(int httpClientPoolDefaultMaxPerRoute);
+}
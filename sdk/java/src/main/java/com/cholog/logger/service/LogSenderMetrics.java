@@ -1,5 +1,13 @@
 package com.cholog.logger.service;
 
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+import javax.management.openmbean.TabularType;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -10,6 +18,8 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 import java.util.stream.Stream;
 
 /**
@@ -18,9 +28,14 @@ import java.util.stream.Stream;
  */
 public class LogSenderMetrics implements LogSenderMetricsMBean {
     
-    private final BlockingQueue<String> logQueue;
+    private final IntSupplier queueSize;
+    private final IntSupplier urgentQueueSize;
+    private final LongSupplier queueSizeBytes;
+    private final OffHeapLogEventQueue.SlabArena slabArena;
     private final AtomicBoolean isServerAvailable;
     private final Path diskQueueDir;
+    private final EndpointBalancer endpointBalancer;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
     private final long startTimeMillis;
     
     private final AtomicLong totalProcessedLogs = new AtomicLong(0);
@@ -31,6 +46,11 @@ public class LogSenderMetrics implements LogSenderMetricsMBean {
     private final AtomicLong diskQueueSizeBytes = new AtomicLong(0);
     private final AtomicLong lastDiskMetricsUpdateTime = new AtomicLong(0);
     
+    // 엔드포인트별 상태 표 형식
+    private static final String[] ENDPOINT_STAT_NAMES = {
+            "url", "available", "outstanding", "ewmaLatencyMs", "requests", "errors", "errorRate", "ejections"};
+    private static final TabularType ENDPOINT_STATS_TYPE = createEndpointStatsType();
+
     // 캐시 업데이트 주기 (5초)
     private static final long DISK_METRICS_CACHE_TTL = 5000;
     
@@ -47,9 +67,39 @@ public class LogSenderMetrics implements LogSenderMetricsMBean {
      * @param diskQueueDir 디스크 큐 디렉토리 경로
      */
     public LogSenderMetrics(BlockingQueue<String> logQueue, AtomicBoolean isServerAvailable, Path diskQueueDir) {
-        this.logQueue = logQueue;
+        this(logQueue::size, () -> 0, () -> 0L, null, isServerAvailable, diskQueueDir, null, null);
+    }
+
+    /**
+     * 엔드포인트별 상태와 동시 전송 상태를 함께 노출하는 LogSenderMetrics의 새 인스턴스를 생성합니다.
+     * 
+     * @param logQueue 로그 메시지 큐 (일반 레인)
+     * @param urgentQueue 긴급 레인 큐 (null이면 긴급 레인을 사용하지 않음)
+     * @param slabArena 오프힙 큐 아레나 (null이면 힙 큐 사용)
+     * @param isServerAvailable 서버 연결 상태
+     * @param diskQueueDir 디스크 큐 디렉토리 경로
+     * @param endpointBalancer 로그 서버 엔드포인트 로드 밸런서 (null이면 엔드포인트 상태를 노출하지 않음)
+     * @param concurrencyLimiter 동시 전송 제한기 (null이면 동시 전송 지표를 0으로 노출)
+     */
+    LogSenderMetrics(LogEventQueue logQueue, LogEventQueue urgentQueue, OffHeapLogEventQueue.SlabArena slabArena,
+                     AtomicBoolean isServerAvailable, Path diskQueueDir, EndpointBalancer endpointBalancer,
+                     AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this(logQueue::size, urgentQueue != null ? urgentQueue::size : () -> 0,
+                () -> logQueue.byteSize() + (urgentQueue != null ? urgentQueue.byteSize() : 0),
+                slabArena, isServerAvailable, diskQueueDir, endpointBalancer, concurrencyLimiter);
+    }
+
+    private LogSenderMetrics(IntSupplier queueSize, IntSupplier urgentQueueSize, LongSupplier queueSizeBytes,
+                             OffHeapLogEventQueue.SlabArena slabArena, AtomicBoolean isServerAvailable, Path diskQueueDir,
+                             EndpointBalancer endpointBalancer, AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.queueSize = queueSize;
+        this.urgentQueueSize = urgentQueueSize;
+        this.queueSizeBytes = queueSizeBytes;
+        this.slabArena = slabArena;
         this.isServerAvailable = isServerAvailable;
         this.diskQueueDir = diskQueueDir;
+        this.endpointBalancer = endpointBalancer;
+        this.concurrencyLimiter = concurrencyLimiter;
         this.startTimeMillis = System.currentTimeMillis();
         
         // 초기 디스크 메트릭 업데이트
@@ -155,7 +205,22 @@ public class LogSenderMetrics implements LogSenderMetricsMBean {
     
     @Override
     public int getQueueSize() {
-        return logQueue.size();
+        return queueSize.getAsInt() + getUrgentQueueSize();
+    }
+
+    @Override
+    public int getUrgentQueueSize() {
+        return urgentQueueSize.getAsInt();
+    }
+
+    @Override
+    public long getQueueSizeBytes() {
+        return queueSizeBytes.getAsLong();
+    }
+
+    @Override
+    public long getOffHeapUsedBytes() {
+        return slabArena != null ? slabArena.getUsedBytes() : 0;
     }
     
     @Override
@@ -208,6 +273,61 @@ public class LogSenderMetrics implements LogSenderMetricsMBean {
         }
     }
     
+    @Override
+    public TabularData getEndpointStats() {
+        TabularDataSupport table = new TabularDataSupport(ENDPOINT_STATS_TYPE);
+        if (endpointBalancer == null) {
+            return table;
+        }
+        long now = System.nanoTime();
+        for (EndpointBalancer.Endpoint endpoint : endpointBalancer.getEndpoints()) {
+            try {
+                table.put(new CompositeDataSupport(ENDPOINT_STATS_TYPE.getRowType(), ENDPOINT_STAT_NAMES, new Object[]{
+                        endpoint.getUrl(),
+                        !endpoint.isEjected(now),
+                        endpoint.getOutstanding(),
+                        endpoint.getEwmaLatencyMs(),
+                        endpoint.getRequests(),
+                        endpoint.getErrors(),
+                        endpoint.getErrorRate(),
+                        endpoint.getTotalEjections()
+                }));
+            } catch (OpenDataException e) {
+                // 행 형식이 고정되어 있으므로 발생하지 않음
+            }
+        }
+        return table;
+    }
+
+    @Override
+    public int getSendConcurrencyLimit() {
+        return concurrencyLimiter != null ? concurrencyLimiter.getLimit() : 0;
+    }
+
+    @Override
+    public int getInFlightBatches() {
+        return concurrencyLimiter != null ? concurrencyLimiter.getInFlight() : 0;
+    }
+
+    @Override
+    public long getThrottledTimeMillis() {
+        return concurrencyLimiter != null ? concurrencyLimiter.getTotalThrottledMillis() : 0;
+    }
+
+    private static TabularType createEndpointStatsType() {
+        try {
+            CompositeType rowType = new CompositeType("EndpointStats", "로그 서버 엔드포인트 상태",
+                    ENDPOINT_STAT_NAMES,
+                    new String[]{"엔드포인트 URL", "선택 가능 여부", "진행 중인 요청 수", "응답 시간 EWMA(ms)",
+                            "요청 수", "오류 수", "오류율", "제외 횟수"},
+                    new OpenType<?>[]{SimpleType.STRING, SimpleType.BOOLEAN, SimpleType.INTEGER, SimpleType.DOUBLE,
+                            SimpleType.LONG, SimpleType.LONG, SimpleType.DOUBLE, SimpleType.LONG});
+            return new TabularType("EndpointStatsTable", "로그 서버 엔드포인트별 상태", rowType, new String[]{"url"});
+        } catch (OpenDataException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
     /**
      * 필요한 경우 디스크 메트릭을 업데이트합니다.
      * 캐시 TTL이 경과한 경우에만 업데이트합니다.
@@ -241,8 +361,9 @@ public class LogSenderMetrics implements LogSenderMetricsMBean {
     @Override
     public String toString() {
         return String.format(
-            "LogMetrics[queue=%d, processed=%d, failed=%d, serverConnected=%b, diskFiles=%d, diskSize=%d bytes]",
+            "LogMetrics[queue=%d, queueBytes=%d, processed=%d, failed=%d, serverConnected=%b, diskFiles=%d, diskSize=%d bytes]",
             getQueueSize(),
+            getQueueSizeBytes(),
             getTotalProcessedLogs(),
             getTotalFailedLogs(),
             isServerConnected(),
@@ -1,5 +1,7 @@
 package com.cholog.logger.service;
 
+import javax.management.openmbean.TabularData;
+
 /**
  * LogSenderService의 JMX를 통한 모니터링을 위한 MBean 인터페이스입니다.
  * 로그 전송 서비스의 다양한 성능 지표와 상태 정보를 노출합니다.
@@ -7,11 +9,33 @@ package com.cholog.logger.service;
 public interface LogSenderMetricsMBean {
     
     /**
-     * 현재 메모리 큐에 대기 중인 로그 메시지 수를 반환합니다.
+     * 현재 메모리 큐(일반 레인과 긴급 레인)에 대기 중인 로그 메시지 수를 반환합니다.
      * 
      * @return 큐에 대기 중인 로그 수
      */
     int getQueueSize();
+
+    /**
+     * 현재 긴급 레인 큐에 대기 중인 로그 메시지 수를 반환합니다.
+     * 
+     * @return 긴급 레인 큐에 대기 중인 로그 수 (긴급 레인을 사용하지 않으면 0)
+     */
+    int getUrgentQueueSize();
+
+    /**
+     * 현재 메모리 큐(일반 레인과 긴급 레인)에 대기 중인 로그가 차지하는 바이트 수를 반환합니다.
+     * 힙 큐는 인코딩된 크기에 배열 오버헤드를 더한 추정값, 오프힙 큐는 인코딩된 크기입니다.
+     * 
+     * @return 큐에 대기 중인 로그의 바이트 수
+     */
+    long getQueueSizeBytes();
+
+    /**
+     * 오프힙 큐 아레나에서 사용 중인(큐와 전송 중인 배치) 슬랩의 크기 합을 반환합니다.
+     * 
+     * @return 사용 중인 오프힙 메모리(바이트), 힙 큐를 사용하면 0
+     */
+    long getOffHeapUsedBytes();
     
     /**
      * 서비스 시작 이후 성공적으로 전송된 로그 메시지의 총 수를 반환합니다.
@@ -61,4 +85,34 @@ public interface LogSenderMetricsMBean {
      * @return 디스크 큐 크기(바이트)
      */
     long getDiskQueueSizeBytes();
-} 
\ No newline at end of file
+
+    /**
+     * 로그 서버 엔드포인트별 상태를 반환합니다.
+     * 행마다 URL, 선택 가능 여부(제외되지 않음), 진행 중인 요청 수, 응답 시간 EWMA(ms), 요청/오류 수, 오류율, 제외 횟수를 포함합니다.
+     * 
+     * @return 엔드포인트별 상태 표
+     */
+    TabularData getEndpointStats();
+
+    /**
+     * 현재 동시 전송 한도(동시에 전송할 수 있는 배치 수)를 반환합니다.
+     * 전송에 성공하면 늘어나고 429/503 응답이나 타임아웃이 발생하면 줄어듭니다.
+     * 
+     * @return 동시 전송 한도
+     */
+    int getSendConcurrencyLimit();
+
+    /**
+     * 현재 전송 중인(재시도 대기 포함) 배치 수를 반환합니다.
+     * 
+     * @return 전송 중인 배치 수
+     */
+    int getInFlightBatches();
+
+    /**
+     * 서비스 시작 이후 로그 서버의 {@code Retry-After} 요청으로 전송을 멈춘 시간의 합(ms)을 반환합니다.
+     * 
+     * @return 전송을 멈춘 누적 시간(ms)
+     */
+    long getThrottledTimeMillis();
+}
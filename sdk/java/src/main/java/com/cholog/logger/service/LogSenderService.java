@@ -1,23 +1,27 @@
 package com.cholog.logger.service;
 
+import ch.qos.logback.classic.Level;
 import com.cholog.logger.appender.CentralLogAppender;
 import com.cholog.logger.config.LogServerProperties;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.config.Registry;
 import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
 import org.apache.http.entity.ByteArrayEntity;
-import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
@@ -36,18 +40,22 @@ import javax.net.ssl.SSLContext;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.zip.GZIPOutputStream;
@@ -60,7 +68,7 @@ import java.util.zip.GZIPOutputStream;
  * 주요 기능:
  *     로그 메시지의 비동기 배치 전송
  *     HTTP/HTTPS 프로토콜 지원 및 API 키를 사용한 인증
- *     민감 정보 필터링 ({@link LogServerProperties#getSensitivePatterns()})
+ *     민감 정보 필터링 ({@link RedactionEngine}, {@link LogServerProperties#getSensitivePatterns()})
  *     로그 전송 실패 시 설정된 횟수만큼 재시도 ({@link LogServerProperties#getMaxRetries()})
  *     재시도 후에도 전송에 최종 실패할 경우, 로그 배치를 로컬 디스크에 기록 (Disk Queue Fallback, {@link LogServerProperties#isDiskQueueEnabled()})
  *     주기적으로 디스크에 저장된 로그 배치를 읽어 중앙 서버로 재전송 시도
@@ -82,13 +90,29 @@ public class LogSenderService implements DisposableBean {
 
     private final LogServerProperties properties;
     private final CloseableHttpClient httpClient; // Apache HttpClient 4.x 사용
+    private PoolingHttpClientConnectionManager connectionManager; // 실행 중 커넥션 풀 한도 변경용 (기본 클라이언트로 대체된 경우 null)
+    private final EndpointBalancer endpointBalancer; // 여러 로그 서버 엔드포인트 간 클라이언트 측 로드 밸런싱
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter; // 동시 전송 배치 수 조정 (AIMD, Retry-After)
     private final ObjectMapper objectMapper;
-    private final Pattern[] sensitivePatterns; // 민감한 값 필터링을 위한 패턴 배열
-
-    /** 로그 메시지(JSON 문자열)를 임시 저장하는 스레드 안전 메모리 큐 (Bounded Queue) */
-    private final BlockingQueue<String> logQueue;
+    private final RedactionEngine redactionEngine; // 민감한 값 필터링을 위한 공용 엔진
+
+    /** 로그 메시지(JSON 문자열)를 임시 저장하는 스레드 안전 메모리 큐 (이벤트 수와 바이트 예산으로 제한, 일반 레인) */
+    private final LogEventQueue logQueue;
+    /** {@link LogServerProperties#getUrgentLevel()} 이상의 로그를 저장하는 긴급 레인 큐 (긴급 레인을 사용하지 않으면 null) */
+    private final LogEventQueue urgentQueue;
+    /** 오프힙 큐가 나눠 쓰는 direct 버퍼 아레나 (힙 큐를 사용하면 null) */
+    private final OffHeapLogEventQueue.SlabArena slabArena;
+    private final Lane bulkLane;
+    private final Lane urgentLane; // 긴급 레인을 사용하지 않으면 null
+    /** 레인 선택과 배치 꺼내기를 묶는 동기화 객체 */
+    private final Object laneLock = new Object();
+    private int urgentStreak; // 일반 배치 없이 연속으로 보낸 긴급 배치 수 (laneLock으로 동기화)
     /** 배치 전송 및 디스크 큐 재전송 작업을 주기적으로 실행하는 스케줄러 */
     private final ScheduledExecutorService scheduler;
+    /** 일반 레인 배치 전송 작업 (플러시 간격을 바꾸면 다시 예약됨, this로 동기화) */
+    private ScheduledFuture<?> batchFlushTask;
+    /** 메모리 큐에서 꺼낸 배치를 동시 전송 한도({@link #concurrencyLimiter})까지 병렬로 전송하는 스레드 풀 */
+    private final ExecutorService sendExecutor;
     /** 서비스의 활성 상태를 나타내는 플래그 (애플리케이션 종료 시 false로 설정됨) */
     private final AtomicBoolean active = new AtomicBoolean(true);
     /** 실패한 로그 배치를 저장할 디스크 디렉토리 경로 (null일 수 있음) */
@@ -109,11 +133,14 @@ public class LogSenderService implements DisposableBean {
     // v1.7.5: 연결 오류 로그 최적화 관련 필드
     private final AtomicLong lastErrorLogTime = new AtomicLong(0);
     private final AtomicInteger errorLogsInPeriod = new AtomicInteger(0);
-    private long currentBackoffDelay;
+    // 지수 백오프 지연값 (전송 워커와 디스크 재전송 스레드가 함께 갱신하므로 원자적으로 읽고 바꿈)
+    private final AtomicLong currentBackoffDelay = new AtomicLong();
     private final Random random = new Random();
 
     // JMX 메트릭 관리 객체
     private LogSenderMetrics metrics;
+    // 실행 중 설정 변경 객체 (runtimeControlEnabled=false이면 null)
+    private final LogSenderControl control;
     
     // HTTP 요청 시 사용할 타임아웃 값 (밀리초)
     private static final int CONNECT_TIMEOUT = 5000; // 연결 타임아웃 (5초)
@@ -122,28 +149,66 @@ public class LogSenderService implements DisposableBean {
     // 디스크 큐 작업에 대한 동기화 객체 추가
     private final Object diskQueueLock = new Object();
 
+    /** 종료 처리가 이미 시작되었는지 여부 (destroy와 JVM 셧다운 훅의 중복 실행 방지) */
+    private final AtomicBoolean shutdownStarted = new AtomicBoolean(false);
+    /** 종료 처리 시작 이후 거부된 로그 수 (종료 결과 집계용) */
+    private final AtomicLong rejectedDuringShutdown = new AtomicLong();
+    /** Spring 컨텍스트가 정상적으로 닫히지 않은 경우를 위한 JVM 셧다운 훅 (비활성화 시 null) */
+    private final Thread shutdownHook;
+    // spool 전송 방식에서 배치를 기록할 스풀 파일 (http 전송 방식이면 null)
+    private final SpoolWriter spoolWriter;
+    /** 배치 봉투의 앞부분 ({@code "header"} 값까지, 봉투를 사용하지 않으면 null) */
+    private volatile byte[] envelopeHeader;
+    /** 배치 봉투 헤더의 공통 필드 (디스크에 저장하는 이벤트에 다시 넣음, 봉투를 사용하지 않으면 null) */
+    private volatile Map<String, Object> envelopeFields;
+    /** 메시지 템플릿 저장소 (메시지 템플릿을 사용하지 않으면 null) */
+    private volatile MessageTemplates messageTemplates;
+    /** 종료 시 디스크 큐 디렉토리에 기록하는 체크포인트 파일 이름 */
+    private static final String SHUTDOWN_CHECKPOINT_FILE = "shutdown-checkpoint.json";
+
     /**
      * 생성자-기반 의존성 주입.
      * Spring Boot가 자동으로 필요한 빈들을 주입합니다.
      *
      * @param properties 로그 서버 설정
      */
-    @Autowired
     public LogSenderService(LogServerProperties properties) {
+        this(properties, new RedactionEngine(properties));
+    }
+
+    /**
+     * 생성자-기반 의존성 주입.
+     * 필터들과 공유하는 {@link RedactionEngine}을 함께 주입받습니다.
+     *
+     * @param properties      로그 서버 설정
+     * @param redactionEngine 민감 정보 필터링 엔진
+     */
+    @Autowired
+    public LogSenderService(LogServerProperties properties, RedactionEngine redactionEngine) {
         this.properties = Objects.requireNonNull(properties, "LogServerProperties cannot be null");
+        this.redactionEngine = Objects.requireNonNull(redactionEngine, "RedactionEngine cannot be null");
         this.objectMapper = new ObjectMapper();
-        this.httpClient = createHttpClient(); // HttpClient 초기화
+        this.endpointBalancer = new EndpointBalancer(properties);
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(properties);
+        this.httpClient = createHttpClient(); // HttpClient 초기화 (엔드포인트별 커넥션 풀 포함)
         
         // v1.7.5: 지수 백오프 초기 지연값 설정
-        this.currentBackoffDelay = properties.getInitialBackoffDelay();
-
-        // 민감 정보 필터링 패턴 컴파일 (대소문자 구분 없이)
-        this.sensitivePatterns = properties.getSensitivePatterns().stream()
-                .map(pattern -> Pattern.compile(pattern.toLowerCase(), Pattern.CASE_INSENSITIVE))
-                .toArray(Pattern[]::new);
-
-        // 메모리 큐 초기화 (설정된 용량 사용)
-        this.logQueue = new LinkedBlockingQueue<>(properties.getQueueCapacity());
+        this.currentBackoffDelay.set(properties.getInitialBackoffDelay());
+
+        // 메모리 큐 초기화 (두 레인이 하나의 바이트 예산을 나눠 씀)
+        // 이벤트 수 용량은 실행 중에 바꿀 수 있으므로 추가 시점에 확인
+        this.slabArena = properties.isOffHeapQueueEnabled() ? createSlabArena() : null;
+        HeapLogEventQueue.ByteBudget heapBudget = slabArena == null && properties.getMaxQueueBytes() > 0
+                ? new HeapLogEventQueue.ByteBudget(properties.getMaxQueueBytes()) : null;
+        this.logQueue = createLogEventQueue(properties::getQueueCapacity, heapBudget);
+        this.bulkLane = new Lane("bulk", logQueue, properties.getBatchSize());
+        if (properties.isUrgentLaneEnabled()) {
+            this.urgentQueue = createLogEventQueue(properties::getUrgentQueueCapacity, heapBudget);
+            this.urgentLane = new Lane("urgent", urgentQueue, properties.getUrgentBatchSize());
+        } else {
+            this.urgentQueue = null;
+            this.urgentLane = null;
+        }
         // 스케줄러 스레드 풀 초기화 (2개 스레드)
         this.scheduler = Executors.newScheduledThreadPool(2, runnable -> {
             Thread thread = Executors.defaultThreadFactory().newThread(runnable);
@@ -151,12 +216,26 @@ public class LogSenderService implements DisposableBean {
             thread.setDaemon(true); // 데몬 스레드로 설정
             return thread;
         });
+        // 배치 전송 스레드 풀 초기화 (동시 전송 한도의 최댓값 + 긴급 레인 전용 한 자리)
+        this.sendExecutor = Executors.newFixedThreadPool(concurrencyLimiter.getMaxLimit() + (urgentLane != null ? 1 : 0), runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("log-sender-worker-" + thread.getId());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // --- 스풀 전송 방식 설정 ---
+        this.spoolWriter = properties.isSpoolTransport() ? createSpoolWriter() : null;
 
         // --- 디스크 큐 경로 설정 및 검증 ---
         Path determinedPath = null;
         boolean canUseDiskQueue = properties.isDiskQueueEnabled(); // 설정값 확인
 
-        if (canUseDiskQueue) {
+        if (spoolWriter != null) {
+            // 스풀 파일이 디스크 버퍼 역할을 하며, 디스크 큐 재전송은 네트워크 I/O가 필요하므로 사용하지 않음
+            logger.info("Spool transport is enabled. Disk queue is not used.");
+            canUseDiskQueue = false;
+        } else if (canUseDiskQueue) {
             logger.info("Disk queue feature is enabled via configuration. Initializing path...");
             try {
                 determinedPath = properties.getDiskQueuePathObject();
@@ -199,12 +278,17 @@ public class LogSenderService implements DisposableBean {
 
         // --- 백그라운드 작업 스케줄링 ---
         // 1. 주기적인 메모리 큐 -> 서버 배치 전송 작업
-        scheduler.scheduleWithFixedDelay(
+        this.batchFlushTask = scheduler.scheduleWithFixedDelay(
                 this::processBatchFromQueue,
                 properties.getBatchFlushInterval(), // 초기 지연
                 properties.getBatchFlushInterval(), // 반복 간격
                 TimeUnit.MILLISECONDS
         );
+        if (urgentLane != null) {
+            // 긴급 레인은 짧은 간격으로 별도 전송
+            long urgentInterval = Math.max(1, properties.getUrgentBatchFlushInterval());
+            scheduler.scheduleWithFixedDelay(this::processUrgentLane, urgentInterval, urgentInterval, TimeUnit.MILLISECONDS);
+        }
 
         // 2. 디스크 큐가 활성화된 경우, 주기적인 디스크 큐 -> 서버 전송 작업
         if (effectiveDiskQueueEnabled) {
@@ -216,13 +300,24 @@ public class LogSenderService implements DisposableBean {
             );
         }
 
-        // 3. 주기적인 서버 연결 상태 확인 작업
-        scheduler.scheduleWithFixedDelay(
-            this::checkServerConnection,
-                properties.getConnectionCheckInterval(), // 초기 지연
-                properties.getConnectionCheckInterval(),
-            TimeUnit.MILLISECONDS
-        );
+        // 3. 주기적인 서버 연결 상태 확인 작업 (스풀 전송 방식에서는 Shipper가 서버와 통신하므로 생략)
+        if (spoolWriter == null) {
+            scheduler.scheduleWithFixedDelay(
+                this::checkServerConnection,
+                    properties.getConnectionCheckInterval(), // 초기 지연
+                    properties.getConnectionCheckInterval(),
+                TimeUnit.MILLISECONDS
+            );
+        } else if (spoolWriter.getFsyncPolicy() == SpoolWriter.FsyncPolicy.INTERVAL) {
+            long fsyncInterval = Math.max(10, properties.getSpoolFsyncInterval());
+            scheduler.scheduleAtFixedRate(() -> {
+                try {
+                    spoolWriter.force();
+                } catch (Exception e) {
+                    logger.warn("스풀 파일 동기화 실패: {}", e.getMessage());
+                }
+            }, fsyncInterval, fsyncInterval, TimeUnit.MILLISECONDS);
+        }
 
         // 4. JMX 메트릭 게시 (활성화된 경우)
         if (properties.isExposeMetricsViaJmx()) {
@@ -233,24 +328,240 @@ public class LogSenderService implements DisposableBean {
             }
         }
 
+        // 4-1. 실행 중 설정 변경 기능 (JMX 게시는 메트릭과 같은 설정을 따름, Actuator 엔드포인트는 getControl()로 사용)
+        if (properties.isRuntimeControlEnabled()) {
+            this.control = new LogSenderControl(this, properties);
+            if (properties.isExposeMetricsViaJmx()) {
+                registerControlMBean();
+            }
+        } else {
+            this.control = null;
+        }
+
+        // 5. 이전 종료 시 디스크로 옮긴 로그가 있으면 재전송 주기를 기다리지 않고 바로 처리
+        if (effectiveDiskQueueEnabled) {
+            recoverShutdownCheckpoint();
+        }
+
+        // 6. Spring 컨텍스트 종료 없이 JVM이 종료되는 경우에도 잔여 로그를 처리하도록 셧다운 훅 등록
+        if (properties.isShutdownHookEnabled()) {
+            this.shutdownHook = new Thread(this::shutdownFromHook, "cholog-log-sender-shutdown");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        } else {
+            this.shutdownHook = null;
+        }
+
         logger.info(String.format("LogSenderService initialized with: " +
-                        "url=%s, batchSize=%d, batchFlushInterval=%dms, queueCapacity=%d, maxRetries=%d, " +
+                        "transport=%s, endpoints=[%s] (%s), sendConcurrency=%s, batchSize=%d, batchFlushInterval=%dms, queueCapacity=%d, urgentLane=%s, maxRetries=%d, " +
                         "diskQueue=%b, diskQueuePath=%s",
-                properties.getUrl(), properties.getBatchSize(), properties.getBatchFlushInterval(),
-                properties.getQueueCapacity(), properties.getMaxRetries(),
+                spoolWriter != null ? "spool" : "http",
+                endpointBalancer, endpointBalancer.getStrategy(), concurrencyLimiter,
+                properties.getBatchSize(), properties.getBatchFlushInterval(),
+                properties.getQueueCapacity(),
+                urgentLane != null ? String.format("%s+ (batchSize=%d, flushInterval=%dms, capacity=%d, weight=%d)",
+                        properties.getUrgentLevel(), urgentLane.batchSize, properties.getUrgentBatchFlushInterval(),
+                        properties.getUrgentQueueCapacity(), properties.getUrgentLaneWeight()) : "disabled",
+                properties.getMaxRetries(),
                 effectiveDiskQueueEnabled, effectiveDiskQueueEnabled ? diskQueueDir.toAbsolutePath() : "N/A"));
     }
 
     /**
-     * {@link CentralLogAppender}로부터 호출되어 개별 로그 메시지(JSON 문자열)를 내부 메모리 큐({@link #logQueue})에 추가합니다.
+     * 오프힙 큐 아레나를 생성합니다. 크기는 {@link LogServerProperties#getMaxQueueBytes()}이며, 값이 없으면 기본값(64MB)을 사용합니다.
+     *
+     * @return 생성된 아레나
+     */
+    private OffHeapLogEventQueue.SlabArena createSlabArena() {
+        int slabSize = (int) Math.min(Integer.MAX_VALUE / 2, Math.max(4, properties.getOffHeapSlabSizeKb()) * 1024L);
+        long maxBytes = properties.getMaxQueueBytes() > 0 ? properties.getMaxQueueBytes() : 64L * 1024 * 1024;
+        if (maxBytes > Integer.MAX_VALUE) {
+            logger.warn("오프힙 큐 크기는 2GB 미만이어야 합니다. {}바이트 대신 {}바이트를 사용합니다.", maxBytes, Integer.MAX_VALUE);
+        }
+        OffHeapLogEventQueue.SlabArena arena = new OffHeapLogEventQueue.SlabArena(maxBytes, slabSize);
+        logger.info("오프힙 로그 큐를 사용합니다. 아레나 크기: {}바이트, 슬랩 크기: {}바이트", arena.getCapacityBytes(), slabSize);
+        return arena;
+    }
+
+    private LogEventQueue createLogEventQueue(IntSupplier capacity, HeapLogEventQueue.ByteBudget heapBudget) {
+        return slabArena != null ? new OffHeapLogEventQueue(slabArena, capacity) : new HeapLogEventQueue(capacity, heapBudget);
+    }
+
+    /**
+     * {@code spool} 전송 방식의 스풀 파일 기록기를 생성합니다.
+     * 스풀 디렉토리를 사용할 수 없으면 오류를 남기고 {@code http} 전송 방식으로 동작합니다.
+     *
+     * @return 스풀 파일 기록기, 생성에 실패하면 null
+     */
+    private SpoolWriter createSpoolWriter() {
+        try {
+            Path spoolDir = Paths.get(properties.getSpoolPath());
+            SpoolWriter writer = new SpoolWriter(spoolDir,
+                    Math.max(1, properties.getSpoolSegmentSizeMb()) * 1024L * 1024L,
+                    properties.getSpoolMaxSizeMb() > 0 ? properties.getSpoolMaxSizeMb() * 1024L * 1024L : 0,
+                    SpoolWriter.FsyncPolicy.parse(properties.getSpoolFsyncPolicy()));
+            logger.info("Spool transport initialized at: {} (fsync={})", spoolDir.toAbsolutePath(), writer.getFsyncPolicy());
+            return writer;
+        } catch (InvalidPathException | IOException e) {
+            logger.error("Failed to initialize spool directory '{}'. Falling back to http transport. Error: {}",
+                    properties.getSpoolPath(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 배치를 {@code {"header":{...},"events":[...]}} 형식(배치 봉투)으로 전송하도록 설정합니다.
+     * {@link CentralLogAppender}가 시작할 때 프로세스마다 같은 필드(서비스 이름, 환경, 호스트 등)를 헤더로 넘기며,
+     * 봉투를 사용하면 이후 이벤트에서는 그 필드를 생략합니다. 로그 서버가 헤더 필드를 각 이벤트에 다시 채워 저장합니다.
+     * 메모리 큐, 디스크 큐 재전송, 종료 시 전송 모두 같은 헤더로 감싸며, 스풀 전송 방식에서는 Shipper가 스풀 파일의
+     * 이벤트를 그대로 전달하므로 사용하지 않습니다. 디스크 큐에 저장하는 이벤트에는 공통 필드를 다시 넣어 두므로,
+     * 재시작 후 다른 호스트/버전의 프로세스가 재전송하거나 봉투를 끈 뒤에도 기록한 프로세스의 값이 유지됩니다.
+     *
+     * @param header 모든 이벤트에 공통인 필드
+     * @return 봉투를 사용하면 true (이벤트에서 공통 필드를 생략해도 됨)
+     */
+    public boolean useBatchEnvelope(Map<String, Object> header) {
+        if (spoolWriter != null) {
+            logger.info("Batch envelope is not used with spool transport.");
+            return false;
+        }
+        try {
+            ByteArrayOutputStream envelope = new ByteArrayOutputStream();
+            envelope.write("{\"header\":".getBytes(StandardCharsets.UTF_8));
+            envelope.write(objectMapper.writeValueAsBytes(header));
+            envelopeFields = Collections.unmodifiableMap(new LinkedHashMap<>(header));
+            envelopeHeader = envelope.toByteArray();
+            return true;
+        } catch (IOException e) {
+            logger.warn("Failed to encode batch envelope header. Sending shared fields in every event: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 메시지 템플릿을 사용하도록 설정하고 템플릿 저장소를 반환합니다. 배치 봉투를 사용할 때만 가능하며,
+     * 이후 배치마다 이벤트가 참조하는 템플릿을 봉투의 {@code templates}에 담고, 디스크에 저장하는 배치에는 템플릿 문자열을 이벤트에 직접 넣습니다.
+     *
+     * @return 템플릿 저장소, 배치 봉투를 사용하지 않으면 null
+     */
+    public synchronized MessageTemplates useMessageTemplates() {
+        if (envelopeHeader == null) {
+            logger.info("Message templates require batch envelope. Sending formatted messages.");
+            return null;
+        }
+        if (messageTemplates == null) {
+            messageTemplates = new MessageTemplates(properties.getMessageTemplateMaxCount());
+        }
+        return messageTemplates;
+    }
+
+    /**
+     * 배치 봉투에서 이벤트 배열 앞에 쓰는 부분({@code "events":}까지)을 만듭니다.
+     *
+     * @param objectMapper 템플릿 표와 문자열 표를 쓰는 ObjectMapper
+     * @param header       봉투 헤더 부분
+     * @param templates    배치가 참조하는 템플릿 표 (없으면 빈 맵)
+     * @param strings      배치의 문자열 표 (사용하지 않으면 null)
+     * @return 이벤트 배열 앞부분
+     * @throws IOException 템플릿 표 인코딩 오류
+     */
+    static byte[] envelopePrefix(ObjectMapper objectMapper, byte[] header, Map<String, String> templates, List<String> strings) throws IOException {
+        ByteArrayOutputStream prefix = new ByteArrayOutputStream(header.length + 64);
+        prefix.write(header);
+        if (!templates.isEmpty()) {
+            prefix.write(",\"templates\":".getBytes(StandardCharsets.UTF_8));
+            prefix.write(objectMapper.writeValueAsBytes(templates));
+        }
+        if (strings != null) {
+            prefix.write((",\"" + StringDictionary.STRINGS_FIELD + "\":").getBytes(StandardCharsets.UTF_8));
+            prefix.write(objectMapper.writeValueAsBytes(strings));
+        }
+        prefix.write(",\"events\":".getBytes(StandardCharsets.UTF_8));
+        return prefix.toByteArray();
+    }
+
+    /**
+     * 문자열 표를 사용하도록 설정되어 있으면 배치의 문자열 표를 정합니다. 인코딩에 실패하면 문자열 표 없이 보냅니다.
+     *
+     * @param jsonArray UTF-8 이벤트 JSON 배열
+     * @return 인코딩 결과, 사용하지 않거나 표로 바꿔 줄어드는 값이 없으면 null
+     */
+    private StringDictionary.Encoded encodeStringTable(byte[] jsonArray) {
+        if (!properties.isStringDictionaryEnabled()) {
+            return null;
+        }
+        try {
+            return StringDictionary.encode(objectMapper.getFactory(), jsonArray);
+        } catch (IOException e) {
+            logger.debug("Failed to encode string table. Sending batch without it: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 디스크에 저장할 배치를 이 프로세스 없이도 해석할 수 있는 이벤트로 바꿉니다.
+     * 배치 봉투를 사용하면 이벤트에서 생략한 공통 필드(헤더)와 {@code apiKey}를 각 이벤트에 다시 넣고 (이벤트에 같은 필드가 있으면 유지),
+     * 템플릿 ID는 템플릿 문자열({@link MessageTemplates#TEMPLATE_FIELD})로 바꿉니다.
+     * 재전송하는 프로세스는 자신의 헤더로 감싸 보내므로(재시작/재배포 후에는 호스트, IP, 버전이 다를 수 있음), 저장된 이벤트가
+     * 기록한 프로세스의 헤더나 템플릿 ID에 의존하면 안 됩니다. 전송 실패 경로에서만 사용하므로 배치를 한 번 파싱합니다.
+     *
+     * @param jsonBatch JSON 배열 문자열
+     * @return 공통 필드와 템플릿 문자열을 넣은 JSON 배열 문자열 (봉투를 사용하지 않거나 변환에 실패하면 그대로)
+     */
+    String toSelfContainedBatch(String jsonBatch) {
+        Map<String, Object> sharedFields = envelopeFields;
+        if (sharedFields == null) {
+            return jsonBatch;
+        }
+        MessageTemplates templates = messageTemplates;
+        String apiKey = properties.getApiKey();
+        try {
+            List<Map<String, Object>> events = objectMapper.readValue(jsonBatch, new TypeReference<List<Map<String, Object>>>() {});
+            for (Map<String, Object> event : events) {
+                sharedFields.forEach(event::putIfAbsent);
+                if (apiKey != null && !apiKey.trim().isEmpty()) {
+                    event.putIfAbsent("apiKey", apiKey);
+                }
+                Object templateId = event.get(MessageTemplates.TEMPLATE_ID_FIELD);
+                String template = templates != null && templateId instanceof Number
+                        ? templates.templateOf(((Number) templateId).intValue()) : null;
+                if (template != null && !event.containsKey(MessageTemplates.TEMPLATE_FIELD)) {
+                    event.put(MessageTemplates.TEMPLATE_FIELD, template);
+                    event.remove(MessageTemplates.TEMPLATE_ID_FIELD);
+                }
+            }
+            return objectMapper.writeValueAsString(events);
+        } catch (Exception e) {
+            // SDK가 만든 JSON이므로 사실상 발생하지 않음. 로그를 버리는 대신 그대로 저장
+            logger.error("디스크에 저장할 배치에 공통 필드를 넣지 못했습니다 (재전송 시 현재 프로세스의 헤더가 적용됨): {}", e.getMessage());
+            return jsonBatch;
+        }
+    }
+
+    /**
+     * 레벨 정보 없이 로그를 일반 레인에 추가합니다. {@link #addToQueue(String, Level)}를 참고하세요.
+     *
+     * @param jsonLog 전송할 개별 로그 이벤트의 JSON 문자열. null이거나 비어있으면 무시됩니다.
+     */
+    public void addToQueue(String jsonLog) {
+        addToQueue(jsonLog, null);
+    }
+
+    /**
+     * {@link CentralLogAppender}로부터 호출되어 개별 로그 메시지(JSON 문자열)를 내부 메모리 큐에 추가합니다.
+     * 긴급 레인이 활성화되어 있고 로그 레벨이 {@link LogServerProperties#getUrgentLevel()} 이상이면 긴급 레인 큐({@link #urgentQueue})에,
+     * 그 밖의 로그는 일반 레인 큐({@link #logQueue})에 추가합니다.
      * 로그 메시지는 추가 전에 민감 정보 필터링을 거칩니다 ({@link #filterSensitiveValues(String)}).
      * 서비스가 비활성 상태이거나(애플리케이션 종료 중), 로그 메시지가 null 또는 비어있거나, 로그 서버 URL이 설정되지 않은 경우 로그는 추가되지 않습니다.
-     * 메모리 큐가 가득 찬 경우, 디스크 큐가 활성화되어 있으면 디스크에 저장하고, 그렇지 않으면 로그가 유실됩니다.
+     * 긴급 레인에 넣지 못하면 일반 레인의 오래된 로그를 디스크로 밀어내 바이트 예산을 비우고 긴급 레인에 다시 넣습니다 ({@link #offerUrgentByEvictingBulk(String)}).
+     * 일반 레인이 가득 찬 경우, 디스크 큐가 활성화되어 있으면 디스크에 저장하고, 그렇지 않으면 로그가 유실됩니다.
      *
      * @param jsonLog 전송할 개별 로그 이벤트의 JSON 문자열. null이거나 비어있으면 무시됩니다.
+     * @param level   로그 레벨 (null이면 일반 레인)
      */
-    public void addToQueue(String jsonLog) {
+    public void addToQueue(String jsonLog, Level level) {
         if (!active.get()) {
+            if (shutdownStarted.get()) {
+                rejectedDuringShutdown.incrementAndGet();
+            }
             logger.debug("로그 전송이 비활성화되어 있습니다 (서비스 종료 중).");
             return; // 종료 중이면 추가 안 함
         }
@@ -259,8 +570,8 @@ public class LogSenderService implements DisposableBean {
             return; // 빈 로그는 추가 안 함
         }
 
-        // URL이 비어있으면 로그를 보내지 않음
-        if (properties.getUrl() == null || properties.getUrl().trim().isEmpty()) {
+        // URL이 비어있으면 로그를 보내지 않음 (스풀 전송 방식에서는 Shipper가 URL을 가짐)
+        if (spoolWriter == null && !endpointBalancer.hasEndpoints()) {
             logger.warn("로그 서버 URL이 설정되지 않았습니다. 로그 메시지가 전송되지 않습니다.");
             return;
         }
@@ -268,31 +579,88 @@ public class LogSenderService implements DisposableBean {
         // 민감한 값 필터링
         String filteredLog = filterSensitiveValues(jsonLog);
 
-        boolean added = logQueue.offer(filteredLog); // Non-blocking 추가 시도
-        if (!added) {
-            if (effectiveDiskQueueEnabled && diskQueueDir != null) {
-                try {
-                    // 큐가 가득 찬 경우 직접 디스크에 저장
-                    logger.warn("로그 큐가 가득 찼습니다 (용량: {}). 로그를 디스크에 직접 저장합니다.", properties.getQueueCapacity());
-                    saveBatchToDisk("[" + filteredLog + "]");
-                    
-                    // 메트릭 업데이트
-                    if (metrics != null) {
-                        metrics.incrementFailedLogs(1);
-                    }
-                } catch (Exception e) {
-                    logger.error("큐 가득 참 시 로그 디스크 저장 실패: {}", e.getMessage(), e);
+        if (urgentQueue != null && level != null && level.isGreaterOrEqual(properties.getUrgentLevel())) {
+            if (!urgentQueue.offer(filteredLog) && !offerUrgentByEvictingBulk(filteredLog)) {
+                handleQueueOverflow(filteredLog);
+                return;
+            }
+        } else if (!logQueue.offer(filteredLog)) { // Non-blocking 추가 시도 (이벤트 수 용량, 바이트 예산 확인)
+            handleQueueOverflow(filteredLog);
+            return;
+        }
+
+        if (logger.isTraceEnabled()) { // Trace 레벨 로그 활성화 시 큐 추가 로깅
+            logger.trace("로그가 큐에 추가되었습니다. 현재 큐 크기: {}", logQueue.size());
+        } else if (logger.isDebugEnabled()) {
+            logger.debug("로그가 큐에 추가되었습니다. 큐 크기: {}", logQueue.size());
+        }
+    }
+
+    /**
+     * 긴급 레인에 넣지 못한 로그를 위해 일반 레인의 오래된 로그를 밀어내고 긴급 레인에 다시 넣습니다.
+     * 두 레인은 바이트 예산을 나눠 쓰므로 일반 레인 적체가 예산을 다 쓰면 긴급 로그가 들어갈 자리가 없어집니다.
+     * 긴급 로그를 일반 레인에 넣으면 일반 레인 적체와 플러시 주기만큼 늦어지므로, 긴급 로그는 긴급 레인에 두고 밀려난 일반 로그를 디스크로 보냅니다.
+     * 오류가 몰릴 때 로그 한 건마다 디스크 파일이 생기지 않도록 긴급 배치 크기만큼 한 번에 밀어내 하나의 파일로 저장합니다.
+     *
+     * @param filteredLog 민감 정보 필터링을 거친 긴급 로그
+     * @return 긴급 레인에 넣었으면 true, 긴급 레인이 이벤트 수 용량까지 찼거나 밀어낼 일반 로그가 없으면 false
+     */
+    private boolean offerUrgentByEvictingBulk(String filteredLog) {
+        // 긴급 레인 자체가 가득 찼거나 슬랩보다 큰 로그는 일반 로그를 밀어내도 들어가지 않음
+        if (urgentQueue.size() >= properties.getUrgentQueueCapacity()
+                || (slabArena != null && filteredLog.getBytes(StandardCharsets.UTF_8).length + Integer.BYTES > slabArena.getSlabSize())) {
+            return false;
+        }
+        int evictChunk = Math.max(1, properties.getUrgentBatchSize());
+        List<String> evicted = new ArrayList<>(evictChunk);
+        boolean offered;
+        while (!(offered = urgentQueue.offer(filteredLog))) {
+            if (logQueue.drainTo(evicted, evictChunk) == 0) {
+                break;
+            }
+        }
+        if (!evicted.isEmpty()) {
+            handleQueueOverflow(evicted);
+        }
+        return offered;
+    }
+
+    /**
+     * 메모리 큐에 넣지 못한 로그를 처리합니다. {@link #handleQueueOverflow(List)}를 참고하세요.
+     *
+     * @param filteredLog 민감 정보 필터링을 거친 로그
+     */
+    private void handleQueueOverflow(String filteredLog) {
+        handleQueueOverflow(Collections.singletonList(filteredLog));
+    }
+
+    /**
+     * 메모리 큐에 넣지 못한(또는 밀려난) 로그를 처리합니다.
+     * 스풀 전송 방식이면 스풀 파일에, 디스크 큐가 활성화되어 있으면 하나의 배치 파일로 디스크에 직접 저장하고, 그렇지 않으면 로그가 유실됩니다.
+     *
+     * @param filteredLogs 민감 정보 필터링을 거친 로그
+     */
+    private void handleQueueOverflow(List<String> filteredLogs) {
+        if (spoolWriter != null) {
+            // 큐가 가득 찬 경우 스풀 파일에 직접 기록 (순차 기록 한 번)
+            writeBatchToSpool(filteredLogs);
+        } else if (effectiveDiskQueueEnabled && diskQueueDir != null) {
+            try {
+                // 큐가 가득 찬 경우 직접 디스크에 저장
+                logger.warn("로그 큐가 가득 찼습니다 (용량: {}, 바이트 예산: {}). 로그 {}건을 디스크에 직접 저장합니다.",
+                        properties.getQueueCapacity(), properties.getMaxQueueBytes(), filteredLogs.size());
+                saveBatchToDisk("[" + String.join(",", filteredLogs) + "]");
+                
+                // 메트릭 업데이트
+                if (metrics != null) {
+                    metrics.incrementFailedLogs(filteredLogs.size());
                 }
-            } else {
-                logger.warn("로그 큐가 가득 찼고 디스크 큐가 비활성화되어 있어 로그 메시지가 유실됩니다. (큐 용량: {})", 
-                    properties.getQueueCapacity());
+            } catch (Exception e) {
+                logger.error("큐 가득 참 시 로그 디스크 저장 실패: {}", e.getMessage(), e);
             }
         } else {
-            if (logger.isTraceEnabled()) { // Trace 레벨 로그 활성화 시 큐 추가 로깅
-                logger.trace("로그가 큐에 추가되었습니다. 현재 큐 크기: {}", logQueue.size());
-            } else if (logger.isDebugEnabled()) {
-                logger.debug("로그가 큐에 추가되었습니다. 큐 크기: {}", logQueue.size());
-            }
+            logger.warn("로그 큐가 가득 찼고 디스크 큐가 비활성화되어 있어 로그 메시지가 유실됩니다. (큐 용량: {})", 
+                properties.getQueueCapacity());
         }
     }
 
@@ -301,15 +669,15 @@ public class LogSenderService implements DisposableBean {
      * @param jsonLog 원본 로그 메시지
      * @return 필터링된 로그 메시지
      */
-    private String filterSensitiveValues(String jsonLog) {
-        if (sensitivePatterns == null || sensitivePatterns.length == 0) {
+    String filterSensitiveValues(String jsonLog) { // 벤치마크(src/jmh)에서 접근하도록 package-private
+        if (!redactionEngine.hasPathRules()) {
             return jsonLog;
         }
 
         try {
             Map<String, Object> logMap = objectMapper.readValue(jsonLog, new TypeReference<Map<String, Object>>() {});
             // 필터링을 위한 컨텍스트 객체 생성 (필터링 상태 추적)
-            FilterContext context = new FilterContext(sensitivePatterns, properties.getSensitiveValueReplacement());
+            FilterContext context = new FilterContext(redactionEngine, properties.getSensitiveValueReplacement());
             
             // 실제 필터링 수행
             boolean isFiltered = filterSensitiveValuesRecursive(logMap, "", context);
@@ -331,16 +699,16 @@ public class LogSenderService implements DisposableBean {
      * 필터링 상태를 추적하기 위한 컨텍스트 클래스
      */
     private static class FilterContext {
-        private final Pattern[] patterns;
+        private final RedactionEngine engine;
         private final String replacement;
         
-        public FilterContext(Pattern[] patterns, String replacement) {
-            this.patterns = patterns;
+        public FilterContext(RedactionEngine engine, String replacement) {
+            this.engine = engine;
             this.replacement = replacement;
         }
         
-        public Pattern[] getPatterns() {
-            return patterns;
+        public RedactionEngine getEngine() {
+            return engine;
         }
         
         public String getReplacement() {
@@ -357,7 +725,7 @@ public class LogSenderService implements DisposableBean {
             String currentPath = parentPath.isEmpty() ? key : parentPath + "." + key;
 
             // 키가 민감한 패턴과 일치하는지 확인 (대소문자 구분 없이)
-            boolean isSensitive = isSensitivePath(currentPath, context.getPatterns());
+            boolean isSensitive = context.getEngine().isSensitivePath(currentPath);
 
             if (isSensitive && value != null) {
                 // 민감한 값은 대체 문자열로 변경
@@ -411,31 +779,19 @@ public class LogSenderService implements DisposableBean {
         return isFiltered;
     }
     
-    /**
-     * 경로가 민감한지 확인
-     */
-    private boolean isSensitivePath(String path, Pattern[] patterns) {
-        if (path == null || patterns == null) {
-            return false;
-        }
-        
-        String lowerCasePath = path.toLowerCase();
-        for (Pattern pattern : patterns) {
-            if (pattern.matcher(lowerCasePath).find()) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     /**
      * 스케줄러에 의해 주기적으로 호출되어, 메모리 큐({@link #logQueue})에서 로그들을 가져와 배치를 구성하고 전송을 시도합니다.
      * 먼저 서버 연결 상태({@link #isServerAvailable})를 확인하고, 연결이 불안정하면 {@link #checkServerConnection()}을 호출하여 상태 갱신을 시도합니다.
-     * 큐에서 설정된 배치 크기({@link LogServerProperties#getBatchSize()})만큼 로그를 꺼내어 리스트를 만듭니다.
-     * 배치가 비어있지 않으면 {@link #sendBatchWithRetries(List)}를 호출하여 실제 전송 로직을 수행합니다.
+     * 큐에서 설정된 배치 크기({@link LogServerProperties#getBatchSize()})만큼씩 로그를 꺼내어, 동시 전송 한도까지 {@link #dispatchBatches()}로 병렬 전송합니다.
+     * 각 배치는 {@link #sendBatchWithRetries(LogEventQueue.Batch)}를 호출하여 실제 전송 로직을 수행합니다.
      * 전송에 최종 실패하면 (재시도 포함), {@link #saveBatchToDisk(String)}를 통해 디스크 큐에 배치를 저장합니다.
      */
     private void processBatchFromQueue() {
+        if (spoolWriter != null) {
+            processBatchesToSpool();
+            return;
+        }
+
         // 서버 가용성 확인 (원자적으로 현재 값 읽기)
         boolean serverAvailable = isServerAvailable.get();
         if (!serverAvailable) {
@@ -445,29 +801,173 @@ public class LogSenderService implements DisposableBean {
             return;
         }
 
-        List<String> batch = new ArrayList<>();
-        logQueue.drainTo(batch, properties.getBatchSize());
-
-        if (batch.isEmpty()) {
+        if (logQueue.isEmpty()) {
             if (logger.isDebugEnabled()) {
                 logger.debug("처리할 로그 배치가 없습니다. 로그 큐가 비어 있습니다.");
             }
             return;
         }
+        bulkLane.flushDue.set(true);
+        dispatchBatches();
+    }
 
-        logger.debug("로그 배치 처리를 시작합니다. 배치 크기: {}", batch.size());
-        if (!sendBatchWithRetries(batch)) {
-            // 전송 실패 시 디스크에 저장 (배치 내용 보존)
+    /**
+     * 스케줄러에 의해 긴급 레인 플러시 간격({@link LogServerProperties#getUrgentBatchFlushInterval()})마다 호출되어 긴급 레인의 로그를 전송합니다.
+     * 서버가 사용 불가능 상태이면 연결 확인은 일반 레인 주기({@link #processBatchFromQueue()})에 맡기고 바로 반환합니다.
+     */
+    private void processUrgentLane() {
+        if (spoolWriter != null) {
+            processBatchesToSpool();
+            return;
+        }
+        if (urgentLane.queue.isEmpty() || !isServerAvailable.get()) {
+            return;
+        }
+        urgentLane.flushDue.set(true);
+        dispatchBatches();
+    }
+
+    /**
+     * 동시 전송 한도({@link #concurrencyLimiter})에 여유가 있는 만큼 레인에서 배치를 꺼내 전송 스레드 풀에 넘깁니다.
+     * 한도가 가득 찼거나 {@code Retry-After}로 전송을 멈춘 상태이면 남은 로그는 큐에 그대로 두고 다음 주기나 다른 배치의 전송 완료 시점에 보냅니다.
+     */
+    private void dispatchBatches() {
+        while (active.get()) {
+            QueuedBatchTask task = acquireBatch();
+            if (task == null) {
+                return;
+            }
             try {
-                String jsonArray = "[" + String.join(",", batch) + "]";
-                if (effectiveDiskQueueEnabled) {
-                    logger.info("모든 재시도 후 로그 전송 실패. 디스크 큐에 {} 개의 로그를 저장합니다.", batch.size());
-                saveBatchToDisk(jsonArray);
-                } else {
-                    logger.warn("모든 재시도 후 로그 전송 실패. 디스크 큐가 비활성화되어 {} 개의 로그가 유실됩니다.", batch.size());
+                sendExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // 종료 중: 꺼낸 로그를 큐에 돌려놓아 종료 절차에서 처리되도록 함
+                task.requeue();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 보낼 배치가 있는 레인을 가중치에 따라 고르고, 동시 전송 자리를 확보한 뒤 배치 하나를 꺼냅니다.
+     * 두 레인 모두 보낼 배치가 있으면 일반 레인 배치 하나마다 긴급 레인 배치를 {@link LogServerProperties#getUrgentLaneWeight()}개까지 먼저 보냅니다.
+     * 긴급 레인은 동시 전송 한도보다 한 자리를 더 사용할 수 있습니다.
+     *
+     * @return 전송 작업, 보낼 배치가 없거나 자리가 없으면 null
+     */
+    private QueuedBatchTask acquireBatch() {
+        synchronized (laneLock) {
+            boolean urgentReady = urgentLane != null && urgentLane.isReady();
+            boolean bulkReady = bulkLane.isReady();
+            if (!urgentReady && !bulkReady) {
+                return null;
+            }
+            boolean urgentFirst = urgentReady && (!bulkReady || urgentStreak < Math.max(1, properties.getUrgentLaneWeight()));
+            Lane first = urgentFirst ? urgentLane : bulkLane;
+            Lane second = urgentFirst ? (bulkReady ? bulkLane : null) : (urgentReady ? urgentLane : null);
+            for (Lane lane : new Lane[]{first, second}) {
+                if (lane == null || !concurrencyLimiter.tryAcquire(lane == urgentLane ? 1 : 0)) {
+                    continue;
                 }
-            } catch (Exception e) {
-                logger.error("로그 직렬화 또는 저장 실패: {}", e.getMessage());
+                LogEventQueue.Batch batch = lane.queue.drainBatch(lane.batchSize);
+                if (batch == null) {
+                    concurrencyLimiter.release();
+                    continue;
+                }
+                urgentStreak = lane == urgentLane ? urgentStreak + 1 : 0;
+                return new QueuedBatchTask(lane, batch);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 로그 전송 레인입니다. 레인마다 큐, 배치 크기, 플러시 주기가 따로 있습니다.
+     * 큐에 배치 크기 이상 쌓였거나 플러시 주기가 된 뒤({@link #flushDue}) 큐가 비기 전까지 배치를 보낼 수 있습니다.
+     */
+    private static final class Lane {
+        private final String name;
+        private final LogEventQueue queue;
+        private volatile int batchSize; // 일반 레인은 실행 중에 바뀔 수 있음
+        /** 플러시 주기가 되어 배치 크기보다 적게 쌓인 로그도 보내야 하는 상태 */
+        private final AtomicBoolean flushDue = new AtomicBoolean();
+
+        private Lane(String name, LogEventQueue queue, int batchSize) {
+            this.name = name;
+            this.queue = queue;
+            this.batchSize = Math.max(1, batchSize);
+        }
+
+        private boolean isReady() {
+            int size = queue.size();
+            if (size == 0) {
+                flushDue.set(false);
+                return false;
+            }
+            return size >= batchSize || flushDue.get();
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * 전송 스레드 풀에서 실행되는 배치 전송 작업입니다. 동시 전송 자리 하나를 가진 채로 시작하며,
+     * 배치를 보낸 뒤 보낼 배치가 남아 있으면 플러시 주기를 기다리지 않고 같은 스레드에서 이어서 전송합니다.
+     */
+    private final class QueuedBatchTask implements Runnable {
+        private Lane lane;
+        private LogEventQueue.Batch batch;
+
+        private QueuedBatchTask(Lane lane, LogEventQueue.Batch batch) {
+            this.lane = lane;
+            this.batch = batch;
+        }
+
+        @Override
+        public void run() {
+            while (batch != null) {
+                try {
+                    sendQueuedBatch(batch);
+                } finally {
+                    batch.release();
+                    concurrencyLimiter.release();
+                }
+                QueuedBatchTask next = active.get() && isServerAvailable.get() ? acquireBatch() : null;
+                lane = next != null ? next.lane : null;
+                batch = next != null ? next.batch : null;
+            }
+        }
+
+        /**
+         * 시작하지 못한 배치를 원래 레인에 돌려놓고 확보한 자리를 반납합니다.
+         */
+        private void requeue() {
+            List<String> events = batch.toList();
+            batch.release();
+            concurrencyLimiter.release();
+            for (String event : events) {
+                if (!lane.queue.offer(event)) {
+                    handleQueueOverflow(event);
+                }
+            }
+        }
+    }
+
+    /**
+     * 메모리 큐에서 꺼낸 배치 하나를 재시도를 포함하여 전송합니다.
+     *
+     * @param batch 전송할 배치
+     */
+    private void sendQueuedBatch(LogEventQueue.Batch batch) {
+        logger.debug("로그 배치 처리를 시작합니다. 배치 크기: {}", batch.size());
+        if (!sendBatchWithRetries(batch)) {
+            // 디스크 저장(또는 유실 처리)은 sendBatchWithRetries에서 이미 수행됨 - 여기서 다시 저장하면 같은 배치가 중복 저장됨
+            if (effectiveDiskQueueEnabled) {
+                logger.info("모든 재시도 후 로그 전송 실패. 디스크 큐에 {} 개의 로그를 저장했습니다.", batch.size());
+            } else {
+                logger.warn("모든 재시도 후 로그 전송 실패. 디스크 큐가 비활성화되어 {} 개의 로그가 유실됩니다.", batch.size());
             }
         } else {
             logger.debug("로그 배치 전송 성공. 전송된 로그 개수: {}", batch.size());
@@ -475,30 +975,66 @@ public class LogSenderService implements DisposableBean {
     }
 
     /**
-     * 주어진 로그 배치(List&lt;String&gt;, 각 문자열은 개별 JSON 로그)를 중앙 서버로 전송 시도합니다.
-     * 개별 로그 문자열들을 JSON 배열 형식으로 결합한 후 (예: {@code "[log1,log2,...]"}),
-     * {@link #executeSend(String)}를 호출하여 실제 HTTP POST 요청을 실행합니다.
+     * {@code spool} 전송 방식에서 메모리 큐(긴급 레인 먼저)에 쌓인 로그를 배치 크기 단위로 스풀 파일에 기록합니다.
+     * 네트워크 전송과 달리 비용이 순차 기록 한 번이므로, 호출 시점의 큐 내용을 모두 비웁니다.
+     */
+    private void processBatchesToSpool() {
+        if (urgentLane != null) {
+            drainLaneToSpool(urgentLane); // 긴급 로그 먼저
+        }
+        drainLaneToSpool(bulkLane);
+    }
+
+    private void drainLaneToSpool(Lane lane) {
+        int pending = lane.queue.size();
+        int batchSize = lane.batchSize;
+        List<String> batch = new ArrayList<>(Math.min(pending, batchSize));
+        while (pending > 0 && lane.queue.drainTo(batch, Math.min(pending, batchSize)) > 0) {
+            pending -= batch.size();
+            writeBatchToSpool(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * 로그 배치를 스풀 파일에 기록하고 메트릭을 갱신합니다.
+     *
+     * @param batch 기록할 로그 목록
+     * @return 기록에 성공하면 {@code true}
+     */
+    private boolean writeBatchToSpool(List<String> batch) {
+        try {
+            spoolWriter.append(batch);
+            if (metrics != null) {
+                metrics.incrementProcessedLogs(batch.size());
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.error("스풀 파일 기록 실패로 로그 {}건이 유실됩니다: {}", batch.size(), e.getMessage());
+            if (metrics != null) {
+                metrics.incrementFailedLogs(batch.size());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 주어진 로그 배치(각 이벤트는 개별 JSON 로그)를 중앙 서버로 전송 시도합니다.
+     * {@link #executeSend(LogEventQueue.Batch)}를 호출하여 실제 HTTP POST 요청을 실행하며,
+     * 요청 본문은 인코딩된 이벤트를 JSON 배열 형식(예: {@code "[log1,log2,...]"})으로 연결에 바로 씁니다.
      * 전송 실패 시, 설정된 최대 재시도 횟수({@link LogServerProperties#getMaxRetries()})와 재시도 간격({@link LogServerProperties#getRetryDelay()})에 따라 재시도합니다.
      * 모든 재시도 후에도 전송에 실패하면, 최종적으로 디스크 큐에 저장하기 위해 {@code false}를 반환하고 {@link #saveBatchToDisk(String)}가 호출되도록 합니다.
      * 서버가 사용 불가능({@link #isServerAvailable}가 false)으로 표시된 경우 즉시 실패 처리합니다.
      *
-     * @param batch 전송할 개별 로그 메시지(JSON 문자열)의 리스트. 각 문자열은 유효한 JSON 객체여야 합니다.
+     * @param batch 메모리 큐에서 꺼낸 배치. 각 이벤트는 유효한 JSON 객체여야 합니다.
      * @return 전송에 성공하면 {@code true}, 재시도를 포함하여 최종적으로 실패하면 {@code false}.
      */
-    private boolean sendBatchWithRetries(List<String> batch) {
-        if (batch == null || batch.isEmpty()) {
+    private boolean sendBatchWithRetries(LogEventQueue.Batch batch) {
+        if (batch == null || batch.size() == 0) {
             return true; // 빈 배치는 성공으로 처리
         }
 
-        // 로그 배치를 JSON 배열 문자열로 변환
-        String jsonBatch = convertBatchToJsonString(batch);
-        if (jsonBatch == null) {
-            // 배치 변환 실패 기록
-            if (metrics != null) {
-                metrics.incrementFailedLogs(batch.size());
-            }
-            return false;
-        }
+        // 요청 본문은 보낼 때마다 배치의 인코딩된 이벤트에서 바로 스트리밍 (BatchEntity)
 
         // 최대 재시도 횟수만큼 시도
         int maxRetries = properties.getMaxRetries();
@@ -506,7 +1042,7 @@ public class LogSenderService implements DisposableBean {
         // 서버가 이전에 이미 사용 불가였고, 지수 백오프 사용 중이라면 현재 지연값 사용
         if (!isServerAvailable.get() && properties.isUseExponentialBackoff()) {
             try {
-                Thread.sleep(currentBackoffDelay);
+                Thread.sleep(currentBackoffDelay.get());
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 logger.warn("재시도 지연 중 인터럽트 발생", e);
@@ -520,18 +1056,25 @@ public class LogSenderService implements DisposableBean {
         for (int retry = 1; retry <= maxRetries; retry++) {
             boolean isFirstAttempt = (retry == 1);
             boolean isLastAttempt = (retry == maxRetries);
+
+            try {
+                // 서버가 Retry-After로 요청한 시간이 지나기 전에는 재시도하지 않음
+                concurrencyLimiter.awaitThrottle();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                logger.warn("Retry-After 대기 중 인터럽트 발생", ie);
+                break;
+            }
             
             try {
-                if (executeSend(jsonBatch)) {
+                if (executeSend(batch)) {
                     // 전송 성공
                     if (!isServerAvailable.getAndSet(true)) {
                         // 서버 상태가 불가능에서 가능으로 변경됨을 로그로 기록
-                        logger.info("서버 연결이 복구되었습니다: {}", properties.getUrl());
+                        logger.info("서버 연결이 복구되었습니다: {}", endpointBalancer);
                     }
                     // 성공 시 백오프 지연값 초기화
-                    if (properties.isUseExponentialBackoff()) {
-                        currentBackoffDelay = properties.getInitialBackoffDelay();
-                    }
+                    resetBackoffDelay();
                     
                     // 재시도 중 성공한 경우 (첫 시도 아닌 경우) 성공 로그 출력
                     if (retry > 1) {
@@ -544,6 +1087,14 @@ public class LogSenderService implements DisposableBean {
                     }
                     return true;
                 }
+                // 서버가 오류 응답을 보낸 경우: 바로 다시 보내면 과부하를 키우므로 재시도 간격만큼 기다림
+                if (!isLastAttempt) {
+                    Thread.sleep(properties.getRetryDelay());
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                logger.warn("재시도 지연 중 인터럽트 발생", ie);
+                break;
             } catch (Exception e) {
                 lastException = e;
                 
@@ -562,7 +1113,7 @@ public class LogSenderService implements DisposableBean {
                     // 연결 오류 로그 억제 설정 적용
                     if (!properties.isSuppressConnectionErrors() || 
                         (errorLogsInPeriod.get() <= properties.getMaxConnectionErrorLogsPerPeriod())) {
-                        logger.error("서버 연결이 중단되었습니다: {}", properties.getUrl());
+                        logger.error("서버 연결이 중단되었습니다: {}", endpointBalancer);
                     }
                 }
                 
@@ -571,14 +1122,8 @@ public class LogSenderService implements DisposableBean {
                     long delayMs;
                     
                     if (properties.isUseExponentialBackoff()) {
-                        // 지수 백오프 적용 (약간의 랜덤성 추가)
-                        delayMs = currentBackoffDelay + (random.nextInt(1000) - 500); // ±500ms 랜덤성
-                        
-                        // 다음 백오프 지연값 계산 (최대값 제한)
-                        currentBackoffDelay = Math.min(
-                            currentBackoffDelay * 2,    // 지수적 증가
-                            properties.getMaxBackoffDelay()  // 최대값 제한
-                        );
+                        // 지수 백오프 적용 (약간의 랜덤성 추가, 다음 지연값은 최대값까지 두 배로)
+                        delayMs = nextBackoffDelay();
                         
                         // 디버그 레벨로 변경
                         if (logger.isDebugEnabled()) {
@@ -609,7 +1154,7 @@ public class LogSenderService implements DisposableBean {
 
         // 모든 재시도 실패 후 디스크에 저장 시도
         if (effectiveDiskQueueEnabled) {
-            saveBatchToDisk(jsonBatch);
+            saveBatchToDisk(convertBatchToJsonString(batch.toList()));
             return false; // 전송 실패로 간주
         } else {
             logger.error("로그 배치 전송이 {} 회 재시도 후 최종 실패했으며, 디스크 큐가 비활성화되어 있어 로그가 손실됩니다.", 
@@ -625,10 +1170,33 @@ public class LogSenderService implements DisposableBean {
      * @return 요청에 사용할 HttpEntity
      * @throws IOException 압축 중 오류 발생 시
      */
-    private HttpEntity createRequestEntity(String jsonData) throws IOException {
-        if (properties.isCompressLogs()) {
+    HttpEntity createRequestEntity(String jsonData) throws IOException { // 벤치마크(src/jmh)에서 접근하도록 package-private
+        return createRequestEntity(jsonData, properties.isCompressLogs());
+    }
+
+    /**
+     * HTTP 요청에 사용할 엔티티를 생성합니다. 압축 설정은 실행 중에 바뀔 수 있으므로 호출하는 쪽에서 한 번 읽은 값을 사용합니다.
+     *
+     * @param jsonData JSON 데이터 문자열
+     * @param compress gzip 압축 여부 ({@code Content-Encoding} 헤더와 같은 값이어야 함)
+     * @return 요청에 사용할 HttpEntity
+     * @throws IOException 압축 중 오류 발생 시
+     */
+    private HttpEntity createRequestEntity(String jsonData, boolean compress) throws IOException {
+        return createRequestEntity(jsonData.getBytes(StandardCharsets.UTF_8), compress);
+    }
+
+    /**
+     * UTF-8로 인코딩된 JSON으로 HTTP 요청 엔티티를 생성합니다.
+     *
+     * @param originalData UTF-8 JSON 데이터
+     * @param compress     gzip 압축 여부 ({@code Content-Encoding} 헤더와 같은 값이어야 함)
+     * @return 요청에 사용할 HttpEntity
+     * @throws IOException 압축 중 오류 발생 시
+     */
+    private HttpEntity createRequestEntity(byte[] originalData, boolean compress) throws IOException {
+        if (compress) {
             // 압축 처리 로직
-            byte[] originalData = jsonData.getBytes(StandardCharsets.UTF_8);
             byte[] compressedJson = compressData(originalData);
             
             if (logger.isDebugEnabled()) {
@@ -642,12 +1210,12 @@ public class LogSenderService implements DisposableBean {
             entity.setContentType("application/json");
             return entity;
         } else {
-            // 압축 없이 일반 텍스트로 전송
-            StringEntity entity = new StringEntity(jsonData, StandardCharsets.UTF_8);
+            // 압축 없이 그대로 전송
+            ByteArrayEntity entity = new ByteArrayEntity(originalData);
             entity.setContentType("application/json");
             
             if (logger.isDebugEnabled()) {
-                logger.debug("로그 압축 미적용: 전송 크기={}바이트", jsonData.getBytes(StandardCharsets.UTF_8).length);
+                logger.debug("로그 압축 미적용: 전송 크기={}바이트", originalData.length);
             }
             
             return entity;
@@ -671,93 +1239,183 @@ public class LogSenderService implements DisposableBean {
      */
     private void resetBackoffDelay() {
         if (properties.isUseExponentialBackoff()) {
-            currentBackoffDelay = properties.getInitialBackoffDelay();
+            currentBackoffDelay.set(properties.getInitialBackoffDelay());
         }
     }
     
     /**
-     * 재시도 횟수에 따른 지연 시간을 계산합니다.
+     * 이번 재시도의 지연 시간을 반환하고, 지수 백오프를 사용하면 다음 지연값을 최대값까지 두 배로 늘립니다.
+     * 여러 전송 스레드가 동시에 호출해도 증가가 유실되지 않도록 한 번에 읽고 바꿉니다.
      * 
-     * @param retry 현재 재시도 횟수
      * @return 지연 시간 (밀리초)
      */
-    private long calculateBackoffDelay(int retry) {
-        if (properties.isUseExponentialBackoff()) {
-            long jitter = random.nextInt(1000) - 500; // ±500ms 랜덤성
-            return currentBackoffDelay + jitter;
-        } else {
+    private long nextBackoffDelay() {
+        if (!properties.isUseExponentialBackoff()) {
             return properties.getRetryDelay();
         }
+        long maxBackoffDelay = properties.getMaxBackoffDelay();
+        long delay = currentBackoffDelay.getAndUpdate(current -> Math.min(current * 2, maxBackoffDelay));
+        return Math.max(0, delay + random.nextInt(1000) - 500); // ±500ms 랜덤성
     }
-    
+
     /**
-     * 지수 백오프 지연 시간을 업데이트합니다.
+     * HTTP 요청 실행 메소드. 로그 배치를 중앙 서버로 POST 요청을 통해 전송합니다.
+     *
+     * @param batch 전송할 배치
+     * @return 전송 성공 시 true, 실패 시 false
+     * @throws IOException HTTP 클라이언트 오류, 네트워크 오류 또는 서버 응답 처리 중 오류 발생 시
      */
-    private void updateBackoffDelay() {
-        if (properties.isUseExponentialBackoff()) {
-            currentBackoffDelay = Math.min(
-                currentBackoffDelay * 2,
-                properties.getMaxBackoffDelay()
-            );
-        }
+    private boolean executeSend(LogEventQueue.Batch batch) throws IOException {
+        int statusCode = postToEndpoints(batch, CONNECT_TIMEOUT, SOCKET_TIMEOUT);
+        return statusCode >= 200 && statusCode < 300;
     }
 
     /**
-     * HTTP 요청 실행 메소드. 로그 배치를 중앙 서버로 POST 요청을 통해 전송합니다.
+     * 지정된 타임아웃으로 로그 배치를 전송합니다. 종료 시 제한 시간 내 전송({@link #flushRemainingLogs})에 사용됩니다.
      *
-     * @param jsonBatch 전송할 JSON 배치 문자열 (단일 로그 또는 로그 배열)
+     * @param jsonBatch      전송할 JSON 배치 문자열
+     * @param connectTimeout 연결 및 커넥션 풀 대기 타임아웃 (ms)
+     * @param socketTimeout  응답 대기 타임아웃 (ms)
      * @return 전송 성공 시 true, 실패 시 false
      * @throws IOException HTTP 클라이언트 오류, 네트워크 오류 또는 서버 응답 처리 중 오류 발생 시
      */
-    private boolean executeSend(String jsonBatch) throws IOException {
-        // URL이 null이거나 비어있으면 빠른 실패
-        if (properties.getUrl() == null || properties.getUrl().isEmpty()) {
-            logger.error("로그 서버 URL이 설정되지 않았습니다. 로그를 전송할 수 없습니다.");
-            return false;
-        }
+    private boolean executeSend(String jsonBatch, int connectTimeout, int socketTimeout) throws IOException {
+        int statusCode = postToEndpoints(jsonBatch, connectTimeout, socketTimeout);
+        return statusCode >= 200 && statusCode < 300;
+    }
 
-        HttpPost post = new HttpPost(properties.getUrl());
-        post.setHeader("Content-Type", "application/json");
-        post.setHeader("Accept", "application/json");
-        
-        // API 키 설정이 있으면 요청 헤더에 추가
-        addApiKeyHeaders(post);
+    /**
+     * JSON 문자열 배치를 전송합니다 (디스크 큐 재전송, 종료 시 전송). 배치 봉투를 사용하면 현재 헤더와 배치가 참조하는 템플릿(과 문자열 표)으로 감싸며,
+     * 동작은 {@link #postEntity(HttpEntity, boolean, int, int)}와 같습니다.
+     *
+     * @param jsonBatch      전송할 JSON 배치 문자열
+     * @param connectTimeout 연결 및 커넥션 풀 대기 타임아웃 (ms)
+     * @param socketTimeout  응답 대기 타임아웃 (ms)
+     * @return 마지막 응답 상태 코드, 엔드포인트가 없으면 -1
+     * @throws IOException 모든 엔드포인트에서 네트워크 오류가 발생한 경우 (마지막 오류)
+     */
+    private int postToEndpoints(String jsonBatch, int connectTimeout, int socketTimeout) throws IOException {
+        boolean compress = properties.isCompressLogs();
+        byte[] header = envelopeHeader;
+        byte[] body = jsonBatch.getBytes(StandardCharsets.UTF_8);
+        if (header == null) {
+            return postEntity(createRequestEntity(body, compress), compress, connectTimeout, socketTimeout);
+        }
+        MessageTemplates templates = messageTemplates;
+        Map<String, String> templateTable = templates != null ? templates.tableFor(body) : Collections.emptyMap();
+        StringDictionary.Encoded encoded = encodeStringTable(body);
+        byte[] prefix = envelopePrefix(objectMapper, header, templateTable, encoded != null ? encoded.strings : null);
+        BatchEntity.EventArray events = encoded != null ? encoded : BatchEntity.eventArray(body);
+        return postEntity(new BatchEntity(events, compress, prefix), compress, connectTimeout, socketTimeout);
+    }
+
+    /**
+     * 메모리 큐에서 꺼낸 배치를 전송합니다. 본문은 {@link BatchEntity}로 연결에 직접 스트리밍되며(압축 포함),
+     * 문자열 표를 사용하면 표를 정하기 위해 이벤트 배열을 배치 길이의 배열 하나에 모으고, 인덱스로 바꾼 이벤트는 연결에 바로 씁니다.
+     * 동작은 {@link #postEntity(HttpEntity, boolean, int, int)}와 같습니다.
+     *
+     * @param batch          전송할 배치 (전송이 끝날 때까지 반납하면 안 됨)
+     * @param connectTimeout 연결 및 커넥션 풀 대기 타임아웃 (ms)
+     * @param socketTimeout  응답 대기 타임아웃 (ms)
+     * @return 마지막 응답 상태 코드, 엔드포인트가 없으면 -1
+     * @throws IOException 모든 엔드포인트에서 네트워크 오류가 발생한 경우 (마지막 오류)
+     */
+    private int postToEndpoints(LogEventQueue.Batch batch, int connectTimeout, int socketTimeout) throws IOException {
+        boolean compress = properties.isCompressLogs();
+        byte[] header = envelopeHeader;
+        if (header == null) {
+            return postEntity(new BatchEntity(batch, compress), compress, connectTimeout, socketTimeout);
+        }
+        MessageTemplates templates = messageTemplates;
+        Map<String, String> templateTable = templates != null ? templates.tableFor(batch) : Collections.emptyMap();
+        // 문자열 표는 배치 전체를 본 뒤에 정해지므로 이벤트 배열을 한 번 모아 표를 정함
+        StringDictionary.Encoded encoded = properties.isStringDictionaryEnabled()
+                ? encodeStringTable(StringDictionary.collect(batch)) : null;
+        byte[] prefix = envelopePrefix(objectMapper, header, templateTable, encoded != null ? encoded.strings : null);
+        if (encoded != null) {
+            return postEntity(new BatchEntity(encoded, compress, prefix), compress, connectTimeout, socketTimeout);
+        }
+        return postEntity(new BatchEntity(batch, compress, prefix), compress, connectTimeout, socketTimeout);
+    }
 
-        // 요청 엔티티 생성 및 설정
-        post.setEntity(createRequestEntity(jsonBatch));
-        if (properties.isCompressLogs()) {
-            post.setHeader("Content-Encoding", "gzip");
+    /**
+     * 로그 배치를 {@link EndpointBalancer}가 고른 엔드포인트로 전송하고, 실패하면 같은 배치를 아직 시도하지 않은 엔드포인트로 보냅니다(failover).
+     * 연결 오류, 타임아웃, 5xx/408 응답은 해당 엔드포인트의 실패로 기록하고 다음 엔드포인트를 시도하며,
+     * 그 밖의 응답(2xx, 인증 오류 등 4xx)은 어느 엔드포인트로 보내도 결과가 같으므로 바로 반환합니다.
+     * 429 응답과 {@code Retry-After}가 있는 503 응답은 로그 서버 전체의 속도 제한으로 보고 다른 엔드포인트로 넘기지 않으며,
+     * {@code Retry-After} 시간 동안 전송을 멈춥니다. 이 응답과 타임아웃은 동시 전송 한도를 줄이는 과부하 신호로도 사용합니다.
+     *
+     * @param entity         요청 엔티티 (반복 전송 가능해야 함)
+     * @param compress       엔티티가 gzip으로 압축되는지 여부
+     * @param connectTimeout 연결 및 커넥션 풀 대기 타임아웃 (ms)
+     * @param socketTimeout  응답 대기 타임아웃 (ms)
+     * @return 마지막 응답 상태 코드, 엔드포인트가 없으면 -1
+     * @throws IOException 모든 엔드포인트에서 네트워크 오류가 발생한 경우 (마지막 오류)
+     */
+    private int postEntity(HttpEntity entity, boolean compress, int connectTimeout, int socketTimeout) throws IOException {
+        // URL이 null이거나 비어있으면 빠른 실패
+        if (!endpointBalancer.hasEndpoints()) {
+            logger.error("로그 서버 URL이 설정되지 않았습니다. 로그를 전송할 수 없습니다.");
+            return -1;
         }
 
+        // 요청 엔티티는 failover 시 재사용 (ByteArrayEntity, BatchEntity는 반복 전송 가능)
         // 타임아웃 설정
         RequestConfig requestConfig = RequestConfig.custom()
-                .setConnectTimeout(CONNECT_TIMEOUT)
-                .setSocketTimeout(SOCKET_TIMEOUT)
+                .setConnectTimeout(connectTimeout)
+                .setSocketTimeout(socketTimeout)
+                .setConnectionRequestTimeout(connectTimeout)
                 .build();
-        post.setConfig(requestConfig);
 
-        logger.debug("로그 전송 시도: URL={}", properties.getUrl());
-                
-        try (CloseableHttpResponse response = httpClient.execute(post)) {
-            int statusCode = response.getStatusLine().getStatusCode();
-            logger.debug("서버 응답 상태 코드: {}", statusCode);
-            
-            // 성공적인 응답 코드 범위 (200~299)
-            if (statusCode >= 200 && statusCode < 300) {
-                logger.debug("로그 배치 전송 성공. 상태 코드: {}", statusCode);
-                return true;
-            } else {
-                logger.warn("로그 배치 전송 실패. 서버 응답 상태 코드: {}", statusCode);
-                // 서버 인증 오류 (API 키 관련) 특별 처리
-                if (statusCode == 401 || statusCode == 403) {
-                    logger.error("인증 오류 (상태 코드: {}). API 키 설정을 확인하세요.", statusCode);
-                    if (properties.isValidateApiKey() && (properties.getApiKey() == null || properties.getApiKey().isEmpty())) {
-                        logger.error("API 키 검증이 활성화되어 있지만 API 키가 설정되지 않았습니다. " +
-                                "'cholog.logger.api-key' 속성으로 유효한 API 키를 설정하거나, " +
-                                "'cholog.logger.validate-api-key=false'로 검증을 비활성화하세요.");
+        Set<EndpointBalancer.Endpoint> tried = new HashSet<>();
+        IOException lastError = null;
+        int lastStatus = -1;
+        EndpointBalancer.Endpoint endpoint;
+        while ((endpoint = endpointBalancer.select(tried)) != null) {
+            tried.add(endpoint);
+
+            HttpPost post = new HttpPost(endpoint.getUrl());
+            post.setHeader("Content-Type", "application/json");
+            post.setHeader("Accept", "application/json");
+            // API 키 설정이 있으면 요청 헤더에 추가
+            addApiKeyHeaders(post);
+            post.setEntity(entity);
+            if (compress) {
+                post.setHeader("Content-Encoding", "gzip");
+            }
+            post.setConfig(requestConfig);
+
+            logger.debug("로그 전송 시도: URL={}", endpoint.getUrl());
+            long startNanos = endpointBalancer.onStart(endpoint);
+            boolean recorded = false;
+            try (CloseableHttpResponse response = httpClient.execute(post)) {
+                int statusCode = response.getStatusLine().getStatusCode();
+                logger.debug("서버 응답 상태 코드: {}", statusCode);
+                lastStatus = statusCode;
+
+                // 성공적인 응답 코드 범위 (200~299)
+                if (statusCode >= 200 && statusCode < 300) {
+                    EntityUtils.consumeQuietly(response.getEntity());
+                    endpointBalancer.onSuccess(endpoint, startNanos);
+                    concurrencyLimiter.onSuccess();
+                    recorded = true;
+                    logger.debug("로그 배치 전송 성공. 상태 코드: {}", statusCode);
+                    return statusCode;
+                }
+
+                long retryAfterMillis = -1;
+                if (statusCode == 429 || statusCode == 503) {
+                    concurrencyLimiter.onOverload(startNanos);
+                    Header retryAfter = response.getFirstHeader("Retry-After");
+                    retryAfterMillis = AdaptiveConcurrencyLimiter.parseRetryAfter(
+                            retryAfter != null ? retryAfter.getValue() : null,
+                            System.currentTimeMillis(), properties.getMaxBackoffDelay());
+                    if (retryAfterMillis >= 0) {
+                        concurrencyLimiter.throttle(retryAfterMillis);
                     }
                 }
-                
+
+                logger.warn("로그 배치 전송 실패. 서버 응답 상태 코드: {} ({})", statusCode, endpoint.getUrl());
                 try {
                     if (response.getEntity() != null) {
                         String responseBody = EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
@@ -768,10 +1426,55 @@ public class LogSenderService implements DisposableBean {
                 } catch (Exception e) {
                     logger.debug("응답 본문을 읽을 수 없음: {}", e.getMessage());
                 }
-                
-                return false;
+
+                if (statusCode == 429 || (statusCode == 503 && retryAfterMillis >= 0)) {
+                    // 속도 제한: 다른 엔드포인트로 넘기면 같은 로그 서버에 부하가 몰리므로 Retry-After 이후 재시도
+                    endpointBalancer.onSuccess(endpoint, startNanos);
+                    recorded = true;
+                    return statusCode;
+                }
+
+                if (statusCode >= 500 || statusCode == 408) {
+                    // 엔드포인트 장애: 다른 엔드포인트로 같은 배치 전송
+                    endpointBalancer.onFailure(endpoint, startNanos);
+                    recorded = true;
+                    continue;
+                }
+
+                endpointBalancer.onSuccess(endpoint, startNanos);
+                recorded = true;
+                // 서버 인증 오류 (API 키 관련) 특별 처리
+                if (statusCode == 401 || statusCode == 403) {
+                    logger.error("인증 오류 (상태 코드: {}). API 키 설정을 확인하세요.", statusCode);
+                    if (properties.isValidateApiKey() && (properties.getApiKey() == null || properties.getApiKey().isEmpty())) {
+                        logger.error("API 키 검증이 활성화되어 있지만 API 키가 설정되지 않았습니다. " +
+                                "'cholog.logger.api-key' 속성으로 유효한 API 키를 설정하거나, " +
+                                "'cholog.logger.validate-api-key=false'로 검증을 비활성화하세요.");
+                    }
+                }
+                return statusCode;
+            } catch (IOException e) {
+                endpointBalancer.onFailure(endpoint, startNanos);
+                recorded = true;
+                lastError = e;
+                if (e instanceof SocketTimeoutException || e instanceof ConnectTimeoutException) {
+                    concurrencyLimiter.onOverload(startNanos);
+                }
+                if (endpointBalancer.getEndpoints().size() > 1) {
+                    logger.debug("엔드포인트 전송 실패, 다음 엔드포인트로 전환합니다: {} - {}", endpoint.getUrl(), e.getMessage());
+                }
+            } finally {
+                if (!recorded) {
+                    endpointBalancer.onFailure(endpoint, startNanos);
+                }
             }
         }
+
+        // 모든 엔드포인트가 실패: 응답을 받은 적이 있으면 마지막 상태 코드, 아니면 마지막 네트워크 오류
+        if (lastStatus < 0 && lastError != null) {
+            throw lastError;
+        }
+        return lastStatus;
     }
 
     /**
@@ -795,7 +1498,7 @@ public class LogSenderService implements DisposableBean {
             manageDiskQueueSize();
             
             // 고유한 파일명으로 저장
-            saveJsonBatchToFile(jsonBatch, null);
+            saveJsonBatchToFile(toSelfContainedBatch(jsonBatch), null);
         }
     }
 
@@ -1090,12 +1793,67 @@ public class LogSenderService implements DisposableBean {
         }
 
         lastConnectionCheckTime.set(currentTime);
-        String url = properties.getUrl();
-        if (url == null || url.trim().isEmpty()) {
+        if (!endpointBalancer.hasEndpoints()) {
             return;
         }
 
-        HttpGet request = new HttpGet(url);
+        // 엔드포인트 중 하나라도 응답하면 서버 사용 가능으로 판단 (확인에 성공한 엔드포인트는 제외 상태에서 복귀)
+        boolean isNowAvailable = false;
+        for (EndpointBalancer.Endpoint endpoint : endpointBalancer.getEndpoints()) {
+            if (probeEndpoint(endpoint)) {
+                isNowAvailable = true;
+            }
+        }
+
+        boolean wasUnavailable = !isServerAvailable.getAndSet(isNowAvailable);
+
+        // 상태 변경 시에만 로그 출력
+        if (wasUnavailable && isNowAvailable) {
+            logger.info("서버 연결이 복구되었습니다. 정상 운영을 재개합니다.");
+            // 연결이 복구되면 즉시 디스크 큐 처리 시도
+            // 비동기로 처리하여 메인 스레드 차단 방지
+            CompletableFuture.runAsync(this::resendFromDisk, scheduler);
+        } else if (!wasUnavailable && !isNowAvailable) {
+            // 상태가 사용 가능에서 불가능으로 변경된 경우만 로그 출력
+            // 연결 오류 로그 억제 설정 적용
+            if (properties.isSuppressConnectionErrors()) {
+                long now = System.currentTimeMillis();
+                long lastErrorTime = lastErrorLogTime.get();
+                long errorPeriod = properties.getConnectionErrorLogPeriod();
+                int maxLogsPerPeriod = properties.getMaxConnectionErrorLogsPerPeriod();
+
+                // 새 기간이 시작된 경우 카운터 초기화
+                if (now - lastErrorTime > errorPeriod) {
+                    errorLogsInPeriod.set(0);
+                    lastErrorLogTime.set(now);
+                }
+
+                // 현재 기간 내 로그 개수가 최대값보다 작은 경우에만 로그 출력
+                if (errorLogsInPeriod.incrementAndGet() <= maxLogsPerPeriod) {
+                    logger.warn("서버 연결이 끊어졌습니다. {}초 후 재시도합니다.", 
+                    interval / 1000);
+                }
+            } else {
+                logger.warn("서버 연결이 끊어졌습니다. {}초 후 재시도합니다.", 
+                        interval / 1000);
+            }
+        } else if (wasUnavailable && !isNowAvailable) {
+            // 계속 연결 불가능한 상태 - 디버그 레벨로만 로그 출력
+            if (logger.isDebugEnabled()) {
+                logger.debug("서버 연결이 계속 불가능합니다. {}초 후 다시 확인합니다.", 
+                        interval / 1000);
+            }
+        }
+    }
+
+    /**
+     * 엔드포인트 하나에 연결 확인(GET) 요청을 보냅니다.
+     *
+     * @param endpoint 확인할 엔드포인트
+     * @return 2xx 응답을 받으면 {@code true}
+     */
+    private boolean probeEndpoint(EndpointBalancer.Endpoint endpoint) {
+        HttpGet request = new HttpGet(endpoint.getUrl());
         request.setConfig(RequestConfig.custom()
                 .setConnectTimeout((int)properties.getConnectionCheckTimeout())
                 .setSocketTimeout((int)properties.getConnectionCheckTimeout())
@@ -1103,89 +1861,24 @@ public class LogSenderService implements DisposableBean {
 
         try (CloseableHttpResponse response = httpClient.execute(request)) {
             int statusCode = response.getStatusLine().getStatusCode();
-            boolean wasUnavailable = !isServerAvailable.get();
-            boolean isNowAvailable = statusCode >= 200 && statusCode < 300;
-            isServerAvailable.set(isNowAvailable);
-            
-            // 상태 변경 시에만 로그 출력
-            if (wasUnavailable && isNowAvailable) {
-                logger.info("서버 연결이 복구되었습니다. 정상 운영을 재개합니다.");
-                // 연결이 복구되면 즉시 디스크 큐 처리 시도
-                // 비동기로 처리하여 메인 스레드 차단 방지
-                CompletableFuture.runAsync(this::resendFromDisk, scheduler);
-            } else if (!wasUnavailable && !isNowAvailable) {
-                // 상태가 사용 가능에서 불가능으로 변경된 경우만 로그 출력
-                // 연결 오류 로그 억제 설정 적용
-                if (properties.isSuppressConnectionErrors()) {
-                    long now = System.currentTimeMillis();
-                    long lastErrorTime = lastErrorLogTime.get();
-                    long errorPeriod = properties.getConnectionErrorLogPeriod();
-                    int maxLogsPerPeriod = properties.getMaxConnectionErrorLogsPerPeriod();
-
-                    // 새 기간이 시작된 경우 카운터 초기화
-                    if (now - lastErrorTime > errorPeriod) {
-                        errorLogsInPeriod.set(0);
-                        lastErrorLogTime.set(now);
-                    }
-
-                    // 현재 기간 내 로그 개수가 최대값보다 작은 경우에만 로그 출력
-                    if (errorLogsInPeriod.incrementAndGet() <= maxLogsPerPeriod) {
-                        logger.warn("서버 연결이 끊어졌습니다. {}초 후 재시도합니다.", 
-                        interval / 1000);
-                    }
-                } else {
-                    logger.warn("서버 연결이 끊어졌습니다. {}초 후 재시도합니다.", 
-                            interval / 1000);
-                }
-            } else if (wasUnavailable && !isNowAvailable) {
-                // 계속 연결 불가능한 상태 - 디버그 레벨로만 로그 출력
-                if (logger.isDebugEnabled()) {
-                    logger.debug("서버 연결이 계속 불가능합니다. {}초 후 다시 확인합니다.", 
-                            interval / 1000);
-                }
+            EntityUtils.consumeQuietly(response.getEntity());
+            if (statusCode >= 200 && statusCode < 300) {
+                endpointBalancer.onHealthCheckSuccess(endpoint);
+                return true;
             }
+            logger.debug("엔드포인트 연결 확인 실패: {} (상태 코드: {})", endpoint.getUrl(), statusCode);
         } catch (IOException e) {
-            boolean wasAvailable = isServerAvailable.getAndSet(false);
-            
-            // 상태가 변경된 경우만 로그 출력 (사용 가능에서 불가능으로)
-            if (wasAvailable) {
-                // 연결 오류 로그 억제 설정 적용
-                if (properties.isSuppressConnectionErrors()) {
-                    long now = System.currentTimeMillis();
-                    long lastErrorTime = lastErrorLogTime.get();
-                    long errorPeriod = properties.getConnectionErrorLogPeriod();
-                    int maxLogsPerPeriod = properties.getMaxConnectionErrorLogsPerPeriod();
-
-                    // 새 기간이 시작된 경우 카운터 초기화
-                    if (now - lastErrorTime > errorPeriod) {
-                        errorLogsInPeriod.set(0);
-                        lastErrorLogTime.set(now);
-                    }
-
-                    // 현재 기간 내 로그 개수가 최대값보다 작은 경우에만 로그 출력
-                    if (errorLogsInPeriod.incrementAndGet() <= maxLogsPerPeriod) {
-                        logger.warn("서버 연결이 끊어졌습니다. {}초 후 재시도합니다.", 
-                    interval / 1000);
-                    }
-                } else {
-                    logger.warn("서버 연결이 끊어졌습니다. {}초 후 재시도합니다.", 
-                            interval / 1000);
-                }
-            } else {
-                // 계속 연결 불가능한 상태 - 디버그 레벨로만 로그 출력
-                if (logger.isDebugEnabled()) {
-                    logger.debug("서버 연결이 계속 불가능합니다. {}초 후 다시 확인합니다.", 
-                            interval / 1000);
-                }
-            }
+            logger.debug("엔드포인트 연결 확인 실패: {} - {}", endpoint.getUrl(), e.getMessage());
         }
+        return false;
     }
 
     /**
      * 스케줄러에 의해 주기적으로 호출되어 디스크 큐 디렉토리({@link #diskQueueDir})에 저장된 로그 배치 파일들을 찾아 서버로 재전송을 시도합니다.
      * 디스크 큐 기능({@link #effectiveDiskQueueEnabled})이 활성화되어 있고 디스크 큐 디렉토리가 유효할 경우에만 실행됩니다.
-     * {@code .logbatch} 확장자를 가진 파일들을 오래된 순서대로 읽어 {@link #sendBatchWithRetries(List)}를 통해 전송을 시도합니다.
+     * {@code .logbatch} 확장자를 가진 파일들을 오래된 순서대로 읽어 {@link #sendBatchWithRetries(LogEventQueue.Batch)}를 통해 전송을 시도합니다.
      * 성공적으로 전송된 파일은 삭제되고, 손상된 파일은 오류 디렉토리로 이동됩니다.
+     * 서버가 {@code Retry-After}로 전송을 멈추라고 한 동안에는 건너뛰며, 속도 제한 응답을 받으면 그 파일을 실패로 세지 않고 남은 파일과 함께 다음 주기에 보냅니다.
      */
     private void resendFromDisk() {
         if (!effectiveDiskQueueEnabled || diskQueueDir == null) {
@@ -1197,6 +1890,11 @@ public class LogSenderService implements DisposableBean {
             logger.debug("로그 서버가 현재 사용 불가능 상태입니다. 디스크 큐 처리를 건너뜁니다.");
             return;
         }
+        // 서버가 Retry-After로 전송을 멈추라고 한 동안에는 재전송하지 않음
+        if (concurrencyLimiter.getRemainingThrottleMillis() > 0) {
+            logger.debug("로그 서버가 재시도 대기를 요청한 상태입니다. 디스크 큐 처리를 건너뜁니다.");
+            return;
+        }
 
         // 오류 파일 디렉토리 준비
         Path errorDir = null;
@@ -1237,6 +1935,10 @@ public class LogSenderService implements DisposableBean {
                     logger.debug("로그 서버 연결이 중간에 끊겼습니다. 나머지 디스크 큐 처리를 중단합니다.");
                     break;
                 }
+                if (concurrencyLimiter.getRemainingThrottleMillis() > 0) {
+                    logger.debug("로그 서버가 재시도 대기를 요청했습니다. 나머지 디스크 큐 처리는 다음 주기에 시도합니다.");
+                    break;
+                }
                 
                 String fileName = file.getFileName().toString();
                 
@@ -1289,7 +1991,13 @@ public class LogSenderService implements DisposableBean {
                     boolean success = false;
                     try {
                         // 디스크에서 읽은 JSON 배열 형식의 content를 직접 전송
-                        success = executeSendDiskBatch(content);
+                        DiskSendResult result = executeSendDiskBatch(content);
+                        if (result == DiskSendResult.DEFERRED) {
+                            // 서버가 속도 제한을 요청했거나 전송 자리가 없음: 실패로 세지 않고 다음 주기에 다시 시도
+                            logger.debug("디스크 배치 재전송을 다음 주기로 미룹니다: {}", file.getFileName());
+                            break;
+                        }
+                        success = result == DiskSendResult.SENT;
                     } catch (Exception e) {
                         logger.error("디스크 배치 전송 중 오류 발생: {} - {}", file.getFileName(), e.getMessage());
                         if (!isServerAvailable.get()) {
@@ -1582,20 +2290,64 @@ public class LogSenderService implements DisposableBean {
     }
 
     /**
-     * Spring 컨테이너가 종료될 때 호출되어 내부 스케줄러와 HTTP 클라이언트 리소스를 정상적으로 종료합니다.
-     * {@link DisposableBean} 인터페이스 구현을 통해 자동 호출됩니다.
-     * 먼저 서비스 활성 상태 플래그({@link #active})를 {@code false}로 설정하여 새로운 로그가 큐에 추가되는 것을 중단시킵니다.
-     * 그 후 스케줄러 서비스를 종료하고, 메모리 큐에 남아있는 로그들의 마지막 전송을 시도합니다.
-     * 마지막으로 HTTP 클라이언트를 닫아 모든 관련 리소스를 해제합니다.
+     * Spring 컨테이너가 종료될 때 호출되어 잔여 로그를 처리하고 내부 스케줄러와 HTTP 클라이언트 리소스를 정리합니다.
+     * {@link DisposableBean} 인터페이스 구현을 통해 자동 호출되며, 실제 종료 절차는 {@link #shutdown()}을 따릅니다.
+     * 정상 종료 경로에서는 JVM 셧다운 훅이 더 이상 필요 없으므로 등록을 해제합니다.
      *
-     * @throws Exception 스케줄러 종료 또는 HTTP 클라이언트 종료 중 예외 발생 시 (거의 발생하지 않음)
+     * @throws Exception 종료 처리 중 예외 발생 시 (거의 발생하지 않음)
      */
     @Override
     public void destroy() throws Exception {
+        if (shutdownHook != null) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // JVM이 이미 종료 중인 경우 - 셧다운 훅과 destroy 중 먼저 시작한 쪽만 종료 절차를 수행함
+            }
+        }
+        shutdown();
+    }
+
+    /**
+     * Spring 컨텍스트가 닫히지 않은 채 JVM이 종료될 때 셧다운 훅에서 호출됩니다.
+     */
+    private void shutdownFromHook() {
+        if (shutdownStarted.get()) {
+            return;
+        }
+        logger.info("Spring 컨텍스트 종료 없이 JVM 종료가 감지되어 로그 전송 서비스 종료 절차를 수행합니다.");
+        try {
+            shutdown();
+        } catch (Exception e) {
+            logger.error("셧다운 훅에서 종료 처리 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 제한 시간({@link LogServerProperties#getShutdownFlushTimeout()}) 안에 끝나는 종료 절차를 수행합니다.
+     * 중복 호출(destroy와 셧다운 훅) 시 최초 1회만 실행됩니다.
+     * <ol>
+     *     <li>새 로그 수신 중단, 스케줄러 중단 (재시도 대기는 인터럽트하고 진행 중인 전송은 제한 시간의 1/4까지만 대기)</li>
+     *     <li>메모리 큐의 잔여 로그를 배치로 나누어 제한 시간 안에서 병렬 전송 (재시도 없음, {@code spool} 전송 방식이면 스풀 파일에 기록)</li>
+     *     <li>전송하지 못한 로그를 디스크 큐에 단일 파일로 한 번에 기록</li>
+     *     <li>디스크 큐 체크포인트 기록 (다음 시작 시 재전송을 즉시 시작)</li>
+     * </ol>
+     * 마지막에 전송/디스크 저장/유실 건수를 정확히 집계하여 로그로 남깁니다.
+     * 제한 시간 내 응답을 확인하지 못한 배치는 디스크에도 저장되므로 다음 시작 시 중복 전송될 수 있습니다 (at-least-once).
+     *
+     * @throws Exception 종료 처리 중 예외 발생 시
+     */
+    private void shutdown() throws Exception {
+        if (!shutdownStarted.compareAndSet(false, true)) {
+            logger.debug("LogSenderService 종료 절차가 이미 수행되었습니다.");
+            return;
+        }
         logger.info("LogSenderService 종료 중...");
-        
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, properties.getShutdownFlushTimeout()));
+
         try {
-            // 활성 상태를 false로 설정하여 더 이상의 로그 추가를 방지
+            // 1. 활성 상태를 false로 설정하여 더 이상의 로그 추가를 방지
             active.set(false);
             
             // MBean 등록 해제
@@ -1611,17 +2363,50 @@ public class LogSenderService implements DisposableBean {
                     logger.warn("JMX에서 LogSenderMetrics 등록 해제 실패: {}", e.getMessage());
                 }
             }
-            
-            // 큐에 남아있는 로그 처리 시도
-            processBatchFromQueue();
-            
-            // 스케줄러 종료
-            shutdownExecutorService(scheduler, "로그 스케줄러");
-            
-            // HTTP 클라이언트 종료
+            if (control != null) {
+                try {
+                    MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+                    ObjectName name = new ObjectName(LogSenderControl.OBJECT_NAME);
+                    if (mbs.isRegistered(name)) {
+                        mbs.unregisterMBean(name);
+                    }
+                } catch (Exception e) {
+                    logger.warn("JMX에서 LogSenderControl 등록 해제 실패: {}", e.getMessage());
+                }
+            }
+
+            stopScheduler(deadlineNanos);
+
+            // 2. 큐에 남아있는 로그를 제한 시간 안에서 병렬 전송 (스풀 전송 방식이면 스풀 파일에 한 번에 기록)
+            List<String> remaining = new ArrayList<>(logQueue.size() + (urgentQueue != null ? urgentQueue.size() : 0));
+            if (urgentQueue != null) {
+                urgentQueue.drainTo(remaining, Integer.MAX_VALUE); // 긴급 로그를 먼저 전송
+            }
+            logQueue.drainTo(remaining, Integer.MAX_VALUE);
+            List<String> unsent = spoolWriter != null
+                    ? (remaining.isEmpty() || writeBatchToSpool(remaining) ? Collections.emptyList() : remaining)
+                    : flushRemainingLogs(remaining, deadlineNanos);
+            int sent = remaining.size() - unsent.size();
+
+            // 3. 전송하지 못한 로그를 디스크 큐에 한 번에 기록
+            String spillFile = spillToDisk(unsent);
+            int spilled = spillFile != null ? unsent.size() : 0;
+            int dropped = unsent.size() - spilled;
+
+            // 4. 디스크 큐 체크포인트 기록
+            if (effectiveDiskQueueEnabled) {
+                writeShutdownCheckpoint(sent, spilled, dropped, spillFile);
+            }
+
+            // 스풀 세그먼트 봉인 및 HTTP 클라이언트 종료
+            if (spoolWriter != null) {
+                spoolWriter.close();
+            }
             closeHttpClient();
 
-            logger.info("LogSenderService 종료 완료.");
+            logger.info("LogSenderService 종료 완료: 잔여 로그 {}건 중 전송 {}건, 디스크 저장 {}건, 유실 {}건 / 종료 중 거부 {}건 / 소요 {}ms (제한 {}ms)",
+                    remaining.size(), sent, spilled, dropped, rejectedDuringShutdown.get(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), properties.getShutdownFlushTimeout());
         } catch (Exception e) {
             logger.error("LogSenderService 종료 중 오류 발생: {}", e.getMessage(), e);
             throw e;
@@ -1629,32 +2414,290 @@ public class LogSenderService implements DisposableBean {
     }
 
     /**
-     * 주어진 ExecutorService를 안전하게 종료하는 헬퍼 메소드.
-     * @param executorService 종료할 ExecutorService
-     * @param serviceName 로그 출력을 위한 서비스 이름
+     * 예약된 작업을 취소하고 재시도 대기 중인 스레드를 인터럽트합니다.
+     * 이미 전송 중인 배치는 종료 제한 시간의 1/4까지만 기다리며, 끝나지 않은 배치는 기존 실패 처리(디스크 저장)를 따릅니다.
+     *
+     * @param deadlineNanos 종료 절차 전체의 제한 시각 ({@link System#nanoTime()} 기준)
      */
-    private void shutdownExecutorService(ExecutorService executorService, String serviceName) {
-        if (executorService == null || executorService.isShutdown()) {
-            return;
+    private void stopScheduler(long deadlineNanos) {
+        scheduler.shutdownNow();
+        for (Runnable pending : sendExecutor.shutdownNow()) {
+            // 아직 시작하지 못한 배치는 큐에 돌려놓아 잔여 로그와 함께 처리
+            if (pending instanceof QueuedBatchTask) {
+                ((QueuedBatchTask) pending).requeue();
+            }
         }
-        logger.info("Shutting down {}...", serviceName);
-        executorService.shutdown(); // 새로운 작업 거부
+        long waitUntilNanos = System.nanoTime() + Math.max(0, (deadlineNanos - System.nanoTime()) / 4);
+        long waitNanos = waitUntilNanos - System.nanoTime();
         try {
-            // 지정된 시간 동안 현재 진행중인 작업 완료 대기
-            if (!executorService.awaitTermination(10, TimeUnit.SECONDS)) { // 대기 시간 조정 가능
-                logger.warn("{} did not terminate gracefully after 10 seconds. Forcing shutdown...", serviceName);
-                List<Runnable> droppedTasks = executorService.shutdownNow(); // 강제 종료 시도
-                logger.warn("Forced shutdown for {}. {} tasks were potentially cancelled.", serviceName, droppedTasks.size());
-                // 강제 종료 후에도 완전히 종료될 때까지 잠시 더 대기
-                if (!executorService.awaitTermination(5, TimeUnit.SECONDS))
-                    logger.error("{} did not terminate even after forced shutdown.", serviceName);
+            if (!scheduler.awaitTermination(waitNanos, TimeUnit.NANOSECONDS)
+                    || !sendExecutor.awaitTermination(Math.max(0, waitUntilNanos - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                logger.warn("진행 중인 배치 전송이 {}ms 안에 끝나지 않았습니다. 잔여 로그 처리를 계속합니다.",
+                        TimeUnit.NANOSECONDS.toMillis(waitNanos));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 종료 시 메모리 큐에서 꺼낸 로그를 배치 크기로 나누어 제한 시각까지 병렬 전송합니다.
+     * 각 배치는 재시도 없이 한 번만 전송하며, 남은 시간을 요청 타임아웃으로 사용합니다.
+     * 서버가 사용 불가능 상태로 알려진 경우에는 전송을 시도하지 않고 디스크 저장에 시간을 남깁니다.
+     *
+     * @param logs          전송할 로그 목록
+     * @param deadlineNanos 제한 시각 ({@link System#nanoTime()} 기준)
+     * @return 전송에 성공하지 못한(또는 성공 여부를 확인하지 못한) 로그 목록
+     */
+    private List<String> flushRemainingLogs(List<String> logs, long deadlineNanos) {
+        if (logs.isEmpty() || !endpointBalancer.hasEndpoints()) {
+            return logs;
+        }
+        if (!isServerAvailable.get()) {
+            logger.info("로그 서버가 사용 불가능 상태이므로 잔여 로그 {}건의 전송을 건너뜁니다.", logs.size());
+            return logs;
+        }
+        long throttleMillis = concurrencyLimiter.getRemainingThrottleMillis();
+        if (throttleMillis > 0 && TimeUnit.MILLISECONDS.toNanos(throttleMillis) >= deadlineNanos - System.nanoTime()) {
+            logger.info("로그 서버가 {}ms 후 재시도를 요청했으므로 잔여 로그 {}건의 전송을 건너뜁니다.", throttleMillis, logs.size());
+            return logs;
+        }
+
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < logs.size(); i += batchSize) {
+            batches.add(logs.subList(i, Math.min(logs.size(), i + batchSize)));
+        }
+        int parallelism = Math.max(1, Math.min(batches.size(),
+                Math.min(properties.getShutdownFlushParallelism(), properties.getHttpClientPoolDefaultMaxPerRoute())));
+        ExecutorService flusher = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("log-sender-shutdown-" + thread.getId());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<Future<Boolean>> futures = new ArrayList<>(batches.size());
+        for (List<String> batch : batches) {
+            futures.add(flusher.submit(() -> {
+                int timeoutMs = (int) Math.min(Integer.MAX_VALUE,
+                        TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+                if (timeoutMs <= 0) {
+                    return false;
+                }
+                String jsonBatch = convertBatchToJsonString(batch);
+                return jsonBatch != null && executeSend(jsonBatch, timeoutMs, timeoutMs);
+            }));
+        }
+
+        List<String> unsent = new ArrayList<>();
+        for (int i = 0; i < batches.size(); i++) {
+            boolean success = false;
+            try {
+                long waitNanos = deadlineNanos - System.nanoTime();
+                success = waitNanos > 0 && futures.get(i).get(waitNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                logger.debug("종료 시 배치 전송 실패: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (success) {
+                if (metrics != null) {
+                    metrics.incrementProcessedLogs(batches.get(i).size());
+                }
             } else {
-                logger.info("{} terminated gracefully.", serviceName);
+                unsent.addAll(batches.get(i));
+            }
+        }
+        flusher.shutdownNow();
+        return unsent;
+    }
+
+    /**
+     * 종료 시 전송하지 못한 로그를 하나의 디스크 큐 파일에 순차 기록합니다.
+     * 임시 파일에 쓰고 동기화(fsync)한 뒤 원자적으로 이름을 바꾸므로, 도중에 프로세스가 종료되어도 반쯤 쓰인 배치 파일이 남지 않습니다.
+     *
+     * @param logs 디스크에 저장할 로그 목록
+     * @return 저장된 파일 이름, 저장할 로그가 없거나 저장에 실패(또는 디스크 큐 비활성화)한 경우 null
+     */
+    private String spillToDisk(List<String> logs) {
+        if (logs.isEmpty()) {
+            return null;
+        }
+        if (!effectiveDiskQueueEnabled || diskQueueDir == null) {
+            logger.warn("디스크 큐가 비활성화되어 있어 종료 시 전송하지 못한 로그 {}건이 유실됩니다.", logs.size());
+            return null;
+        }
+
+        String fileName = System.currentTimeMillis() + "-shutdown-" + UUID.randomUUID() + DISK_QUEUE_FILE_SUFFIX;
+        synchronized (diskQueueLock) {
+            manageDiskQueueSize();
+            try {
+                writeDurably(diskQueueDir.resolve(fileName),
+                        toSelfContainedBatch("[" + String.join(",", logs) + "]").getBytes(StandardCharsets.UTF_8));
+                if (metrics != null) {
+                    metrics.incrementFailedLogs(logs.size());
+                }
+                return fileName;
+            } catch (IOException e) {
+                logger.error("종료 시 잔여 로그 {}건을 디스크에 저장하지 못했습니다: {}", logs.size(), e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 종료 결과와 디스크 큐 상태를 체크포인트 파일로 기록합니다.
+     * 다음 시작 시 {@link #recoverShutdownCheckpoint()}가 이 파일을 읽어 재전송을 즉시 시작합니다.
+     */
+    private void writeShutdownCheckpoint(int sent, int spilled, int dropped, String spillFile) {
+        try {
+            long pendingFiles;
+            try (Stream<Path> files = Files.list(diskQueueDir)) {
+                pendingFiles = files.filter(p -> p.toString().endsWith(DISK_QUEUE_FILE_SUFFIX)).count();
+            }
+            Map<String, Object> checkpoint = new LinkedHashMap<>();
+            checkpoint.put("shutdownAt", Instant.now().toString());
+            checkpoint.put("sent", sent);
+            checkpoint.put("spilled", spilled);
+            checkpoint.put("dropped", dropped);
+            checkpoint.put("rejectedDuringShutdown", rejectedDuringShutdown.get());
+            checkpoint.put("spillFile", spillFile);
+            checkpoint.put("pendingFiles", pendingFiles);
+            writeDurably(diskQueueDir.resolve(SHUTDOWN_CHECKPOINT_FILE), objectMapper.writeValueAsBytes(checkpoint));
+        } catch (IOException e) {
+            logger.warn("디스크 큐 체크포인트 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이전 종료 시 기록된 체크포인트가 있으면 내용을 로그로 남기고, 남은 배치 파일의 재전송을 즉시 예약합니다.
+     */
+    private void recoverShutdownCheckpoint() {
+        Path checkpointFile = diskQueueDir.resolve(SHUTDOWN_CHECKPOINT_FILE);
+        if (!Files.exists(checkpointFile)) {
+            return;
+        }
+        try {
+            Map<String, Object> checkpoint = objectMapper.readValue(checkpointFile.toFile(),
+                    new TypeReference<Map<String, Object>>() {});
+            logger.info("이전 종료 기록: 시각={}, 전송 {}건, 디스크 저장 {}건, 유실 {}건, 대기 중인 배치 파일 {}개",
+                    checkpoint.get("shutdownAt"), checkpoint.get("sent"), checkpoint.get("spilled"),
+                    checkpoint.get("dropped"), checkpoint.get("pendingFiles"));
+            Object pendingFiles = checkpoint.get("pendingFiles");
+            if (pendingFiles instanceof Number && ((Number) pendingFiles).longValue() > 0) {
+                scheduler.execute(this::resendFromDisk);
+            }
+        } catch (Exception e) {
+            logger.warn("디스크 큐 체크포인트를 읽을 수 없습니다: {}", e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(checkpointFile);
+            } catch (IOException e) {
+                logger.debug("디스크 큐 체크포인트 삭제 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 임시 파일에 기록 후 fsync하고 대상 경로로 원자적으로 이동합니다. 디렉토리 엔트리도 가능한 경우 동기화합니다.
+     *
+     * @param target 대상 파일 경로
+     * @param data   기록할 데이터
+     * @throws IOException 기록 또는 이동 실패 시
+     */
+    private static void writeDurably(Path target, byte[] data) throws IOException {
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        try (FileChannel directory = FileChannel.open(target.getParent(), StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            // 디렉토리 fsync를 지원하지 않는 플랫폼(Windows 등)
+        }
+    }
+
+    // --- 실행 중 설정 변경 (LogSenderControl) ---
+
+    /**
+     * 실행 중 설정 변경 객체를 반환합니다. Actuator 엔드포인트에서 사용합니다.
+     *
+     * @return 설정 변경 객체, {@code runtime-control-enabled=false}이면 null
+     */
+    public LogSenderControl getControl() {
+        return control;
+    }
+
+    /**
+     * 일반 레인의 배치 크기를 바꿉니다. 이미 꺼낸 배치에는 영향을 주지 않습니다.
+     *
+     * @param batchSize 새 배치 크기
+     */
+    void applyBatchSize(int batchSize) {
+        bulkLane.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 일반 레인 전송 작업을 새 플러시 간격으로 다시 예약합니다.
+     *
+     * @param intervalMillis 새 플러시 간격 (ms)
+     */
+    synchronized void applyBatchFlushInterval(long intervalMillis) {
+        if (!active.get()) {
+            return;
+        }
+        try {
+            ScheduledFuture<?> previous = batchFlushTask;
+            batchFlushTask = scheduler.scheduleWithFixedDelay(
+                    this::processBatchFromQueue, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+            if (previous != null) {
+                previous.cancel(false); // 실행 중인 전송은 끝까지 진행
+            }
+        } catch (RejectedExecutionException e) {
+            logger.debug("종료 중이므로 플러시 간격 변경을 건너뜁니다.");
+        }
+    }
+
+    /**
+     * 커넥션 풀 한도를 현재 설정값으로 다시 적용합니다. 한도를 줄이면 초과한 커넥션은 사용이 끝나 반환될 때 정리됩니다.
+     *
+     * @return 적용했으면 {@code true}, 기본 클라이언트로 대체되어 풀을 조정할 수 없으면 {@code false}
+     */
+    boolean applyHttpPoolLimits() {
+        PoolingHttpClientConnectionManager manager = connectionManager;
+        if (manager == null) {
+            return false;
+        }
+        configurePoolLimits(manager);
+        return true;
+    }
+
+    private void registerControlMBean() {
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(LogSenderControl.OBJECT_NAME);
+            if (mbs.isRegistered(name)) {
+                mbs.unregisterMBean(name);
             }
-        } catch (InterruptedException ie) {
-            logger.warn("Shutdown interrupted while waiting for {}. Forcing shutdown immediately.", serviceName);
-            executorService.shutdownNow();
-            Thread.currentThread().interrupt(); // 인터럽트 상태 복원
+            mbs.registerMBean(control, name);
+            logger.info("LogSenderControl이 JMX에 등록되었습니다. 이름: {}", name);
+        } catch (Exception e) {
+            logger.warn("LogSenderControl JMX 등록 실패. JMX를 통한 설정 변경은 사용할 수 없습니다: {}", e.getMessage());
         }
     }
 
@@ -1675,6 +2718,27 @@ public class LogSenderService implements DisposableBean {
         }
     }
 
+    /**
+     * 커넥션 풀 한도를 현재 설정값으로 지정합니다. 생성 시와 실행 중 설정 변경 시 사용됩니다.
+     *
+     * @param connectionManager 커넥션 매니저
+     */
+    private void configurePoolLimits(PoolingHttpClientConnectionManager connectionManager) {
+        int maxPerRoute = Math.max(1, properties.getHttpClientPoolDefaultMaxPerRoute());
+        int endpointCount = Math.max(1, endpointBalancer.getEndpoints().size());
+        // 전체 최대 커넥션 수 (엔드포인트마다 라우트당 최대 커넥션을 보장할 수 있도록 확장)
+        connectionManager.setMaxTotal(Math.max(properties.getHttpClientPoolMaxTotal(), maxPerRoute * endpointCount));
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute); // 호스트(라우트)당 최대 커넥션 수
+        // 엔드포인트별 커넥션 풀: 느린 엔드포인트가 다른 엔드포인트의 커넥션을 차지하지 않도록 라우트마다 한도 지정
+        for (EndpointBalancer.Endpoint endpoint : endpointBalancer.getEndpoints()) {
+            HttpHost host = endpoint.getHost();
+            if (host != null) {
+                connectionManager.setMaxPerRoute(
+                        new HttpRoute(host, null, "https".equalsIgnoreCase(host.getSchemeName())), maxPerRoute);
+            }
+        }
+    }
+
     /**
      * Apache HttpClient 인스턴스를 생성하고 설정합니다. (HttpClient 4.x 기반)
      * 커넥션 풀링, 타임아웃, HTTPS (선택적 TLS 검증 무시) 설정을 포함합니다.
@@ -1716,15 +2780,16 @@ public class LogSenderService implements DisposableBean {
                 connectionManager = new PoolingHttpClientConnectionManager();
             }
 
-            connectionManager.setMaxTotal(properties.getHttpClientPoolMaxTotal()); // 전체 최대 커넥션 수
-            connectionManager.setDefaultMaxPerRoute(properties.getHttpClientPoolDefaultMaxPerRoute()); // 호스트(라우트)당 최대 커넥션 수
+            configurePoolLimits(connectionManager);
+            int endpointCount = Math.max(1, endpointBalancer.getEndpoints().size());
             clientBuilder.setConnectionManager(connectionManager);
+            this.connectionManager = connectionManager;
             // 유휴 커넥션 정리 주기 설정 (예: 30초마다 만료된 커넥션 및 유휴 커넥션 정리)
             clientBuilder.evictIdleConnections(properties.getHttpClientPoolEvictIdleConnectionsAfter(), TimeUnit.SECONDS);
             clientBuilder.evictExpiredConnections(); // 만료된 커넥션 즉시 제거 활성화
 
-            logger.info("CHO:LOG - HttpClient initialized (Apache HttpClient 4.x based). Pool(MaxTotal:{}, DefaultMaxPerRoute:{}), Timeouts(Conn:{}, Socket:{}), HTTPS:{}, AllowInsecureTLS:{}",
-                    connectionManager.getMaxTotal(), connectionManager.getDefaultMaxPerRoute(), CONNECT_TIMEOUT, SOCKET_TIMEOUT, 
+            logger.info("CHO:LOG - HttpClient initialized (Apache HttpClient 4.x based). Pool(MaxTotal:{}, DefaultMaxPerRoute:{}, Endpoints:{}), Timeouts(Conn:{}, Socket:{}), HTTPS:{}, AllowInsecureTLS:{}",
+                    connectionManager.getMaxTotal(), connectionManager.getDefaultMaxPerRoute(), endpointCount, CONNECT_TIMEOUT, SOCKET_TIMEOUT, 
                     properties.isUseHttps(), properties.isAllowInsecureTls());
 
             return clientBuilder.build();
@@ -1775,7 +2840,7 @@ public class LogSenderService implements DisposableBean {
         
         try {
             // 메트릭 객체 생성 (객체 생성 오류 분리)
-            metrics = new LogSenderMetrics(logQueue, isServerAvailable, diskQueueDir);
+            metrics = new LogSenderMetrics(logQueue, urgentQueue, slabArena, isServerAvailable, diskQueueDir, endpointBalancer, concurrencyLimiter);
         } catch (Exception e) {
             logger.error("메트릭 객체 생성 실패: {}", e.getMessage(), e);
             metrics = null;
@@ -1904,7 +2969,7 @@ public class LogSenderService implements DisposableBean {
      * @param batch 변환할 로그 목록
      * @return JSON 배열 문자열, 변환 실패 시 null
      */
-    private String convertBatchToJsonString(List<String> batch) {
+    String convertBatchToJsonString(List<String> batch) { // 벤치마크(src/jmh)에서 접근하도록 package-private
         if (batch == null || batch.isEmpty()) {
             return "[]";
         }
@@ -1926,66 +2991,86 @@ public class LogSenderService implements DisposableBean {
         }
     }
 
+    /**
+     * 디스크 배치 재전송 결과입니다.
+     */
+    private enum DiskSendResult {
+        /** 전송 성공 */
+        SENT,
+        /** 재시도를 포함해 전송 실패 (파일의 재시도 횟수에 포함) */
+        FAILED,
+        /** 서버가 속도 제한(429, Retry-After가 있는 503)을 요청했거나 전송 자리가 없어 보내지 않음 (재시도 횟수에 포함하지 않음) */
+        DEFERRED
+    }
+
     /**
      * 디스크에서 로드한 JSON 형식의 로그 배치를 전송합니다.
      * 이미 JSON 배열 형식인 문자열을 직접 전송하여 중복 배열화를 방지합니다.
+     * 메모리 큐 전송과 같은 동시 전송 한도({@link AdaptiveConcurrencyLimiter})를 사용하며, 매 시도 전에 {@code Retry-After} 대기가 끝나기를 기다립니다.
+     * 한도에 여유가 없으면 새 로그 전송을 우선하도록 보내지 않고, 429 또는 {@code Retry-After}가 있는 503 응답을 받으면 재시도하지 않고 미룹니다.
      *
      * @param jsonBatchArray 전송할 JSON 배열 문자열 (이미 배열 형식이어야 함)
-     * @return 전송 성공 시 true, 실패 시 false
+     * @return 전송 결과
      */
-    private boolean executeSendDiskBatch(String jsonBatchArray) throws IOException {
+    private DiskSendResult executeSendDiskBatch(String jsonBatchArray) throws IOException {
         // URL이 null이거나 비어있으면 빠른 실패
-        if (properties.getUrl() == null || properties.getUrl().isEmpty()) {
+        if (!endpointBalancer.hasEndpoints()) {
             logger.error("로그 서버 URL이 설정되지 않았습니다. 로그를 전송할 수 없습니다.");
-            return false;
-        }
-
-        HttpPost post = new HttpPost(properties.getUrl());
-        post.setHeader("Content-Type", "application/json");
-        post.setHeader("Accept", "application/json");
-        
-        // API 키 설정이 있으면 요청 헤더에 추가
-        addApiKeyHeaders(post);
-
-        // 요청 엔티티 생성 및 설정
-        post.setEntity(createRequestEntity(jsonBatchArray));
-        if (properties.isCompressLogs()) {
-            post.setHeader("Content-Encoding", "gzip");
+            return DiskSendResult.FAILED;
         }
 
-        // 타임아웃 설정
-        RequestConfig requestConfig = RequestConfig.custom()
-                .setConnectTimeout(CONNECT_TIMEOUT)
-                .setSocketTimeout(SOCKET_TIMEOUT)
-                .build();
-        post.setConfig(requestConfig);
-        
         // 최대 재시도 횟수만큼 시도
         int maxRetries = properties.getMaxRetries();
         
         for (int retry = 1; retry <= maxRetries; retry++) {
-            try (CloseableHttpResponse response = httpClient.execute(post)) {
-                int statusCode = response.getStatusLine().getStatusCode();
+            try {
+                // 서버가 Retry-After로 요청한 시간이 지나기 전에는 보내지 않음
+                concurrencyLimiter.awaitThrottle();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return DiskSendResult.DEFERRED;
+            }
+            if (!concurrencyLimiter.tryAcquire(0)) {
+                return DiskSendResult.DEFERRED;
+            }
+            try {
+                // 엔드포인트 선택 및 failover는 postToEndpoints에서 처리
+                int statusCode;
+                try {
+                    statusCode = postToEndpoints(jsonBatchArray, CONNECT_TIMEOUT, SOCKET_TIMEOUT);
+                } finally {
+                    concurrencyLimiter.release();
+                }
                 
                 // 성공적인 응답 코드 범위 (200~299)
                 if (statusCode >= 200 && statusCode < 300) {
                     if (!isServerAvailable.getAndSet(true)) {
-                        logger.info("서버 연결이 복구되었습니다: {}", properties.getUrl());
+                        logger.info("서버 연결이 복구되었습니다: {}", endpointBalancer);
                     }
                     resetBackoffDelay();
-                    return true;
-                } else {
-                    if (retry == maxRetries) {
-                        logger.warn("디스크 배치 전송 실패. 서버 응답 상태 코드: {} (재시도 {}/{})", 
-                                statusCode, retry, maxRetries);
-                    }
-                    
-                    // 서버 인증 오류 (API 키 관련) 특별 처리
-                    if (statusCode == 401 || statusCode == 403) {
-                        logger.error("인증 오류 (상태 코드: {}). API 키 설정을 확인하세요.", statusCode);
-                        return false; // 인증 오류는 더 이상 시도하지 않음
-                    }
+                    return DiskSendResult.SENT;
+                }
+                // 속도 제한: 같은 배치를 바로 다시 보내지 않고 디스크 재전송 전체를 미룸
+                if (statusCode == 429 || (statusCode == 503 && concurrencyLimiter.getRemainingThrottleMillis() > 0)) {
+                    return DiskSendResult.DEFERRED;
+                }
+                if (retry == maxRetries) {
+                    logger.warn("디스크 배치 전송 실패. 서버 응답 상태 코드: {} (재시도 {}/{})", 
+                            statusCode, retry, maxRetries);
+                }
+                
+                // 서버 인증 오류 (API 키 관련) 특별 처리
+                if (statusCode == 401 || statusCode == 403) {
+                    logger.error("인증 오류 (상태 코드: {}). API 키 설정을 확인하세요.", statusCode);
+                    return DiskSendResult.FAILED; // 인증 오류는 더 이상 시도하지 않음
+                }
+                // 서버가 오류 응답을 보낸 경우: 바로 다시 보내면 과부하를 키우므로 재시도 간격만큼 기다림
+                if (retry < maxRetries) {
+                    Thread.sleep(properties.getRetryDelay());
                 }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                break;
             } catch (Exception e) {
                 // 마지막 시도만 로그 출력
                 if (retry == maxRetries) {
@@ -1995,16 +3080,14 @@ public class LogSenderService implements DisposableBean {
                 // 서버 상태를 사용 불가로 설정
                 if (isServerAvailable.getAndSet(false)) {
                     if (!properties.isSuppressConnectionErrors()) {
-                        logger.error("서버 연결이 중단되었습니다: {}", properties.getUrl());
+                        logger.error("서버 연결이 중단되었습니다: {}", endpointBalancer);
                     }
                 }
                 
                 // 재시도 전 지연
                 if (retry < maxRetries) {
                     try {
-                        long delayMs = calculateBackoffDelay(retry);
-                        Thread.sleep(delayMs);
-                        updateBackoffDelay();
+                        Thread.sleep(nextBackoffDelay());
                     } catch (InterruptedException ie) {
                         Thread.currentThread().interrupt();
                         break;
@@ -2013,6 +3096,6 @@ public class LogSenderService implements DisposableBean {
             }
         }
         
-        return false; // 모든 재시도 실패
+        return DiskSendResult.FAILED; // 모든 재시도 실패
     }
 }
@@ -0,0 +1,174 @@
+package com.cholog.logger.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그 메시지 템플릿({@code "Request Finished: {} {} status={}"})에 프로세스 안에서 고정된 ID를 붙이는 저장소입니다.
+ * {@link com.cholog.logger.appender.CentralLogAppender}는 포맷팅된 메시지 대신 템플릿 ID와 인자를 이벤트에 담고,
+ * {@link LogSenderService}는 배치를 보낼 때 그 배치가 참조하는 템플릿만 배치 봉투의 {@code templates}에 한 번씩 담습니다.
+ * 로그 서버가 템플릿과 인자로 메시지를 다시 만들고 {@code messageTemplate}도 함께 저장합니다.
+ *
+ * 문자열을 이어 붙여 만든 메시지처럼 템플릿 종류가 끝없이 늘어나는 경우를 막기 위해 최대 개수를 넘으면 더 등록하지 않으며,
+ * 이때 이벤트는 포맷팅된 메시지를 그대로 보냅니다. ID는 이 프로세스 안에서만 의미가 있으므로, 디스크에 저장하는 배치에는
+ * 템플릿 문자열을 이벤트에 직접 넣습니다.
+ */
+public final class MessageTemplates {
+
+    /** 이벤트 JSON에서 템플릿 ID 필드 이름 */
+    public static final String TEMPLATE_ID_FIELD = "templateId";
+
+    /** 이벤트 JSON에서 템플릿 인자 필드 이름 */
+    public static final String ARGS_FIELD = "args";
+
+    /** 템플릿 ID 대신 템플릿 문자열을 직접 담는 필드 이름 (디스크에 저장하는 배치) */
+    public static final String TEMPLATE_FIELD = "messageTemplate";
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, String> templates = new ConcurrentHashMap<>();
+    private final int maxTemplates;
+
+    /**
+     * MessageTemplates의 새 인스턴스를 생성합니다.
+     *
+     * @param maxTemplates 등록할 최대 템플릿 수
+     */
+    public MessageTemplates(int maxTemplates) {
+        this.maxTemplates = Math.max(1, maxTemplates);
+    }
+
+    /**
+     * 템플릿의 ID를 반환합니다. 처음 보는 템플릿이면 새 ID를 붙입니다.
+     *
+     * @param template 메시지 템플릿
+     * @return 템플릿 ID, 최대 개수를 넘어 등록할 수 없으면 -1
+     */
+    public int idOf(String template) {
+        Integer id = ids.get(template);
+        return id != null ? id : register(template);
+    }
+
+    private synchronized int register(String template) {
+        Integer id = ids.get(template);
+        if (id != null) {
+            return id;
+        }
+        if (templates.size() >= maxTemplates) {
+            return -1;
+        }
+        id = templates.size();
+        templates.put(id, template);
+        ids.put(template, id);
+        return id;
+    }
+
+    /**
+     * @param id 템플릿 ID
+     * @return 템플릿 문자열, 없으면 null
+     */
+    String templateOf(int id) {
+        return templates.get(id);
+    }
+
+    /**
+     * @return 등록된 템플릿 수
+     */
+    public int size() {
+        return templates.size();
+    }
+
+    /**
+     * 배치가 참조하는 템플릿의 ID와 문자열 표를 만듭니다. 인코딩된 이벤트를 한 번 훑어 {@code "templateId":} 뒤의 숫자를 모읍니다.
+     *
+     * @param batch 전송할 배치
+     * @return ID(문자열)별 템플릿, 참조하는 템플릿이 없으면 빈 맵
+     * @throws IOException 배치를 읽는 중 오류
+     */
+    Map<String, String> tableFor(LogEventQueue.Batch batch) throws IOException {
+        TemplateIdCollector collector = new TemplateIdCollector();
+        batch.writeJsonArray(collector);
+        return tableFor(collector.ids);
+    }
+
+    /**
+     * JSON 배열 문자열로 된 배치가 참조하는 템플릿 표를 만듭니다. {@link #tableFor(LogEventQueue.Batch)}와 같습니다.
+     *
+     * @param jsonArray 전송할 배치
+     * @return ID(문자열)별 템플릿, 참조하는 템플릿이 없으면 빈 맵
+     */
+    Map<String, String> tableFor(String jsonArray) {
+        return tableFor(jsonArray.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * UTF-8 JSON 배열로 된 배치가 참조하는 템플릿 표를 만듭니다. {@link #tableFor(LogEventQueue.Batch)}와 같습니다.
+     *
+     * @param jsonArray 전송할 배치
+     * @return ID(문자열)별 템플릿, 참조하는 템플릿이 없으면 빈 맵
+     */
+    Map<String, String> tableFor(byte[] jsonArray) {
+        TemplateIdCollector collector = new TemplateIdCollector();
+        collector.write(jsonArray, 0, jsonArray.length);
+        return tableFor(collector.ids);
+    }
+
+    private Map<String, String> tableFor(BitSet referenced) {
+        Map<String, String> table = new LinkedHashMap<>();
+        for (int id = referenced.nextSetBit(0); id >= 0; id = referenced.nextSetBit(id + 1)) {
+            // 사용자 필드에 같은 이름이 있어 잘못 모은 ID는 표에 없으므로 건너뜀
+            String template = templates.get(id);
+            if (template != null) {
+                table.put(Integer.toString(id), template);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * 인코딩된 이벤트에서 {@code "templateId":} 뒤의 숫자를 모으는 스트림입니다. 바이트를 저장하지 않습니다.
+     */
+    private final class TemplateIdCollector extends OutputStream {
+
+        private final byte[] key = ("\"" + TEMPLATE_ID_FIELD + "\":").getBytes(StandardCharsets.UTF_8);
+        private final BitSet ids = new BitSet();
+        private int matched;
+        private int value = -1;
+        private int digits;
+
+        @Override
+        public void write(int b) {
+            if (value >= 0) {
+                if (b >= '0' && b <= '9' && digits < 9) {
+                    value = value * 10 + (b - '0');
+                    digits++;
+                    return;
+                }
+                if (digits > 0 && value < maxTemplates) {
+                    ids.set(value);
+                }
+                value = -1;
+            }
+            if (b == key[matched]) {
+                if (++matched == key.length) {
+                    matched = 0;
+                    value = 0;
+                    digits = 0;
+                }
+            } else {
+                matched = b == key[0] ? 1 : 0;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+}
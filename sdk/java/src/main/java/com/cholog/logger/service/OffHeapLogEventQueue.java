@@ -0,0 +1,322 @@
+package com.cholog.logger.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * 이벤트를 UTF-8로 인코딩해 힙 밖(direct {@link ByteBuffer})의 슬랩에 보관하는 {@link LogEventQueue}입니다.
+ *
+ * 슬랩은 {@link SlabArena}가 미리 할당한 하나의 direct 버퍼를 같은 크기로 나눈 것이며, 큐는 슬랩을 순서대로 이어 쓰는 링처럼 사용합니다.
+ * 이벤트는 {@code [길이(4바이트)][UTF-8 바이트]} 형식으로 기록되고, 아레나의 슬랩이 모두 사용 중이면 더 이상 추가하지 않습니다.
+ * 따라서 큐에 쌓인 로그는 GC 대상 힙을 차지하지 않으며, 전체 크기는 아레나 크기를 넘지 않습니다.
+ *
+ * {@link #drainBatch(int)}는 이벤트를 복사하지 않고 슬랩의 해당 구간을 가리키는 읽기 전용 버퍼로 넘기며, 요청 본문은 이 구간에서 바로 스트림으로 씁니다.
+ * 배치가 가리키는 슬랩은 {@link Batch#release()}가 호출될 때까지 재사용되지 않습니다.
+ * 모든 연산은 큐 객체로 동기화됩니다. 인코딩은 잠금 밖에서 수행합니다.
+ */
+final class OffHeapLogEventQueue implements LogEventQueue {
+
+    private static final int LENGTH_PREFIX_BYTES = Integer.BYTES;
+    /** 슬랩에서 요청 본문 스트림으로 옮길 때 쓰는 버퍼 크기 */
+    private static final int TRANSFER_CHUNK_BYTES = 8 * 1024;
+
+    private final SlabArena arena;
+    private final IntSupplier capacity;
+
+    // 아래 필드는 this로 동기화
+    /** 사용 중인 슬랩 (첫 번째에서 읽고 마지막에 씀) */
+    private final ArrayDeque<Slab> slabs = new ArrayDeque<>();
+    private int count;
+    private long bytes;
+
+    /**
+     * @param arena    슬랩을 빌려 올 아레나 (여러 큐가 나눠 쓸 수 있음)
+     * @param capacity 최대 이벤트 수 (실행 중에 바뀔 수 있으므로 추가할 때마다 읽음)
+     */
+    OffHeapLogEventQueue(SlabArena arena, IntSupplier capacity) {
+        this.arena = arena;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 슬랩 하나보다 큰 이벤트는 추가하지 않습니다.
+     */
+    @Override
+    public boolean offer(String event) {
+        byte[] encoded = event.getBytes(StandardCharsets.UTF_8);
+        int recordSize = LENGTH_PREFIX_BYTES + encoded.length;
+        if (recordSize > arena.getSlabSize()) {
+            return false;
+        }
+        synchronized (this) {
+            if (count >= capacity.getAsInt()) {
+                return false;
+            }
+            Slab tail = slabs.peekLast();
+            if (tail != null && tail.isDrained() && tail.leases == 0) {
+                tail.reset(); // 다 읽은 마지막 슬랩은 처음부터 다시 사용
+            }
+            if (tail == null || tail.remaining() < recordSize) {
+                ByteBuffer buffer = arena.acquire();
+                if (buffer == null) {
+                    return false; // 바이트 예산 소진
+                }
+                tail = new Slab(buffer);
+                slabs.addLast(tail);
+            }
+            tail.buffer.putInt(tail.writePos, encoded.length);
+            tail.buffer.put(tail.writePos + LENGTH_PREFIX_BYTES, encoded);
+            tail.writePos += recordSize;
+            count++;
+            bytes += recordSize;
+            return true;
+        }
+    }
+
+    @Override
+    public synchronized String poll() {
+        ByteBuffer record = next(null);
+        return record != null ? decode(record) : null;
+    }
+
+    @Override
+    public synchronized int drainTo(List<String> target, int maxEvents) {
+        int drained = 0;
+        ByteBuffer record;
+        while (drained < maxEvents && (record = next(null)) != null) {
+            target.add(decode(record));
+            drained++;
+        }
+        return drained;
+    }
+
+    @Override
+    public synchronized Batch drainBatch(int maxEvents) {
+        if (count == 0) {
+            return null;
+        }
+        List<ByteBuffer> records = new ArrayList<>(Math.min(maxEvents, count));
+        List<Slab> pinned = new ArrayList<>(2);
+        ByteBuffer record;
+        while (records.size() < maxEvents && (record = next(pinned)) != null) {
+            records.add(record);
+        }
+        return new OffHeapBatch(records, pinned);
+    }
+
+    @Override
+    public synchronized int size() {
+        return count;
+    }
+
+    @Override
+    public synchronized long byteSize() {
+        return bytes;
+    }
+
+    /**
+     * 가장 오래된 이벤트를 꺼내 슬랩의 해당 구간을 반환합니다. 다 읽은 슬랩은 아레나에 반납합니다.
+     *
+     * @param pinned 꺼낸 구간을 배치로 넘기는 경우 고정할 슬랩 목록, 바로 디코딩하는 경우 null
+     * @return 이벤트 구간 (읽기 전용), 큐가 비어 있으면 null
+     */
+    private ByteBuffer next(List<Slab> pinned) {
+        if (count == 0) {
+            return null;
+        }
+        Slab head = slabs.peekFirst();
+        while (head.isDrained()) { // count > 0이므로 뒤에 슬랩이 있음
+            retire(slabs.pollFirst());
+            head = slabs.peekFirst();
+        }
+        int length = head.buffer.getInt(head.readPos);
+        ByteBuffer record = head.buffer.slice(head.readPos + LENGTH_PREFIX_BYTES, length).asReadOnlyBuffer();
+        head.readPos += LENGTH_PREFIX_BYTES + length;
+        count--;
+        bytes -= LENGTH_PREFIX_BYTES + length;
+        if (pinned != null && (pinned.isEmpty() || pinned.get(pinned.size() - 1) != head)) {
+            head.leases++;
+            pinned.add(head);
+        }
+        if (head.isDrained() && slabs.size() > 1) {
+            retire(slabs.pollFirst());
+        }
+        return record;
+    }
+
+    private void retire(Slab slab) {
+        slab.retired = true;
+        if (slab.leases == 0) {
+            arena.release(slab.buffer);
+        }
+    }
+
+    private synchronized void unpin(List<Slab> pinned) {
+        for (Slab slab : pinned) {
+            if (--slab.leases == 0 && slab.retired) {
+                arena.release(slab.buffer);
+            }
+        }
+    }
+
+    private static String decode(ByteBuffer record) {
+        return StandardCharsets.UTF_8.decode(record).toString();
+    }
+
+    /**
+     * 아레나에서 빌린 슬랩 하나와 읽기/쓰기 위치입니다 (큐 객체로 동기화).
+     */
+    private static final class Slab {
+        private final ByteBuffer buffer;
+        private int readPos;
+        private int writePos;
+        /** 이 슬랩의 구간을 가리키는 반납되지 않은 배치 수 */
+        private int leases;
+        /** 큐에서 빠졌으며 배치가 모두 반납되면 아레나로 돌아갈 상태 */
+        private boolean retired;
+
+        private Slab(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private boolean isDrained() {
+            return readPos == writePos;
+        }
+
+        private int remaining() {
+            return buffer.capacity() - writePos;
+        }
+
+        private void reset() {
+            readPos = 0;
+            writePos = 0;
+        }
+    }
+
+    private final class OffHeapBatch implements Batch {
+        private final List<ByteBuffer> records;
+        private List<Slab> pinned;
+
+        private OffHeapBatch(List<ByteBuffer> records, List<Slab> pinned) {
+            this.records = records;
+            this.pinned = pinned;
+        }
+
+        @Override
+        public int size() {
+            return records.size();
+        }
+
+        @Override
+        public long jsonArrayLength() {
+            long length = 1 + records.size(); // '[' + 구분자 + ']'
+            for (ByteBuffer record : records) {
+                length += record.remaining();
+            }
+            return length;
+        }
+
+        /**
+         * 슬랩의 바이트를 작은 전송 버퍼를 거쳐 스트림에 씁니다 (문자열로 디코딩하거나 배치 전체를 복사하지 않음).
+         */
+        @Override
+        public void writeJsonArray(OutputStream out) throws IOException {
+            byte[] chunk = new byte[TRANSFER_CHUNK_BYTES];
+            out.write('[');
+            for (int i = 0; i < records.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                ByteBuffer record = records.get(i);
+                int position = record.position();
+                int end = record.limit();
+                while (position < end) {
+                    int length = Math.min(chunk.length, end - position);
+                    record.get(position, chunk, 0, length);
+                    out.write(chunk, 0, length);
+                    position += length;
+                }
+            }
+            out.write(']');
+        }
+
+        @Override
+        public List<String> toList() {
+            List<String> events = new ArrayList<>(records.size());
+            for (ByteBuffer record : records) {
+                events.add(decode(record.duplicate()));
+            }
+            return events;
+        }
+
+        @Override
+        public void release() {
+            List<Slab> slabsToUnpin;
+            synchronized (this) {
+                slabsToUnpin = pinned;
+                pinned = null;
+            }
+            if (slabsToUnpin != null) {
+                unpin(slabsToUnpin);
+            }
+        }
+    }
+
+    /**
+     * 큐가 사용할 direct 버퍼를 한 번에 할당하고 같은 크기의 슬랩으로 나누어 빌려주는 아레나입니다.
+     * 여러 큐(일반 레인, 긴급 레인)가 나눠 쓰며, 아레나 크기가 두 큐를 합친 바이트 예산이 됩니다.
+     * 메모리는 생성 시 모두 할당되므로 {@code -XX:MaxDirectMemorySize}가 아레나 크기보다 커야 합니다.
+     */
+    static final class SlabArena {
+        private final int slabSize;
+        private final int slabCount;
+        // 아래 필드는 this로 동기화
+        private final ArrayDeque<ByteBuffer> free;
+
+        /**
+         * @param maxBytes 아레나 크기 (슬랩 크기의 배수로 내림, 2GB 미만)
+         * @param slabSize 슬랩 크기 (이벤트 하나의 최대 크기)
+         */
+        SlabArena(long maxBytes, int slabSize) {
+            this.slabSize = slabSize;
+            this.slabCount = (int) Math.max(2, Math.min(maxBytes, Integer.MAX_VALUE) / slabSize);
+            ByteBuffer memory = ByteBuffer.allocateDirect(Math.multiplyExact(slabCount, slabSize));
+            this.free = new ArrayDeque<>(slabCount);
+            for (int i = 0; i < slabCount; i++) {
+                free.add(memory.slice(i * slabSize, slabSize));
+            }
+        }
+
+        synchronized ByteBuffer acquire() {
+            return free.pollFirst();
+        }
+
+        synchronized void release(ByteBuffer slab) {
+            free.addFirst(slab); // 최근 사용한 슬랩부터 다시 사용
+        }
+
+        int getSlabSize() {
+            return slabSize;
+        }
+
+        /**
+         * @return 아레나 전체 크기 (바이트)
+         */
+        long getCapacityBytes() {
+            return (long) slabCount * slabSize;
+        }
+
+        /**
+         * @return 큐나 전송 중인 배치가 사용 중인 슬랩의 크기 합 (바이트)
+         */
+        synchronized long getUsedBytes() {
+            return (long) (slabCount - free.size()) * slabSize;
+        }
+    }
+}
@@ -0,0 +1,524 @@
+package com.cholog.logger.service;
+
+import com.cholog.logger.config.LogServerProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 민감 정보 탐지 및 마스킹을 담당하는 공용 엔진입니다.
+ * {@link com.cholog.logger.filter.RequestTimingFilter}, {@link com.cholog.logger.filter.RequestBodyLoggingFilter},
+ * {@link com.cholog.logger.filter.RequestResponseLoggingFilter}, {@link LogSenderService}가 모두 이 빈 하나를 공유합니다.
+ *
+ * 주요 기능:
+ * - 키워드 탐지: 모든 키워드를 하나의 Aho-Corasick 오토마톤으로 구성하여, 이름(헤더/파라미터/JSON 경로)을
+ *   키워드 수와 무관하게 한 번의 순회로 검사 (소문자 변환 문자열 생성 없음)
+ * - 값 탐지: 카드 번호, 이메일, 주민등록번호 내장 탐지기를 하나의 단일 패스 스캐너(DFA 방식, 역추적 없음)로 결합하여
+ *   텍스트를 한 번만 순회하며 검사. 사용자 정의 값 정규식은 하나의 사전 컴파일된 대체(alternation) 패턴으로 결합
+ * - 경로 탐지: {@link LogServerProperties#getSensitivePatterns()} 중 단순 문자열은 오토마톤에, 정규식은 결합 패턴에 포함
+ *
+ * 이 클래스의 모든 메소드는 스레드 안전합니다 (생성 이후 불변).
+ *
+ * @see LogServerProperties#getRedactionKeywords()
+ * @see LogServerProperties#getRedactionValueDetectors()
+ */
+@Component
+public class RedactionEngine {
+
+    /** 민감 헤더 이름 키워드 */
+    private static final String[] DEFAULT_HEADER_KEYWORDS = {
+        "authorization", "auth", "cookie", "jwt", "token", "password", "secret", "credential", "key",
+        "x-api-key", "api-key", "apikey", "access", "private"
+    };
+
+    /** 민감 파라미터/필드 이름 키워드 */
+    private static final String[] DEFAULT_KEY_KEYWORDS = {
+        "password", "pwd", "secret", "token", "auth", "key", "apikey", "api-key", "credential",
+        "card", "credit", "cvv", "cvc", "pin", "ssn", "social", "sin", "tax", "fiscal",
+        "passport", "license", "national", "identity", "private"
+    };
+
+    /** 값 탐지기 이름: 신용카드 번호 (16자리, 공백/하이픈 구분 허용) */
+    public static final String DETECTOR_CARD = "card";
+    /** 값 탐지기 이름: 이메일 주소 */
+    public static final String DETECTOR_EMAIL = "email";
+    /** 값 탐지기 이름: 주민등록번호 (YYMMDD-XXXXXXX) */
+    public static final String DETECTOR_RRN = "rrn";
+
+    /** 단순 문자열로 취급할 경로 패턴 (정규식 메타문자 없음) */
+    private static final Pattern LITERAL = Pattern.compile("[A-Za-z0-9_\\-]+");
+
+    private final KeywordAutomaton headerKeywords;
+    private final KeywordAutomaton keyKeywords;
+    private final KeywordAutomaton pathKeywords;
+    private final Pattern pathPattern;
+    private final boolean detectCard;
+    private final boolean detectEmail;
+    private final boolean detectRrn;
+    /** 사용자 정의 값 정규식의 결합 패턴 (없으면 null) */
+    private final Pattern customValuePattern;
+    private final String replacement;
+    private final boolean redactBodies;
+
+    /**
+     * 설정으로부터 엔진을 생성합니다. 키워드 오토마톤과 결합 패턴은 이 시점에 한 번만 구성됩니다.
+     *
+     * @param properties 로그 서버 설정
+     */
+    public RedactionEngine(LogServerProperties properties) {
+        this.replacement = properties.getSensitiveValueReplacement();
+        this.redactBodies = properties.isRedactBodies();
+
+        List<String> extraKeywords = properties.getRedactionKeywords() != null
+                ? properties.getRedactionKeywords() : List.of();
+        this.headerKeywords = new KeywordAutomaton(merge(Arrays.asList(DEFAULT_HEADER_KEYWORDS), extraKeywords));
+        this.keyKeywords = new KeywordAutomaton(merge(Arrays.asList(DEFAULT_KEY_KEYWORDS), extraKeywords));
+
+        // 경로 패턴: 단순 문자열은 오토마톤으로, 정규식은 하나의 대체(alternation) 패턴으로 결합
+        List<String> literalPaths = new ArrayList<>();
+        List<String> regexPaths = new ArrayList<>();
+        if (properties.getSensitivePatterns() != null) {
+            for (String pattern : properties.getSensitivePatterns()) {
+                if (pattern == null || pattern.isEmpty()) {
+                    continue;
+                }
+                if (LITERAL.matcher(pattern).matches()) {
+                    literalPaths.add(pattern);
+                } else {
+                    regexPaths.add(pattern);
+                }
+            }
+        }
+        this.pathKeywords = literalPaths.isEmpty() ? null : new KeywordAutomaton(literalPaths);
+        this.pathPattern = regexPaths.isEmpty() ? null : Pattern.compile(alternation(regexPaths), Pattern.CASE_INSENSITIVE);
+
+        // 값 탐지기: 내장 탐지기는 단일 패스 스캐너로, 사용자 정의 정규식은 하나의 결합 패턴으로
+        boolean card = false;
+        boolean email = false;
+        boolean rrn = false;
+        List<String> detectors = properties.getRedactionValueDetectors() != null
+                ? properties.getRedactionValueDetectors() : List.of();
+        for (String detector : detectors) {
+            String name = detector.trim().toLowerCase(Locale.ROOT);
+            if (DETECTOR_CARD.equals(name)) {
+                card = true;
+            } else if (DETECTOR_EMAIL.equals(name)) {
+                email = true;
+            } else if (DETECTOR_RRN.equals(name)) {
+                rrn = true;
+            } else {
+                throw new IllegalArgumentException("Unknown redaction value detector: " + detector);
+            }
+        }
+        this.detectCard = card;
+        this.detectEmail = email;
+        this.detectRrn = rrn;
+        List<String> customValuePatterns = properties.getRedactionValuePatterns() != null
+                ? properties.getRedactionValuePatterns() : List.of();
+        this.customValuePattern = customValuePatterns.isEmpty() ? null : Pattern.compile(alternation(customValuePatterns));
+    }
+
+    private static Collection<String> merge(List<String> defaults, List<String> extra) {
+        Set<String> merged = new LinkedHashSet<>(defaults);
+        merged.addAll(extra);
+        return merged;
+    }
+
+    private static String alternation(List<String> regexes) {
+        StringBuilder sb = new StringBuilder();
+        for (String regex : regexes) {
+            if (sb.length() > 0) {
+                sb.append('|');
+            }
+            sb.append("(?:").append(regex).append(')');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return 민감 정보 대체 문자열
+     */
+    public String getReplacement() {
+        return replacement;
+    }
+
+    /**
+     * 헤더 이름이 민감 헤더인지 확인합니다 (대소문자 무시, 부분 일치).
+     *
+     * @param name 헤더 이름
+     * @return 민감 헤더이면 {@code true}
+     */
+    public boolean isSensitiveHeader(String name) {
+        return name != null && headerKeywords.containsAny(name);
+    }
+
+    /**
+     * 파라미터 또는 필드 이름이 민감 키워드를 포함하는지 확인합니다 (대소문자 무시, 부분 일치).
+     *
+     * @param name 파라미터/필드 이름
+     * @return 민감 이름이면 {@code true}
+     */
+    public boolean isSensitiveKey(String name) {
+        return name != null && keyKeywords.containsAny(name);
+    }
+
+    /**
+     * 값 전체가 민감 정보 패턴(카드 번호, 이메일, 주민등록번호 등)과 일치하는지 확인합니다.
+     *
+     * @param value 확인할 값
+     * @return 민감 값이면 {@code true}
+     */
+    public boolean isSensitiveValue(String value) {
+        if (value == null || value.length() < 5) {
+            return false; // 짧은 값은 검사 제외
+        }
+        long match = findBuiltIn(value, 0);
+        if (match >= 0 && matchStart(match) == 0 && matchEnd(match) == value.length()) {
+            return true;
+        }
+        return customValuePattern != null && customValuePattern.matcher(value).matches();
+    }
+
+    /**
+     * 텍스트(요청/응답 본문 등) 안에 포함된 민감 값을 찾아 대체 문자열로 치환합니다.
+     * {@link LogServerProperties#isRedactBodies()}가 {@code false}이면 원본을 그대로 반환합니다.
+     *
+     * @param text 원본 텍스트
+     * @return 민감 값이 치환된 텍스트
+     */
+    public String redactValues(String text) {
+        if (!redactBodies || text == null || text.length() < 5) {
+            return text;
+        }
+        String result = text;
+        long match = findBuiltIn(text, 0);
+        if (match >= 0) {
+            StringBuilder sb = new StringBuilder(text.length());
+            int last = 0;
+            do {
+                sb.append(text, last, matchStart(match)).append(replacement);
+                last = matchEnd(match);
+                match = findBuiltIn(text, last);
+            } while (match >= 0);
+            result = sb.append(text, last, text.length()).toString();
+        }
+        if (customValuePattern != null) {
+            Matcher matcher = customValuePattern.matcher(result);
+            if (matcher.find()) {
+                StringBuilder sb = new StringBuilder(result.length());
+                int last = 0;
+                do {
+                    sb.append(result, last, matcher.start()).append(replacement);
+                    last = matcher.end();
+                } while (matcher.find());
+                result = sb.append(result, last, result.length()).toString();
+            }
+        }
+        return result;
+    }
+
+    // --- 내장 값 탐지기: 단일 패스 스캐너 ---
+    // 각 탐지기는 고정 길이 구조이므로 시작 위치가 정해지면 역추적 없이 결정적으로 판별됩니다.
+    //   card  : (?<!\d)\d{4}[\s-]?\d{4}[\s-]?\d{4}[\s-]?\d{4}(?!\d)
+    //   rrn   : (?<!\d)\d{2}(0[1-9]|1[0-2])(0[1-9]|[12]\d|3[01])[\s-]?[1-4]\d{6}(?!\d)
+    //   email : [a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\.[a-zA-Z]{2,}  ('@' 위치에서 좌우로 확장)
+
+    /**
+     * {@code from} 위치부터 가장 먼저 나타나는 내장 탐지기 매치를 찾습니다.
+     *
+     * @return 매치가 있으면 (start &lt;&lt; 32 | end), 없으면 -1
+     */
+    private long findBuiltIn(String text, int from) {
+        if (!detectCard && !detectEmail && !detectRrn) {
+            return -1;
+        }
+        int n = text.length();
+        // 이메일은 '@'에서 왼쪽으로 확장되므로, 숫자 매치보다 앞서 시작하는 이메일을 놓치지 않도록 다음 '@' 위치를 기준으로 함
+        long email = detectEmail ? findEmail(text, from) : -1;
+        int limit = email >= 0 ? matchStart(email) : n;
+        for (int i = from; i < limit; i++) {
+            char c = text.charAt(i);
+            if (isDigit(c) && (i == 0 || !isDigit(text.charAt(i - 1)))) {
+                int end = -1;
+                if (detectCard) {
+                    end = matchCard(text, i);
+                }
+                if (end < 0 && detectRrn) {
+                    end = matchRrn(text, i);
+                }
+                if (end >= 0) {
+                    return ((long) i << 32) | end;
+                }
+            }
+        }
+        return email;
+    }
+
+    private static int matchCard(String text, int i) {
+        int n = text.length();
+        int pos = i;
+        for (int group = 0; group < 4; group++) {
+            if (group > 0 && pos < n && isSeparator(text.charAt(pos))) {
+                pos++;
+            }
+            for (int d = 0; d < 4; d++, pos++) {
+                if (pos >= n || !isDigit(text.charAt(pos))) {
+                    return -1;
+                }
+            }
+        }
+        return pos < n && isDigit(text.charAt(pos)) ? -1 : pos;
+    }
+
+    private static int matchRrn(String text, int i) {
+        int n = text.length();
+        if (i + 13 > n) {
+            return -1;
+        }
+        for (int k = 0; k < 6; k++) {
+            if (!isDigit(text.charAt(i + k))) {
+                return -1;
+            }
+        }
+        int month = (text.charAt(i + 2) - '0') * 10 + (text.charAt(i + 3) - '0');
+        int day = (text.charAt(i + 4) - '0') * 10 + (text.charAt(i + 5) - '0');
+        if (month < 1 || month > 12 || day < 1 || day > 31) {
+            return -1;
+        }
+        int pos = i + 6;
+        if (isSeparator(text.charAt(pos))) {
+            pos++;
+        }
+        if (pos + 7 > n || text.charAt(pos) < '1' || text.charAt(pos) > '4') {
+            return -1;
+        }
+        for (int k = 1; k < 7; k++) {
+            if (!isDigit(text.charAt(pos + k))) {
+                return -1;
+            }
+        }
+        pos += 7;
+        return pos < n && isDigit(text.charAt(pos)) ? -1 : pos;
+    }
+
+    private static long findEmail(String text, int from) {
+        int n = text.length();
+        for (int at = text.indexOf('@', from); at >= 0; at = text.indexOf('@', at + 1)) {
+            int start = at;
+            while (start > from && isLocalChar(text.charAt(start - 1))) {
+                start--;
+            }
+            if (start == at) {
+                continue;
+            }
+            int domainEnd = at + 1;
+            while (domainEnd < n && isDomainChar(text.charAt(domainEnd))) {
+                domainEnd++;
+            }
+            // 도메인 구간에서 '.' + 영문자 2개 이상으로 끝날 수 있는 가장 뒤쪽 위치를 선택 (정규식의 greedy 매칭과 동일)
+            for (int dot = domainEnd - 1; dot > at + 1; dot--) {
+                if (text.charAt(dot) != '.') {
+                    continue;
+                }
+                int end = dot + 1;
+                while (end < domainEnd && isLetter(text.charAt(end))) {
+                    end++;
+                }
+                if (end - dot - 1 >= 2) {
+                    return ((long) start << 32) | end;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static int matchStart(long match) {
+        return (int) (match >>> 32);
+    }
+
+    private static int matchEnd(long match) {
+        return (int) match;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '-' || c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == '\u000B';
+    }
+
+    private static boolean isLocalChar(char c) {
+        return isLetter(c) || isDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isLetter(c) || isDigit(c) || c == '.' || c == '-';
+    }
+
+    /**
+     * JSON 경로 필터링 규칙({@link LogServerProperties#getSensitivePatterns()})이 하나라도 있는지 반환합니다.
+     *
+     * @return 경로 규칙이 있으면 {@code true}
+     */
+    public boolean hasPathRules() {
+        return pathKeywords != null || pathPattern != null;
+    }
+
+    /**
+     * JSON 경로(예: {@code user.password}, {@code items[0].cardNo})가 민감 경로 패턴과 일치하는지 확인합니다.
+     *
+     * @param path 점(.)으로 구분된 필드 경로
+     * @return 민감 경로이면 {@code true}
+     */
+    public boolean isSensitivePath(String path) {
+        if (path == null) {
+            return false;
+        }
+        if (pathKeywords != null && pathKeywords.containsAny(path)) {
+            return true;
+        }
+        return pathPattern != null && pathPattern.matcher(path).find();
+    }
+
+    /**
+     * 대소문자를 무시하는 Aho-Corasick 키워드 오토마톤입니다.
+     * ASCII 문자에 대한 완전한 상태 전이표(DFA)를 미리 계산하므로, 검사 시 입력 문자열을 한 번만 순회합니다.
+     * ASCII 이외의 문자를 포함한 키워드는 드물기 때문에 별도로 부분 문자열 검사를 수행합니다.
+     */
+    static final class KeywordAutomaton {
+
+        private static final int ALPHABET = 128;
+
+        private final int[][] transitions;
+        private final boolean[] accepting;
+        private final String[] nonAsciiKeywords;
+
+        KeywordAutomaton(Collection<String> keywords) {
+            List<int[]> trie = new ArrayList<>();
+            List<Boolean> terminal = new ArrayList<>();
+            List<String> nonAscii = new ArrayList<>();
+            trie.add(newState());
+            terminal.add(false);
+
+            for (String keyword : keywords) {
+                if (keyword == null || keyword.isEmpty()) {
+                    continue;
+                }
+                String lower = keyword.toLowerCase(Locale.ROOT);
+                if (!isAscii(lower)) {
+                    nonAscii.add(lower);
+                    continue;
+                }
+                int state = 0;
+                for (int i = 0; i < lower.length(); i++) {
+                    char c = lower.charAt(i);
+                    if (trie.get(state)[c] < 0) {
+                        trie.get(state)[c] = trie.size();
+                        trie.add(newState());
+                        terminal.add(false);
+                    }
+                    state = trie.get(state)[c];
+                }
+                terminal.set(state, true);
+            }
+
+            // BFS로 실패 링크를 계산하면서 전이표를 완성 (goto + failure -> DFA)
+            int size = trie.size();
+            int[] failure = new int[size];
+            boolean[] accept = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                accept[i] = terminal.get(i);
+            }
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            int[] root = trie.get(0);
+            for (int c = 0; c < ALPHABET; c++) {
+                if (root[c] < 0) {
+                    root[c] = 0;
+                } else {
+                    failure[root[c]] = 0;
+                    queue.add(root[c]);
+                }
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                int[] row = trie.get(state);
+                accept[state] |= accept[failure[state]];
+                int[] failRow = trie.get(failure[state]);
+                for (int c = 0; c < ALPHABET; c++) {
+                    if (row[c] < 0) {
+                        row[c] = failRow[c];
+                    } else {
+                        failure[row[c]] = failRow[c];
+                        queue.add(row[c]);
+                    }
+                }
+            }
+
+            this.transitions = trie.toArray(new int[0][]);
+            this.accepting = accept;
+            this.nonAsciiKeywords = nonAscii.toArray(new String[0]);
+        }
+
+        private static int[] newState() {
+            int[] row = new int[ALPHABET];
+            Arrays.fill(row, -1);
+            return row;
+        }
+
+        private static boolean isAscii(String s) {
+            for (int i = 0; i < s.length(); i++) {
+                if (s.charAt(i) >= ALPHABET) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 텍스트가 키워드 중 하나라도 포함하는지 확인합니다 (대소문자 무시).
+         *
+         * @param text 검사할 텍스트
+         * @return 포함하면 {@code true}
+         */
+        boolean containsAny(CharSequence text) {
+            int state = 0;
+            for (int i = 0, n = text.length(); i < n; i++) {
+                char c = text.charAt(i);
+                if (c >= ALPHABET) {
+                    state = 0;
+                    continue;
+                }
+                if (c >= 'A' && c <= 'Z') {
+                    c = (char) (c + ('a' - 'A'));
+                }
+                state = transitions[state][c];
+                if (accepting[state]) {
+                    return true;
+                }
+            }
+            if (nonAsciiKeywords.length > 0) {
+                String lower = text.toString().toLowerCase(Locale.ROOT);
+                for (String keyword : nonAsciiKeywords) {
+                    if (lower.contains(keyword)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
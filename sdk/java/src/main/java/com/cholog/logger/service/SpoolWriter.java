@@ -0,0 +1,320 @@
+package com.cholog.logger.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@code spool} 전송 방식에서 로그 배치를 로컬 스풀 파일에 기록하는 클래스입니다.
+ * 애플리케이션 프로세스는 네트워크 I/O 없이 메모리 매핑된 세그먼트 파일에 순차 기록만 수행하고,
+ * 사이드카로 실행되는 CHO:LOG Shipper가 스풀을 읽어 로그 서버로 전달합니다.
+ *
+ * 스풀 형식 (Shipper와의 계약):
+ *     세그먼트 파일 이름은 {@code spool-<20자리 순번>.ndjson}이며 이름순이 기록 순서입니다.
+ *     각 세그먼트는 설정된 크기로 미리 할당되어 0으로 채워져 있고, 앞에서부터 로그 JSON이 한 줄에 하나씩({@code \n} 종료) 기록됩니다.
+ *     첫 번째 0 바이트는 "아직 기록되지 않은 위치"를 의미하며, 줄바꿈으로 끝나지 않은 마지막 줄은 기록 중인 배치입니다.
+ *     세그먼트를 닫을 때는 데이터 끝에 봉인 표시({@code 0x04})를 기록하며, 봉인되었거나 파일 끝까지 채워진 세그먼트에는 더 이상 기록하지 않습니다.
+ * 프로세스가 비정상 종료되어 봉인되지 않은 세그먼트는 다음 시작 시 마지막 완전한 줄 뒤에 봉인 표시를 기록하여 정리하며,
+ * 새 로그는 항상 새 세그먼트에 기록합니다.
+ *
+ * @see LogSenderService
+ */
+final class SpoolWriter implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpoolWriter.class);
+
+    static final String SEGMENT_PREFIX = "spool-";
+    static final String SEGMENT_SUFFIX = ".ndjson";
+    static final byte SEAL_MARKER = 0x04;
+
+    private static final long MIN_SEGMENT_SIZE = 64 * 1024;
+
+    /**
+     * 스풀 파일 동기화(fsync) 정책입니다.
+     */
+    enum FsyncPolicy {
+        /** 운영체제의 페이지 캐시 플러시에 맡김 */
+        NONE,
+        /** 배치 기록마다 동기화 */
+        BATCH,
+        /** {@link #force()}가 주기적으로 호출될 때 동기화 */
+        INTERVAL;
+
+        /**
+         * 설정 문자열을 정책으로 변환합니다. 알 수 없는 값이면 {@link #INTERVAL}을 사용합니다.
+         *
+         * @param value 설정 값 ({@code none}, {@code batch}, {@code interval})
+         * @return 동기화 정책
+         */
+        static FsyncPolicy parse(String value) {
+            if (value != null) {
+                for (FsyncPolicy policy : values()) {
+                    if (policy.name().equalsIgnoreCase(value.trim())) {
+                        return policy;
+                    }
+                }
+            }
+            logger.warn("알 수 없는 스풀 동기화 정책 '{}'입니다. interval 정책을 사용합니다.", value);
+            return INTERVAL;
+        }
+    }
+
+    private final Path directory;
+    private final long segmentSize;
+    private final long maxTotalBytes;
+    private final FsyncPolicy fsyncPolicy;
+
+    private long nextSequence;
+    private Path currentPath;
+    private MappedByteBuffer currentBuffer;
+    private boolean dirty;
+    private long deletedSegments;
+
+    /**
+     * 스풀 디렉토리를 준비하고 새 세그먼트를 엽니다. 이전 실행에서 봉인되지 않은 세그먼트는 봉인합니다.
+     *
+     * @param directory     스풀 디렉토리
+     * @param segmentSize   세그먼트 파일 크기 (바이트)
+     * @param maxTotalBytes 스풀 디렉토리 최대 크기 (바이트), 0 이하이면 제한 없음
+     * @param fsyncPolicy   동기화 정책
+     * @throws IOException 디렉토리 생성 또는 세그먼트 매핑 실패 시
+     */
+    SpoolWriter(Path directory, long segmentSize, long maxTotalBytes, FsyncPolicy fsyncPolicy) throws IOException {
+        this.directory = directory;
+        this.segmentSize = Math.max(MIN_SEGMENT_SIZE, Math.min(segmentSize, Integer.MAX_VALUE));
+        this.maxTotalBytes = maxTotalBytes;
+        this.fsyncPolicy = fsyncPolicy;
+
+        Files.createDirectories(directory);
+        List<Path> segments = listSegments(directory);
+        for (Path segment : segments) {
+            sealIfOpen(segment);
+        }
+        this.nextSequence = segments.isEmpty() ? 1 : sequenceOf(segments.get(segments.size() - 1)) + 1;
+        openSegment(this.segmentSize);
+    }
+
+    /**
+     * 로그 배치를 현재 세그먼트에 한 번의 순차 기록으로 추가합니다.
+     * 남은 공간이 부족하면 현재 세그먼트를 봉인하고 새 세그먼트로 교체합니다.
+     *
+     * @param logs 기록할 로그 목록 (각 항목은 JSON 객체 문자열)
+     * @throws IOException 세그먼트 교체 실패 또는 이미 닫힌 경우
+     */
+    synchronized void append(List<String> logs) throws IOException {
+        if (currentBuffer == null) {
+            throw new IOException("Spool writer is closed");
+        }
+        if (logs.isEmpty()) {
+            return;
+        }
+        byte[] data = encode(logs);
+        // 봉인 표시를 위해 항상 1바이트를 남겨 둠
+        if (data.length >= currentBuffer.remaining()) {
+            rotate(Math.max(segmentSize, (long) data.length + 1));
+        }
+        int start = currentBuffer.position();
+        currentBuffer.put(data);
+        if (fsyncPolicy == FsyncPolicy.BATCH) {
+            currentBuffer.force(start, data.length);
+        } else {
+            dirty = true;
+        }
+    }
+
+    /**
+     * 마지막 동기화 이후 기록된 내용을 디스크에 동기화합니다. {@code interval} 정책에서 주기적으로 호출됩니다.
+     */
+    synchronized void force() {
+        if (currentBuffer != null && dirty) {
+            currentBuffer.force();
+            dirty = false;
+        }
+    }
+
+    /**
+     * @return 용량 제한으로 삭제된 세그먼트 수
+     */
+    synchronized long getDeletedSegments() {
+        return deletedSegments;
+    }
+
+    /**
+     * @return 동기화 정책
+     */
+    FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    /**
+     * 현재 세그먼트를 봉인하고 동기화합니다. 이후 {@link #append(List)} 호출은 실패합니다.
+     */
+    @Override
+    public synchronized void close() {
+        if (currentBuffer != null) {
+            seal();
+        }
+    }
+
+    private void rotate(long newSegmentSize) throws IOException {
+        seal();
+        enforceRetention(newSegmentSize);
+        openSegment(newSegmentSize);
+    }
+
+    private void seal() {
+        if (currentBuffer.hasRemaining()) {
+            currentBuffer.put(SEAL_MARKER);
+        }
+        if (fsyncPolicy != FsyncPolicy.NONE) {
+            currentBuffer.force();
+        }
+        dirty = false;
+        // 매핑은 GC 시 해제됨 (Java 17에는 명시적 해제 API가 없음)
+        currentBuffer = null;
+    }
+
+    private void openSegment(long size) throws IOException {
+        Path path = directory.resolve(segmentName(nextSequence++));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 매핑된 버퍼는 채널을 닫은 뒤에도 유효함
+            currentBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        currentPath = path;
+        logger.debug("새 스풀 세그먼트를 열었습니다: {} ({} bytes)", path.getFileName(), size);
+    }
+
+    /**
+     * 새 세그먼트를 추가해도 최대 크기를 넘지 않도록 가장 오래된 세그먼트부터 삭제합니다.
+     */
+    private void enforceRetention(long incomingSize) {
+        if (maxTotalBytes <= 0) {
+            return;
+        }
+        try {
+            List<Path> segments = listSegments(directory);
+            long total = incomingSize;
+            for (Path segment : segments) {
+                total += Files.size(segment);
+            }
+            int deleted = 0;
+            for (Path segment : segments) {
+                if (total <= maxTotalBytes || segment.equals(currentPath)) {
+                    break;
+                }
+                long size = Files.size(segment);
+                if (Files.deleteIfExists(segment)) {
+                    total -= size;
+                    deleted++;
+                }
+            }
+            if (deleted > 0) {
+                deletedSegments += deleted;
+                logger.warn("스풀 디렉토리가 최대 크기({} bytes)를 넘어 전달되지 않은 세그먼트 {}개를 삭제했습니다. Shipper 상태를 확인하세요.",
+                        maxTotalBytes, deleted);
+            }
+        } catch (IOException e) {
+            logger.warn("스풀 디렉토리 크기 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 로그 목록을 NDJSON으로 인코딩합니다. 줄 구분과 스풀 형식에 쓰이는 제어 문자는 공백으로 치환합니다
+     * (유효한 JSON 문자열 안에서는 이스케이프되므로 토큰 사이의 공백에만 나타날 수 있음).
+     */
+    static byte[] encode(List<String> logs) {
+        int estimated = 0;
+        for (String log : logs) {
+            estimated += log.length() + 1;
+        }
+        StringBuilder builder = new StringBuilder(estimated);
+        for (String log : logs) {
+            int start = builder.length();
+            builder.append(log);
+            for (int i = start; i < builder.length(); i++) {
+                char c = builder.charAt(i);
+                if (c == '\n' || c == '\r' || c == '\0' || c == (char) SEAL_MARKER) {
+                    builder.setCharAt(i, ' ');
+                }
+            }
+            builder.append('\n');
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String segmentName(long sequence) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX);
+    }
+
+    static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    static List<Path> listSegments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)
+                                && name.length() == SEGMENT_PREFIX.length() + 20 + SEGMENT_SUFFIX.length();
+                    })
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * 이전 실행에서 봉인되지 않은 세그먼트의 마지막 완전한 줄 뒤에 봉인 표시를 기록합니다.
+     * 데이터 영역은 0이 아닌 바이트로만 이루어지고 그 뒤는 모두 0이므로, 데이터 끝은 이진 탐색으로 찾습니다.
+     */
+    private static void sealIfOpen(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (size == 0 || size > Integer.MAX_VALUE) {
+                return;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            int low = 0;
+            int high = (int) size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (buffer.get(mid) == 0) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            int end = low;
+            if (end == size) {
+                return; // 끝까지 채워진 세그먼트
+            }
+            int sealAt = end;
+            while (sealAt > 0 && buffer.get(sealAt - 1) != '\n') {
+                if (buffer.get(sealAt - 1) == SEAL_MARKER) {
+                    return; // 이미 봉인됨
+                }
+                sealAt--;
+            }
+            buffer.put(sealAt, SEAL_MARKER);
+            buffer.force();
+            if (sealAt < end) {
+                logger.warn("이전 실행에서 기록이 끝나지 않은 스풀 세그먼트를 봉인했습니다: {} (불완전한 줄 {} bytes 제외)",
+                        segment.getFileName(), end - sealAt);
+            } else {
+                logger.info("이전 실행의 스풀 세그먼트를 봉인했습니다: {}", segment.getFileName());
+            }
+        }
+    }
+}
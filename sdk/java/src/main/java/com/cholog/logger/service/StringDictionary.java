@@ -0,0 +1,214 @@
+package com.cholog.logger.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 배치 안에서 반복되는 문자열 값(logger, thread, requestUri, userAgent, 헤더 값 등)을 배치별 문자열 표의 인덱스로 바꾸는 인코더입니다.
+ * {@link LogSenderService}가 배치 봉투의 {@code strings} 배열에 표를 담고, 이벤트의 해당 필드에는 문자열 대신 표의 인덱스(정수)를 씁니다.
+ * 로그 서버가 같은 규칙으로 인덱스를 문자열로 되돌립니다.
+ *
+ * 대상 필드는 SDK가 항상 문자열로 쓰는 위치로 고정되어 있어, 그 위치의 정수 값은 인덱스로만 해석됩니다.
+ * 배치를 한 번 훑어 값마다 등장 횟수를 세고, 표에 넣었을 때 오히려 커지지 않는 값만 인덱스로 바꿉니다.
+ */
+final class StringDictionary {
+
+    /** 배치 봉투에서 문자열 표 필드 이름 */
+    static final String STRINGS_FIELD = "strings";
+
+    // 이벤트 최상위의 대상 필드
+    private static final Set<String> EVENT_FIELDS = Set.of(
+            "logger", "thread", "level", "source", "requestId", "clientIp", "userAgent", "uaPlatform",
+            MessageTemplates.TEMPLATE_FIELD);
+    // http 객체 안의 대상 필드
+    private static final Set<String> HTTP_FIELDS = Set.of("requestMethod", "requestUri");
+    // 값 전체가 대상인 객체 필드
+    private static final Set<String> MAP_FIELDS = Set.of("headers", "responseHeaders");
+
+    private StringDictionary() {
+    }
+
+    /**
+     * 인코딩 결과. 문자열 표와, 원본 배열의 대상 값을 표의 인덱스로 바꿔 쓰는 이벤트 배열입니다.
+     * 인코딩된 배열은 따로 만들지 않고 {@link #writeTo(OutputStream)}가 호출될 때마다 원본을 다시 읽어 바로 씁니다.
+     * 따라서 {@link BatchEntity}로 감싸면 인코딩된 이벤트가 연결(또는 gzip 스트림)로 직접 쓰입니다.
+     */
+    static final class Encoded implements BatchEntity.EventArray {
+
+        final List<String> strings;
+        private final Map<String, Integer> indexes;
+        private final JsonFactory factory;
+        private final byte[] jsonArray;
+
+        private Encoded(List<String> strings, Map<String, Integer> indexes, JsonFactory factory, byte[] jsonArray) {
+            this.strings = strings;
+            this.indexes = indexes;
+            this.factory = factory;
+            this.jsonArray = jsonArray;
+        }
+
+        /**
+         * @return 항상 -1 (인코딩된 길이는 쓰기 전에 알 수 없음)
+         */
+        @Override
+        public long length() {
+            return -1;
+        }
+
+        /**
+         * 원본 배열을 읽으며 대상 값을 표의 인덱스로 바꿔 씁니다.
+         *
+         * @param out 인코딩된 이벤트 JSON 배열을 쓸 스트림 (닫지 않음)
+         * @throws IOException 스트림 쓰기 오류
+         */
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            try (JsonParser parser = factory.createParser(jsonArray);
+                 JsonGenerator generator = factory.createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                    if (token == JsonToken.VALUE_STRING && isDictionaryField(parser.getParsingContext())) {
+                        Integer index = indexes.get(parser.getText());
+                        if (index != null) {
+                            generator.writeNumber(index);
+                            continue;
+                        }
+                    }
+                    generator.copyCurrentEvent(parser);
+                }
+            }
+        }
+    }
+
+    /**
+     * 이벤트 JSON 배열을 한 번 훑어 문자열 표를 정합니다. 표의 순서는 값이 처음 나온 순서입니다.
+     *
+     * @param factory   JSON 파서/생성기 팩토리
+     * @param jsonArray UTF-8 이벤트 JSON 배열 (인코딩 결과를 쓰는 동안 바뀌면 안 됨)
+     * @return 인코딩 결과, 표로 바꿔 줄어드는 값이 없으면 null
+     * @throws IOException JSON이 올바르지 않은 경우
+     */
+    static Encoded encode(JsonFactory factory, byte[] jsonArray) throws IOException {
+        Map<String, int[]> counts = new LinkedHashMap<>();
+        try (JsonParser parser = factory.createParser(jsonArray)) {
+            for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                if (token == JsonToken.VALUE_STRING && isDictionaryField(parser.getParsingContext())) {
+                    counts.computeIfAbsent(parser.getText(), key -> new int[1])[0]++;
+                }
+            }
+        }
+
+        // 인덱스 자릿수는 후보 수로 어림하며, 표 항목(따옴표와 쉼표 포함)보다 많이 줄어드는 값만 사용
+        int candidates = 0;
+        for (int[] count : counts.values()) {
+            if (count[0] > 1) {
+                candidates++;
+            }
+        }
+        int indexDigits = Integer.toString(Math.max(0, candidates - 1)).length();
+        counts.entrySet().removeIf(entry -> {
+            int length = entry.getKey().length();
+            int occurrences = entry.getValue()[0];
+            return occurrences < 2 || (long) occurrences * (length + 2 - indexDigits) <= length + 3;
+        });
+        if (counts.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Integer> indexes = new HashMap<>(counts.size() * 2);
+        List<String> strings = new ArrayList<>(counts.size());
+        for (String value : counts.keySet()) {
+            indexes.put(value, strings.size());
+            strings.add(value);
+        }
+        return new Encoded(strings, indexes, factory, jsonArray);
+    }
+
+    /**
+     * 메모리 큐의 배치를 인코딩할 이벤트 JSON 배열로 모읍니다. 배치 길이만큼의 배열 하나에 바로 씁니다.
+     *
+     * @param batch 전송할 배치
+     * @return UTF-8 이벤트 JSON 배열
+     * @throws IOException 배치를 읽는 중 오류
+     */
+    static byte[] collect(LogEventQueue.Batch batch) throws IOException {
+        byte[] jsonArray = new byte[Math.toIntExact(batch.jsonArrayLength())];
+        batch.writeJsonArray(new OutputStream() {
+            private int position;
+
+            @Override
+            public void write(int b) {
+                jsonArray[position++] = (byte) b;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                System.arraycopy(b, off, jsonArray, position, len);
+                position += len;
+            }
+        });
+        return jsonArray;
+    }
+
+    /**
+     * 인코딩된 이벤트 JSON 배열의 인덱스를 문자열로 되돌려 씁니다. 파서에서 생성기로 토큰을 한 번씩 복사하며 중간 객체를 만들지 않습니다.
+     * 로그 서버의 디코더와 같은 규칙이며, 벤치마크에서 디코딩 비용과 왕복 결과를 확인하는 데 사용합니다.
+     *
+     * @param factory JSON 파서/생성기 팩토리
+     * @param events  인코딩된 UTF-8 이벤트 JSON 배열
+     * @param strings 문자열 표
+     * @param out     원래 형식의 이벤트 JSON 배열을 쓸 스트림 (닫지 않음)
+     * @throws IOException JSON이 올바르지 않거나 표에 없는 인덱스가 있는 경우
+     */
+    static void decode(JsonFactory factory, byte[] events, List<String> strings, OutputStream out) throws IOException {
+        try (JsonParser parser = factory.createParser(events);
+             JsonGenerator generator = factory.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                if (token == JsonToken.VALUE_NUMBER_INT && isDictionaryField(parser.getParsingContext())) {
+                    int index = parser.getIntValue();
+                    if (index < 0 || index >= strings.size()) {
+                        throw new IOException("string table index out of range: " + index);
+                    }
+                    generator.writeString(strings.get(index));
+                } else {
+                    generator.copyCurrentEvent(parser);
+                }
+            }
+        }
+    }
+
+    /**
+     * 현재 값이 문자열 표 대상 위치인지 확인합니다. 컨텍스트는 이벤트 배열 → 이벤트 객체 → (http/헤더 객체) 순입니다.
+     *
+     * @param context 값이 속한 파싱 컨텍스트
+     * @return 대상 위치이면 true
+     */
+    private static boolean isDictionaryField(JsonStreamContext context) {
+        if (!context.inObject()) {
+            return false;
+        }
+        JsonStreamContext parent = context.getParent();
+        if (parent.inArray() && parent.getParent().inRoot()) {
+            return EVENT_FIELDS.contains(context.getCurrentName());
+        }
+        if (!parent.inObject() || !parent.getParent().inArray() || !parent.getParent().getParent().inRoot()) {
+            return false;
+        }
+        String objectName = parent.getCurrentName();
+        return MAP_FIELDS.contains(objectName)
+                || ("http".equals(objectName) && HTTP_FIELDS.contains(context.getCurrentName()));
+    }
+}
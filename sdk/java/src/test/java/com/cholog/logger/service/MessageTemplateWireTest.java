@@ -0,0 +1,188 @@
+package com.cholog.logger.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.cholog.logger.appender.CentralLogAppender;
+import com.cholog.logger.appender.ChildLogEvent;
+import com.cholog.logger.config.LogServerProperties;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.MessageFormatter;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+/**
+ * 메시지 템플릿 와이어 포맷 테스트입니다. SDK가 보내는 템플릿과 인자로 로그 서버가 {@code event.getFormattedMessage()}와 같은 메시지를 만드는지 검증합니다.
+ * {@code wire/message-templates.json}은 로그 서버 테스트에도 같은 파일이 있어, 서버는 같은 템플릿과 인자로 같은 메시지를 만드는지 검증합니다.
+ */
+class MessageTemplateWireTest {
+
+    private static final ChildLogEvent CHILD = new ChildLogEvent() {
+        @Override
+        public String getRequestId() {
+            return "req-1";
+        }
+
+        @Override
+        public String getFieldName() {
+            return "outbound";
+        }
+
+        @Override
+        public Map<String, Object> toMap() {
+            return Map.of("host", "api.example.com");
+        }
+
+        @Override
+        public String toString() {
+            return "OutboundCall[api.example.com]";
+        }
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private final List<String> sent = new ArrayList<>();
+    private LogSenderService logSenderService;
+    private CentralLogAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        LogServerProperties properties = new LogServerProperties();
+        properties.setUrl("http://127.0.0.1:1/api/logs/be");
+        properties.setServiceName("order-service");
+        properties.setDiskQueueEnabled(false);
+        properties.setBatchEnvelopeEnabled(true);
+        properties.setMessageTemplatesEnabled(true);
+        properties.setLogLevel(Level.TRACE);
+
+        logSenderService = spy(new LogSenderService(properties));
+        doAnswer(invocation -> sent.add(invocation.getArgument(0)))
+                .when(logSenderService).addToQueue(anyString(), any(Level.class));
+        appender = new CentralLogAppender(logSenderService, properties, new MockEnvironment());
+        appender.setContext(loggerContext);
+        appender.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        appender.stop();
+        logSenderService.destroy();
+    }
+
+    /**
+     * 이름은 {@code wire/message-templates.json}의 항목 이름과 같습니다.
+     */
+    static Stream<Arguments> templateCases() {
+        return Stream.of(
+                Arguments.of("array arguments", "ids={} names={}",
+                        new Object[]{new int[]{1, 2}, new String[]{"a", "b"}}),
+                Arguments.of("nested array argument", "matrix={}",
+                        new Object[]{new int[][]{{1, 2}, {3}}}),
+                Arguments.of("trailing ChildLogEvent", "GET {} -> {}",
+                        new Object[]{"api.example.com", 200, CHILD}),
+                Arguments.of("trailing Throwable", "retry {} of {} failed",
+                        new Object[]{2, 3, new IOException("timeout")}),
+                Arguments.of("trailing Throwable with unfilled placeholder", "failed {} {}",
+                        new Object[]{"a", new IllegalStateException("boom")}),
+                Arguments.of("escaped placeholder", "literal \\{} then {}",
+                        new Object[]{"x"}),
+                Arguments.of("escaped backslash", "path C:\\\\{}",
+                        new Object[]{"dir"}),
+                Arguments.of("null arguments", "user={} role={}",
+                        new Object[]{null, "admin"}),
+                Arguments.of("more arguments than placeholders", "only {}",
+                        new Object[]{"a", "b"}));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("templateCases")
+    void sendsTemplateAndArgsThatRebuildFormattedMessage(String name, String template, Object[] arguments)
+            throws IOException {
+        LoggingEvent event = log(template, arguments);
+        JsonNode sentEvent = objectMapper.readTree(sent.get(0));
+
+        assertThat(sentEvent.has("message")).isFalse();
+        String sentTemplate = logSenderService.useMessageTemplates().templateOf(sentEvent.get("templateId").asInt());
+        List<String> args = args(sentEvent);
+        assertThat(sentTemplate).isEqualTo(template);
+        assertThat(format(sentTemplate, args)).isEqualTo(event.getFormattedMessage());
+
+        // 로그 서버 테스트와 같은 인자와 메시지
+        JsonNode expected = fixture(name);
+        assertThat(expected.get("messageTemplate").asText()).isEqualTo(template);
+        assertThat(args).isEqualTo(objectMapper.convertValue(expected.get("args"), new TypeReference<List<String>>() {}));
+        assertThat(expected.get("message").asText()).isEqualTo(event.getFormattedMessage());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("templateCases")
+    void diskBatchCarriesTemplateThatRebuildsFormattedMessage(String name, String template, Object[] arguments)
+            throws IOException {
+        LoggingEvent event = log(template, arguments);
+
+        JsonNode saved = objectMapper.readTree(logSenderService.toSelfContainedBatch("[" + sent.get(0) + "]")).get(0);
+
+        assertThat(saved.has("templateId")).isFalse();
+        assertThat(saved.get("messageTemplate").asText()).isEqualTo(template);
+        assertThat(format(saved.get("messageTemplate").asText(), args(saved))).isEqualTo(event.getFormattedMessage());
+    }
+
+    @Test
+    void sendsFormattedMessageWhenChildLogEventFillsPlaceholder() throws IOException {
+        LoggingEvent event = log("GET {} -> {}", new Object[]{"api.example.com", CHILD});
+        JsonNode sentEvent = objectMapper.readTree(sent.get(0));
+
+        assertThat(sentEvent.has("templateId")).isFalse();
+        assertThat(sentEvent.get("message").asText())
+                .isEqualTo(event.getFormattedMessage())
+                .isEqualTo("GET api.example.com -> OutboundCall[api.example.com]");
+    }
+
+    private LoggingEvent log(String template, Object[] arguments) {
+        LoggingEvent event = new LoggingEvent(getClass().getName(), loggerContext.getLogger("com.example.order"),
+                Level.INFO, template, null, arguments);
+        appender.doAppend(event);
+        assertThat(sent).hasSize(1);
+        return event;
+    }
+
+    private List<String> args(JsonNode event) {
+        return objectMapper.convertValue(event.get("args"), new TypeReference<List<String>>() {});
+    }
+
+    private static String format(String template, List<String> args) {
+        return MessageFormatter.arrayFormat(template, args.toArray()).getMessage();
+    }
+
+    private JsonNode fixture(String name) throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("wire/message-templates.json")) {
+            for (JsonNode entry : objectMapper.readTree(in)) {
+                if (name.equals(entry.get("name").asText())) {
+                    return entry;
+                }
+            }
+        }
+        throw new AssertionError("no fixture entry: " + name);
+    }
+}
@@ -0,0 +1,107 @@
+package com.cholog.logger.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 문자열 표 배치 봉투의 와이어 포맷 테스트입니다.
+ * {@code wire/string-table-batch.json}은 로그 서버 테스트에도 같은 파일이 있어, 양쪽이 같은 봉투를 기준으로 검증합니다.
+ */
+class StringDictionaryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void encodesBatchEnvelopeMatchingWireFixture() throws IOException {
+        StringDictionary.Encoded encoded = StringDictionary.encode(objectMapper.getFactory(), plainEvents());
+        assertThat(encoded).isNotNull();
+
+        String body = envelope(encoded);
+
+        assertThat(objectMapper.readTree(body)).isEqualTo(resource("wire/string-table-batch.json"));
+        // 로그 서버는 strings를 events보다 먼저 받아야 인덱스를 풀 수 있음
+        assertThat(body.indexOf("\"strings\":")).isLessThan(body.indexOf("\"events\":"));
+    }
+
+    @Test
+    void encodesOnlyRepeatedStringsInDictionaryPositions() throws IOException {
+        StringDictionary.Encoded encoded = StringDictionary.encode(objectMapper.getFactory(), plainEvents());
+        JsonNode event = objectMapper.readTree(envelope(encoded)).get("events").get(0);
+
+        // 숫자처럼 보이는 반복 헤더 값은 표에 들어가고, 한 번만 나오는 값은 문자열로 남음
+        assertThat(encoded.strings).contains("3");
+        assertThat(event.get("headers").get("x-retry-count").isInt()).isTrue();
+        assertThat(event.get("requestId").isTextual()).isTrue();
+        assertThat(event.get("requestId").asText()).isEqualTo("1001");
+        // 대상 위치가 아닌 필드의 숫자는 그대로
+        assertThat(event.get("mdcContext").get("logger").isInt()).isTrue();
+        assertThat(event.get("sequence").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    void decodeRestoresOriginalEvents() throws IOException {
+        byte[] plain = plainEvents();
+        StringDictionary.Encoded encoded = StringDictionary.encode(objectMapper.getFactory(), plain);
+        ByteArrayOutputStream events = new ByteArrayOutputStream();
+        encoded.writeTo(events);
+
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        StringDictionary.decode(objectMapper.getFactory(), events.toByteArray(), encoded.strings, decoded);
+
+        assertThat(decoded.toString(StandardCharsets.UTF_8)).isEqualTo(new String(plain, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void decodeRejectsIndexOutOfRange() {
+        byte[] events = "[{\"logger\":2}]".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> StringDictionary.decode(objectMapper.getFactory(), events, List.of("a", "b"),
+                new ByteArrayOutputStream()))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("out of range");
+    }
+
+    private String envelope(StringDictionary.Encoded encoded) throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        header.write("{\"header\":".getBytes(StandardCharsets.UTF_8));
+        header.write(objectMapper.writeValueAsBytes(header()));
+        byte[] prefix = LogSenderService.envelopePrefix(objectMapper, header.toByteArray(), Map.of(), encoded.strings);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        new BatchEntity(encoded, false, prefix).writeTo(body);
+        return body.toString(StandardCharsets.UTF_8);
+    }
+
+    private Map<String, Object> header() {
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("serviceName", "order-service");
+        header.put("environment", "prod");
+        header.put("version", "1.4.2");
+        header.put("hostName", "order-7f9c");
+        header.put("ipAddress", "10.0.3.17");
+        header.put("serverPort", "8080");
+        return header;
+    }
+
+    private byte[] plainEvents() throws IOException {
+        return objectMapper.writeValueAsBytes(resource("wire/string-table-events.json"));
+    }
+
+    private JsonNode resource(String name) throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(name)) {
+            return objectMapper.readTree(in);
+        }
+    }
+}